@@ -0,0 +1,56 @@
+package com.itwillbs.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.itwillbs.service.BomCache;
+import com.itwillbs.service.DocumentIdAllocator;
+import com.itwillbs.service.InventoryService;
+import com.itwillbs.service.MFService;
+import com.itwillbs.service.ShipReadyQueueService;
+import com.itwillbs.service.StockMovementService;
+import com.itwillbs.service.StockReservationService;
+import com.itwillbs.service.TXService;
+
+/**
+ * 벤치마크용 최소 컨텍스트 (웹/보안/스케줄 없이 JPA + 측정 대상 서비스만, H2 메모리 DB)
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan("com.itwillbs.entity")
+@EnableJpaRepositories("com.itwillbs.repository")
+@Import({ InventoryService.class, TXService.class, MFService.class, StockMovementService.class,
+		StockReservationService.class, ShipReadyQueueService.class, DocumentIdAllocator.class, BomCache.class })
+public class BenchmarkApplication {
+
+	public static ConfigurableApplicationContext start(String databaseName) {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("spring.datasource.url", "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1");
+		properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+		properties.put("spring.datasource.username", "sa");
+		properties.put("spring.datasource.password", "");
+		properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+		properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+		properties.put("spring.jpa.properties.jakarta.persistence.validation.mode", "none");
+		properties.put("spring.jpa.properties.hibernate.show_sql", "false");
+		properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+		properties.put("spring.jpa.properties.hibernate.generate_statistics", "false");
+		properties.put("logging.level.root", "warn");
+		properties.put("logging.level.com.itwillbs", "warn");
+		properties.put("logging.level.org.hibernate.type.descriptor.sql", "warn");
+
+		return new SpringApplicationBuilder(BenchmarkApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties(properties)
+				.run();
+	}
+}
@@ -0,0 +1,141 @@
+package com.itwillbs.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크 데이터 생성 (JDBC 배치 insert)
+ *
+ * 품목 1,000개(원재료 800 / 가공품 150 / 완제품 50), 가공품마다 BOM 5줄, 거래처 50곳.
+ * 발주 rows 건(품목 2개씩) 중 99% 는 입고 등록됨, 1% 가 입고 등록 대상.
+ * 작업지시 rows/10 건 중 1% 가 '작업 완료'(입고 등록 대상).
+ */
+public final class BenchmarkDataset {
+
+	public static final int RAW_MATERIALS = 800;
+	public static final int PROCESSED_PRODUCTS = 150;
+	public static final int FINISHED_PRODUCTS = 50;
+	public static final int SUPPLIERS = 50;
+	public static final int BOM_LINES_PER_PP = 5;
+
+	private static final int BATCH_SIZE = 5000;
+
+	private BenchmarkDataset() {
+	}
+
+	public static String rmCode(int i) {
+		return String.format("RM%03d", i);
+	}
+
+	public static String ppCode(int i) {
+		return String.format("PP%03d", i);
+	}
+
+	public static void seed(JdbcTemplate jdbcTemplate, int rows) {
+		Random random = new Random(42);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.update("INSERT INTO managers (manager_id, pass, name, email, phone, manager_role) VALUES (?, ?, ?, ?, ?, ?)",
+				"bench", "bench", "벤치마크", "bench@test.com", "010-0000-0000", "ROLE_ADMIN");
+
+		// 품목
+		List<Object[]> items = new ArrayList<>();
+		for (int i = 0; i < RAW_MATERIALS; i++) {
+			items.add(new Object[] { rmCode(i), "원재료" + i, "RM" });
+		}
+		for (int i = 0; i < PROCESSED_PRODUCTS; i++) {
+			items.add(new Object[] { ppCode(i), "가공품" + i, "PP" });
+		}
+		for (int i = 0; i < FINISHED_PRODUCTS; i++) {
+			items.add(new Object[] { String.format("FP%03d", i), "완제품" + i, "FP" });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO item (item_code, item_name, item_type, use_yn) VALUES (?, ?, ?, 'Y')", items);
+
+		// BOM (가공품마다 서로 다른 원재료 5개)
+		List<Object[]> bomLines = new ArrayList<>();
+		for (int i = 0; i < PROCESSED_PRODUCTS; i++) {
+			for (int j = 0; j < BOM_LINES_PER_PP; j++) {
+				bomLines.add(new Object[] { ppCode(i), rmCode((i * BOM_LINES_PER_PP + j) % RAW_MATERIALS),
+						BigDecimal.valueOf(1 + random.nextInt(5)) });
+			}
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO bom (pp_code, rm_code, quantity, use_yn) VALUES (?, ?, ?, 'Y')", bomLines);
+
+		// 거래처
+		List<Object[]> suppliers = new ArrayList<>();
+		for (int i = 0; i < SUPPLIERS; i++) {
+			suppliers.add(new Object[] { String.format("SUP%03d", i), "거래처" + i });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO supplier (supplier_code, supplier_name, business_number, contact_person, address, use_yn) "
+				+ "VALUES (?, ?, '000-00-00000', '담당자', '주소', 'Y')", suppliers);
+
+		// 발주 + 발주품목 + 입고
+		List<Object[]> orders = new ArrayList<>(BATCH_SIZE);
+		List<Object[]> orderItems = new ArrayList<>(BATCH_SIZE * 2);
+		List<Object[]> incomings = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < rows; i++) {
+			String orderId = String.format("OD%07d", i);
+			Timestamp orderDate = Timestamp.valueOf(LocalDateTime.now().minusDays(random.nextInt(365)));
+			orders.add(new Object[] { orderId, 10000, orderDate, orderDate, now,
+					"발주완료", "bench", String.format("SUP%03d", random.nextInt(SUPPLIERS)) });
+			for (int j = 0; j < 2; j++) {
+				orderItems.add(new Object[] { orderId + "-" + j, orderId, 10, 500, 5000,
+						rmCode(random.nextInt(RAW_MATERIALS)) });
+			}
+			if (i % 100 != 0) {
+				incomings.add(new Object[] { String.format("INC%07d", i), orderDate, now, "입고 완료", orderId, "bench" });
+			}
+
+			if (orders.size() == BATCH_SIZE) {
+				flushOrders(jdbcTemplate, orders, orderItems, incomings);
+			}
+		}
+		flushOrders(jdbcTemplate, orders, orderItems, incomings);
+
+		// 작업지시 (1% 는 작업 완료 상태로 입고 대상)
+		List<Object[]> mfOrders = new ArrayList<>(BATCH_SIZE);
+		String[] states = { "작업 대기", "작업 중", "작업 종료" };
+		for (int i = 0; i < rows / 10; i++) {
+			String state = i % 100 == 0 ? "작업 완료" : states[random.nextInt(states.length)];
+			mfOrders.add(new Object[] { String.format("MF%07d", i), 10 + random.nextInt(90),
+					Date.valueOf(LocalDate.now().plusDays(random.nextInt(30))), now, state,
+					ppCode(random.nextInt(PROCESSED_PRODUCTS)) });
+			if (mfOrders.size() == BATCH_SIZE) {
+				insertMfOrders(jdbcTemplate, mfOrders);
+			}
+		}
+		insertMfOrders(jdbcTemplate, mfOrders);
+	}
+
+	private static void flushOrders(JdbcTemplate jdbcTemplate, List<Object[]> orders, List<Object[]> orderItems,
+			List<Object[]> incomings) {
+		jdbcTemplate.batchUpdate("INSERT INTO orders (order_id, total_price, order_date, due_date, real_date, status, manager, supplier_code) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", orders);
+		jdbcTemplate.batchUpdate("INSERT INTO order_items (orderitem_id, order_id, quantity, price, subtotal_price, item_code) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", orderItems);
+		if (!incomings.isEmpty()) {
+			jdbcTemplate.batchUpdate("INSERT INTO incoming (incoming_id, incoming_start_date, incoming_end_date, status, order_id, manager_id) "
+					+ "VALUES (?, ?, ?, ?, ?, ?)", incomings);
+		}
+		orders.clear();
+		orderItems.clear();
+		incomings.clear();
+	}
+
+	private static void insertMfOrders(JdbcTemplate jdbcTemplate, List<Object[]> mfOrders) {
+		if (mfOrders.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO manufacture_order (order_id, order_amount, order_deadline, order_date, order_state, order_item) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", mfOrders);
+		mfOrders.clear();
+	}
+}
@@ -0,0 +1,123 @@
+package com.itwillbs.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.itwillbs.domain.inventory.IncomingInsertDTO;
+import com.itwillbs.domain.manufacture.MFBomDTO;
+import com.itwillbs.domain.manufacture.MFBomLineDTO;
+import com.itwillbs.domain.transaction.OrderDTO;
+import com.itwillbs.repository.BOMRepository;
+import com.itwillbs.service.BomCache;
+import com.itwillbs.service.InventoryService;
+import com.itwillbs.service.MFService;
+import com.itwillbs.service.TXService;
+
+/**
+ * 서비스/리포지토리 핫패스 벤치마크 (H2 메모리 DB)
+ * 처리량(thrpt), 응답시간 분포(sample → p99), gc 프로파일러(할당량/op)를 같이 측정한다.
+ *
+ * ./gradlew jmh                          : 10k / 100k / 1M 전체
+ * ./gradlew jmh -PjmhRows=10000          : 데이터 크기 지정
+ * ./gradlew jmh -PjmhIncludes=searchOrders : 특정 벤치마크만
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ErpBenchmark {
+
+	@Param({ "10000", "100000", "1000000" })
+	private int rows;
+
+	private ConfigurableApplicationContext context;
+	private InventoryService inventoryService;
+	private TXService txService;
+	private MFService mfService;
+	private BomCache bomCache;
+	private BOMRepository bomRepository;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkApplication.start("bench" + rows);
+		BenchmarkDataset.seed(context.getBean(JdbcTemplate.class), rows);
+
+		inventoryService = context.getBean(InventoryService.class);
+		txService = context.getBean(TXService.class);
+		mfService = context.getBean(MFService.class);
+		bomCache = context.getBean(BomCache.class);
+		bomRepository = context.getBean(BOMRepository.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	// 입고 등록 대상 (생산 완료 + 발주 완료 중 미입고, 발주 품목 요약)
+	@Benchmark
+	public List<IncomingInsertDTO> findIncomingInsertList() {
+		return inventoryService.findIncomingInsertList();
+	}
+
+	// 발주 검색 (상태 + 거래처명 + 품목명, 첫 페이지)
+	@Benchmark
+	public Page<OrderDTO> searchOrders() {
+		return txService.searchOrders("발주완료", "거래처1", null, null, "원재료1", null, null, PageRequest.of(0, 10));
+	}
+
+	// 작업지시 화면 BOM 원재료 문자열 (가공품 10개)
+	@Benchmark
+	public List<MFBomDTO> getRmList() {
+		List<MFBomDTO> list = new ArrayList<>(10);
+		int start = ThreadLocalRandom.current().nextInt(BenchmarkDataset.PROCESSED_PRODUCTS - 10);
+		for (int i = start; i < start + 10; i++) {
+			list.add(new MFBomDTO(BenchmarkDataset.ppCode(i), "가공품" + i, null));
+		}
+		return mfService.getRmList(list);
+	}
+
+	// 발주번호 채번
+	@Benchmark
+	public String generateNextOrderId() {
+		return txService.generateNextOrderId();
+	}
+
+	// 수주번호 채번
+	@Benchmark
+	public String generateNextSaleId() {
+		return txService.generateNextSaleId();
+	}
+
+	// BOM 조회 (캐시)
+	@Benchmark
+	public List<MFBomLineDTO> bomCacheLookup() {
+		return bomCache.getLines(randomPpCode());
+	}
+
+	// BOM 조회 (DB)
+	@Benchmark
+	public List<MFBomLineDTO> bomRepositoryLookup() {
+		return bomRepository.findBomLinesByPpCode(randomPpCode());
+	}
+
+	private String randomPpCode() {
+		return BenchmarkDataset.ppCode(ThreadLocalRandom.current().nextInt(BenchmarkDataset.PROCESSED_PRODUCTS));
+	}
+}
@@ -0,0 +1,62 @@
+package com.itwillbs.config.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서비스/요청 단위 지표, 느린 쿼리 로그 설정
+ * (HTTP 요청 지연, 리포지토리, HikariCP, Hibernate 통계는 액추에이터 자동 설정 사용)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${metrics.query-count.warn-threshold:50}")
+	private int queryCountWarnThreshold;
+
+	@Bean
+	public QueryCountInspector queryCountInspector() {
+		return new QueryCountInspector();
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer queryCountInspectorCustomizer(QueryCountInspector queryCountInspector) {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+	}
+
+	@Bean
+	public ServiceMetricsAspect serviceMetricsAspect() {
+		return new ServiceMetricsAspect(meterRegistry);
+	}
+
+	@Bean
+	public SlowQueryLog slowQueryLog(@Value("${metrics.slow-query.threshold-ms:300}") long thresholdMillis,
+			@Value("${metrics.slow-query.sample-rate:1.0}") double sampleRate) {
+		return new SlowQueryLog(meterRegistry, thresholdMillis, sampleRate);
+	}
+
+	// DataSource 보다 먼저 등록돼야 하므로 static
+	@Bean
+	@ConditionalOnProperty(name = "metrics.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+	public static SlowQueryDataSourcePostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+		return new SlowQueryDataSourcePostProcessor(slowQueryLog);
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new QueryCountInterceptor(queryCountInspector(), meterRegistry, queryCountWarnThreshold))
+				.excludePathPatterns("/css/**", "/js/**", "/dist/**", "/img/**", "/plugins/**", "/actuator/**");
+	}
+}
@@ -0,0 +1,35 @@
+package com.itwillbs.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 스레드(요청)별로 센다.
+ * 요청당 쿼리 수 지표와 N+1 감시에 사용 (JdbcTemplate 로 직접 실행하는 SQL 은 포함되지 않음)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+	@Override
+	public String inspect(String sql) {
+		COUNT.get()[0]++;
+		return sql;
+	}
+
+	// 현재 스레드의 카운트를 0 으로
+	public void reset() {
+		COUNT.get()[0] = 0;
+	}
+
+	// 마지막 reset 이후 현재 스레드에서 실행된 쿼리 수
+	public int getCount() {
+		return COUNT.get()[0];
+	}
+
+	// 스레드 풀 재사용 시 남지 않도록 정리
+	public void clear() {
+		COUNT.remove();
+	}
+}
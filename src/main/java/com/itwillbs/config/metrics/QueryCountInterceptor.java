@@ -0,0 +1,56 @@
+package com.itwillbs.config.metrics;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청당 쿼리 수 기록 (burger.http.queries)
+ * 기준치를 넘는 요청은 경고 로그와 burger.http.queries.over.budget 카운터로 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+	private final QueryCountInspector queryCountInspector;
+	private final MeterRegistry meterRegistry;
+	private final int warnThreshold;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		queryCountInspector.reset();
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		int count = queryCountInspector.getCount();
+		queryCountInspector.clear();
+
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+		DistributionSummary.builder("burger.http.queries")
+				.description("요청 한 건에서 실행된 SQL 수")
+				.tag("uri", uri)
+				.tag("method", request.getMethod())
+				.register(meterRegistry)
+				.record(count);
+
+		if (count > warnThreshold) {
+			Counter.builder("burger.http.queries.over.budget")
+					.tag("uri", uri)
+					.tag("method", request.getMethod())
+					.register(meterRegistry)
+					.increment();
+			log.warn("쿼리 수 기준 초과 - {} {} : {}건 (기준 {}건)", request.getMethod(), uri, count, warnThreshold);
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.itwillbs.config.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서비스 public 메서드 실행시간 (burger.service, class/method/exception 태그)
+ * 리포지토리 쿼리 시간은 스프링 부트가 spring.data.repository.invocations 로 기록한다.
+ * 실행 중인 서비스 메서드를 스레드에 남겨 느린 쿼리 로그의 호출 위치로 쓴다.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+	private static final ThreadLocal<String> CURRENT_METHOD = new ThreadLocal<>();
+
+	private final MeterRegistry meterRegistry;
+
+	// 현재 스레드에서 실행 중인 가장 안쪽 서비스 메서드 (예: TXService.saveOrder), 없으면 null
+	public static String currentServiceMethod() {
+		return CURRENT_METHOD.get();
+	}
+
+	@Around("execution(public * com.itwillbs.service..*(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String exception = "none";
+		String outerMethod = CURRENT_METHOD.get();
+		CURRENT_METHOD.set(joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName());
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable e) {
+			exception = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			if (outerMethod == null) {
+				CURRENT_METHOD.remove();
+			} else {
+				CURRENT_METHOD.set(outerMethod);
+			}
+			sample.stop(Timer.builder("burger.service")
+					.description("서비스 메서드 실행시간")
+					.tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+					.tag("method", joinPoint.getSignature().getName())
+					.tag("exception", exception)
+					.register(meterRegistry));
+		}
+	}
+}
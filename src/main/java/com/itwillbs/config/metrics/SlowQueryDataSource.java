@@ -0,0 +1,295 @@
+package com.itwillbs.config.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션/스테이트먼트를 감싸 SQL 실행시간, 바인드 파라미터, 행 수를 모아 SlowQueryLog 로 넘긴다.
+ * Hibernate 와 JdbcTemplate 이 실행하는 SQL 모두 포함된다.
+ *
+ * 실행시간 = execute* 호출 시간 + 조회 결과 next() 호출 시간 합계 (엔티티 변환 등 애플리케이션 처리 시간 제외)
+ * 기준 시간 미만이면 파라미터 배열 복사 외에는 하는 일이 없다.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+	private final ObjectProvider<SlowQueryLog> slowQueryLogProvider;
+	private volatile SlowQueryLog slowQueryLog;
+
+	public SlowQueryDataSource(DataSource targetDataSource, ObjectProvider<SlowQueryLog> slowQueryLogProvider) {
+		super(targetDataSource);
+		this.slowQueryLogProvider = slowQueryLogProvider;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+	}
+
+	// MeterRegistry 가 DataSource 보다 늦게 만들어지므로 첫 쿼리 때 가져옴
+	private SlowQueryLog slowQueryLog() {
+		SlowQueryLog log = slowQueryLog;
+		if (log == null) {
+			log = slowQueryLogProvider.getObject();
+			slowQueryLog = log;
+		}
+		return log;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(SlowQueryDataSource.class.getClassLoader(), new Class<?>[] { type }, handler);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	private class ConnectionHandler implements InvocationHandler {
+
+		private final Connection target;
+
+		ConnectionHandler(Connection target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			default:
+				break;
+			}
+			Object result = SlowQueryDataSource.invoke(target, method, args);
+			if (result instanceof Statement statement) {
+				String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+				if (statement instanceof CallableStatement) {
+					return proxy(CallableStatement.class, new StatementHandler(statement, sql));
+				}
+				if (statement instanceof PreparedStatement) {
+					return proxy(PreparedStatement.class, new StatementHandler(statement, sql));
+				}
+				return proxy(Statement.class, new StatementHandler(statement, sql));
+			}
+			return result;
+		}
+	}
+
+	private class StatementHandler implements InvocationHandler {
+
+		private final Statement target;
+		private final String sql;
+		private Object[] params = new Object[8];
+		private int paramCount;
+		private Object[] batchParams;
+		private int batchSize;
+		private Execution pending;
+
+		StatementHandler(Statement target, String sql) {
+			this.target = target;
+			this.sql = sql;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+
+			// PreparedStatement.setXxx(int index, value, ...)
+			if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index
+					&& PreparedStatement.class.isAssignableFrom(method.getDeclaringClass())) {
+				bind(index, name.equals("setNull") ? null : args[1]);
+				return SlowQueryDataSource.invoke(target, method, args);
+			}
+
+			switch (name) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "clearParameters":
+				paramCount = 0;
+				break;
+			case "addBatch":
+				if (batchSize++ == 0) {
+					batchParams = snapshot();
+				}
+				break;
+			case "clearBatch":
+				batchSize = 0;
+				batchParams = null;
+				break;
+			case "executeQuery":
+				return executeQuery(method, args);
+			case "executeUpdate":
+			case "executeLargeUpdate":
+				return executeUpdate(method, args);
+			case "executeBatch":
+			case "executeLargeBatch":
+				return executeBatch(method, args);
+			case "execute":
+				return execute(method, args);
+			case "getResultSet":
+				return wrapPending((ResultSet) SlowQueryDataSource.invoke(target, method, args));
+			default:
+				break;
+			}
+			return SlowQueryDataSource.invoke(target, method, args);
+		}
+
+		private Object executeQuery(Method method, Object[] args) throws Throwable {
+			long start = System.nanoTime();
+			ResultSet resultSet = (ResultSet) SlowQueryDataSource.invoke(target, method, args);
+			Execution execution = new Execution(sqlOf(args), snapshot(), 0, System.nanoTime() - start);
+			return proxy(ResultSet.class, new ResultSetHandler(resultSet, execution));
+		}
+
+		private Object executeUpdate(Method method, Object[] args) throws Throwable {
+			long start = System.nanoTime();
+			Object result = SlowQueryDataSource.invoke(target, method, args);
+			new Execution(sqlOf(args), snapshot(), 0, System.nanoTime() - start).report(((Number) result).longValue());
+			return result;
+		}
+
+		private Object executeBatch(Method method, Object[] args) throws Throwable {
+			long start = System.nanoTime();
+			Object result = SlowQueryDataSource.invoke(target, method, args);
+			long elapsed = System.nanoTime() - start;
+			long rows = 0;
+			if (result instanceof int[] counts) {
+				rows = Arrays.stream(counts).filter(count -> count > 0).sum();
+			} else if (result instanceof long[] counts) {
+				rows = Arrays.stream(counts).filter(count -> count > 0).sum();
+			}
+			new Execution(sql, batchParams, batchSize, elapsed).report(rows);
+			batchSize = 0;
+			batchParams = null;
+			return result;
+		}
+
+		// 조회면 getResultSet 에서 감싸고, 변경이면 행 수를 알 수 없으므로 -1
+		private Object execute(Method method, Object[] args) throws Throwable {
+			long start = System.nanoTime();
+			Object result = SlowQueryDataSource.invoke(target, method, args);
+			Execution execution = new Execution(sqlOf(args), snapshot(), 0, System.nanoTime() - start);
+			if (Boolean.TRUE.equals(result)) {
+				pending = execution;
+			} else {
+				execution.report(-1);
+			}
+			return result;
+		}
+
+		private ResultSet wrapPending(ResultSet resultSet) {
+			if (resultSet == null || pending == null) {
+				return resultSet;
+			}
+			Execution execution = pending;
+			pending = null;
+			return proxy(ResultSet.class, new ResultSetHandler(resultSet, execution));
+		}
+
+		private void bind(int index, Object value) {
+			if (index > params.length) {
+				params = Arrays.copyOf(params, Math.max(index, params.length * 2));
+			}
+			params[index - 1] = value;
+			paramCount = Math.max(paramCount, index);
+		}
+
+		private Object[] snapshot() {
+			return paramCount == 0 ? null : Arrays.copyOf(params, paramCount);
+		}
+
+		private String sqlOf(Object[] args) {
+			return args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+		}
+	}
+
+	private class ResultSetHandler implements InvocationHandler {
+
+		private final ResultSet target;
+		private final Execution execution;
+		private long rows;
+		private boolean reported;
+
+		ResultSetHandler(ResultSet target, Execution execution) {
+			this.target = target;
+			this.execution = execution;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "next": {
+				long start = System.nanoTime();
+				Object hasNext = SlowQueryDataSource.invoke(target, method, args);
+				execution.elapsedNanos += System.nanoTime() - start;
+				if (Boolean.TRUE.equals(hasNext)) {
+					rows++;
+				}
+				return hasNext;
+			}
+			case "close":
+				if (!reported) {
+					reported = true;
+					execution.report(rows);
+				}
+				break;
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			default:
+				break;
+			}
+			return SlowQueryDataSource.invoke(target, method, args);
+		}
+	}
+
+	private class Execution {
+
+		private final String sql;
+		private final Object[] params;
+		private final int batchSize;
+		private long elapsedNanos;
+
+		Execution(String sql, Object[] params, int batchSize, long elapsedNanos) {
+			this.sql = sql;
+			this.params = params;
+			this.batchSize = batchSize;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		void report(long rows) {
+			SlowQueryLog log = slowQueryLog();
+			if (log.isSlow(elapsedNanos)) {
+				log.record(sql, params, batchSize, rows, elapsedNanos);
+			}
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.itwillbs.config.metrics;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * DataSource 빈을 SlowQueryDataSource 로 감싼다.
+ */
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+	private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+	public SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+		this.slowQueryLog = slowQueryLog;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryDataSource)) {
+			return new SlowQueryDataSource(dataSource, slowQueryLog);
+		}
+		return bean;
+	}
+}
@@ -0,0 +1,107 @@
+package com.itwillbs.config.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기준 시간을 넘긴 SQL 을 한 줄 JSON 으로 남긴다. (로거 이름 slow-query)
+ *
+ * {"event":"slow_query","elapsedMs":812,"thresholdMs":300,"rows":12000,"caller":"InventoryService.findIncomingInsertList",
+ *  "thread":"http-nio-8080-exec-3","sql":"select ...","params":["발주완료",100]}
+ *
+ * 느린 쿼리 수는 모두 burger.sql.slow 지표(caller 태그)로 세고, 로그는 sample-rate 비율만 남긴다.
+ */
+@Slf4j(topic = "slow-query")
+public class SlowQueryLog {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final int MAX_PARAM_LENGTH = 100;
+	private static final int MAX_PARAMS = 50;
+
+	private final MeterRegistry meterRegistry;
+	private final long thresholdNanos;
+	private final double sampleRate;
+
+	public SlowQueryLog(MeterRegistry meterRegistry, long thresholdMillis, double sampleRate) {
+		this.meterRegistry = meterRegistry;
+		this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+		this.sampleRate = sampleRate;
+	}
+
+	public boolean isSlow(long elapsedNanos) {
+		return elapsedNanos >= thresholdNanos;
+	}
+
+	/**
+	 * @param params    바인드 파라미터 (배치면 첫 번째 행)
+	 * @param batchSize 배치 실행이면 행 수, 아니면 0
+	 * @param rows      조회 행 수 또는 변경 행 수 (알 수 없으면 -1)
+	 */
+	public void record(String sql, Object[] params, int batchSize, long rows, long elapsedNanos) {
+		if (!isSlow(elapsedNanos)) {
+			return;
+		}
+		String caller = ServiceMetricsAspect.currentServiceMethod();
+		Counter.builder("burger.sql.slow")
+				.description("기준 시간을 넘긴 SQL 실행 수")
+				.tag("caller", caller == null ? "none" : caller)
+				.register(meterRegistry)
+				.increment();
+
+		if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+			return;
+		}
+
+		Map<String, Object> entry = new LinkedHashMap<>();
+		entry.put("event", "slow_query");
+		entry.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+		entry.put("thresholdMs", TimeUnit.NANOSECONDS.toMillis(thresholdNanos));
+		entry.put("rows", rows);
+		if (batchSize > 0) {
+			entry.put("batchSize", batchSize);
+		}
+		entry.put("caller", caller);
+		entry.put("thread", Thread.currentThread().getName());
+		entry.put("sql", sql == null ? null : sql.replaceAll("\\s+", " ").trim());
+		entry.put("params", toLoggable(params));
+		try {
+			log.warn(OBJECT_MAPPER.writeValueAsString(entry));
+		} catch (JsonProcessingException e) {
+			log.warn("slow_query {}ms {}", entry.get("elapsedMs"), entry.get("sql"));
+		}
+	}
+
+	// 긴 문자열은 자르고, 바이너리는 길이만, 날짜 등은 문자열로
+	private static List<Object> toLoggable(Object[] params) {
+		List<Object> values = new ArrayList<>();
+		if (params == null) {
+			return values;
+		}
+		for (int i = 0; i < Math.min(params.length, MAX_PARAMS); i++) {
+			Object param = params[i];
+			if (param == null || param instanceof Number || param instanceof Boolean) {
+				values.add(param);
+			} else if (param instanceof byte[] bytes) {
+				values.add("byte[" + bytes.length + "]");
+			} else {
+				String text = param.toString();
+				values.add(text.length() > MAX_PARAM_LENGTH ? text.substring(0, MAX_PARAM_LENGTH) + "..." : text);
+			}
+		}
+		if (params.length > MAX_PARAMS) {
+			values.add("... " + (params.length - MAX_PARAMS) + " more");
+		}
+		return values;
+	}
+}
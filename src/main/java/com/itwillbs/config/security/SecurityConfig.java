@@ -7,6 +7,8 @@ import com.itwillbs.service.SecurityService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -38,6 +40,19 @@ public class SecurityConfig {
     private final CustomAuthenticationEntryPointHandler customAuthenticationEntryPointHandler;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
+    // 액추에이터 : health 만 공개, 나머지(prometheus 포함)는 관리자만. 수집기는 관리자 계정 HTTP Basic 으로 접근
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher("/actuator/**")
+                .authorizeHttpRequests((authorize) -> authorize
+                        .requestMatchers("/actuator/health").permitAll()
+                        .anyRequest().hasRole("ADMIN"))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(Customizer.withDefaults());
+        return http.build();
+    }
+
     // 특정 HTTP 요청에 대한 웹 기반 보안 구성
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -50,7 +65,8 @@ public class SecurityConfig {
                 "/js/**",
                 "/dist/**",
                 "/img/**",
-                "/plugins/**"
+                "/plugins/**",
+                "/actuator/health"
         };
         String[] masterDataUrls = {
                 "/masterdata/**"
@@ -73,6 +89,7 @@ public class SecurityConfig {
         http.authorizeHttpRequests((authorize) -> authorize
                 .requestMatchers(urlsToBePermittedAll).permitAll()
                 .requestMatchers("/bgmManager/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers(masterDataUrls).hasAnyRole("MASTERDATA", "ADMIN")
                 .requestMatchers(TxUrls).hasAnyRole("TRANSACTION", "ADMIN")
                 .requestMatchers(inventoryUrls).hasAnyRole("INVENTORY", "ADMIN")
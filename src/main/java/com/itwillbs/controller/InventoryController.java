@@ -8,11 +8,13 @@ import org.springframework.data.domain.Page;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +25,7 @@ import com.itwillbs.config.security.util.SecurityUtil;
 import com.itwillbs.domain.inventory.IncomingDTO;
 import com.itwillbs.domain.inventory.InventoryItemDTO;
 import com.itwillbs.domain.inventory.OutgoingDTO;
+import com.itwillbs.service.ExportService;
 import com.itwillbs.service.InventoryService;
 
 
@@ -39,6 +42,7 @@ public class InventoryController {
 	private static final String VIEW_PATH = "inventory_management/";
 
 	private final InventoryService inventoryService;
+	private final ExportService exportService;
 
 //    재고 조회
 	@GetMapping("/inventoryList")
@@ -414,6 +418,44 @@ public class InventoryController {
 		return VIEW_PATH + "outgoing_list";
 	}
 
+	// 재고 목록 내보내기 (format = csv, xlsx)
+	@GetMapping("/export/inventory")
+	public ResponseEntity<StreamingResponseBody> exportInventory(
+			@RequestParam(name = "format", defaultValue = "csv") String format) {
+		log.info("InventoryController exportInventory()");
+		return exportService.exportInventory(format);
+	}
+
+	// 입고 품목 내보내기 (입고상태, 입고시작일 yyyy-MM-dd 구간)
+	@GetMapping("/export/incoming")
+	public ResponseEntity<StreamingResponseBody> exportIncoming(
+			@RequestParam(name = "format", defaultValue = "csv") String format,
+			@RequestParam(name = "status", defaultValue = "") String status,
+			@RequestParam(name = "startDate", defaultValue = "") String startDate,
+			@RequestParam(name = "endDate", defaultValue = "") String endDate) {
+		log.info("InventoryController exportIncoming()");
+		try {
+			return exportService.exportIncoming(format, status, startDate, endDate);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	// 출고 품목 내보내기 (출고상태, 출고시작일 yyyy-MM-dd 구간)
+	@GetMapping("/export/outgoing")
+	public ResponseEntity<StreamingResponseBody> exportOutgoing(
+			@RequestParam(name = "format", defaultValue = "csv") String format,
+			@RequestParam(name = "status", defaultValue = "") String status,
+			@RequestParam(name = "startDate", defaultValue = "") String startDate,
+			@RequestParam(name = "endDate", defaultValue = "") String endDate) {
+		log.info("InventoryController exportOutgoing()");
+		try {
+			return exportService.exportOutgoing(format, status, startDate, endDate);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
 	// 페이지네이션 구현 메서드
 	private void applyPagination(Page<?> page, Model model) {
 
@@ -8,8 +8,6 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -22,9 +20,11 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import com.itwillbs.domain.manufacture.MFBomDTO;
 import com.itwillbs.domain.manufacture.MFOrderDTO;
 import com.itwillbs.domain.manufacture.MFRmListDTO;
+import com.itwillbs.domain.manufacture.MrpResultDTO;
 import com.itwillbs.entity.Item;
 import com.itwillbs.entity.MFOrder;
 import com.itwillbs.service.MFService;
+import com.itwillbs.service.MrpService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
@@ -36,6 +36,7 @@ import lombok.extern.java.Log;
 public class MFController {
 	
 	private final MFService mfService;
+	private final MrpService mrpService;
 	
 	@GetMapping("/orders")
 	public String orders(Model model,
@@ -47,13 +48,9 @@ public class MFController {
 			@RequestParam(value = "searchName", defaultValue = "", required = false) String searchName) {
 		log.info("MFController order()");
 		
-		List<MFOrderDTO> orderList = mfService.getOrderList(searchDeadline, searchState, searchId, searchName);
-		
-//		리스트를 페이지 객체로
-		PageRequest pageRequest = PageRequest.of(page-1, size, Sort.by("orderId").descending());
-		int start = (int) pageRequest.getOffset();
-		int end = Math.min((start + pageRequest.getPageSize()),orderList.size());
-		Page<MFOrderDTO> orderPage = new PageImpl<>(orderList.subList(start, end), pageRequest, orderList.size());
+//		페이징은 DB 에서, 정렬은 쿼리의 작업 상태 순서를 그대로 사용
+		PageRequest pageRequest = PageRequest.of(page-1, size);
+		Page<MFOrderDTO> orderPage = mfService.getOrderList(searchDeadline, searchState, searchId, searchName, pageRequest);
 		
 		model.addAttribute("orderList", orderPage);
 		model.addAttribute("currentPage", page);
@@ -84,7 +81,10 @@ public class MFController {
 		
 		List<MFBomDTO> bomList = new ArrayList<>();
 		
-		List<Item> ppList = mfService.getPPList(searchId, searchName);
+//		현재 페이지의 가공품만 조회해서 BOM 을 붙임
+		PageRequest pageRequest = PageRequest.of(page-1, size);
+		Page<Item> ppPage = mfService.getPPPage(searchId, searchName, pageRequest);
+		List<Item> ppList = ppPage.getContent();
 		
 		for(int i = 0; i<ppList.size(); i++) {
 			MFBomDTO bom = new MFBomDTO();
@@ -97,13 +97,7 @@ public class MFController {
 		
 		bomList = mfService.getRmList(bomList);
 		
-		log.info(bomList.toString());
-		
-//		리스트를 페이지 객체로
-		PageRequest pageRequest = PageRequest.of(page-1, size, Sort.by("itemCode").descending());
-		int start = (int) pageRequest.getOffset();
-		int end = Math.min((start + pageRequest.getPageSize()),bomList.size());
-		Page<MFBomDTO> bomPage = new PageImpl<>(bomList.subList(start, end), pageRequest, bomList.size());
+		Page<MFBomDTO> bomPage = new PageImpl<>(bomList, pageRequest, ppPage.getTotalElements());
 		
 		model.addAttribute("bomList", bomPage);
 		model.addAttribute("currentPage", page);
@@ -157,7 +151,6 @@ public class MFController {
 		log.info("MFController getRM()");
 		
 		List<MFRmListDTO> rmList = mfService.getRM(itemName);
-		log.info(rmList.toString());
 		
 		return ResponseEntity.ok(rmList);
 		
@@ -178,4 +171,14 @@ public class MFController {
 			return "failed";
 	}
 	
+	// 자재소요량 계산 (orderIds 미지정 시 진행 전 작업지시 전체)
+	@ResponseBody
+	@GetMapping("/mrp")
+	public ResponseEntity<MrpResultDTO> mrp(
+			@RequestParam(name = "orderIds", required = false) List<String> orderIds) {
+		log.info("MFController mrp()");
+		
+		return ResponseEntity.ok(mrpService.calculate(orderIds));
+	}
+	
 }
@@ -1,20 +1,21 @@
 package com.itwillbs.controller;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
-import com.itwillbs.domain.dashboard.DefectiveDTO;
-import com.itwillbs.domain.dashboard.IncomingItemDTO;
-import com.itwillbs.domain.dashboard.InventoryItemDTO;
-import com.itwillbs.entity.dashboard.IncommingItemDash;
-import com.itwillbs.entity.dashboard.SaleDash;
+import com.itwillbs.domain.dashboard.MainDashboardSnapshot;
+import com.itwillbs.domain.dashboard.RollupPointDTO;
+import com.itwillbs.entity.DashboardRollup;
 import com.itwillbs.service.MainDashBoardService;
 
-import ch.qos.logback.core.model.Model;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
@@ -30,58 +31,57 @@ public class MainDashBoardController {
 	public String main(org.springframework.ui.Model model) {
 		log.info("MainDashBoardController main");
 		
-			//원재료 입고  
-			List<IncomingItemDTO>rmItemList=mainDashBoardService.getItemIncomming("RM");
-			System.out.println("MainDashBoardController rmItemList:"+rmItemList);
-			model.addAttribute("rmItemList", rmItemList);
-			
-			//원재료 재고
-			List<InventoryItemDTO>rmInventoryList=mainDashBoardService.getItemInventory("RM");
-			System.out.println("MainDashBoardController rmInventoryList:"+rmInventoryList);
-			model.addAttribute("rmInventoryList", rmInventoryList);
-			
-			//완재품 입고
-			List<IncomingItemDTO>fpItemList=mainDashBoardService.getItemIncomming("FP");
-			System.out.println("MainDashBoardController fpItemList:"+fpItemList);
-			model.addAttribute("fpItemList", fpItemList);
-			
-			//완재품 재고
-			List<InventoryItemDTO>fpInventoryList=mainDashBoardService.getItemInventory("FP");
-			System.out.println("MainDashBoardController fpInventoryList:"+fpInventoryList);
-			model.addAttribute("fpInventoryList", fpInventoryList);
-			
-			
-			//가공품 입고 
-			List<IncomingItemDTO>ppItemList=mainDashBoardService.getItemIncomming("PP");
-			System.out.println("MainDashBoardController ppItemList:"+ppItemList);
-			model.addAttribute("ppItemList", ppItemList);
-			
-			//가공품 재고
-			List<InventoryItemDTO>ppInventoryList=mainDashBoardService.getItemInventory("PP");
-			System.out.println("MainDashBoardController ppInventoryList:"+ppInventoryList);
-			model.addAttribute("ppInventoryList", ppInventoryList);
-			
-			
-			
-			//반품률
-			List<DefectiveDTO>dfItemList=mainDashBoardService.findByStatus("반품");
-			System.out.println("MainDashBoardController dfItemList:"+dfItemList);
-			model.addAttribute("dfItemList", dfItemList);
-			
-			//폐기율
-			List<DefectiveDTO>discardItemList=mainDashBoardService.findByStatus("폐기");
-			System.out.println("MainDashBoardController discardItemList:"+discardItemList);
-			model.addAttribute("discardItemList", discardItemList);
-			
-			//수주
-			List<SaleDash>saleItemList=mainDashBoardService.findBySaleStatus("수주완료");
-			System.out.println("MainDashBoardController saleItemList:"+saleItemList);
-			model.addAttribute("saleItemList", saleItemList);
-			
+		MainDashboardSnapshot snapshot = mainDashBoardService.getSnapshot();
+		
+		//원재료 입고 / 재고
+		model.addAttribute("rmItemList", snapshot.getRmItemList());
+		model.addAttribute("rmInventoryList", snapshot.getRmInventoryList());
+		
+		//완재품 입고 / 재고
+		model.addAttribute("fpItemList", snapshot.getFpItemList());
+		model.addAttribute("fpInventoryList", snapshot.getFpInventoryList());
+		
+		//가공품 입고 / 재고
+		model.addAttribute("ppItemList", snapshot.getPpItemList());
+		model.addAttribute("ppInventoryList", snapshot.getPpInventoryList());
+		
+		//반품률, 폐기율
+		model.addAttribute("dfItemList", snapshot.getDfItemList());
+		model.addAttribute("discardItemList", snapshot.getDiscardItemList());
+		
+		//수주
+		model.addAttribute("saleItemList", snapshot.getSaleItemList());
 		
 		return "main";
 	}
 	
+	/**
+	 * 기간별 대시보드 차트 (ex. /main/series?metric=입고&dimension=RM&granularity=DAY&from=2024-01-01&to=2024-12-31)
+	 * metric: 입고(dimension=품목유형), 반품/폐기(dimension=품목코드), 수주 / to 는 해당 날짜 포함
+	 */
+	@GetMapping("/main/series")
+	@ResponseBody
+	public ResponseEntity<List<RollupPointDTO>> series(@RequestParam("metric") String metric,
+			@RequestParam(name = "dimension", required = false) String dimension,
+			@RequestParam(name = "granularity", defaultValue = "DAY") String granularity,
+			@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		LocalDateTime start = from.atStartOfDay();
+		LocalDateTime end = to.plusDays(1).atStartOfDay();
+		
+		try {
+			if (DashboardRollup.METRIC_INCOMING.equals(metric)) {
+				return ResponseEntity.ok(mainDashBoardService.getIncomingSeries(dimension, granularity, start, end));
+			}
+			if (DashboardRollup.METRIC_SALE.equals(metric)) {
+				return ResponseEntity.ok(mainDashBoardService.getSaleSeries(granularity, start, end));
+			}
+			return ResponseEntity.ok(mainDashBoardService.getDefectiveSeries(metric, dimension, granularity, start, end));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+	
 	@GetMapping("/logout")
 	public String logout(HttpSession session) {
 		
@@ -244,7 +244,7 @@ public class MasterDataController {
 //		return ResponseEntity.noContent().build();
 //	}
 	
-	// 코드 최대값+1 조회 updateItemCode()
+	// 다음 코드 미리보기 updateItemCode() (저장 시 실제 코드 할당)
 	@GetMapping("/api/items/nextCode")
 	@ResponseBody
 	public String getNextItemCode(@RequestParam(name = "itemType") String itemType) {
@@ -268,7 +268,7 @@ public class MasterDataController {
 	@ResponseBody
 	public ResponseEntity<List<ItemDTO>> searchItems(@RequestParam(name = "itemType", required = true) String itemType,
 			@RequestParam(name = "itemName", required = false) String itemName, @RequestParam(name = "useYN", defaultValue = "Y") String useYN) {
-		if (!Arrays.asList("PP", "RM").contains(itemType)) {
+		if (!Arrays.asList("FP", "PP", "RM").contains(itemType)) {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 품목 유형입니다.");
 		}
 		return ResponseEntity.ok(itemService.searchItemsForModal(itemType, itemName, useYN));
@@ -3,18 +3,23 @@ package com.itwillbs.controller;
 import com.itwillbs.config.security.util.SecurityUtil;
 import com.itwillbs.domain.transaction.*;
 import com.itwillbs.entity.*;
+import com.itwillbs.service.ExportService;
 import com.itwillbs.service.QSService;
 import com.itwillbs.service.TXService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
@@ -24,24 +29,32 @@ public class QualityController2 {
 
     private final TXService txService;
     private final QSService qsService;
+    private final ExportService exportService;
+
+    // 목록 화면 정렬 가능 컬럼 → 조회 쿼리 기준 엔티티 속성 (첫 품목명은 서브쿼리라 정렬 제외)
+    private static final Map<String, String> QS_SORT_COLUMNS = Map.of(
+            "qualityShipmentId", "qualityShipmentId", "franchiseName", "sale.franchise.franchiseName",
+            "shipDate", "shipDate", "dueDate", "sale.dueDate", "status", "status");
 
     @GetMapping("/qualityShipment")
     public String getList() {
         return "/transaction/quality/list";
     }
 
+    // DataTables 서버사이드 페이징 (draw/start/length)
     @ResponseBody
     @GetMapping("/shipQualityInfo")
-    public ResponseEntity<List<QualityShipmentDTO>> getQualShipmentDTOS() {
-        List<QualityShipmentDTO> qualShips = qsService.getShipQualList();
-        log.info("qualShips: " + qualShips);
-        return ResponseEntity.ok(qualShips);
+    public ResponseEntity<DataTablePageDTO<QualityShipmentDTO>> getQualShipmentDTOS(
+            @RequestParam(defaultValue = "1") int draw,
+            @RequestParam(defaultValue = "0") int start,
+            @RequestParam(defaultValue = "10") int length) {
+        Page<QualityShipmentDTO> qualShips = qsService.getShipQualList(DataTablePageDTO.toPageRequest(start, length));
+        return ResponseEntity.ok(new DataTablePageDTO<>(draw, qualShips));
     }
 
     @GetMapping("/qsDetail")
     public String qsDetail(@RequestParam String qsId, Model model) {
         QualityShipmentDTO qsDTO = qsService.getQSShipmentDTOById(qsId);
-        log.info("qsDTO: " + qsDTO);
         List<SaleItems> items = txService.getSaledItems(txService.getSaleById(qsDTO.getSaleId()));
         model.addAttribute("qsDTO", qsDTO);
         model.addAttribute("items", items);
@@ -50,20 +63,40 @@ public class QualityController2 {
 
     @ResponseBody
     @GetMapping("/searchQS")
-    public ResponseEntity<List<QualityShipmentDTO>> searchQS(
+    public ResponseEntity<DataTablePageDTO<QualityShipmentDTO>> searchQS(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String franchiseName,
             @RequestParam(required = false) String shipDateStart,
             @RequestParam(required = false) String shipDateEnd,
             @RequestParam(required = false) String itemName,
             @RequestParam(required = false) String dueDateStart,
-            @RequestParam(required = false) String dueDateEnd
+            @RequestParam(required = false) String dueDateEnd,
+            @RequestParam(defaultValue = "1") int draw,
+            @RequestParam(defaultValue = "0") int start,
+            @RequestParam(defaultValue = "10") int length,
+            @RequestParam(required = false) String orderColumn,
+            @RequestParam(required = false) String orderDir
     ) {
         log.info("QS2 Controller searchQS()");
-        List<QualityShipmentDTO> qs = qsService.searchQS(status, franchiseName, shipDateStart,
-                shipDateEnd, itemName, dueDateStart, dueDateEnd);
-        log.info(qs.toString());
-        return ResponseEntity.ok(qs);
+        Sort sort = DataTablePageDTO.toSort(orderColumn, orderDir, QS_SORT_COLUMNS, Sort.by(Sort.Direction.DESC, "qualityShipmentId"));
+        Page<QualityShipmentDTO> qs = qsService.searchQS(status, franchiseName, shipDateStart,
+                shipDateEnd, itemName, dueDateStart, dueDateEnd, DataTablePageDTO.toPageRequest(start, length, sort));
+        return ResponseEntity.ok(new DataTablePageDTO<>(draw, qs));
+    }
+
+    // 출하검품 품목 내보내기 (format = csv, xlsx / 검품상태, 출하일 yyyy-MM-dd 구간)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportQualityShipments(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "") String status,
+            @RequestParam(defaultValue = "") String startDate,
+            @RequestParam(defaultValue = "") String endDate) {
+        log.info("QS2 Controller exportQualityShipments()");
+        try {
+            return exportService.exportQualityShipments(format, status, startDate, endDate);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/findManager")
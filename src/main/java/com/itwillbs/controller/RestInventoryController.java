@@ -1,6 +1,12 @@
 package com.itwillbs.controller;
 
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,25 +15,37 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.itwillbs.config.security.util.SecurityUtil;
 
+import com.itwillbs.domain.inventory.CursorPage;
+import com.itwillbs.domain.inventory.IncomingDTO;
 import com.itwillbs.domain.inventory.IncomingInsertDTO;
 import com.itwillbs.domain.inventory.IncomingItemsDTO;
 import com.itwillbs.domain.inventory.InvenResponseMessage;
+import com.itwillbs.domain.inventory.InventoryBulkUpdateResult;
 import com.itwillbs.domain.inventory.InventoryItemDTO;
+import com.itwillbs.domain.inventory.ItemQuantityDTO;
+import com.itwillbs.domain.inventory.OutgoingDTO;
 import com.itwillbs.domain.inventory.OutgoingInsertDTO;
 import com.itwillbs.domain.inventory.OutgoingItemsDTO;
 
 import com.itwillbs.entity.Manager;
+import com.itwillbs.entity.StockTake;
 
 import com.itwillbs.service.InventoryService;
+import com.itwillbs.service.InventorySnapshotService;
+import com.itwillbs.service.StockTakeService;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import java.util.stream.Collectors;
@@ -39,30 +57,105 @@ import java.util.stream.Collectors;
 public class RestInventoryController {
 
 	private final InventoryService inventoryService;
+	private final InventorySnapshotService inventorySnapshotService;
+	private final StockTakeService stockTakeService;
 
 	/**
 	 * 재고량 및 최소 필요 재고량 배치 업데이트 엔드포인트
+	 * 잘못된 행은 건너뛰고 failures 로 돌려주며, 나머지 행은 그대로 반영된다.
 	 */
 	@PostMapping("/updateInventoryItems")
-	public ResponseEntity<InvenResponseMessage> updateInventoryItems(
+	public ResponseEntity<InventoryBulkUpdateResult> updateInventoryItems(
 			@RequestBody List<InventoryItemDTO> InventoryItemDTOList) {
-		log.info("RestInventoryController.updateInventoryItems() - InventoryItemDTOList: {}", InventoryItemDTOList);
+		log.info("RestInventoryController.updateInventoryItems() - {}건", InventoryItemDTOList.size());
 
 		try {
-			inventoryService.updateInventoryItems(InventoryItemDTOList);
-			InvenResponseMessage response = new InvenResponseMessage(true, "재고 정보가 성공적으로 수정되었습니다.");
-			return ResponseEntity.ok(response);
-		} catch (EntityNotFoundException e) {
-			log.error("재고 정보 수정 실패: {}", e.getMessage());
-			InvenResponseMessage response = new InvenResponseMessage(false, "해당 품목의 재고 정보를 찾을 수 없습니다.");
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+			InventoryBulkUpdateResult result = inventoryService.updateInventoryItems(InventoryItemDTOList);
+			if (result.getFailures().isEmpty()) {
+				result.setSuccess(true);
+				result.setMessage("재고 정보가 성공적으로 수정되었습니다.");
+			} else if (result.getUpdatedCount() > 0) {
+				result.setSuccess(true);
+				result.setMessage(result.getUpdatedCount() + "건 수정, " + result.getFailures().size()
+						+ "건은 수정하지 못했습니다.");
+			} else {
+				result.setSuccess(false);
+				result.setMessage("해당 품목의 재고 정보를 찾을 수 없습니다.");
+				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+			}
+			return ResponseEntity.ok(result);
 		} catch (Exception e) {
 			log.error("서버 오류: {}", e.getMessage());
-			InvenResponseMessage response = new InvenResponseMessage(false, "재고 정보 수정 중 오류가 발생했습니다.");
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+			InventoryBulkUpdateResult result = new InventoryBulkUpdateResult();
+			result.setRequestedCount(InventoryItemDTOList.size());
+			result.setSuccess(false);
+			result.setMessage("재고 정보 수정 중 오류가 발생했습니다.");
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+		}
+	}
+
+	// 특정 시점의 재고량 조회 (ex. /restInven/stockAt?itemCode=RM012&at=2024-10-15T18:00:00)
+	@GetMapping("/stockAt")
+	public ResponseEntity<ItemQuantityDTO> getStockAt(@RequestParam("itemCode") String itemCode,
+			@RequestParam("at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+		log.info("RestInventoryController.getStockAt() - {}, {}", itemCode, at);
+
+		long quantity = inventorySnapshotService.getQuantityAt(itemCode, at);
+		return ResponseEntity.ok(new ItemQuantityDTO(itemCode, quantity));
+	}
+
+	// 커서 페이지 최대 크기
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+	/**
+	 * 재고 목록 커서 페이징 (COUNT 없음)
+	 * 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor 를 그대로 전달
+	 */
+	@GetMapping("/inventoryList")
+	public ResponseEntity<CursorPage<InventoryItemDTO>> getInventoryList(
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "10") int size) {
+		log.info("RestInventoryController.getInventoryList() - cursor: {}", cursor);
+
+		try {
+			return ResponseEntity.ok(inventoryService.getInventoryItemSlice(cursor, clampSize(size)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
 		}
 	}
 
+	// 입고 목록 커서 페이징 (COUNT 없음)
+	@GetMapping("/incomingList")
+	public ResponseEntity<CursorPage<IncomingDTO>> getIncomingList(
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "8") int size) {
+		log.info("RestInventoryController.getIncomingList() - cursor: {}", cursor);
+
+		try {
+			return ResponseEntity.ok(inventoryService.getIncomingSlice(cursor, clampSize(size)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	// 출고 목록 커서 페이징 (COUNT 없음)
+	@GetMapping("/outgoingList")
+	public ResponseEntity<CursorPage<OutgoingDTO>> getOutgoingList(
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "8") int size) {
+		log.info("RestInventoryController.getOutgoingList() - cursor: {}", cursor);
+
+		try {
+			return ResponseEntity.ok(inventoryService.getOutgoingSlice(cursor, clampSize(size)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	private int clampSize(int size) {
+		return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+	}
+
 	// 입고 상세 정보 ajax
 	@GetMapping("/incomingDetail")
 	public ResponseEntity<List<IncomingItemsDTO>> getIncomingDetail(
@@ -155,7 +248,6 @@ public class RestInventoryController {
 
 		List<IncomingItemsDTO> incomingItems = inventoryService.findIncomingInsertItems(prodOrOrderId,
 				reasonOfIncoming);
-		log.info(incomingItems.toString());
 		// 품목이 존재하면 반환
 		if (!incomingItems.isEmpty()) {
 			return ResponseEntity.ok(incomingItems);
@@ -265,7 +357,6 @@ public class RestInventoryController {
 
 		List<OutgoingItemsDTO> outgoingItems = inventoryService.findOutgoingInsertItems(prodOrSaleId,
 				reasonOfOutgoing);
-		log.info(outgoingItems.toString());
 		// 품목이 존재하면 반환
 		if (!outgoingItems.isEmpty()) {
 			return ResponseEntity.ok(outgoingItems);
@@ -292,4 +383,87 @@ public class RestInventoryController {
 		}
 	}
 
+	/**
+	 * 재고실사 파일 반영 (CSV : 품목코드,실사수량 / 첫 줄 헤더 허용)
+	 * 실사번호를 만들고 202 로 바로 응답한 뒤 반영은 백그라운드에서 진행한다.
+	 * GET /stockTake 로 상태를 확인하고, 실패하면 실사번호로 /stockTake/resume 을 호출해 커밋된 다음 행부터 이어서 반영한다.
+	 */
+	@PostMapping("/stockTake")
+	public ResponseEntity<StockTake> importStockTake(@RequestParam("file") MultipartFile file) {
+		log.info("RestInventoryController.importStockTake() - {}", file.getOriginalFilename());
+
+		if (!hasInventoryRole()) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		if (file.isEmpty()) {
+			return ResponseEntity.badRequest().build();
+		}
+		try {
+			return ResponseEntity.accepted().body(stockTakeService.importFile(file, SecurityUtil.getUserId()));
+		} catch (Exception e) {
+			// 파일 저장 전 오류 (실사번호 없음)
+			log.error("재고실사 등록 오류: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
+	// 실패/중단된 재고실사 이어서 반영 (백그라운드, 202)
+	@PostMapping("/stockTake/resume")
+	public ResponseEntity<StockTake> resumeStockTake(@RequestParam("stockTakeId") String stockTakeId) {
+		log.info("RestInventoryController.resumeStockTake() - {}", stockTakeId);
+
+		if (!hasInventoryRole()) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		try {
+			return ResponseEntity.accepted().body(stockTakeService.resumeAsync(stockTakeId));
+		} catch (EntityNotFoundException e) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+		} catch (IllegalStateException e) {
+			// 이미 반영 중
+			return ResponseEntity.status(HttpStatus.CONFLICT).build();
+		} catch (Exception e) {
+			log.error("재고실사 반영 오류: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
+	// 재고실사 진행 상태 조회
+	@GetMapping("/stockTake")
+	public ResponseEntity<StockTake> getStockTake(@RequestParam("stockTakeId") String stockTakeId) {
+		if (!hasInventoryRole()) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		try {
+			return ResponseEntity.ok(stockTakeService.getStockTake(stockTakeId));
+		} catch (EntityNotFoundException e) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+		}
+	}
+
+	// 재고실사 차이 보고서 다운로드 (커밋된 행까지)
+	@GetMapping("/stockTake/report")
+	public ResponseEntity<Resource> getStockTakeReport(@RequestParam("stockTakeId") String stockTakeId) {
+		if (!hasInventoryRole()) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		try {
+			Path report = stockTakeService.getReportPath(stockTakeId);
+			return ResponseEntity.ok()
+					.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+							.filename(report.getFileName().toString(), StandardCharsets.UTF_8).build().toString())
+					.contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+					.body(new FileSystemResource(report));
+		} catch (EntityNotFoundException e) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+		}
+	}
+
+	// 재고관리 권한(admin, inventory) 확인
+	private boolean hasInventoryRole() {
+		List<String> userRoles = SecurityUtil.getUserAuthorities().stream().map(authority -> authority.getAuthority())
+				.collect(Collectors.toList());
+		return userRoles.contains("ROLE_ADMIN") || userRoles.contains("ROLE_INVENTORY");
+	}
+
 }
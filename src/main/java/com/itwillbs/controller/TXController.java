@@ -3,19 +3,25 @@ package com.itwillbs.controller;
 import com.itwillbs.config.security.util.SecurityUtil;
 import com.itwillbs.domain.transaction.*;
 import com.itwillbs.entity.*;
+import com.itwillbs.service.AtpService;
+import com.itwillbs.service.ExportService;
 import com.itwillbs.service.TXService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
@@ -24,6 +30,19 @@ import java.util.List;
 public class TXController {
 
     private final TXService txService;
+    private final AtpService atpService;
+    private final ExportService exportService;
+
+    // 목록 화면 정렬 가능 컬럼 → 조회 쿼리 기준 엔티티 속성 (첫 품목명은 서브쿼리라 정렬 제외)
+    private static final Map<String, String> ORDER_SORT_COLUMNS = Map.of(
+            "orderId", "orderId", "supplierName", "supplier.supplierName", "totalPrice", "totalPrice",
+            "orderDate", "orderDate", "dueDate", "dueDate", "status", "status");
+    private static final Map<String, String> SALE_SORT_COLUMNS = Map.of(
+            "saleId", "saleId", "franchiseName", "franchise.franchiseName", "totalPrice", "totalPrice",
+            "orderDate", "orderDate", "dueDate", "dueDate", "status", "status");
+    private static final Map<String, String> SHIPMENT_SORT_COLUMNS = Map.of(
+            "shipmentId", "shipmentId", "franchiseName", "sale.franchise.franchiseName", "totalPrice", "sale.totalPrice",
+            "shipDate", "shipDate", "dueDate", "sale.dueDate", "status", "status");
 
     @GetMapping({"", "/"})
     public String transaction() {
@@ -48,9 +67,7 @@ public class TXController {
     public String saveOrder(@RequestBody OrderRequestDTO orderRequestDTO) {
         log.info("Controller saveOrder()");
         OrderDTO orderDTO = orderRequestDTO.getOrder();
-        log.info("orderDTO: " + orderDTO);
         List<OrderItemsDTO> orderItems = orderRequestDTO.getItems();
-        log.info("orderItems: " + orderItems);
         // 담당자, 거래처 정보 DB 매치 확인
         if (txService.checkValidation(orderDTO)) {
             txService.saveOrder(orderDTO, orderItems);
@@ -87,7 +104,6 @@ public class TXController {
         }
         List<String> orderableCode = Arrays.asList("FP", "RM");
         List<TxItemsDTO> items = txService.getTXItems(query, orderableCode);
-        log.info("items: " + items);
         model.addAttribute("items", items);
         return "transaction/order/addItems";
     }
@@ -97,12 +113,15 @@ public class TXController {
         return "transaction/order/list";
     }
 
+    // DataTables 서버사이드 페이징 (draw/start/length)
     @ResponseBody
     @GetMapping("/orderInfo")
-    public ResponseEntity<List<OrderDTO>> getOrderInfo() {
-        List<OrderDTO> orders = txService.getOrderList();
-        log.info("orders: " + orders);
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<DataTablePageDTO<OrderDTO>> getOrderInfo(
+            @RequestParam(defaultValue = "1") int draw,
+            @RequestParam(defaultValue = "0") int start,
+            @RequestParam(defaultValue = "10") int length) {
+        Page<OrderDTO> orders = txService.getOrderList(DataTablePageDTO.toPageRequest(start, length));
+        return ResponseEntity.ok(new DataTablePageDTO<>(draw, orders));
     }
 
     @GetMapping("/orderDetail")
@@ -116,19 +135,25 @@ public class TXController {
 
     @ResponseBody
     @GetMapping("/searchOrders")
-    public ResponseEntity<List<OrderDTO>> searchOrders(
+    public ResponseEntity<DataTablePageDTO<OrderDTO>> searchOrders(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String supplierName,
             @RequestParam(required = false) String orderDateStart,
             @RequestParam(required = false) String orderDateEnd,
             @RequestParam(required = false) String itemName,
             @RequestParam(required = false) String dueDateStart,
-            @RequestParam(required = false) String dueDateEnd
+            @RequestParam(required = false) String dueDateEnd,
+            @RequestParam(defaultValue = "1") int draw,
+            @RequestParam(defaultValue = "0") int start,
+            @RequestParam(defaultValue = "10") int length,
+            @RequestParam(required = false) String orderColumn,
+            @RequestParam(required = false) String orderDir
     ) {
         log.info("TXController searchOrders()");
-        List<OrderDTO> orders = txService.searchOrders(status, supplierName, orderDateStart, orderDateEnd, itemName, dueDateStart, dueDateEnd);
-        log.info(orders.toString());
-        return ResponseEntity.ok(orders);
+        Sort sort = DataTablePageDTO.toSort(orderColumn, orderDir, ORDER_SORT_COLUMNS, Sort.by(Sort.Direction.DESC, "orderId"));
+        Page<OrderDTO> orders = txService.searchOrders(status, supplierName, orderDateStart, orderDateEnd, itemName,
+                dueDateStart, dueDateEnd, DataTablePageDTO.toPageRequest(start, length, sort));
+        return ResponseEntity.ok(new DataTablePageDTO<>(draw, orders));
     }
 
     @ResponseBody
@@ -157,9 +182,7 @@ public class TXController {
     public String updateOrder(@RequestBody OrderRequestDTO orderRequestDTO) {
         log.info("Controller updateOrder()");
         OrderDTO orderDTO = orderRequestDTO.getOrder();
-        log.info("orderDTO: " + orderDTO);
         List<OrderItemsDTO> orderItems = orderRequestDTO.getItems();
-        log.info("orderItems: " + orderItems);
         // 담당자, 거래처 정보 DB 매치 확인
         if (txService.checkValidation(orderDTO)) {
             txService.updateOrder(orderDTO, orderItems);
@@ -183,9 +206,7 @@ public class TXController {
     @PostMapping("/saveSale")
     public String saveSale(@RequestBody SaleRequestDTO saleRequestDTO) {
         SaleDTO saleDTO = saleRequestDTO.getSale();
-        log.info("saleDTO: " + saleDTO);
         List<SaleItemsDTO> saleItems = saleRequestDTO.getItems();
-        log.info("saleItems: " + saleItems);
         // 담당자, 거래처 정보 DB 매치 확인
         if (txService.checkSaleValidation(saleDTO)) {
             txService.saveSale(saleDTO, saleItems);
@@ -212,7 +233,6 @@ public class TXController {
         }
         List<String> salableCode = Arrays.asList("FP", "PP");
         List<TxItemsDTO> items = txService.getTXItems(query, salableCode);
-        log.info("items: " + items);
         model.addAttribute("items", items);
         return "transaction/sale/addItems";
     }
@@ -222,12 +242,15 @@ public class TXController {
         return "transaction/sale/list";
     }
 
+    // DataTables 서버사이드 페이징 (draw/start/length)
     @ResponseBody
     @GetMapping("/saleInfo")
-    public ResponseEntity<List<SaleDTO>> getSaleInfo() {
-        List<SaleDTO> sales = txService.getSaleList();
-        log.info("sales: " + sales);
-        return ResponseEntity.ok(sales);
+    public ResponseEntity<DataTablePageDTO<SaleDTO>> getSaleInfo(
+            @RequestParam(defaultValue = "1") int draw,
+            @RequestParam(defaultValue = "0") int start,
+            @RequestParam(defaultValue = "10") int length) {
+        Page<SaleDTO> sales = txService.getSaleList(DataTablePageDTO.toPageRequest(start, length));
+        return ResponseEntity.ok(new DataTablePageDTO<>(draw, sales));
     }
 
     @GetMapping("/saleDetail")
@@ -241,19 +264,25 @@ public class TXController {
 
     @ResponseBody
     @GetMapping("/searchSales")
-    public ResponseEntity<List<SaleDTO>> searchSales(
+    public ResponseEntity<DataTablePageDTO<SaleDTO>> searchSales(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String franchiseName,
             @RequestParam(required = false) String orderDateStart,
             @RequestParam(required = false) String orderDateEnd,
             @RequestParam(required = false) String itemName,
             @RequestParam(required = false) String dueDateStart,
-            @RequestParam(required = false) String dueDateEnd
+            @RequestParam(required = false) String dueDateEnd,
+            @RequestParam(defaultValue = "1") int draw,
+            @RequestParam(defaultValue = "0") int start,
+            @RequestParam(defaultValue = "10") int length,
+            @RequestParam(required = false) String orderColumn,
+            @RequestParam(required = false) String orderDir
     ) {
         log.info("TXController searchSales()");
-        List<SaleDTO> sales = txService.searchSales(status, franchiseName, orderDateStart, orderDateEnd, itemName, dueDateStart, dueDateEnd);
-        log.info(sales.toString());
-        return ResponseEntity.ok(sales);
+        Sort sort = DataTablePageDTO.toSort(orderColumn, orderDir, SALE_SORT_COLUMNS, Sort.by(Sort.Direction.DESC, "saleId"));
+        Page<SaleDTO> sales = txService.searchSales(status, franchiseName, orderDateStart, orderDateEnd, itemName,
+                dueDateStart, dueDateEnd, DataTablePageDTO.toPageRequest(start, length, sort));
+        return ResponseEntity.ok(new DataTablePageDTO<>(draw, sales));
     }
 
     @ResponseBody
@@ -272,6 +301,75 @@ public class TXController {
         return "success";
     }
 
+    // 품목 가용재고 (재고량 - 수주 예약량)
+    @ResponseBody
+    @GetMapping("/atp")
+    public AtpDTO getAtp(@RequestParam String itemCode) {
+        return atpService.getAtp(itemCode);
+    }
+
+    // 수주 품목(품목코드 -> 수량)을 가용재고로 충족할 수 있는지
+    @ResponseBody
+    @PostMapping("/atpCheck")
+    public List<AtpDTO> checkAtp(@RequestBody Map<String, Integer> items) {
+        return atpService.check(items);
+    }
+
+    // 발주 품목 내보내기 (format = csv, xlsx / 조건은 searchOrders 와 같음, 날짜 yyyy-MM-dd 종료일 포함)
+    @GetMapping("/export/orders")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String supplierName,
+            @RequestParam(required = false) String orderDateStart,
+            @RequestParam(required = false) String orderDateEnd,
+            @RequestParam(required = false) String itemName,
+            @RequestParam(required = false) String dueDateStart,
+            @RequestParam(required = false) String dueDateEnd) {
+        log.info("TXController exportOrders()");
+        try {
+            return exportService.exportOrders(format, status, supplierName, orderDateStart, orderDateEnd, itemName,
+                    dueDateStart, dueDateEnd);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 수주 품목 내보내기 (format = csv, xlsx / 조건은 searchSales 와 같음, 날짜 yyyy-MM-dd 종료일 포함)
+    @GetMapping("/export/sales")
+    public ResponseEntity<StreamingResponseBody> exportSales(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String franchiseName,
+            @RequestParam(required = false) String orderDateStart,
+            @RequestParam(required = false) String orderDateEnd,
+            @RequestParam(required = false) String itemName,
+            @RequestParam(required = false) String dueDateStart,
+            @RequestParam(required = false) String dueDateEnd) {
+        log.info("TXController exportSales()");
+        try {
+            return exportService.exportSales(format, status, franchiseName, orderDateStart, orderDateEnd, itemName,
+                    dueDateStart, dueDateEnd);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 출하 품목 내보내기 (format = csv, xlsx / 출하상태, 출하일 yyyy-MM-dd 구간)
+    @GetMapping("/export/shipments")
+    public ResponseEntity<StreamingResponseBody> exportShipments(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "") String status,
+            @RequestParam(defaultValue = "") String startDate,
+            @RequestParam(defaultValue = "") String endDate) {
+        log.info("TXController exportShipments()");
+        try {
+            return exportService.exportShipments(format, status, startDate, endDate);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/saleForm")
     public String saleForm() {
         return "transaction/sale/saleform";
@@ -282,12 +380,15 @@ public class TXController {
     public String updateSale(@RequestBody SaleRequestDTO saleRequestDTO) {
         log.info("Controller updateSale()");
         SaleDTO saleDTO = saleRequestDTO.getSale();
-        log.info("saleDTO: " + saleDTO);
         List<SaleItemsDTO> saleItems = saleRequestDTO.getItems();
-        log.info("saleItems: " + saleItems);
         // 담당자, 거래처 정보 DB 매치 확인
         if (txService.checkSaleValidation(saleDTO)) {
-            txService.updateSale(saleDTO, saleItems);
+            try {
+                txService.updateSale(saleDTO, saleItems);
+            } catch (IllegalStateException e) {
+                // 등록(저장) 상태가 아닌 수주
+                return "notEditable";
+            }
             return "success";
         } else {
             return "mismatch";
@@ -327,12 +428,15 @@ public class TXController {
         return "transaction/shipment/list";
     }
 
+    // DataTables 서버사이드 페이징 (draw/start/length)
     @ResponseBody
     @GetMapping("/shipInfo")
-    public ResponseEntity<List<ShipmentDTO>> getShipInfo() {
-        List<ShipmentDTO> ships = txService.getShipList();
-        log.info("ships: " + ships);
-        return ResponseEntity.ok(ships);
+    public ResponseEntity<DataTablePageDTO<ShipmentDTO>> getShipInfo(
+            @RequestParam(defaultValue = "1") int draw,
+            @RequestParam(defaultValue = "0") int start,
+            @RequestParam(defaultValue = "10") int length) {
+        Page<ShipmentDTO> ships = txService.getShipList(DataTablePageDTO.toPageRequest(start, length));
+        return ResponseEntity.ok(new DataTablePageDTO<>(draw, ships));
     }
 
     @GetMapping("/shipDetail")
@@ -352,20 +456,25 @@ public class TXController {
 
     @ResponseBody
     @GetMapping("/searchShips")
-    public ResponseEntity<List<ShipmentDTO>> searchShips(
+    public ResponseEntity<DataTablePageDTO<ShipmentDTO>> searchShips(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String franchiseName,
             @RequestParam(required = false) String shipDateStart,
             @RequestParam(required = false) String shipDateEnd,
             @RequestParam(required = false) String itemName,
             @RequestParam(required = false) String dueDateStart,
-            @RequestParam(required = false) String dueDateEnd
+            @RequestParam(required = false) String dueDateEnd,
+            @RequestParam(defaultValue = "1") int draw,
+            @RequestParam(defaultValue = "0") int start,
+            @RequestParam(defaultValue = "10") int length,
+            @RequestParam(required = false) String orderColumn,
+            @RequestParam(required = false) String orderDir
     ) {
-        log.info("TXController searchSales()");
-        List<ShipmentDTO> shipment = txService.searchShips(status, franchiseName, shipDateStart,
-                shipDateEnd, itemName, dueDateStart, dueDateEnd);
-        log.info(shipment.toString());
-        return ResponseEntity.ok(shipment);
+        log.info("TXController searchShips()");
+        Sort sort = DataTablePageDTO.toSort(orderColumn, orderDir, SHIPMENT_SORT_COLUMNS, Sort.by(Sort.Direction.DESC, "shipmentId"));
+        Page<ShipmentDTO> shipment = txService.searchShips(status, franchiseName, shipDateStart,
+                shipDateEnd, itemName, dueDateStart, dueDateEnd, DataTablePageDTO.toPageRequest(start, length, sort));
+        return ResponseEntity.ok(new DataTablePageDTO<>(draw, shipment));
     }
 
     @ResponseBody
@@ -0,0 +1,37 @@
+package com.itwillbs.domain.dashboard;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.itwillbs.entity.dashboard.SaleDash;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메인 대시보드 집계 스냅샷 (한 번 만들면 바꾸지 않고 통째로 교체)
+ */
+@Getter
+@AllArgsConstructor
+public class MainDashboardSnapshot {
+
+	//원재료/완제품/가공품 입고
+	private final List<IncomingItemDTO> rmItemList;
+	private final List<IncomingItemDTO> fpItemList;
+	private final List<IncomingItemDTO> ppItemList;
+
+	//원재료/완제품/가공품 재고
+	private final List<InventoryItemDTO> rmInventoryList;
+	private final List<InventoryItemDTO> fpInventoryList;
+	private final List<InventoryItemDTO> ppInventoryList;
+
+	//반품, 폐기
+	private final List<DefectiveDTO> dfItemList;
+	private final List<DefectiveDTO> discardItemList;
+
+	//수주완료
+	private final List<SaleDash> saleItemList;
+
+	private final LocalDateTime refreshedAt;
+
+}
@@ -0,0 +1,21 @@
+package com.itwillbs.domain.dashboard;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 원본 데이터가 바뀌어 다시 집계해야 하는 지표와 날짜 (커밋 후 집계 갱신용)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RollupDirtyEvent {
+
+	private final String metric;
+	private final Set<LocalDate> days;
+
+}
@@ -0,0 +1,22 @@
+package com.itwillbs.domain.dashboard;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대시보드 차트 한 점 (구간 시작 시각, 구분값, 합계, 건수)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupPointDTO {
+
+	private LocalDateTime bucketStart;
+	private String dimension;
+	private long amount;
+	private long rowCount;
+
+}
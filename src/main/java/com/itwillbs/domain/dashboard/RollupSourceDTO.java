@@ -0,0 +1,27 @@
+package com.itwillbs.domain.dashboard;
+
+import java.sql.Timestamp;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 집계 대상 원본 행 (발생 시각, 지표, 구분값, 수량/금액)
+ */
+@Data
+@NoArgsConstructor
+public class RollupSourceDTO {
+
+	private Timestamp occurredAt;
+	private String metric;
+	private String dimension;
+	private long amount;
+
+	public RollupSourceDTO(Timestamp occurredAt, String metric, String dimension, Integer amount) {
+		this.occurredAt = occurredAt;
+		this.metric = metric;
+		this.dimension = dimension;
+		this.amount = amount == null ? 0L : amount.longValue();
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.itwillbs.domain.export;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 내보내기용 문서 품목 행 (입고/출고/발주/수주/출하/출하검품 공통, 문서 품목 1줄 = 1행)
+ * 문서 종류마다 쓰는 항목만 내보낸다. (입고/출고/출하/출하검품은 단가, 금액 없음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentLineExportDTO {
+
+	private String documentId;
+	private String status;
+	// 발주번호, 작업번호, 수주번호, 출하번호 등 근거 문서
+	private String referenceId;
+	// 거래처명 또는 가맹점명
+	private String partnerName;
+	// 등록일 (입고/출고 시작일, 발주/수주일, 출하일)
+	private Timestamp documentDate;
+	// 완료일 또는 납기일
+	private Timestamp endDate;
+	private String managerName;
+	private String itemCode;
+	private String itemName;
+	private int quantity;
+	private int price;
+	private int subtotalPrice;
+
+}
@@ -0,0 +1,48 @@
+package com.itwillbs.domain.inventory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서(키셋) 페이지 응답
+ * COUNT 쿼리 없이 마지막 행의 키 다음부터 조회하며, nextCursor 를 그대로 다음 요청에 넘기면 된다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+	private List<T> content;
+	private String nextCursor;
+	private boolean hasNext;
+
+	// 마지막 키 -> 불투명 커서 문자열
+	public static String encode(String key) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 커서 문자열 -> 마지막 키 (없으면 null, 잘못된 값이면 IllegalArgumentException)
+	public static String decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * size + 1 건 조회한 결과로 페이지를 만든다.
+	 */
+	public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> keyExtractor) {
+		boolean hasNext = rows.size() > size;
+		List<T> content = hasNext ? rows.subList(0, size) : rows;
+		String nextCursor = hasNext ? encode(keyExtractor.apply(content.get(content.size() - 1))) : null;
+		return new CursorPage<>(content, nextCursor, hasNext);
+	}
+
+}
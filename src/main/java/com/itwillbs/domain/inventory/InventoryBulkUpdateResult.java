@@ -0,0 +1,35 @@
+package com.itwillbs.domain.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고량 일괄 수정 결과 (행 단위 실패 목록 포함)
+ */
+@Data
+@NoArgsConstructor
+public class InventoryBulkUpdateResult {
+
+	private boolean success;
+	private String message;
+
+	private int requestedCount; //요청 행 수
+	private int updatedCount; //수정된 행 수
+	private List<Failure> failures = new ArrayList<>(); //수정하지 못한 행
+
+	public void addFailure(String itemCode, String reason) {
+		failures.add(new Failure(itemCode, reason));
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Failure {
+		private String itemCode;
+		private String reason;
+	}
+}
@@ -0,0 +1,18 @@
+package com.itwillbs.domain.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 품목코드별 수량 합계 (재고 원장/스냅샷 집계용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemQuantityDTO {
+
+	private String itemCode;
+	private Long quantity;
+
+}
@@ -0,0 +1,26 @@
+package com.itwillbs.domain.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입고/출고 목록에서 보여줄 품목 요약 (첫번째 품목 이름, 품목 갯수, 총 수량)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSummaryDTO {
+
+	private String parentId; //입고번호 또는 출고번호
+	private String firstItemName; //보여줄 품목 1개
+	private Long itemCount; //전체 품목 갯수
+	private Long totalQuantity; //전체 품목 수량 합계 (입고/출고 등록 대상에서만 사용)
+
+	public ItemSummaryDTO(String parentId, String firstItemName, Long itemCount) {
+		this.parentId = parentId;
+		this.firstItemName = firstItemName;
+		this.itemCount = itemCount;
+	}
+
+}
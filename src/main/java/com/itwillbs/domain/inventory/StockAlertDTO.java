@@ -0,0 +1,25 @@
+package com.itwillbs.domain.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 알림 (SSE 전송용)
+ * type : LOW = 최소필요재고량 미만으로 떨어짐, CLEARED = 다시 최소필요재고량 이상이 됨
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAlertDTO {
+
+	public static final String TYPE_LOW = "LOW";
+	public static final String TYPE_CLEARED = "CLEARED";
+
+	private String type;
+	private String itemCode;
+	private String itemName;
+	private Integer quantity;
+	private Integer minReqQuantity;
+
+}
@@ -0,0 +1,19 @@
+package com.itwillbs.domain.inventory;
+
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 재고량 또는 최소필요재고량이 바뀐 품목 (커밋 후 재고 알림 갱신용)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class StockChangedEvent {
+
+	private final Set<String> itemCodes;
+
+}
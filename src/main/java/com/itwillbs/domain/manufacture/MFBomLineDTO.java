@@ -0,0 +1,22 @@
+package com.itwillbs.domain.manufacture;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * BOM 한 줄 (가공품 1개당 필요한 원재료와 수량)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MFBomLineDTO {
+	
+	private String ppCode;
+	private String rmCode;
+	private String rmName;
+	private BigDecimal quantity;
+	
+}
@@ -0,0 +1,21 @@
+package com.itwillbs.domain.manufacture;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 품목별 생산 예정량과 가장 이른 작업지시 납기 (MRP)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpDemandDTO {
+
+	private String itemCode;
+	private Long quantity;
+	private LocalDate deadline;
+
+}
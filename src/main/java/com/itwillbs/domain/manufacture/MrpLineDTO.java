@@ -0,0 +1,27 @@
+package com.itwillbs.domain.manufacture;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자재소요량 계산 결과 한 줄
+ * 원재료 : supply = 입고 예정량, net = 부족량 (발주 단위로 올림), needBy = 발주 기한
+ * 가공품 : supply = 생산 예정량, net = 추가 생산 필요량, needBy = 착수 기한
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpLineDTO {
+
+	private String itemCode;
+	private String itemName;
+	private long gross;
+	private long onHand;
+	private long supply;
+	private long net;
+	private LocalDate needBy;
+
+}
@@ -0,0 +1,26 @@
+package com.itwillbs.domain.manufacture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 거래처별 발주 제안 (부족 원재료 묶음)
+ * 품목-거래처 관계가 없으므로 마지막으로 발주한 거래처 기준, 이력이 없으면 supplierCode 가 null
+ */
+@Data
+@NoArgsConstructor
+public class MrpPurchaseDTO {
+
+	private String supplierCode;
+	private String supplierName;
+	private List<MrpLineDTO> items = new ArrayList<>();
+
+	public MrpPurchaseDTO(String supplierCode, String supplierName) {
+		this.supplierCode = supplierCode;
+		this.supplierName = supplierName;
+	}
+
+}
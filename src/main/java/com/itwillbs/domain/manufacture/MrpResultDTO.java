@@ -0,0 +1,25 @@
+package com.itwillbs.domain.manufacture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자재소요량(MRP) 계산 결과
+ */
+@Data
+@NoArgsConstructor
+public class MrpResultDTO {
+
+	// 계산에 포함된 작업지시 수
+	private int orderCount;
+	// 원재료 소요량/부족량
+	private List<MrpLineDTO> requirements = new ArrayList<>();
+	// 가공품 추가 생산 필요량
+	private List<MrpLineDTO> plannedProduction = new ArrayList<>();
+	// 거래처별 발주 제안
+	private List<MrpPurchaseDTO> purchaseSuggestions = new ArrayList<>();
+
+}
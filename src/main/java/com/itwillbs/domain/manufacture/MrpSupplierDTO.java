@@ -0,0 +1,19 @@
+package com.itwillbs.domain.manufacture;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 품목별 최근 발주 거래처 (발주 제안 묶음 기준)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpSupplierDTO {
+
+	private String itemCode;
+	private String supplierCode;
+	private String supplierName;
+
+}
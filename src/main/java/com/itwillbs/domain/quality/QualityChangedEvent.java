@@ -0,0 +1,17 @@
+package com.itwillbs.domain.quality;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 검품 결과가 저장된 문서 (커밋 후 대시보드 갱신용)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class QualityChangedEvent {
+
+	private final String qualityId;
+
+}
@@ -0,0 +1,24 @@
+package com.itwillbs.domain.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 품목별 가용재고 (ATP, Available To Promise)
+ * available = onHand(재고량) - reserved(수주 예약 중 수량), 음수면 예약이 재고를 초과한 상태
+ * requested / fulfillable 은 충족 가능 여부 조회(check) 때만 채워진다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AtpDTO {
+
+	private String itemCode;
+	private long onHand;
+	private long reserved;
+	private long available;
+	private Integer requested;
+	private Boolean fulfillable;
+
+}
@@ -0,0 +1,69 @@
+package com.itwillbs.domain.transaction;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataTables 서버사이드 페이징 응답 (draw, recordsTotal, recordsFiltered, data)
+ */
+@Getter
+@Setter
+@ToString
+public class DataTablePageDTO<T> {
+
+    private int draw;
+    private long recordsTotal;
+    private long recordsFiltered;
+    private List<T> data;
+
+    public DataTablePageDTO() {}
+
+    public DataTablePageDTO(int draw, Page<T> page) {
+        this.draw = draw;
+        this.recordsTotal = page.getTotalElements();
+        this.recordsFiltered = page.getTotalElements();
+        this.data = page.getContent();
+    }
+
+    // DataTables 의 start/length 를 PageRequest 로 (length 는 1~100)
+    public static PageRequest toPageRequest(int start, int length) {
+        return toPageRequest(start, length, Sort.unsorted());
+    }
+
+    public static PageRequest toPageRequest(int start, int length, Sort sort) {
+        int size = Math.max(1, Math.min(length, 100));
+        return PageRequest.of(Math.max(start, 0) / size, size, sort);
+    }
+
+    // 정렬 조건 없이 들어온 요청(첫 목록 조회, 벤치마크 등)은 기본 정렬로
+    public static Pageable withDefaultSort(Pageable pageable, Sort defaultSort) {
+        return pageable.getSort().isSorted() ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), defaultSort);
+    }
+
+    /**
+     * DataTables 정렬 컬럼(columns[].data)과 방향을 엔티티 정렬 속성으로 변환
+     * 허용한 컬럼만 정렬하고 같은 값끼리는 기본 정렬(번호 내림차순)로 순서를 고정해 페이지가 겹치지 않게 한다.
+     *
+     * @param sortable    화면 컬럼명 → 조회 쿼리 기준 엔티티 속성 경로
+     * @param defaultSort 정렬 조건이 없거나 허용하지 않는 컬럼일 때 정렬
+     */
+    public static Sort toSort(String orderColumn, String orderDir, Map<String, String> sortable, Sort defaultSort) {
+        String property = orderColumn == null ? null : sortable.get(orderColumn);
+        if (property == null) {
+            return defaultSort;
+        }
+        Sort.Direction direction = "desc".equalsIgnoreCase(orderDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, property);
+        return defaultSort.getOrderFor(property) != null ? sort : sort.and(defaultSort);
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.itwillbs.domain.transaction;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
@@ -9,6 +10,7 @@ import java.sql.Timestamp;
 @Getter
 @Setter
 @ToString
+@NoArgsConstructor
 public class OrderDTO {
 
     private String orderId;
@@ -26,4 +28,17 @@ public class OrderDTO {
     private String itemName;
     private int itemCount;
 
+    // 목록 조회 쿼리용
+    public OrderDTO(String orderId, int totalPrice, Timestamp orderDate, Timestamp dueDate, String status,
+                    String supplierName, String itemName, Long itemCount) {
+        this.orderId = orderId;
+        this.totalPrice = totalPrice;
+        this.orderDate = orderDate;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.supplierName = supplierName;
+        this.itemName = itemName;
+        this.itemCount = itemCount == null ? 0 : itemCount.intValue();
+    }
+
 }
@@ -56,7 +56,20 @@ public class QualityShipmentDTO {
         this.qsStatus = qsStatus;
     }
 
-
-
+    // 목록 조회 쿼리용
+    public QualityShipmentDTO(String qualityShipmentId, String status, String managerId, String managerName,
+                              String shipmentId, Timestamp shipDate, Timestamp dueDate, String franchiseName,
+                              String itemName, Long itemCount) {
+        this.qualityShipmentId = qualityShipmentId;
+        this.status = status;
+        this.managerId = managerId;
+        this.managerName = managerName;
+        this.shipmentId = shipmentId;
+        this.shipDate = shipDate;
+        this.dueDate = dueDate;
+        this.franchiseName = franchiseName;
+        this.itemName = itemName;
+        this.itemCount = itemCount == null ? 0 : itemCount.intValue();
+    }
 
 }
@@ -0,0 +1,19 @@
+package com.itwillbs.domain.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자동 발주 기준 (품목별 가장 최근 발주의 거래처, 단가)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReorderSourceDTO {
+
+	private String itemCode;
+	private String supplierCode;
+	private int price;
+
+}
@@ -0,0 +1,19 @@
+package com.itwillbs.domain.transaction;
+
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 재고 예약(수주 예약/해제/소진)이 바뀐 품목 (커밋 후 가용재고 갱신용)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReservationChangedEvent {
+
+	private final Set<String> itemCodes;
+
+}
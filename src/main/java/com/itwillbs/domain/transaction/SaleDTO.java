@@ -51,5 +51,17 @@ public class SaleDTO {
         this.outGoingStatus = outGoingStatus;
     }
 
+    // 목록 조회 쿼리용
+    public SaleDTO(String saleId, int totalPrice, Timestamp orderDate, Timestamp dueDate, String status,
+                   String franchiseName, String itemName, Long itemCount) {
+        this.saleId = saleId;
+        this.totalPrice = totalPrice;
+        this.orderDate = orderDate;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.franchiseName = franchiseName;
+        this.itemName = itemName;
+        this.itemCount = itemCount == null ? 0 : itemCount.intValue();
+    }
 
 }
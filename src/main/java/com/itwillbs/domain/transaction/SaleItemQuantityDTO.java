@@ -0,0 +1,19 @@
+package com.itwillbs.domain.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수주별 품목 수량 합계 (재고 예약 보정용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaleItemQuantityDTO {
+
+	private String saleId;
+	private String itemCode;
+	private Long quantity;
+
+}
@@ -59,4 +59,18 @@ public class ShipmentDTO {
         this.qsStatus = qsStatus;
     }
 
+    // 목록 조회 쿼리용
+    public ShipmentDTO(String shipmentId, Timestamp shipDate, Timestamp dueDate, String status, String qsStatus,
+                       String franchiseName, int totalPrice, String itemName, Long itemCount) {
+        this.shipmentId = shipmentId;
+        this.shipDate = shipDate;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.qsStatus = qsStatus;
+        this.franchiseName = franchiseName;
+        this.totalPrice = totalPrice;
+        this.itemName = itemName;
+        this.itemCount = itemCount == null ? 0 : itemCount.intValue();
+    }
+
 }
@@ -0,0 +1,71 @@
+package com.itwillbs.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 대시보드 차트용 시간/일 단위 집계 테이블
+ * (granularity, metric, dimension, bucket_start) 당 한 행
+ */
+@Entity
+@Table(name = "dashboard_rollup", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_dashboard_rollup_bucket", columnNames = { "granularity", "metric", "dimension", "bucket_start" }) })
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardRollup {
+
+	public static final String GRANULARITY_HOUR = "HOUR";
+	public static final String GRANULARITY_DAY = "DAY";
+
+	// 입고량(품목유형별), 반품/폐기량(품목별), 수주완료 금액(전체)
+	public static final String METRIC_INCOMING = "입고";
+	public static final String METRIC_RETURN = "반품";
+	public static final String METRIC_DISCARD = "폐기";
+	public static final String METRIC_SALE = "수주";
+
+	// 구분값이 없는 지표(수주)의 dimension
+	public static final String DIMENSION_ALL = "ALL";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "rollup_id")
+	private Long rollupId;
+
+	// HOUR, DAY
+	@Column(name = "granularity", length = 10, nullable = false)
+	private String granularity;
+
+	@Column(name = "metric", length = 20, nullable = false)
+	private String metric;
+
+	// 품목유형(RM/FP/PP), 품목코드 또는 ALL
+	@Column(name = "dimension", length = 20, nullable = false)
+	private String dimension;
+
+	// 구간 시작 시각 (정시 또는 0시)
+	@Column(name = "bucket_start", nullable = false)
+	private LocalDateTime bucketStart;
+
+	// 수량 또는 금액 합계
+	@Column(name = "amount", nullable = false)
+	private long amount;
+
+	// 원본 행 수
+	@Column(name = "row_count", nullable = false)
+	private long rowCount;
+}
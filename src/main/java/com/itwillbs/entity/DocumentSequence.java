@@ -0,0 +1,33 @@
+package com.itwillbs.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 문서번호 채번 테이블 (접두어별 다음 번호)
+ */
+@Entity
+@Table(name = "document_sequence")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentSequence {
+
+	// 접두어 : INC, OUT, MO, OD, SL, SM, ST, RM, PP, FP, FR, SUP
+	@Id
+	@Column(name = "prefix", length = 10)
+	private String prefix;
+
+	// 아직 어느 서버에도 할당되지 않은 다음 번호
+	@Column(name = "next_value", nullable = false)
+	private long nextValue;
+}
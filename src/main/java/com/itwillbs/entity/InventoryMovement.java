@@ -0,0 +1,58 @@
+package com.itwillbs.entity;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 재고 변동 원장 테이블 (추가만 하고 수정/삭제하지 않음)
+ */
+@Entity
+@Table(name = "inventory_movement", indexes = {
+		@Index(name = "idx_inventory_movement_item_date", columnList = "item_code, movement_date") })
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryMovement {
+
+	public static final String TYPE_INCOMING = "입고";
+	public static final String TYPE_OUTGOING = "출고";
+	public static final String TYPE_ADJUSTMENT = "재고조정";
+	public static final String TYPE_STOCK_TAKE = "재고실사";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "movement_id")
+	private Long movementId;
+
+	@Column(name = "item_code", length = 20, nullable = false)
+	private String itemCode;
+
+	// 재고 증감량 (입고 +, 출고 -)
+	@Column(name = "quantity_change", nullable = false)
+	private int quantityChange;
+
+	// 입고, 출고, 재고조정, 재고실사
+	@Column(name = "movement_type", length = 20, nullable = false)
+	private String movementType;
+
+	// 입고번호, 출고번호, 재고실사번호 등 변동 근거 문서번호
+	@Column(name = "reference_id", length = 20)
+	private String referenceId;
+
+	@Column(name = "movement_date", nullable = false)
+	private Timestamp movementDate;
+}
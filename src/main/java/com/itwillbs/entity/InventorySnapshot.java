@@ -0,0 +1,44 @@
+package com.itwillbs.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 일별 재고 스냅샷 테이블 (snapshot_date 당일 마감 시점의 재고량)
+ */
+@Entity
+@Table(name = "inventory_snapshot", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_inventory_snapshot_item_date", columnNames = { "item_code", "snapshot_date" }) })
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventorySnapshot {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "snapshot_id")
+	private Long snapshotId;
+
+	@Column(name = "item_code", length = 20, nullable = false)
+	private String itemCode;
+
+	@Column(name = "snapshot_date", nullable = false)
+	private LocalDate snapshotDate;
+
+	@Column(name = "quantity", nullable = false)
+	private long quantity;
+}
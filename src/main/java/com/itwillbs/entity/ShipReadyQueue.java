@@ -0,0 +1,79 @@
+package com.itwillbs.entity;
+
+import java.sql.Timestamp;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 출하 대기 큐 테이블 (출고 완료 + 출하 미등록 수주)
+ * 출고 완료 시 추가되고 출하 등록 시 삭제된다. 출하 대상 조회는 이 테이블만 읽는다.
+ */
+@Entity
+@Table(name = "ship_ready_queue", indexes = @Index(name = "idx_ship_ready_queue_due_date", columnList = "due_date"))
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ShipReadyQueue {
+
+	@Id
+	@Column(name = "sale_id", length = 20)
+	private String saleId;
+
+	@Column(name = "outgoing_id", length = 20)
+	private String outgoingId;
+
+	@Column(name = "outgoing_status", length = 20)
+	private String outgoingStatus;
+
+	@Column(name = "franchise_code", length = 20)
+	private String franchiseCode;
+
+	@Column(name = "franchise_name", length = 100)
+	private String franchiseName;
+
+	@Column(name = "total_price")
+	private int totalPrice;
+
+	@Column(name = "order_date")
+	private Timestamp orderDate;
+
+	@Column(name = "due_date")
+	private Timestamp dueDate;
+
+	// 첫 품목명 (품목코드 순)
+	@Column(name = "item_name", length = 100)
+	private String itemName;
+
+	@Column(name = "item_count")
+	private int itemCount;
+
+	@CreationTimestamp
+	@Column(name = "enqueued_at", updatable = false)
+	private Timestamp enqueuedAt;
+
+	public ShipReadyQueue(String saleId, String outgoingId, String outgoingStatus, String franchiseCode,
+			String franchiseName, int totalPrice, Timestamp orderDate, Timestamp dueDate, String itemName,
+			Long itemCount) {
+		this.saleId = saleId;
+		this.outgoingId = outgoingId;
+		this.outgoingStatus = outgoingStatus;
+		this.franchiseCode = franchiseCode;
+		this.franchiseName = franchiseName;
+		this.totalPrice = totalPrice;
+		this.orderDate = orderDate;
+		this.dueDate = dueDate;
+		this.itemName = itemName;
+		this.itemCount = itemCount == null ? 0 : itemCount.intValue();
+	}
+}
@@ -0,0 +1,62 @@
+package com.itwillbs.entity;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 수주 품목 재고 예약 (가용재고 ATP 계산용)
+ *
+ * 수주 등록 시 품목별 수량을 예약으로 잡고, 수주 취소 시 해제, 수주 출고 완료 시 소진 처리한다.
+ * 재고량(inventory_items)은 건드리지 않는 소프트 예약이며 가용재고 = 재고량 - 예약 중 수량 합계
+ */
+@Entity
+@Table(name = "stock_reservation", indexes = {
+		@Index(name = "idx_stock_reservation_sale", columnList = "sale_id"),
+		@Index(name = "idx_stock_reservation_status_item", columnList = "status, item_code") })
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservation {
+
+	public static final String STATUS_RESERVED = "예약";
+	public static final String STATUS_RELEASED = "해제";
+	public static final String STATUS_CONSUMED = "소진";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "reservation_id")
+	private Long reservationId;
+
+	@Column(name = "sale_id", length = 20, nullable = false)
+	private String saleId;
+
+	@Column(name = "item_code", length = 20, nullable = false)
+	private String itemCode;
+
+	@Column(name = "quantity", nullable = false)
+	private int quantity;
+
+	// 예약, 해제, 소진
+	@Column(name = "status", length = 10, nullable = false)
+	private String status;
+
+	@Column(name = "created_at", nullable = false)
+	private Timestamp createdAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private Timestamp updatedAt;
+}
@@ -0,0 +1,73 @@
+package com.itwillbs.entity;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 재고실사 파일 반영 진행 상태
+ *
+ * 실사 파일을 묶음 단위로 반영하면서 묶음과 같은 트랜잭션에서 처리한 행 번호, 차이 보고서 크기를 기록한다.
+ * 중간에 실패하면 processedLines 다음 행부터, 보고서는 reportSize 로 잘라낸 뒤 이어서 반영한다.
+ */
+@Entity
+@Table(name = "stock_take")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class StockTake {
+
+	public static final String STATUS_IN_PROGRESS = "진행중";
+	public static final String STATUS_COMPLETED = "완료";
+	public static final String STATUS_FAILED = "실패";
+
+	@Id
+	@Column(name = "stock_take_id", length = 20)
+	private String stockTakeId;
+
+	// 업로드한 원본 파일명
+	@Column(name = "file_name", length = 255)
+	private String fileName;
+
+	// 진행중, 완료, 실패
+	@Column(name = "status", length = 10, nullable = false)
+	private String status;
+
+	// 반영(커밋)이 끝난 마지막 행 번호 (헤더 포함)
+	@Column(name = "processed_lines", nullable = false)
+	private long processedLines;
+
+	@Column(name = "valid_lines", nullable = false)
+	private long validLines;
+
+	@Column(name = "invalid_lines", nullable = false)
+	private long invalidLines;
+
+	// 재고량이 바뀐 품목 수 (같은 품목이 여러 묶음에서 바뀌면 중복 집계)
+	@Column(name = "adjusted_items", nullable = false)
+	private long adjustedItems;
+
+	// 커밋된 묶음까지의 차이 보고서 바이트 수
+	@Column(name = "report_size", nullable = false)
+	private long reportSize;
+
+	@Column(name = "manager_id", length = 50)
+	private String managerId;
+
+	@Column(name = "error_message", length = 500)
+	private String errorMessage;
+
+	@Column(name = "created_at", nullable = false)
+	private Timestamp createdAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private Timestamp updatedAt;
+}
@@ -1,5 +1,6 @@
 package com.itwillbs.repository;
 
+import com.itwillbs.domain.manufacture.MFBomLineDTO;
 import com.itwillbs.domain.masterdata.BOMListDTO;
 import com.itwillbs.entity.BOM;
 import com.itwillbs.entity.Item;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -41,4 +43,19 @@ public interface BOMRepository extends JpaRepository<BOM, Long> {
     Optional<BOM> findWithItemsById(@Param("bomId") Long bomId);
     
     boolean existsByProcessedProductAndRawMaterial(Item processedProduct, Item rawMaterial);
+
+    // BOM 캐시 전체 적재
+    @Query("SELECT new com.itwillbs.domain.manufacture.MFBomLineDTO(b.processedProduct.itemCode, r.itemCode, r.itemName, b.quantity) " +
+           "FROM BOM b " +
+           "JOIN b.rawMaterial r " +
+           "ORDER BY b.processedProduct.itemCode, r.itemCode")
+    List<MFBomLineDTO> findAllBomLines();
+
+    // BOM 캐시 가공품 1개 재적재
+    @Query("SELECT new com.itwillbs.domain.manufacture.MFBomLineDTO(b.processedProduct.itemCode, r.itemCode, r.itemName, b.quantity) " +
+           "FROM BOM b " +
+           "JOIN b.rawMaterial r " +
+           "WHERE b.processedProduct.itemCode = :ppCode " +
+           "ORDER BY r.itemCode")
+    List<MFBomLineDTO> findBomLinesByPpCode(@Param("ppCode") String ppCode);
 }
\ No newline at end of file
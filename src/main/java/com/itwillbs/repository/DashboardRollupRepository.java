@@ -0,0 +1,80 @@
+package com.itwillbs.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.itwillbs.domain.dashboard.RollupPointDTO;
+import com.itwillbs.domain.dashboard.RollupSourceDTO;
+import com.itwillbs.entity.DashboardRollup;
+
+public interface DashboardRollupRepository extends JpaRepository<DashboardRollup, Long>, DashboardRollupRepositoryCustom {
+
+	/**
+	 * 기간별 차트 조회 (dimension 이 null 이면 전체)
+	 */
+	@Query("SELECT new com.itwillbs.domain.dashboard.RollupPointDTO(r.bucketStart, r.dimension, r.amount, r.rowCount) " +
+			"FROM DashboardRollup r " +
+			"WHERE r.granularity = :granularity AND r.metric = :metric " +
+			"AND (:dimension IS NULL OR r.dimension = :dimension) " +
+			"AND r.bucketStart >= :from AND r.bucketStart < :to " +
+			"ORDER BY r.bucketStart ASC, r.dimension ASC")
+	List<RollupPointDTO> findSeries(@Param("granularity") String granularity,
+			@Param("metric") String metric,
+			@Param("dimension") String dimension,
+			@Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to);
+
+	/**
+	 * 재집계 전 구간 삭제 (시간/일 단위 모두)
+	 */
+	@Modifying
+	@Query("DELETE FROM DashboardRollup r WHERE r.metric IN :metrics AND r.bucketStart >= :from AND r.bucketStart < :to")
+	int deleteBuckets(@Param("metrics") Collection<String> metrics,
+			@Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to);
+
+	// 지표의 가장 이른 집계 구간 (없으면 null), 최초 적재가 어디까지 끝났는지 확인용
+	@Query("SELECT MIN(r.bucketStart) FROM DashboardRollup r WHERE r.metric IN :metrics")
+	LocalDateTime findFirstBucketStart(@Param("metrics") Collection<String> metrics);
+
+	// 원본 데이터 ------------------------------------------------------------------
+
+	// 입고 완료된 입고 품목 (입고 완료 시각, 품목유형별)
+	@Query("SELECT new com.itwillbs.domain.dashboard.RollupSourceDTO(ic.incomingEndDate, '입고', i.itemType, it.quantity) " +
+			"FROM IncomingItems it JOIN it.incoming ic JOIN it.item i " +
+			"WHERE ic.status = '입고 완료' AND ic.incomingEndDate >= :from AND ic.incomingEndDate < :to")
+	List<RollupSourceDTO> findIncomingSource(@Param("from") Timestamp from, @Param("to") Timestamp to);
+
+	// 반품/폐기 (발생일, 품목별)
+	@Query("SELECT new com.itwillbs.domain.dashboard.RollupSourceDTO(d.defectiveDate, d.status, d.itemCode.itemCode, d.quantity) " +
+			"FROM DefectiveDash d " +
+			"WHERE d.status IN ('반품', '폐기') AND d.defectiveDate >= :from AND d.defectiveDate < :to")
+	List<RollupSourceDTO> findDefectiveSource(@Param("from") Timestamp from, @Param("to") Timestamp to);
+
+	// 수주완료 금액 (납기일 기준)
+	@Query("SELECT new com.itwillbs.domain.dashboard.RollupSourceDTO(s.dueDate, '수주', 'ALL', s.totalPrice) " +
+			"FROM Sale s " +
+			"WHERE s.status = '수주완료' AND s.dueDate >= :from AND s.dueDate < :to")
+	List<RollupSourceDTO> findSaleSource(@Param("from") Timestamp from, @Param("to") Timestamp to);
+
+	// 원본 데이터의 가장 이른 날짜 (최초 적재 시작점)
+	@Query("SELECT MIN(ic.incomingEndDate) FROM Incoming ic WHERE ic.status = '입고 완료'")
+	Timestamp findFirstIncomingDate();
+
+	@Query("SELECT MIN(d.defectiveDate) FROM DefectiveDash d WHERE d.status IN ('반품', '폐기')")
+	Timestamp findFirstDefectiveDate();
+
+	@Query("SELECT MIN(s.dueDate) FROM Sale s WHERE s.status = '수주완료'")
+	Timestamp findFirstSaleDate();
+
+	@Query("SELECT MAX(s.dueDate) FROM Sale s WHERE s.status = '수주완료'")
+	Timestamp findLastSaleDate();
+
+}
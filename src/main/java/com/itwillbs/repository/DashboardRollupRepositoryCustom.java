@@ -0,0 +1,13 @@
+package com.itwillbs.repository;
+
+import java.util.List;
+
+import com.itwillbs.entity.DashboardRollup;
+
+public interface DashboardRollupRepositoryCustom {
+
+	/**
+	 * 집계 행 JDBC 배치 insert
+	 */
+	void insertAll(List<DashboardRollup> rollups);
+}
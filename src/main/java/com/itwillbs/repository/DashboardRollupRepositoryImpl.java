@@ -0,0 +1,35 @@
+package com.itwillbs.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.itwillbs.entity.DashboardRollup;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DashboardRollupRepositoryImpl implements DashboardRollupRepositoryCustom {
+
+	private static final String INSERT_SQL =
+			"INSERT INTO dashboard_rollup (granularity, metric, dimension, bucket_start, amount, row_count) VALUES (?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+	private int batchSize;
+
+	@Override
+	public void insertAll(List<DashboardRollup> rollups) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, rollups, batchSize, (ps, rollup) -> {
+			ps.setString(1, rollup.getGranularity());
+			ps.setString(2, rollup.getMetric());
+			ps.setString(3, rollup.getDimension());
+			ps.setTimestamp(4, Timestamp.valueOf(rollup.getBucketStart()));
+			ps.setLong(5, rollup.getAmount());
+			ps.setLong(6, rollup.getRowCount());
+		});
+	}
+}
@@ -0,0 +1,22 @@
+package com.itwillbs.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.itwillbs.entity.DocumentSequence;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface DocumentSequenceRepository extends JpaRepository<DocumentSequence, String> {
+
+	// 번호 구간을 할당하는 동안 다른 서버가 같은 접두어를 가져가지 못하도록 행 잠금(SELECT ... FOR UPDATE)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT ds FROM DocumentSequence ds WHERE ds.prefix = :prefix")
+	Optional<DocumentSequence> findByPrefixForUpdate(@Param("prefix") String prefix);
+}
@@ -1,15 +1,25 @@
 package com.itwillbs.repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.itwillbs.domain.export.DocumentLineExportDTO;
 import com.itwillbs.domain.inventory.IncomingItemsDTO;
+import com.itwillbs.domain.inventory.ItemQuantityDTO;
+import com.itwillbs.domain.inventory.ItemSummaryDTO;
 import com.itwillbs.entity.IncomingItems;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface IncomingItemsRepository extends JpaRepository<IncomingItems, String> {
 
@@ -19,6 +29,23 @@ public interface IncomingItemsRepository extends JpaRepository<IncomingItems, St
 	@Query("SELECT ii FROM IncomingItems ii WHERE ii.incoming.incomingId = :incomingId")
 	List<IncomingItems> findIncomingItemsListById(@Param("incomingId") String incomingId);
 
+	//입고 목록 한 페이지의 첫번째 품목 이름과 품목 갯수를 한 번에 조회
+	@Query("SELECT new com.itwillbs.domain.inventory.ItemSummaryDTO(ic.incomingId, i.itemName, " +
+			"(SELECT COUNT(ii2) FROM IncomingItems ii2 WHERE ii2.incoming = ic)) " +
+			"FROM IncomingItems ii " +
+			"JOIN ii.incoming ic " +
+			"JOIN ii.item i " +
+			"WHERE ic.incomingId IN :incomingIds " +
+			"AND ii.incomingItemId = (SELECT MIN(ii3.incomingItemId) FROM IncomingItems ii3 WHERE ii3.incoming = ic)")
+	List<ItemSummaryDTO> findItemSummariesByIncomingIds(@Param("incomingIds") Collection<String> incomingIds);
+
+	//입고 완료 시 재고에 더할 품목코드와 수량 조회
+	@Query("SELECT new com.itwillbs.domain.inventory.IncomingItemsDTO(i.itemCode, i.itemName, i.itemType, ii.quantity) " +
+			"FROM IncomingItems ii " +
+			"JOIN ii.item i " +
+			"WHERE ii.incoming.incomingId = :incomingId")
+	List<IncomingItemsDTO> findQuantitiesByIncomingId(@Param("incomingId") String incomingId);
+
 	//입고 상세 조회
 	@Query("SELECT ii FROM IncomingItems ii WHERE ii.incoming.incomingId = :incomingId")
 	List<IncomingItems> findByIncomingItems(@Param("incomingId") String incomingId);
@@ -32,6 +59,17 @@ public interface IncomingItemsRepository extends JpaRepository<IncomingItems, St
 			"LEFT JOIN oi.order o " +
 			"WHERE o.orderId = :orderId")
 	List<IncomingItemsDTO> findOrderItemsById(@Param("orderId") String orderId);
+
+	//입고 등록 대상 발주들의 첫번째 품목 이름, 품목 갯수, 총 수량을 한 번에 조회
+	@Query("SELECT new com.itwillbs.domain.inventory.ItemSummaryDTO(o.orderId, i.itemName, " +
+			"(SELECT COUNT(oi2) FROM OrderItems oi2 WHERE oi2.order = o), " +
+			"(SELECT SUM(oi4.quantity) FROM OrderItems oi4 WHERE oi4.order = o)) " +
+			"FROM OrderItems oi " +
+			"JOIN oi.order o " +
+			"LEFT JOIN oi.item i " +
+			"WHERE o.orderId IN :orderIds " +
+			"AND oi.orderItemId = (SELECT MIN(oi3.orderItemId) FROM OrderItems oi3 WHERE oi3.order = o)")
+	List<ItemSummaryDTO> findItemSummariesByOrderIds(@Param("orderIds") Collection<String> orderIds);
 	
 	
 	
@@ -43,6 +81,25 @@ public interface IncomingItemsRepository extends JpaRepository<IncomingItems, St
 			"WHERE mfo.orderId = :prodOrOrderId")
 	List<IncomingItemsDTO> findIncomingInsertProdItemsById(@Param("prodOrOrderId") String prodOrOrderId);
 
+	// 입고 진행중인 품목별 수량 합계 (MRP 입고 예정량)
+	@Query("SELECT new com.itwillbs.domain.inventory.ItemQuantityDTO(ii.item.itemCode, SUM(ii.quantity)) " +
+		   "FROM IncomingItems ii " +
+		   "WHERE ii.incoming.status = '입고 진행중' " +
+		   "GROUP BY ii.item.itemCode")
+	List<ItemQuantityDTO> findInProgressQuantities();
 
-	
+	// 입고 품목 행 내보내기 (입고번호, 품목코드 순으로 커서에서 바로 읽음)
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+	              @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	@Query("SELECT new com.itwillbs.domain.export.DocumentLineExportDTO(ic.incomingId, ic.status, " +
+	       "COALESCE(o.orderId, mfo.orderId, ''), COALESCE(s.supplierName, ''), ic.incomingStartDate, ic.incomingEndDate, " +
+	       "COALESCE(m.name, ''), i.itemCode, i.itemName, ii.quantity, 0, 0) " +
+	       "FROM IncomingItems ii JOIN ii.incoming ic JOIN ii.item i " +
+	       "LEFT JOIN ic.manager m LEFT JOIN ic.order o LEFT JOIN o.supplier s LEFT JOIN ic.mfOrder mfo " +
+	       "WHERE (:status IS NULL OR ic.status = :status) " +
+	       "AND (:startDate IS NULL OR ic.incomingStartDate >= :startDate) " +
+	       "AND (:endDate IS NULL OR ic.incomingStartDate < :endDate) " +
+	       "ORDER BY ic.incomingId DESC, i.itemCode")
+	Stream<DocumentLineExportDTO> streamIncomingLines(@Param("status") String status,
+	        @Param("startDate") Timestamp startDate, @Param("endDate") Timestamp endDate);
 }
@@ -35,25 +35,16 @@ public interface IncomingRepository extends JpaRepository<Incoming, String> {
 			+ "ORDER BY ic.incomingId DESC")
 	Page<IncomingDTO> getIncomingLists(Pageable pageable);
 
-    // Fetch Join을 사용하여 한 번의 쿼리로 필요한 연관 데이터들을 로딩
-	@Query("SELECT DISTINCT ic FROM Incoming ic " +
-	        "LEFT JOIN FETCH ic.manager m " +
-	        "LEFT JOIN FETCH ic.incomingItems ii " +
-	        "LEFT JOIN FETCH ii.item i " +
-	        "LEFT JOIN FETCH ic.order o " +
-	        "LEFT JOIN FETCH ic.mfOrder mfo " +
-	        "WHERE (:reasonOfIncoming = '' OR " +
-	        "       (:reasonOfIncoming = '생산 완료' AND mfo.orderId IS NOT NULL) OR " +
-	        "       (:reasonOfIncoming = '발주 완료' AND o.orderId IS NOT NULL)) " +
-	        "AND (:incomingStartDate_start IS NULL OR ic.incomingStartDate >= :incomingStartDate_start) " +
-	        "AND (:incomingStartDate_end IS NULL OR ic.incomingStartDate <= :incomingStartDate_end) " +
-	        "AND (:incomingId = '' OR ic.incomingId LIKE CONCAT('%', :incomingId, '%')) " +
-	        "AND (:prodOrOrderId = '' OR mfo.orderId LIKE CONCAT('%', :prodOrOrderId, '%') OR o.orderId LIKE CONCAT('%', :prodOrOrderId, '%')) " +
-	        "AND (:status = '' OR ic.status = :status) " +
-	        "AND (:managerCodeOrName = '' OR m.managerId LIKE CONCAT('%', :managerCodeOrName, '%') OR m.name LIKE CONCAT('%', :managerCodeOrName, '%')) " +
-	        "AND (:itemCodeOrName = '' OR i.itemCode LIKE CONCAT('%', :itemCodeOrName, '%') OR i.itemName LIKE CONCAT('%', :itemCodeOrName, '%')) " +
-	        "ORDER BY ic.incomingId DESC")
-	Page<Incoming> findIncomingEntities(
+	/**
+	 * 입고 목록 검색 1단계 : 조건에 맞는 입고 한 페이지만 DB 에서 페이징 (품목 컬렉션은 조인하지 않음)
+	 * 품목 조건은 EXISTS 로 거르고, 품목 이름/갯수는 2단계에서 이 페이지의 입고번호로 한 번에 조회한다.
+	 */
+	@Query(value = "SELECT new com.itwillbs.domain.inventory.IncomingDTO(ic.incomingId, ic.incomingStartDate, ic.incomingEndDate, " +
+	        "COALESCE(m.managerId, ''), COALESCE(m.name, ''), ic.status, COALESCE(mfo.orderId, ''), COALESCE(o.orderId, '')) " +
+	        INCOMING_SEARCH_CONDITION +
+	        "ORDER BY ic.incomingId DESC",
+	        countQuery = "SELECT COUNT(ic) " + INCOMING_SEARCH_CONDITION)
+	Page<IncomingDTO> searchIncomingList(
 	        @Param("reasonOfIncoming") String reasonOfIncoming,
 	        @Param("incomingStartDate_start") Timestamp incomingStartDate_start,
 	        @Param("incomingStartDate_end") Timestamp incomingStartDate_end,
@@ -64,6 +55,22 @@ public interface IncomingRepository extends JpaRepository<Incoming, String> {
 	        @Param("itemCodeOrName") String itemCodeOrName,
 	        Pageable pageable);
 
+	String INCOMING_SEARCH_CONDITION = "FROM Incoming ic " +
+	        "LEFT JOIN ic.manager m " +
+	        "LEFT JOIN ic.order o " +
+	        "LEFT JOIN ic.mfOrder mfo " +
+	        "WHERE (:reasonOfIncoming = '' OR " +
+	        "       (:reasonOfIncoming = '생산 완료' AND mfo.orderId IS NOT NULL) OR " +
+	        "       (:reasonOfIncoming = '발주 완료' AND o.orderId IS NOT NULL)) " +
+	        "AND (:incomingStartDate_start IS NULL OR ic.incomingStartDate >= :incomingStartDate_start) " +
+	        "AND (:incomingStartDate_end IS NULL OR ic.incomingStartDate <= :incomingStartDate_end) " +
+	        "AND (:incomingId = '' OR ic.incomingId LIKE CONCAT('%', :incomingId, '%')) " +
+	        "AND (:prodOrOrderId = '' OR mfo.orderId LIKE CONCAT('%', :prodOrOrderId, '%') OR o.orderId LIKE CONCAT('%', :prodOrOrderId, '%')) " +
+	        "AND (:status = '' OR ic.status = :status) " +
+	        "AND (:managerCodeOrName = '' OR m.managerId LIKE CONCAT('%', :managerCodeOrName, '%') OR m.name LIKE CONCAT('%', :managerCodeOrName, '%')) " +
+	        "AND (:itemCodeOrName = '' OR EXISTS (SELECT 1 FROM IncomingItems ii JOIN ii.item i WHERE ii.incoming = ic " +
+	        "       AND (i.itemCode LIKE CONCAT('%', :itemCodeOrName, '%') OR i.itemName LIKE CONCAT('%', :itemCodeOrName, '%')))) ";
+
 	/**
 	 * 입고 상세 정보 모달에서 입고 완료로 업데이트
 	 */
@@ -94,15 +101,16 @@ public interface IncomingRepository extends JpaRepository<Incoming, String> {
 		List<IncomingInsertDTO> findAllEndOfOrder();
 	
 
-	//입고등록번호 제일 높은 숫자 조회
-	@Query("SELECT ic FROM Incoming ic ORDER BY CAST(SUBSTRING(ic.incomingId, 4) AS int) DESC")
-	List<Incoming> findAllOrderByNumericIncomingIdDesc();
-
+	//입고등록번호 제일 높은 숫자 조회 (채번 테이블 초기값)
+	@Query("SELECT MAX(CAST(SUBSTRING(ic.incomingId, 4) AS int)) FROM Incoming ic")
+	Integer findMaxIncomingNumber();
 
-	
-	
-	
-	
-	
-	
+	/**
+	 * 입고 목록 커서 조회 (COUNT 없음), afterId 보다 작은 입고번호부터 pageable 크기만큼
+	 */
+	@Query("SELECT new com.itwillbs.domain.inventory.IncomingDTO(ic.incomingId, ic.incomingStartDate, ic.incomingEndDate, m.managerId, m.name, ic.status, mfo.orderId, o.orderId) "
+			+ "FROM Incoming ic LEFT JOIN ic.manager m LEFT JOIN ic.mfOrder mfo LEFT JOIN ic.order o "
+			+ "WHERE (:afterId IS NULL OR ic.incomingId < :afterId) "
+			+ "ORDER BY ic.incomingId DESC")
+	List<IncomingDTO> findIncomingSlice(@Param("afterId") String afterId, Pageable pageable);
 }
@@ -0,0 +1,42 @@
+package com.itwillbs.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.itwillbs.domain.inventory.ItemQuantityDTO;
+import com.itwillbs.entity.InventoryMovement;
+
+@Repository
+public interface InventoryMovementRepository
+		extends JpaRepository<InventoryMovement, Long>, InventoryMovementRepositoryCustom {
+
+	//기간 내 품목별 재고 변동 합계 (from 포함, to 미포함)
+	@Query("SELECT new com.itwillbs.domain.inventory.ItemQuantityDTO(m.itemCode, SUM(m.quantityChange)) "
+			+ "FROM InventoryMovement m "
+			+ "WHERE m.movementDate >= :from AND m.movementDate < :to "
+			+ "GROUP BY m.itemCode")
+	List<ItemQuantityDTO> sumByItemBetween(@Param("from") Timestamp from, @Param("to") Timestamp to);
+
+	//기준 시각 이후 품목별 재고 변동 합계 (from 포함)
+	@Query("SELECT new com.itwillbs.domain.inventory.ItemQuantityDTO(m.itemCode, SUM(m.quantityChange)) "
+			+ "FROM InventoryMovement m "
+			+ "WHERE m.movementDate >= :from "
+			+ "GROUP BY m.itemCode")
+	List<ItemQuantityDTO> sumByItemSince(@Param("from") Timestamp from);
+
+	//한 품목의 기간 내 재고 변동 합계 (from 포함, to 미포함)
+	@Query("SELECT COALESCE(SUM(m.quantityChange), 0) FROM InventoryMovement m "
+			+ "WHERE m.itemCode = :itemCode AND m.movementDate >= :from AND m.movementDate < :to")
+	long sumForItemBetween(@Param("itemCode") String itemCode, @Param("from") Timestamp from,
+			@Param("to") Timestamp to);
+
+	//한 품목의 기준 시각 이후 재고 변동 합계 (from 포함)
+	@Query("SELECT COALESCE(SUM(m.quantityChange), 0) FROM InventoryMovement m "
+			+ "WHERE m.itemCode = :itemCode AND m.movementDate >= :from")
+	long sumForItemSince(@Param("itemCode") String itemCode, @Param("from") Timestamp from);
+}
@@ -0,0 +1,13 @@
+package com.itwillbs.repository;
+
+import java.util.List;
+
+import com.itwillbs.entity.InventoryMovement;
+
+public interface InventoryMovementRepositoryCustom {
+
+	/**
+	 * 재고 변동 원장 JDBC 배치 insert
+	 */
+	void insertAll(List<InventoryMovement> movements);
+}
@@ -0,0 +1,33 @@
+package com.itwillbs.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.itwillbs.entity.InventoryMovement;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class InventoryMovementRepositoryImpl implements InventoryMovementRepositoryCustom {
+
+	private static final String INSERT_SQL = "INSERT INTO inventory_movement "
+			+ "(item_code, quantity_change, movement_type, reference_id, movement_date) VALUES (?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+	private int batchSize;
+
+	@Override
+	public void insertAll(List<InventoryMovement> movements) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, movements, batchSize, (ps, movement) -> {
+			ps.setString(1, movement.getItemCode());
+			ps.setInt(2, movement.getQuantityChange());
+			ps.setString(3, movement.getMovementType());
+			ps.setString(4, movement.getReferenceId());
+			ps.setTimestamp(5, movement.getMovementDate());
+		});
+	}
+}
@@ -1,23 +1,31 @@
 package com.itwillbs.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.itwillbs.domain.inventory.InventoryItemDTO;
+import com.itwillbs.domain.inventory.ItemQuantityDTO;
 import com.itwillbs.entity.InventoryItem;
 
+import jakarta.persistence.QueryHint;
 
 /**
  *  전체 조회 쿼리명: get...() <br>
  *  검색 조회 쿼리명: find...() <br>
  */
 @Repository
-public interface InventoryRepository extends JpaRepository<InventoryItem, String> {
+public interface InventoryRepository extends JpaRepository<InventoryItem, String>, InventoryRepositoryCustom {
 
     /**
      * 재고 전체 조회 쿼리 (페이지네이션 지원)
@@ -51,8 +59,65 @@ public interface InventoryRepository extends JpaRepository<InventoryItem, String
             @Param("itemType") String itemType,
             Pageable pageable);
 
-  
+    /**
+     * 전체 품목의 현재 재고량 (재고 스냅샷 생성용)
+     */
+    @Query("SELECT new com.itwillbs.domain.inventory.ItemQuantityDTO(ii.itemCode, CAST(COALESCE(ii.quantity, 0) AS Long)) " +
+           "FROM InventoryItem ii")
+    List<ItemQuantityDTO> findAllQuantities();
 
+    /**
+     * 여러 품목의 현재 재고량
+     */
+    @Query("SELECT new com.itwillbs.domain.inventory.ItemQuantityDTO(ii.itemCode, CAST(COALESCE(ii.quantity, 0) AS Long)) " +
+           "FROM InventoryItem ii WHERE ii.itemCode IN :itemCodes")
+    List<ItemQuantityDTO> findQuantitiesByItemCodes(@Param("itemCodes") Collection<String> itemCodes);
 
-}
+    /**
+     * 한 품목의 현재 재고량
+     */
+    @Query("SELECT ii.quantity FROM InventoryItem ii WHERE ii.itemCode = :itemCode")
+    Integer findQuantityByItemCode(@Param("itemCode") String itemCode);
+
+    /**
+     * 일괄 수정 전에 존재하는 재고 품목코드만 조회
+     */
+    @Query("SELECT ii.itemCode FROM InventoryItem ii WHERE ii.itemCode IN :itemCodes")
+    List<String> findExistingItemCodes(@Param("itemCodes") Collection<String> itemCodes);
+
+    /**
+     * 재고 목록 커서 조회 (COUNT 없음), afterCode 다음 품목코드부터 pageable 크기만큼
+     */
+    @Query("SELECT new com.itwillbs.domain.inventory.InventoryItemDTO(i.itemCode, i.itemName, i.itemType, ii.quantity, ii.minReqQuantity) " +
+           "FROM Item i LEFT JOIN InventoryItem ii ON i.itemCode = ii.itemCode " +
+           "WHERE (:afterCode IS NULL OR i.itemCode > :afterCode) " +
+           "ORDER BY i.itemCode")
+    List<InventoryItemDTO> findInventoryItemSlice(@Param("afterCode") String afterCode, Pageable pageable);
+
+    /**
+     * 최소필요재고량 미만 품목 전체 (재고 알림 초기 적재)
+     */
+    @Query("SELECT new com.itwillbs.domain.inventory.InventoryItemDTO(i.itemCode, i.itemName, i.itemType, ii.quantity, ii.minReqQuantity) " +
+           "FROM InventoryItem ii JOIN Item i ON i.itemCode = ii.itemCode " +
+           "WHERE ii.quantity < ii.minReqQuantity " +
+           "ORDER BY i.itemCode")
+    List<InventoryItemDTO> findLowStockItems();
+
+    /**
+     * 지정한 품목들의 재고량/최소필요재고량 (재고 알림 갱신)
+     */
+    @Query("SELECT new com.itwillbs.domain.inventory.InventoryItemDTO(i.itemCode, i.itemName, i.itemType, ii.quantity, ii.minReqQuantity) " +
+           "FROM InventoryItem ii JOIN Item i ON i.itemCode = ii.itemCode " +
+           "WHERE ii.itemCode IN :itemCodes")
+    List<InventoryItemDTO> findInventoryItemsByItemCodes(@Param("itemCodes") Collection<String> itemCodes);
 
+    /**
+     * 재고 전체 내보내기 (품목코드 순으로 커서에서 바로 읽음)
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new com.itwillbs.domain.inventory.InventoryItemDTO(i.itemCode, i.itemName, i.itemType, ii.quantity, ii.minReqQuantity) " +
+           "FROM Item i LEFT JOIN InventoryItem ii ON i.itemCode = ii.itemCode " +
+           "ORDER BY i.itemCode")
+    Stream<InventoryItemDTO> streamInventoryItems();
+}
@@ -0,0 +1,50 @@
+package com.itwillbs.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedMap;
+
+import com.itwillbs.domain.inventory.InventoryItemDTO;
+
+/**
+ * Spring Data 로 표현하기 어려운 재고 쿼리 (JDBC 직접 사용)
+ */
+public interface InventoryRepositoryCustom {
+
+	/**
+	 * 재고량, 최소필요재고량 JDBC 배치 업데이트
+	 *
+	 * @return 요청 순서대로의 행별 update count
+	 */
+	int[] batchUpdateQuantities(List<InventoryItemDTO> items);
+
+	/**
+	 * 현재 재고량 조회 + 행 잠금 (SELECT ... FOR UPDATE, 품목코드 순)
+	 * 재고를 직접 수정할 때 수정 전후 차이를 원장에 남기기 위해 사용
+	 *
+	 * @return 존재하는 품목코드별 현재 재고량
+	 */
+	SortedMap<String, Integer> lockQuantities(Collection<String> itemCodes);
+
+	/**
+	 * 재고량 증감 JDBC 배치 업데이트 (UPDATE ... SET quantity = quantity + ?)
+	 * 읽고 더해서 저장하지 않으므로 동시에 입출고가 완료되어도 갱신이 유실되지 않는다.
+	 *
+	 * @param deltas 품목코드 순으로 정렬된 품목코드별 증감량
+	 * @return 품목코드 순서대로의 행별 update count
+	 */
+	int[] batchAddQuantities(SortedMap<String, Integer> deltas);
+
+	/**
+	 * 재고량만 JDBC 배치 업데이트 (lockQuantities 로 잠근 행에 실사 수량 반영)
+	 *
+	 * @param quantities 품목코드 순으로 정렬된 품목코드별 재고량
+	 * @return 품목코드 순서대로의 행별 update count
+	 */
+	int[] batchSetQuantities(SortedMap<String, Integer> quantities);
+
+	/**
+	 * 재고 행이 없는 품목의 재고 행 생성 (최소필요재고량 -1)
+	 */
+	void insertInventoryItems(SortedMap<String, Integer> quantities);
+}
@@ -0,0 +1,108 @@
+package com.itwillbs.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.itwillbs.domain.inventory.InventoryItemDTO;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class InventoryRepositoryImpl implements InventoryRepositoryCustom {
+
+	private static final String UPDATE_QUANTITIES_SQL =
+			"UPDATE inventory_items SET quantity = ?, min_req_quantity = ? WHERE item_code = ?";
+
+	private static final String SET_QUANTITY_SQL =
+			"UPDATE inventory_items SET quantity = ? WHERE item_code = ?";
+
+	private static final String ADD_QUANTITY_SQL =
+			"UPDATE inventory_items SET quantity = quantity + ? WHERE item_code = ?";
+
+	private static final String INSERT_SQL =
+			"INSERT INTO inventory_items (item_code, quantity, min_req_quantity) VALUES (?, ?, -1)";
+
+	private static final String LOCK_QUANTITIES_SQL =
+			"SELECT item_code, quantity FROM inventory_items WHERE item_code IN (%s) ORDER BY item_code FOR UPDATE";
+
+	// IN 절 하나에 넣을 품목코드 수
+	private static final int IN_CHUNK_SIZE = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+	private int batchSize;
+
+	@Override
+	public int[] batchUpdateQuantities(List<InventoryItemDTO> items) {
+		return flatten(jdbcTemplate.batchUpdate(UPDATE_QUANTITIES_SQL, items, batchSize, (ps, item) -> {
+			ps.setInt(1, item.getQuantity());
+			ps.setInt(2, item.getMinReqQuantity());
+			ps.setString(3, item.getItemCode());
+		}), items.size());
+	}
+
+	@Override
+	public SortedMap<String, Integer> lockQuantities(Collection<String> itemCodes) {
+		List<String> codes = new ArrayList<>(itemCodes);
+		Collections.sort(codes);
+
+		SortedMap<String, Integer> quantities = new TreeMap<>();
+		for (int from = 0; from < codes.size(); from += IN_CHUNK_SIZE) {
+			List<String> chunk = codes.subList(from, Math.min(from + IN_CHUNK_SIZE, codes.size()));
+			String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+			jdbcTemplate.query(String.format(LOCK_QUANTITIES_SQL, placeholders),
+					rs -> {
+						quantities.put(rs.getString("item_code"), rs.getInt("quantity"));
+					}, chunk.toArray());
+		}
+		return quantities;
+	}
+
+	@Override
+	public int[] batchAddQuantities(SortedMap<String, Integer> deltas) {
+		List<Map.Entry<String, Integer>> rows = new ArrayList<>(deltas.entrySet());
+		return flatten(jdbcTemplate.batchUpdate(ADD_QUANTITY_SQL, rows, batchSize, (ps, row) -> {
+			ps.setInt(1, row.getValue());
+			ps.setString(2, row.getKey());
+		}), rows.size());
+	}
+
+	@Override
+	public int[] batchSetQuantities(SortedMap<String, Integer> quantities) {
+		List<Map.Entry<String, Integer>> rows = new ArrayList<>(quantities.entrySet());
+		return flatten(jdbcTemplate.batchUpdate(SET_QUANTITY_SQL, rows, batchSize, (ps, row) -> {
+			ps.setInt(1, row.getValue());
+			ps.setString(2, row.getKey());
+		}), rows.size());
+	}
+
+	@Override
+	public void insertInventoryItems(SortedMap<String, Integer> quantities) {
+		List<Map.Entry<String, Integer>> rows = new ArrayList<>(quantities.entrySet());
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, (ps, row) -> {
+			ps.setString(1, row.getKey());
+			ps.setInt(2, row.getValue());
+		});
+	}
+
+	// batchUpdate 의 배치별 결과를 요청 순서대로 펼침
+	private int[] flatten(int[][] batches, int size) {
+		int[] counts = new int[size];
+		int index = 0;
+		for (int[] batch : batches) {
+			for (int count : batch) {
+				counts[index++] = count;
+			}
+		}
+		return counts;
+	}
+}
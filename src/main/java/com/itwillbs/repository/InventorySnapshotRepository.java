@@ -0,0 +1,31 @@
+package com.itwillbs.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.itwillbs.domain.inventory.ItemQuantityDTO;
+import com.itwillbs.entity.InventorySnapshot;
+
+@Repository
+public interface InventorySnapshotRepository
+		extends JpaRepository<InventorySnapshot, Long>, InventorySnapshotRepositoryCustom {
+
+	//가장 최근 스냅샷 날짜
+	@Query("SELECT MAX(s.snapshotDate) FROM InventorySnapshot s")
+	LocalDate findLastSnapshotDate();
+
+	//해당 날짜의 전체 품목 스냅샷
+	@Query("SELECT new com.itwillbs.domain.inventory.ItemQuantityDTO(s.itemCode, s.quantity) "
+			+ "FROM InventorySnapshot s WHERE s.snapshotDate = :snapshotDate")
+	List<ItemQuantityDTO> findQuantitiesBySnapshotDate(@Param("snapshotDate") LocalDate snapshotDate);
+
+	//기준일 이전(미포함)의 가장 최근 스냅샷
+	Optional<InventorySnapshot> findFirstByItemCodeAndSnapshotDateLessThanOrderBySnapshotDateDesc(String itemCode,
+			LocalDate snapshotDate);
+}
@@ -0,0 +1,13 @@
+package com.itwillbs.repository;
+
+import java.util.List;
+
+import com.itwillbs.entity.InventorySnapshot;
+
+public interface InventorySnapshotRepositoryCustom {
+
+	/**
+	 * 일별 재고 스냅샷 JDBC 배치 insert
+	 */
+	void insertAll(List<InventorySnapshot> snapshots);
+}
@@ -0,0 +1,32 @@
+package com.itwillbs.repository;
+
+import java.sql.Date;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.itwillbs.entity.InventorySnapshot;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class InventorySnapshotRepositoryImpl implements InventorySnapshotRepositoryCustom {
+
+	private static final String INSERT_SQL =
+			"INSERT INTO inventory_snapshot (item_code, snapshot_date, quantity) VALUES (?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+	private int batchSize;
+
+	@Override
+	public void insertAll(List<InventorySnapshot> snapshots) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, snapshots, batchSize, (ps, snapshot) -> {
+			ps.setString(1, snapshot.getItemCode());
+			ps.setDate(2, Date.valueOf(snapshot.getSnapshotDate()));
+			ps.setLong(3, snapshot.getQuantity());
+		});
+	}
+}
@@ -1,5 +1,6 @@
 package com.itwillbs.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.itwillbs.domain.transaction.TxItemsDTO;
@@ -24,6 +25,14 @@ public interface ItemRepository extends JpaRepository<Item, String> {
 			"WHERE i.itemCode LIKE CONCAT(:itemType, '%')")
 	String findMaxItemCodeByItemType(@Param("itemType") String itemType);
 
+	// 전체 품목코드 (재고실사 파일 검증용)
+	@Query("SELECT i.itemCode FROM Item i")
+	List<String> findAllItemCodes();
+
+	// 여러 품목코드 중 존재하는 코드만 (품목 엔티티 로딩 없이 확인)
+	@Query("SELECT i.itemCode FROM Item i WHERE i.itemCode IN :itemCodes")
+	List<String> findExistingItemCodes(@Param("itemCodes") Collection<String> itemCodes);
+
 	@Query("SELECT i FROM Item i " +
 	       "WHERE (:itemName IS NULL OR i.itemName LIKE %:itemName%) " +
 	       "AND (:itemType IS NULL OR i.itemType = :itemType) " +
@@ -56,11 +65,31 @@ public interface ItemRepository extends JpaRepository<Item, String> {
 			@Param("searchId") String searchId,
 			@Param("searchName") String searchName);
 
+	// BOM 목록 페이징 (DB LIMIT/OFFSET)
+	@Query(value = "SELECT i FROM Item i "
+				+ "WHERE i.itemType = 'PP' "
+				+ "AND (:searchId IS NULL OR i.itemCode LIKE %:searchId%) "
+				+ "AND (:searchName IS NULL OR i.itemName LIKE %:searchName%) "
+				+ "ORDER BY i.itemCode",
+			countQuery = "SELECT COUNT(i) FROM Item i "
+				+ "WHERE i.itemType = 'PP' "
+				+ "AND (:searchId IS NULL OR i.itemCode LIKE %:searchId%) "
+				+ "AND (:searchName IS NULL OR i.itemName LIKE %:searchName%)")
+	Page<Item> findPPPage(
+			@Param("searchId") String searchId,
+			@Param("searchName") String searchName,
+			Pageable pageable);
+
 	@Query("SELECT new com.itwillbs.domain.manufacture.MFRmDTO(i.itemName, b.quantity) "
 				+ "FROM BOM b JOIN Item i ON b.rawMaterial.itemCode = i.itemCode "
 				+ "WHERE b.processedProduct.itemCode = :itemCode")
 	List<MFRmDTO> findRmList(@Param("itemCode") String itemCode);
 
+	//BOM 캐시용 가공품 이름 -> 코드
+	@Query("SELECT new com.itwillbs.domain.masterdata.ItemDTO(i.itemCode, i.itemName, i.itemType, i.useYN) "
+			+ "FROM Item i WHERE i.itemType = 'PP'")
+	List<ItemDTO> findAllPPItems();
+
 	@Query("SELECT new com.itwillbs.domain.manufacture.MFRmListDTO(i.itemCode, i.itemName, b.quantity, ii.quantity) "
 			+ "FROM Item i JOIN BOM b ON i.itemCode = b.rawMaterial.itemCode "
 			+ "JOIN InventoryItem ii ON i.itemCode = ii.itemCode "
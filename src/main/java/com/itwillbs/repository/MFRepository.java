@@ -1,8 +1,11 @@
 package com.itwillbs.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,13 +14,15 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.itwillbs.domain.manufacture.MFOrderDTO;
+import com.itwillbs.domain.manufacture.MrpDemandDTO;
 import com.itwillbs.entity.MFOrder;
 
 @Transactional
 @Repository
 public interface MFRepository extends JpaRepository<MFOrder, String>{
 	
-	@Query("SELECT new com.itwillbs.domain.manufacture.MFOrderDTO(m.orderId, i.itemName, m.orderAmount, m.orderDeadline, m.orderDate, m.orderState) " 
+	// 페이징은 DB 에서 (LIMIT/OFFSET), 정렬은 작업 상태 순서 고정이라 Pageable 은 정렬 없이 전달
+	@Query(value = "SELECT new com.itwillbs.domain.manufacture.MFOrderDTO(m.orderId, i.itemName, m.orderAmount, m.orderDeadline, m.orderDate, m.orderState) " 
 				+ "FROM MFOrder m JOIN Item i ON m.item.itemCode = i.itemCode "
 				+ "WHERE (:searchDeadline IS NULL OR m.orderDeadline = :searchDeadline) "
 				+ "AND (:searchState = '' OR m.orderState = :searchState) "
@@ -30,12 +35,19 @@ public interface MFRepository extends JpaRepository<MFOrder, String>{
 				+ "WHEN '작업 완료' THEN 4 "
 				+ "WHEN '작업 종료' THEN 5 "
 				+ "END ASC, "
-				+ "m.orderDeadline ASC")
-	List<MFOrderDTO> findOrderList(
+				+ "m.orderDeadline ASC, m.orderId ASC",
+			countQuery = "SELECT COUNT(m) "
+				+ "FROM MFOrder m JOIN Item i ON m.item.itemCode = i.itemCode "
+				+ "WHERE (:searchDeadline IS NULL OR m.orderDeadline = :searchDeadline) "
+				+ "AND (:searchState = '' OR m.orderState = :searchState) "
+				+ "AND (:searchId = '' OR m.orderId LIKE %:searchId%) "
+				+ "AND (:searchName = '' OR i.itemName LIKE %:searchName%)")
+	Page<MFOrderDTO> findOrderList(
 			@Param("searchDeadline") LocalDate searchDeadline,
 			@Param("searchState") String searchState,
 			@Param("searchId") String searchId,
-			@Param("searchName") String searchName);
+			@Param("searchName") String searchName,
+			Pageable pageable);
 	
 	@Query("SELECT MAX(m.orderId) FROM MFOrder m")
 	String findMaxId();
@@ -54,4 +66,23 @@ public interface MFRepository extends JpaRepository<MFOrder, String>{
 	@Query("UPDATE MFOrder m SET m.orderState = '작업 종료' " 
 			+ "WHERE m.orderId = :key")
 	void completeOrder(@Param("key") String key);
+	
+	// 품목별 생산 예정량, 가장 이른 납기 (MRP), orderIds 가 비어 있으면 상태 조건만 적용
+	@Query("SELECT new com.itwillbs.domain.manufacture.MrpDemandDTO(m.item.itemCode, SUM(m.orderAmount), MIN(m.orderDeadline)) "
+			+ "FROM MFOrder m "
+			+ "WHERE m.orderState IN :states "
+			+ "AND (:allOrders = true OR m.orderId IN :orderIds) "
+			+ "GROUP BY m.item.itemCode")
+	List<MrpDemandDTO> findOrderDemands(
+			@Param("states") Collection<String> states,
+			@Param("allOrders") boolean allOrders,
+			@Param("orderIds") Collection<String> orderIds);
+	
+	@Query("SELECT COUNT(m) FROM MFOrder m "
+			+ "WHERE m.orderState IN :states "
+			+ "AND (:allOrders = true OR m.orderId IN :orderIds)")
+	long countOrders(
+			@Param("states") Collection<String> states,
+			@Param("allOrders") boolean allOrders,
+			@Param("orderIds") Collection<String> orderIds);
 }
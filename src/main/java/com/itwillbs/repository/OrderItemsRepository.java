@@ -1,15 +1,84 @@
 package com.itwillbs.repository;
 
+import com.itwillbs.domain.export.DocumentLineExportDTO;
+import com.itwillbs.domain.inventory.ItemQuantityDTO;
+import com.itwillbs.domain.manufacture.MrpSupplierDTO;
+import com.itwillbs.domain.transaction.ReorderSourceDTO;
 import com.itwillbs.entity.Order;
 import com.itwillbs.entity.OrderItems;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface OrderItemsRepository extends JpaRepository<OrderItems, String> {
+public interface OrderItemsRepository extends JpaRepository<OrderItems, String>, OrderItemsRepositoryCustom {
 
     List<OrderItems> findByOrder(Order order);
 
     void deleteByOrder(Order order);
 
-}
\ No newline at end of file
+    // 아직 입고 등록되지 않은 발주(저장/완료)의 품목별 수량 합계 (MRP 입고 예정량)
+    @Query("SELECT new com.itwillbs.domain.inventory.ItemQuantityDTO(oi.item.itemCode, SUM(oi.quantity)) " +
+           "FROM OrderItems oi JOIN oi.order o " +
+           "WHERE o.status IN ('발주등록(저장)', '발주완료') " +
+           "AND o.orderId NOT IN (SELECT inc.order.orderId FROM Incoming inc WHERE inc.order IS NOT NULL) " +
+           "GROUP BY oi.item.itemCode")
+    List<ItemQuantityDTO> findOpenOrderQuantities();
+
+    // 여러 품목의 아직 입고 등록되지 않은 발주 수량 합계 (자동 발주)
+    @Query("SELECT new com.itwillbs.domain.inventory.ItemQuantityDTO(oi.item.itemCode, SUM(oi.quantity)) " +
+           "FROM OrderItems oi JOIN oi.order o " +
+           "WHERE oi.item.itemCode IN :itemCodes " +
+           "AND o.status IN ('발주등록(저장)', '발주완료') " +
+           "AND NOT EXISTS (SELECT 1 FROM Incoming inc WHERE inc.order = o) " +
+           "GROUP BY oi.item.itemCode")
+    List<ItemQuantityDTO> findOpenOrderQuantitiesByItemCodes(@Param("itemCodes") Collection<String> itemCodes);
+
+    // 품목별 가장 최근 발주의 거래처 (취소 발주 제외)
+    @Query("SELECT new com.itwillbs.domain.manufacture.MrpSupplierDTO(oi.item.itemCode, s.supplierCode, s.supplierName) " +
+           "FROM OrderItems oi JOIN oi.order o JOIN o.supplier s " +
+           "WHERE oi.item.itemCode IN :itemCodes " +
+           "AND o.status <> '발주취소' " +
+           "AND o.orderDate = (SELECT MAX(o2.orderDate) FROM OrderItems oi2 JOIN oi2.order o2 " +
+           "                   WHERE oi2.item.itemCode = oi.item.itemCode AND o2.status <> '발주취소') " +
+           "ORDER BY oi.item.itemCode, s.supplierCode")
+    List<MrpSupplierDTO> findLatestSuppliersByItemCodes(@Param("itemCodes") Collection<String> itemCodes);
+
+    // 품목별 가장 최근 발주의 거래처, 단가 (취소 발주 제외, 자동 발주)
+    @Query("SELECT new com.itwillbs.domain.transaction.ReorderSourceDTO(oi.item.itemCode, o.supplier.supplierCode, oi.price) " +
+           "FROM OrderItems oi JOIN oi.order o " +
+           "WHERE oi.item.itemCode IN :itemCodes " +
+           "AND o.status <> '발주취소' AND o.supplier IS NOT NULL " +
+           "AND o.orderDate = (SELECT MAX(o2.orderDate) FROM OrderItems oi2 JOIN oi2.order o2 " +
+           "                   WHERE oi2.item.itemCode = oi.item.itemCode AND o2.status <> '발주취소' AND o2.supplier IS NOT NULL) " +
+           "ORDER BY oi.item.itemCode, o.supplier.supplierCode")
+    List<ReorderSourceDTO> findLatestOrderLinesByItemCodes(@Param("itemCodes") Collection<String> itemCodes);
+
+    // 발주 품목 행 내보내기 (발주번호, 품목코드 순으로 커서에서 바로 읽음)
+    // 조건은 발주 목록 검색과 같음 (품목명이 맞는 품목이 있는 발주는 품목 전체를 내보냄)
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new com.itwillbs.domain.export.DocumentLineExportDTO(o.orderId, o.status, '', COALESCE(s.supplierName, ''), " +
+           "o.orderDate, o.dueDate, COALESCE(m.name, ''), i.itemCode, i.itemName, oi.quantity, oi.price, oi.subtotalPrice) " +
+           "FROM OrderItems oi JOIN oi.order o JOIN oi.item i LEFT JOIN o.supplier s LEFT JOIN o.manager m " +
+           "WHERE (:status IS NULL OR o.status = :status) " +
+           "AND (:supplierName IS NULL OR s.supplierName LIKE :supplierName) " +
+           "AND (:startDate IS NULL OR o.orderDate >= :startDate) " +
+           "AND (:endDate IS NULL OR o.orderDate < :endDate) " +
+           "AND (:itemName IS NULL OR EXISTS (SELECT 1 FROM OrderItems ioi WHERE ioi.order = o AND ioi.item.itemName LIKE :itemName)) " +
+           "AND (:dueDateStart IS NULL OR o.dueDate >= :dueDateStart) " +
+           "AND (:dueDateEnd IS NULL OR o.dueDate < :dueDateEnd) " +
+           "ORDER BY o.orderId DESC, i.itemCode")
+    Stream<DocumentLineExportDTO> streamOrderLines(@Param("status") String status,
+            @Param("supplierName") String supplierName,
+            @Param("startDate") Timestamp startDate, @Param("endDate") Timestamp endDate,
+            @Param("itemName") String itemName,
+            @Param("dueDateStart") Timestamp dueDateStart, @Param("dueDateEnd") Timestamp dueDateEnd);
+}
@@ -0,0 +1,13 @@
+package com.itwillbs.repository;
+
+import java.util.List;
+
+import com.itwillbs.entity.OrderItems;
+
+public interface OrderItemsRepositoryCustom {
+
+	/**
+	 * 발주 품목 JDBC 배치 insert (발주 헤더는 먼저 flush 되어 있어야 함)
+	 */
+	void insertAll(List<OrderItems> orderItems);
+}
@@ -0,0 +1,34 @@
+package com.itwillbs.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.itwillbs.entity.OrderItems;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class OrderItemsRepositoryImpl implements OrderItemsRepositoryCustom {
+
+	private static final String INSERT_SQL = "INSERT INTO order_items "
+			+ "(orderitem_id, order_id, item_code, quantity, price, subtotal_price) VALUES (?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+	private int batchSize;
+
+	@Override
+	public void insertAll(List<OrderItems> orderItems) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, orderItems, batchSize, (ps, orderItem) -> {
+			ps.setString(1, orderItem.getOrderItemId());
+			ps.setString(2, orderItem.getOrder().getOrderId());
+			ps.setString(3, orderItem.getItem() == null ? null : orderItem.getItem().getItemCode());
+			ps.setInt(4, orderItem.getQuantity());
+			ps.setInt(5, orderItem.getPrice());
+			ps.setInt(6, orderItem.getSubtotalPrice());
+		});
+	}
+}
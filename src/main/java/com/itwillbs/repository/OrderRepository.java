@@ -1,6 +1,9 @@
 package com.itwillbs.repository;
 
+import com.itwillbs.domain.transaction.OrderDTO;
 import com.itwillbs.entity.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,7 +11,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
-import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, String> {
 
@@ -16,34 +18,37 @@ public interface OrderRepository extends JpaRepository<Order, String> {
     @Query("SELECT MAX(o.orderId) FROM Order o")
     String findMaxOrderId();
 
-    @Query("SELECT o.supplier.supplierName FROM Order o WHERE o.orderId = :orderId")
-    String findSupplierNameByOrderId(@Param("orderId") String orderId);
-
-    @Query("SELECT oi.item.itemName FROM OrderItems oi WHERE oi.order = :order ORDER BY oi.item.itemCode ASC")
-    List<String> findFirstItemNameByOrder(@Param("order") Order order);
-
-    @Query("SELECT COUNT(oi.item.itemCode) FROM OrderItems oi WHERE oi.order = :order")
-    int findOrderItemCountByOrder(@Param("order") Order order);
-
-    @Query("SELECT o FROM Order o " +
-            "JOIN o.supplier s " +
-            "LEFT JOIN o.orderItems oi " +
-            "LEFT JOIN oi.item i " +
+    // 발주 목록 조회: 거래처명, 첫 품목명(품목코드 순), 품목 수를 한 쿼리로 가져오고 DB 에서 페이징
+    // 품목명 조건은 EXISTS 로 걸어서 발주가 중복되지 않게 한다. 정렬은 pageable 의 Sort (발주 o 기준 속성 경로)
+    @Query(value = "SELECT new com.itwillbs.domain.transaction.OrderDTO(o.orderId, o.totalPrice, o.orderDate, o.dueDate, o.status, s.supplierName, " +
+            "(SELECT MIN(fi.itemName) FROM OrderItems foi JOIN foi.item fi WHERE foi.order = o " +
+            "AND fi.itemCode = (SELECT MIN(moi.item.itemCode) FROM OrderItems moi WHERE moi.order = o)), " +
+            "(SELECT COUNT(coi) FROM OrderItems coi WHERE coi.order = o)) " +
+            "FROM Order o LEFT JOIN o.supplier s " +
+            "WHERE (:status IS NULL OR o.status = :status) AND " +
+            "(:supplierName IS NULL OR s.supplierName LIKE :supplierName) AND " +
+            "(:orderDateStart IS NULL OR o.orderDate >= :orderDateStart) AND " +
+            "(:orderDateEnd IS NULL OR o.orderDate <= :orderDateEnd) AND " +
+            "(:itemName IS NULL OR EXISTS (SELECT 1 FROM OrderItems ioi WHERE ioi.order = o AND ioi.item.itemName LIKE :itemName)) AND " +
+            "(:dueDateStart IS NULL OR o.dueDate >= :dueDateStart) AND " +
+            "(:dueDateEnd IS NULL OR o.dueDate <= :dueDateEnd)",
+            countQuery = "SELECT COUNT(o) FROM Order o LEFT JOIN o.supplier s " +
             "WHERE (:status IS NULL OR o.status = :status) AND " +
             "(:supplierName IS NULL OR s.supplierName LIKE :supplierName) AND " +
             "(:orderDateStart IS NULL OR o.orderDate >= :orderDateStart) AND " +
             "(:orderDateEnd IS NULL OR o.orderDate <= :orderDateEnd) AND " +
-            "(:itemName IS NULL OR i.itemName LIKE :itemName) AND " +
+            "(:itemName IS NULL OR EXISTS (SELECT 1 FROM OrderItems ioi WHERE ioi.order = o AND ioi.item.itemName LIKE :itemName)) AND " +
             "(:dueDateStart IS NULL OR o.dueDate >= :dueDateStart) AND " +
             "(:dueDateEnd IS NULL OR o.dueDate <= :dueDateEnd)")
-    List<Order> findOrdersByConditions(
+    Page<OrderDTO> findOrderListByConditions(
             @Param("status") String status,
             @Param("supplierName") String supplierName,
             @Param("orderDateStart") Timestamp orderDateStart,
             @Param("orderDateEnd") Timestamp orderDateEnd,
             @Param("itemName") String itemName,
             @Param("dueDateStart") Timestamp dueDateStart,
-            @Param("dueDateEnd") Timestamp dueDateEnd
+            @Param("dueDateEnd") Timestamp dueDateEnd,
+            Pageable pageable
     );
 
     @Transactional
@@ -1,16 +1,25 @@
 package com.itwillbs.repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.itwillbs.domain.export.DocumentLineExportDTO;
+import com.itwillbs.domain.inventory.ItemSummaryDTO;
 import com.itwillbs.domain.inventory.OutgoingItemsDTO;
 
 import com.itwillbs.entity.OutgoingItems;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface OutgoingItemsRepository extends JpaRepository<OutgoingItems, String>{
 	
@@ -19,6 +28,23 @@ public interface OutgoingItemsRepository extends JpaRepository<OutgoingItems, St
 	@Query("SELECT ogi FROM OutgoingItems ogi WHERE ogi.outgoing.outgoingId = :outgoingId")
 	List<OutgoingItems> findOutgoingItemsListById(@Param("outgoingId") String outgoingId);
 
+	//출고 목록 한 페이지의 첫번째 품목 이름과 품목 갯수를 한 번에 조회
+	@Query("SELECT new com.itwillbs.domain.inventory.ItemSummaryDTO(og.outgoingId, i.itemName, " +
+			"(SELECT COUNT(ogi2) FROM OutgoingItems ogi2 WHERE ogi2.outgoing = og)) " +
+			"FROM OutgoingItems ogi " +
+			"JOIN ogi.outgoing og " +
+			"JOIN ogi.item i " +
+			"WHERE og.outgoingId IN :outgoingIds " +
+			"AND ogi.outgoingItemId = (SELECT MIN(ogi3.outgoingItemId) FROM OutgoingItems ogi3 WHERE ogi3.outgoing = og)")
+	List<ItemSummaryDTO> findItemSummariesByOutgoingIds(@Param("outgoingIds") Collection<String> outgoingIds);
+
+	//출고 완료 시 재고에서 뺄 품목코드와 수량 조회
+	@Query("SELECT new com.itwillbs.domain.inventory.OutgoingItemsDTO(i.itemCode, i.itemName, i.itemType, ogi.quantity) " +
+			"FROM OutgoingItems ogi " +
+			"JOIN ogi.item i " +
+			"WHERE ogi.outgoing.outgoingId = :outgoingId")
+	List<OutgoingItemsDTO> findQuantitiesByOutgoingId(@Param("outgoingId") String outgoingId);
+
 	//출고 상세 조회
 	@Query("SELECT ogi FROM OutgoingItems ogi WHERE ogi.outgoing.outgoingId = :outgoingId")
 	List<OutgoingItems> findByOutgoingItems(@Param("outgoingId") String outgoingId);
@@ -32,6 +58,17 @@ public interface OutgoingItemsRepository extends JpaRepository<OutgoingItems, St
 			"LEFT JOIN si.sale s " +
 			"WHERE s.saleId = :saleId")
 	List<OutgoingItemsDTO> findSaleItemsById(@Param("saleId") String saleId);
+
+	//출고 등록 대상 수주들의 첫번째 품목 이름, 품목 갯수, 총 수량을 한 번에 조회
+	@Query("SELECT new com.itwillbs.domain.inventory.ItemSummaryDTO(s.saleId, i.itemName, " +
+			"(SELECT COUNT(si2) FROM SaleItems si2 WHERE si2.sale = s), " +
+			"(SELECT SUM(si4.quantity) FROM SaleItems si4 WHERE si4.sale = s)) " +
+			"FROM SaleItems si " +
+			"JOIN si.sale s " +
+			"LEFT JOIN si.item i " +
+			"WHERE s.saleId IN :saleIds " +
+			"AND si.saleItemId = (SELECT MIN(si3.saleItemId) FROM SaleItems si3 WHERE si3.sale = s)")
+	List<ItemSummaryDTO> findItemSummariesBySaleIds(@Param("saleIds") Collection<String> saleIds);
 	
 	
 	
@@ -43,5 +80,18 @@ public interface OutgoingItemsRepository extends JpaRepository<OutgoingItems, St
 			"WHERE mfo.orderId = :prodOrSaleId")
 	List<OutgoingItemsDTO> findOutgoingInsertProdItemsById(@Param("prodOrSaleId") String prodOrSaleId);
 
-
+	// 출고 품목 행 내보내기 (출고번호, 품목코드 순으로 커서에서 바로 읽음)
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+	              @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	@Query("SELECT new com.itwillbs.domain.export.DocumentLineExportDTO(og.outgoingId, og.status, " +
+	       "COALESCE(sa.saleId, mfo.orderId, ''), COALESCE(f.franchiseName, ''), og.outgoingStartDate, og.outgoingEndDate, " +
+	       "COALESCE(m.name, ''), i.itemCode, i.itemName, oi.quantity, 0, 0) " +
+	       "FROM OutgoingItems oi JOIN oi.outgoing og JOIN oi.item i " +
+	       "LEFT JOIN og.manager m LEFT JOIN og.sale sa LEFT JOIN sa.franchise f LEFT JOIN og.mfOrder mfo " +
+	       "WHERE (:status IS NULL OR og.status = :status) " +
+	       "AND (:startDate IS NULL OR og.outgoingStartDate >= :startDate) " +
+	       "AND (:endDate IS NULL OR og.outgoingStartDate < :endDate) " +
+	       "ORDER BY og.outgoingId DESC, i.itemCode")
+	Stream<DocumentLineExportDTO> streamOutgoingLines(@Param("status") String status,
+	        @Param("startDate") Timestamp startDate, @Param("endDate") Timestamp endDate);
 }
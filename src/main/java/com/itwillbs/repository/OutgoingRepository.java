@@ -28,25 +28,16 @@ public interface OutgoingRepository extends JpaRepository<Outgoing, String> {
 			+ "ORDER BY og.outgoingId DESC")
 	Page<OutgoingDTO> getOutgoingLists(Pageable pageable);
 
-    // Fetch Join을 사용하여 한 번의 쿼리로 필요한 연관 데이터들을 로딩
-	@Query("SELECT DISTINCT og FROM Outgoing og " +
-	        "LEFT JOIN FETCH og.manager m " +
-	        "LEFT JOIN FETCH og.outgoingItems ii " +
-	        "LEFT JOIN FETCH ii.item i " +
-	        "LEFT JOIN FETCH og.sale s " +
-	        "LEFT JOIN FETCH og.mfOrder mfo " +
-	        "WHERE (:reasonOfOutgoing = '' OR " +
-	        "       (:reasonOfOutgoing = '생산 요청' AND mfo.orderId IS NOT NULL) OR " +
-	        "       (:reasonOfOutgoing = '수주 완료' AND s.saleId IS NOT NULL)) " +
-	        "AND (:outgoingStartDate_start IS NULL OR og.outgoingStartDate >= :outgoingStartDate_start) " +
-	        "AND (:outgoingStartDate_end IS NULL OR og.outgoingStartDate <= :outgoingStartDate_end) " +
-	        "AND (:outgoingId = '' OR og.outgoingId LIKE CONCAT('%', :outgoingId, '%')) " +
-	        "AND (:prodOrSaleId = '' OR mfo.orderId LIKE CONCAT('%', :prodOrSaleId, '%') OR s.saleId LIKE CONCAT('%', :prodOrSaleId, '%')) " +
-	        "AND (:status = '' OR og.status = :status) " +
-	        "AND (:managerCodeOrName = '' OR m.managerId LIKE CONCAT('%', :managerCodeOrName, '%') OR m.name LIKE CONCAT('%', :managerCodeOrName, '%')) " +
-	        "AND (:itemCodeOrName = '' OR i.itemCode LIKE CONCAT('%', :itemCodeOrName, '%') OR i.itemName LIKE CONCAT('%', :itemCodeOrName, '%')) " +
-	        "ORDER BY og.outgoingId DESC")
-	Page<Outgoing> findOutgoingEntities(
+	/**
+	 * 출고 목록 검색 1단계 : 조건에 맞는 출고 한 페이지만 DB 에서 페이징 (품목 컬렉션, 수주 엔티티는 조인하지 않음)
+	 * 품목 조건은 EXISTS 로 거르고, 품목 이름/갯수는 2단계에서 이 페이지의 출고번호로 한 번에 조회한다.
+	 */
+	@Query(value = "SELECT new com.itwillbs.domain.inventory.OutgoingDTO(og.outgoingId, og.outgoingStartDate, og.outgoingEndDate, " +
+	        "COALESCE(m.managerId, ''), COALESCE(m.name, ''), og.status, COALESCE(mfo.orderId, ''), COALESCE(s.saleId, '')) " +
+	        OUTGOING_SEARCH_CONDITION +
+	        "ORDER BY og.outgoingId DESC",
+	        countQuery = "SELECT COUNT(og) " + OUTGOING_SEARCH_CONDITION)
+	Page<OutgoingDTO> searchOutgoingList(
 	        @Param("reasonOfOutgoing") String reasonOfOutgoing,
 	        @Param("outgoingStartDate_start") Timestamp outgoingStartDate_start,
 	        @Param("outgoingStartDate_end") Timestamp outgoingStartDate_end,
@@ -57,6 +48,22 @@ public interface OutgoingRepository extends JpaRepository<Outgoing, String> {
 	        @Param("itemCodeOrName") String itemCodeOrName,
 	        Pageable pageable);
 
+	String OUTGOING_SEARCH_CONDITION = "FROM Outgoing og " +
+	        "LEFT JOIN og.manager m " +
+	        "LEFT JOIN og.sale s " +
+	        "LEFT JOIN og.mfOrder mfo " +
+	        "WHERE (:reasonOfOutgoing = '' OR " +
+	        "       (:reasonOfOutgoing = '생산 요청' AND mfo.orderId IS NOT NULL) OR " +
+	        "       (:reasonOfOutgoing = '수주 완료' AND s.saleId IS NOT NULL)) " +
+	        "AND (:outgoingStartDate_start IS NULL OR og.outgoingStartDate >= :outgoingStartDate_start) " +
+	        "AND (:outgoingStartDate_end IS NULL OR og.outgoingStartDate <= :outgoingStartDate_end) " +
+	        "AND (:outgoingId = '' OR og.outgoingId LIKE CONCAT('%', :outgoingId, '%')) " +
+	        "AND (:prodOrSaleId = '' OR mfo.orderId LIKE CONCAT('%', :prodOrSaleId, '%') OR s.saleId LIKE CONCAT('%', :prodOrSaleId, '%')) " +
+	        "AND (:status = '' OR og.status = :status) " +
+	        "AND (:managerCodeOrName = '' OR m.managerId LIKE CONCAT('%', :managerCodeOrName, '%') OR m.name LIKE CONCAT('%', :managerCodeOrName, '%')) " +
+	        "AND (:itemCodeOrName = '' OR EXISTS (SELECT 1 FROM OutgoingItems ogi JOIN ogi.item i WHERE ogi.outgoing = og " +
+	        "       AND (i.itemCode LIKE CONCAT('%', :itemCodeOrName, '%') OR i.itemName LIKE CONCAT('%', :itemCodeOrName, '%')))) ";
+
 	/**
 	 * 출고 상세 정보 모달에서 출고 완료로 업데이트
 	 */
@@ -87,9 +94,16 @@ public interface OutgoingRepository extends JpaRepository<Outgoing, String> {
 		List<OutgoingInsertDTO> findAllEndOfSale();
 	
 
-	//출고등록번호 제일 높은 숫자 조회
-	@Query("SELECT o FROM Outgoing o ORDER BY CAST(SUBSTRING(o.outgoingId, 4) AS int) DESC")
-	List<Outgoing> findAllOrderByNumericOutgoingIdDesc();
+	//출고등록번호 제일 높은 숫자 조회 (채번 테이블 초기값)
+	@Query("SELECT MAX(CAST(SUBSTRING(o.outgoingId, 4) AS int)) FROM Outgoing o")
+	Integer findMaxOutgoingNumber();
 
-	
+	/**
+	 * 출고 목록 커서 조회 (COUNT 없음), afterId 보다 작은 출고번호부터 pageable 크기만큼
+	 */
+	@Query("SELECT new com.itwillbs.domain.inventory.OutgoingDTO(og.outgoingId, og.outgoingStartDate, og.outgoingEndDate, m.managerId, m.name, og.status, mfo.orderId, s.saleId) "
+			+ "FROM Outgoing og LEFT JOIN og.manager m LEFT JOIN og.mfOrder mfo LEFT JOIN og.sale s "
+			+ "WHERE (:afterId IS NULL OR og.outgoingId < :afterId) "
+			+ "ORDER BY og.outgoingId DESC")
+	List<OutgoingDTO> findOutgoingSlice(@Param("afterId") String afterId, Pageable pageable);
 }
@@ -1,41 +1,78 @@
 package com.itwillbs.repository;
 
+import com.itwillbs.domain.export.DocumentLineExportDTO;
 import com.itwillbs.domain.transaction.QualityShipmentDTO;
 import com.itwillbs.domain.transaction.ShipmentDTO;
 import com.itwillbs.entity.QualityShipment;
 import com.itwillbs.entity.Shipment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface QualityShipmentRepository extends JpaRepository<QualityShipment, String>  {
 
-    @Query("SELECT qs FROM QualityShipment qs JOIN qs.sale s " +
-            "JOIN s.franchise f JOIN qs.shipment sm " +
-            "LEFT JOIN s.saleItems si " +
-            "LEFT JOIN si.item i " +
+    // 출하검품 목록 조회: 담당자, 가맹점명, 첫 품목명(품목코드 순), 품목 수를 한 쿼리로 가져오고 DB 에서 페이징
+    // 품목명 조건은 EXISTS 로 걸어서 검품 건이 중복되지 않게 한다. 정렬은 pageable 의 Sort (출하검품 qs 기준 속성 경로)
+    @Query(value = "SELECT new com.itwillbs.domain.transaction.QualityShipmentDTO(qs.qualityShipmentId, qs.status, m.managerId, m.name, " +
+            "sm.shipmentId, qs.shipDate, s.dueDate, f.franchiseName, " +
+            "(SELECT MIN(fi.itemName) FROM SaleItems fsi JOIN fsi.item fi WHERE fsi.sale = s " +
+            "AND fi.itemCode = (SELECT MIN(msi.item.itemCode) FROM SaleItems msi WHERE msi.sale = s)), " +
+            "(SELECT COUNT(csi) FROM SaleItems csi WHERE csi.sale = s)) " +
+            "FROM QualityShipment qs JOIN qs.sale s JOIN qs.shipment sm " +
+            "LEFT JOIN s.franchise f LEFT JOIN qs.manager m " +
             "WHERE (:status IS NULL OR qs.status = :status) AND " +
             "(:franchiseName IS NULL OR f.franchiseName LIKE :franchiseName) AND " +
             "(:shipDateStart IS NULL OR sm.shipDate >= :shipDateStart) AND " +
             "(:shipDateEnd IS NULL OR sm.shipDate <= :shipDateEnd) AND " +
-            "(:itemName IS NULL OR i.itemName LIKE :itemName) AND " +
+            "(:itemName IS NULL OR EXISTS (SELECT 1 FROM SaleItems isi WHERE isi.sale = s AND isi.item.itemName LIKE :itemName)) AND " +
+            "(:dueDateStart IS NULL OR s.dueDate >= :dueDateStart) AND " +
+            "(:dueDateEnd IS NULL OR s.dueDate <= :dueDateEnd)",
+            countQuery = "SELECT COUNT(qs) FROM QualityShipment qs JOIN qs.sale s JOIN qs.shipment sm " +
+            "LEFT JOIN s.franchise f " +
+            "WHERE (:status IS NULL OR qs.status = :status) AND " +
+            "(:franchiseName IS NULL OR f.franchiseName LIKE :franchiseName) AND " +
+            "(:shipDateStart IS NULL OR sm.shipDate >= :shipDateStart) AND " +
+            "(:shipDateEnd IS NULL OR sm.shipDate <= :shipDateEnd) AND " +
+            "(:itemName IS NULL OR EXISTS (SELECT 1 FROM SaleItems isi WHERE isi.sale = s AND isi.item.itemName LIKE :itemName)) AND " +
             "(:dueDateStart IS NULL OR s.dueDate >= :dueDateStart) AND " +
             "(:dueDateEnd IS NULL OR s.dueDate <= :dueDateEnd)")
-    List<QualityShipment> findQualityShipmentByConditions(
+    Page<QualityShipmentDTO> findQualityShipmentListByConditions(
             @Param("status") String status,
             @Param("franchiseName") String franchiseName,
             @Param("shipDateStart") Timestamp shipDateStart,
             @Param("shipDateEnd") Timestamp shipDateEnd,
             @Param("itemName") String itemName,
             @Param("dueDateStart") Timestamp dueDateStart,
-            @Param("dueDateEnd") Timestamp dueDateEnd
+            @Param("dueDateEnd") Timestamp dueDateEnd,
+            Pageable pageable
     );
 
+    // 출하검품 품목(수주 품목) 행 내보내기 (검품번호, 품목코드 순으로 커서에서 바로 읽음)
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new com.itwillbs.domain.export.DocumentLineExportDTO(qs.qualityShipmentId, qs.status, sm.shipmentId, " +
+           "COALESCE(f.franchiseName, ''), qs.shipDate, s.dueDate, COALESCE(m.name, ''), " +
+           "i.itemCode, i.itemName, si.quantity, si.price, si.subtotalPrice) " +
+           "FROM QualityShipment qs JOIN qs.sale s JOIN qs.shipment sm JOIN SaleItems si ON si.sale = s JOIN si.item i " +
+           "LEFT JOIN s.franchise f LEFT JOIN qs.manager m " +
+           "WHERE (:status IS NULL OR qs.status = :status) " +
+           "AND (:startDate IS NULL OR sm.shipDate >= :startDate) " +
+           "AND (:endDate IS NULL OR sm.shipDate < :endDate) " +
+           "ORDER BY qs.qualityShipmentId DESC, i.itemCode")
+    Stream<DocumentLineExportDTO> streamQualityShipmentLines(@Param("status") String status,
+            @Param("startDate") Timestamp startDate, @Param("endDate") Timestamp endDate);
+
     @Query("SELECT new com.itwillbs.domain.transaction.QualityShipmentDTO" +
             "(qsm.qualityShipmentId, sm.shipmentId, sm.shipDate, sm.status, sm.sale.saleId, " +
             "sm.sale.franchise.franchiseCode, sm.sale.franchise.franchiseName, " +
@@ -1,15 +1,21 @@
 package com.itwillbs.repository;
 
+import com.itwillbs.domain.export.DocumentLineExportDTO;
 import com.itwillbs.domain.transaction.SaleItemsDTO;
 import com.itwillbs.entity.Order;
 import com.itwillbs.entity.OrderItems;
 import com.itwillbs.entity.Sale;
 import com.itwillbs.entity.SaleItems;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface SaleItemsRepository extends JpaRepository<SaleItems, String> {
 
@@ -22,5 +28,24 @@ public interface SaleItemsRepository extends JpaRepository<SaleItems, String> {
 
     void deleteBySale(Sale sale);
 
-
-}
\ No newline at end of file
+    // 수주 품목 행 내보내기 (수주번호, 품목코드 순으로 커서에서 바로 읽음)
+    // 조건은 수주 목록 검색과 같음 (품목명이 맞는 품목이 있는 수주는 품목 전체를 내보냄)
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new com.itwillbs.domain.export.DocumentLineExportDTO(s.saleId, s.status, '', COALESCE(f.franchiseName, ''), " +
+           "s.orderDate, s.dueDate, COALESCE(m.name, ''), i.itemCode, i.itemName, si.quantity, si.price, si.subtotalPrice) " +
+           "FROM SaleItems si JOIN si.sale s JOIN si.item i LEFT JOIN s.franchise f LEFT JOIN s.manager m " +
+           "WHERE (:status IS NULL OR s.status = :status) " +
+           "AND (:franchiseName IS NULL OR f.franchiseName LIKE :franchiseName) " +
+           "AND (:startDate IS NULL OR s.orderDate >= :startDate) " +
+           "AND (:endDate IS NULL OR s.orderDate < :endDate) " +
+           "AND (:itemName IS NULL OR EXISTS (SELECT 1 FROM SaleItems isi WHERE isi.sale = s AND isi.item.itemName LIKE :itemName)) " +
+           "AND (:dueDateStart IS NULL OR s.dueDate >= :dueDateStart) " +
+           "AND (:dueDateEnd IS NULL OR s.dueDate < :dueDateEnd) " +
+           "ORDER BY s.saleId DESC, i.itemCode")
+    Stream<DocumentLineExportDTO> streamSaleLines(@Param("status") String status,
+            @Param("franchiseName") String franchiseName,
+            @Param("startDate") Timestamp startDate, @Param("endDate") Timestamp endDate,
+            @Param("itemName") String itemName,
+            @Param("dueDateStart") Timestamp dueDateStart, @Param("dueDateEnd") Timestamp dueDateEnd);
+}
@@ -2,6 +2,8 @@ package com.itwillbs.repository;
 
 import com.itwillbs.domain.transaction.SaleDTO;
 import com.itwillbs.entity.Sale;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,7 +11,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
-import java.util.List;
 
 public interface SaleRepository extends JpaRepository<Sale, String> {
 
@@ -17,34 +18,37 @@ public interface SaleRepository extends JpaRepository<Sale, String> {
     @Query("SELECT MAX(s.saleId) FROM Sale s")
     String findMaxSaleId();
 
-    @Query("SELECT s.franchise.franchiseName FROM Sale s WHERE s.saleId = :saleId")
-    String findFranchiseNameBySaleId(@Param("saleId") String saleId);
-
-    @Query("SELECT si.item.itemName FROM SaleItems si WHERE si.sale = :sale ORDER BY si.item.itemCode ASC")
-    List<String> findFirstItemNameBySale(@Param("sale") Sale sale);
-
-    @Query("SELECT COUNT(si.item.itemCode) FROM SaleItems si WHERE si.sale = :sale")
-    int findSaleItemCountBySale(@Param("sale") Sale sale);
-
-    @Query("SELECT s FROM Sale s " +
-            "JOIN s.franchise f " +
-            "LEFT JOIN s.saleItems si " +
-            "LEFT JOIN si.item i " +
+    // 수주 목록 조회: 가맹점명, 첫 품목명(품목코드 순), 품목 수를 한 쿼리로 가져오고 DB 에서 페이징
+    // 품목명 조건은 EXISTS 로 걸어서 수주가 중복되지 않게 한다. 정렬은 pageable 의 Sort (수주 s 기준 속성 경로)
+    @Query(value = "SELECT new com.itwillbs.domain.transaction.SaleDTO(s.saleId, s.totalPrice, s.orderDate, s.dueDate, s.status, f.franchiseName, " +
+            "(SELECT MIN(fi.itemName) FROM SaleItems fsi JOIN fsi.item fi WHERE fsi.sale = s " +
+            "AND fi.itemCode = (SELECT MIN(msi.item.itemCode) FROM SaleItems msi WHERE msi.sale = s)), " +
+            "(SELECT COUNT(csi) FROM SaleItems csi WHERE csi.sale = s)) " +
+            "FROM Sale s LEFT JOIN s.franchise f " +
+            "WHERE (:status IS NULL OR s.status = :status) AND " +
+            "(:franchiseName IS NULL OR f.franchiseName LIKE :franchiseName) AND " +
+            "(:orderDateStart IS NULL OR s.orderDate >= :orderDateStart) AND " +
+            "(:orderDateEnd IS NULL OR s.orderDate <= :orderDateEnd) AND " +
+            "(:itemName IS NULL OR EXISTS (SELECT 1 FROM SaleItems isi WHERE isi.sale = s AND isi.item.itemName LIKE :itemName)) AND " +
+            "(:dueDateStart IS NULL OR s.dueDate >= :dueDateStart) AND " +
+            "(:dueDateEnd IS NULL OR s.dueDate <= :dueDateEnd)",
+            countQuery = "SELECT COUNT(s) FROM Sale s LEFT JOIN s.franchise f " +
             "WHERE (:status IS NULL OR s.status = :status) AND " +
             "(:franchiseName IS NULL OR f.franchiseName LIKE :franchiseName) AND " +
             "(:orderDateStart IS NULL OR s.orderDate >= :orderDateStart) AND " +
             "(:orderDateEnd IS NULL OR s.orderDate <= :orderDateEnd) AND " +
-            "(:itemName IS NULL OR i.itemName LIKE :itemName) AND " +
+            "(:itemName IS NULL OR EXISTS (SELECT 1 FROM SaleItems isi WHERE isi.sale = s AND isi.item.itemName LIKE :itemName)) AND " +
             "(:dueDateStart IS NULL OR s.dueDate >= :dueDateStart) AND " +
             "(:dueDateEnd IS NULL OR s.dueDate <= :dueDateEnd)")
-    List<Sale> findSalesByConditions(
+    Page<SaleDTO> findSaleListByConditions(
             @Param("status") String status,
             @Param("franchiseName") String franchiseName,
             @Param("orderDateStart") Timestamp orderDateStart,
             @Param("orderDateEnd") Timestamp orderDateEnd,
             @Param("itemName") String itemName,
             @Param("dueDateStart") Timestamp dueDateStart,
-            @Param("dueDateEnd") Timestamp dueDateEnd
+            @Param("dueDateEnd") Timestamp dueDateEnd,
+            Pageable pageable
     );
 
     @Transactional
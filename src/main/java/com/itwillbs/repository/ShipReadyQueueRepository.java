@@ -0,0 +1,49 @@
+package com.itwillbs.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.itwillbs.entity.ShipReadyQueue;
+
+@Repository
+public interface ShipReadyQueueRepository extends JpaRepository<ShipReadyQueue, String> {
+
+	// 출하 대상 조회 (납기일 순)
+	List<ShipReadyQueue> findAllByOrderByDueDateAsc();
+
+	// 출하 등록된 수주는 큐에서 제거
+	@Modifying
+	@Query("DELETE FROM ShipReadyQueue q WHERE q.saleId = :saleId")
+	int deleteBySaleId(@Param("saleId") String saleId);
+
+	// 가맹점명 변경을 큐 행에 반영
+	@Modifying
+	@Query("UPDATE ShipReadyQueue q SET q.franchiseName = :franchiseName WHERE q.franchiseCode = :franchiseCode")
+	int updateFranchiseName(@Param("franchiseCode") String franchiseCode, @Param("franchiseName") String franchiseName);
+
+	// 품목명 변경을 큐 행에 반영 (그 품목이 첫 품목(품목코드 순)인 수주만)
+	@Modifying
+	@Query("UPDATE ShipReadyQueue q SET q.itemName = :itemName "
+			+ "WHERE (SELECT MIN(si.item.itemCode) FROM SaleItems si WHERE si.sale.saleId = q.saleId) = :itemCode")
+	int updateFirstItemName(@Param("itemCode") String itemCode, @Param("itemName") String itemName);
+
+	/**
+	 * 큐에 넣을 행 계산 (출고 완료 + 출하 미등록 수주), saleId 가 null 이면 전체
+	 * 첫 품목명과 품목 수까지 한 번에 구한다.
+	 */
+	@Query("SELECT new com.itwillbs.entity.ShipReadyQueue(s.saleId, o.outgoingId, o.status, f.franchiseCode, f.franchiseName, "
+			+ "s.totalPrice, s.orderDate, s.dueDate, "
+			+ "(SELECT MIN(fi.itemName) FROM SaleItems fsi JOIN fsi.item fi WHERE fsi.sale = s "
+			+ "AND fi.itemCode = (SELECT MIN(msi.item.itemCode) FROM SaleItems msi WHERE msi.sale = s)), "
+			+ "(SELECT COUNT(csi) FROM SaleItems csi WHERE csi.sale = s)) "
+			+ "FROM Outgoing o JOIN o.sale s LEFT JOIN s.franchise f "
+			+ "WHERE o.status = '출고 완료' "
+			+ "AND (:saleId IS NULL OR s.saleId = :saleId) "
+			+ "AND NOT EXISTS (SELECT 1 FROM Shipment sm WHERE sm.sale = s AND sm.status IS NOT NULL)")
+	List<ShipReadyQueue> findReadyToShip(@Param("saleId") String saleId);
+}
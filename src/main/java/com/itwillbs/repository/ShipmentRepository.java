@@ -1,17 +1,23 @@
 package com.itwillbs.repository;
 
+import com.itwillbs.domain.export.DocumentLineExportDTO;
 import com.itwillbs.domain.transaction.SaleDTO;
 import com.itwillbs.domain.transaction.ShipmentDTO;
 import com.itwillbs.entity.Sale;
 import com.itwillbs.entity.Shipment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
-import java.util.List;
+import java.util.stream.Stream;
 
 public interface ShipmentRepository extends JpaRepository<Shipment, String> {
 
@@ -28,40 +34,58 @@ public interface ShipmentRepository extends JpaRepository<Shipment, String> {
 //    // 출고 정보 추가해야 함
 //    List<SaleDTO> findAllQualified();
 
-    // 출하 대상 수주 건 조회 ver.2 (출고 완료 건 불러오기)
-    @Query("SELECT new com.itwillbs.domain.transaction.SaleDTO " +
-            "(s.saleId, s.totalPrice, s.orderDate, s.dueDate, s.franchise, o.outgoingId, o.status)" +
-            "FROM Shipment sm RIGHT JOIN sm.sale s RIGHT JOIN s.outgoing o " +
-            "WHERE o.status = '출고 완료' AND sm.status IS NULL " +
-            "ORDER BY s.dueDate")
-        // 출고 정보 추가해야 함
-    List<SaleDTO> findAllQualified();
-
-    // 출하등록 된 것 중 출하검품 상태 확인
-    @Query("SELECT qsm.status FROM QualityShipment qsm JOIN qsm.shipment sm WHERE sm.shipmentId = :shipmentId")
-    String checkShipmentQualified(@Param("shipmentId") String shipmentId);
-
-    @Query("SELECT sm FROM Shipment sm JOIN sm.sale s " +
-            "JOIN s.franchise f " +
-            "LEFT JOIN s.saleItems si " +
-            "LEFT JOIN si.item i " +
+    // 출하 목록 조회: 출하검품 상태, 가맹점명, 첫 품목명(품목코드 순), 품목 수를 한 쿼리로 가져오고 DB 에서 페이징
+    // 품목명 조건은 EXISTS 로 걸어서 출하가 중복되지 않게 한다. 정렬은 pageable 의 Sort (출하 sm 기준 속성 경로)
+    @Query(value = "SELECT new com.itwillbs.domain.transaction.ShipmentDTO(sm.shipmentId, sm.shipDate, s.dueDate, sm.status, qsm.status, " +
+            "f.franchiseName, s.totalPrice, " +
+            "(SELECT MIN(fi.itemName) FROM SaleItems fsi JOIN fsi.item fi WHERE fsi.sale = s " +
+            "AND fi.itemCode = (SELECT MIN(msi.item.itemCode) FROM SaleItems msi WHERE msi.sale = s)), " +
+            "(SELECT COUNT(csi) FROM SaleItems csi WHERE csi.sale = s)) " +
+            "FROM Shipment sm JOIN sm.sale s LEFT JOIN s.franchise f " +
+            "LEFT JOIN QualityShipment qsm ON qsm.shipment = sm " +
+            "WHERE (:status IS NULL OR sm.status = :status) AND " +
+            "(:franchiseName IS NULL OR f.franchiseName LIKE :franchiseName) AND " +
+            "(:shipDateStart IS NULL OR sm.shipDate >= :shipDateStart) AND " +
+            "(:shipDateEnd IS NULL OR sm.shipDate <= :shipDateEnd) AND " +
+            "(:itemName IS NULL OR EXISTS (SELECT 1 FROM SaleItems isi WHERE isi.sale = s AND isi.item.itemName LIKE :itemName)) AND " +
+            "(:dueDateStart IS NULL OR s.dueDate >= :dueDateStart) AND " +
+            "(:dueDateEnd IS NULL OR s.dueDate <= :dueDateEnd)",
+            countQuery = "SELECT COUNT(sm) FROM Shipment sm JOIN sm.sale s LEFT JOIN s.franchise f " +
             "WHERE (:status IS NULL OR sm.status = :status) AND " +
             "(:franchiseName IS NULL OR f.franchiseName LIKE :franchiseName) AND " +
             "(:shipDateStart IS NULL OR sm.shipDate >= :shipDateStart) AND " +
             "(:shipDateEnd IS NULL OR sm.shipDate <= :shipDateEnd) AND " +
-            "(:itemName IS NULL OR i.itemName LIKE :itemName) AND " +
+            "(:itemName IS NULL OR EXISTS (SELECT 1 FROM SaleItems isi WHERE isi.sale = s AND isi.item.itemName LIKE :itemName)) AND " +
             "(:dueDateStart IS NULL OR s.dueDate >= :dueDateStart) AND " +
             "(:dueDateEnd IS NULL OR s.dueDate <= :dueDateEnd)")
-    List<Shipment> findShipmentByConditions(
+    Page<ShipmentDTO> findShipmentListByConditions(
             @Param("status") String status,
             @Param("franchiseName") String franchiseName,
             @Param("shipDateStart") Timestamp shipDateStart,
             @Param("shipDateEnd") Timestamp shipDateEnd,
             @Param("itemName") String itemName,
             @Param("dueDateStart") Timestamp dueDateStart,
-            @Param("dueDateEnd") Timestamp dueDateEnd
+            @Param("dueDateEnd") Timestamp dueDateEnd,
+            Pageable pageable
     );
 
+    // 출하 품목(수주 품목) 행 내보내기 (출하번호, 품목코드 순으로 커서에서 바로 읽음)
+    // 검품 완료된 출하등록 건은 목록 화면과 같이 출하등록(검품완료)로 내보낸다.
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new com.itwillbs.domain.export.DocumentLineExportDTO(sm.shipmentId, " +
+           "CASE WHEN sm.status = '출하등록(검품요청)' AND qsm.status = '검품완료' THEN '출하등록(검품완료)' ELSE sm.status END, " +
+           "s.saleId, COALESCE(f.franchiseName, ''), sm.shipDate, s.dueDate, COALESCE(m.name, ''), " +
+           "i.itemCode, i.itemName, si.quantity, si.price, si.subtotalPrice) " +
+           "FROM Shipment sm JOIN sm.sale s JOIN SaleItems si ON si.sale = s JOIN si.item i " +
+           "LEFT JOIN s.franchise f LEFT JOIN sm.manager m LEFT JOIN QualityShipment qsm ON qsm.shipment = sm " +
+           "WHERE (:status IS NULL OR sm.status = :status) " +
+           "AND (:startDate IS NULL OR sm.shipDate >= :startDate) " +
+           "AND (:endDate IS NULL OR sm.shipDate < :endDate) " +
+           "ORDER BY sm.shipmentId DESC, i.itemCode")
+    Stream<DocumentLineExportDTO> streamShipmentLines(@Param("status") String status,
+            @Param("startDate") Timestamp startDate, @Param("endDate") Timestamp endDate);
+
     @Query("SELECT new com.itwillbs.domain.transaction.ShipmentDTO" +
             "(sm.shipmentId, sm.shipDate, sm.status, sm.sale.saleId, sm.sale.franchise.franchiseCode, sm.sale.franchise.franchiseName," +
             "sm.manager.managerId, sm.manager.name, sm.sale.orderDate, sm.sale.dueDate, sm.note, sm.sale.totalPrice, qsm.status) " +
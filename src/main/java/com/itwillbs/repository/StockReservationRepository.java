@@ -0,0 +1,56 @@
+package com.itwillbs.repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.itwillbs.domain.inventory.ItemQuantityDTO;
+import com.itwillbs.domain.transaction.SaleItemQuantityDTO;
+import com.itwillbs.entity.StockReservation;
+
+@Repository
+public interface StockReservationRepository
+		extends JpaRepository<StockReservation, Long>, StockReservationRepositoryCustom {
+
+	//품목별 예약 중 수량 합계 (전체)
+	@Query("SELECT new com.itwillbs.domain.inventory.ItemQuantityDTO(r.itemCode, SUM(r.quantity)) "
+			+ "FROM StockReservation r "
+			+ "WHERE r.status = '예약' "
+			+ "GROUP BY r.itemCode")
+	List<ItemQuantityDTO> sumReservedByItem();
+
+	//여러 품목의 예약 중 수량 합계
+	@Query("SELECT new com.itwillbs.domain.inventory.ItemQuantityDTO(r.itemCode, SUM(r.quantity)) "
+			+ "FROM StockReservation r "
+			+ "WHERE r.status = '예약' AND r.itemCode IN :itemCodes "
+			+ "GROUP BY r.itemCode")
+	List<ItemQuantityDTO> sumReservedByItemCodes(@Param("itemCodes") Collection<String> itemCodes);
+
+	//수주의 예약 중인 품목코드
+	@Query("SELECT DISTINCT r.itemCode FROM StockReservation r "
+			+ "WHERE r.saleId = :saleId AND r.status = '예약'")
+	List<String> findReservedItemCodes(@Param("saleId") String saleId);
+
+	//예약 기록이 없는 미출고 수주의 품목별 수량 (예약 기능 도입 전에 등록된 수주 보정용)
+	//등록/확정 상태이고 출고 완료되지 않은 수주만, 예약/해제/소진 기록이 하나라도 있으면 제외
+	@Query("SELECT new com.itwillbs.domain.transaction.SaleItemQuantityDTO(s.saleId, i.itemCode, SUM(si.quantity)) "
+			+ "FROM SaleItems si JOIN si.sale s JOIN si.item i "
+			+ "WHERE s.status IN ('수주등록(저장)', '수주완료') "
+			+ "AND NOT EXISTS (SELECT 1 FROM Outgoing og WHERE og.sale = s AND og.status = '출고 완료') "
+			+ "AND NOT EXISTS (SELECT 1 FROM StockReservation r WHERE r.saleId = s.saleId) "
+			+ "GROUP BY s.saleId, i.itemCode")
+	List<SaleItemQuantityDTO> findUnreservedOpenSaleQuantities();
+
+	//수주의 예약 중인 행 상태 변경 (해제, 소진)
+	@Modifying
+	@Query("UPDATE StockReservation r SET r.status = :status, r.updatedAt = :updatedAt "
+			+ "WHERE r.saleId = :saleId AND r.status = '예약'")
+	int updateReservedStatus(@Param("saleId") String saleId, @Param("status") String status,
+			@Param("updatedAt") Timestamp updatedAt);
+}
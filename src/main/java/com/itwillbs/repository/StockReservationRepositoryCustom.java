@@ -0,0 +1,13 @@
+package com.itwillbs.repository;
+
+import java.util.List;
+
+import com.itwillbs.entity.StockReservation;
+
+public interface StockReservationRepositoryCustom {
+
+	/**
+	 * 재고 예약 JDBC 배치 insert
+	 */
+	void insertAll(List<StockReservation> reservations);
+}
@@ -0,0 +1,34 @@
+package com.itwillbs.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.itwillbs.entity.StockReservation;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class StockReservationRepositoryImpl implements StockReservationRepositoryCustom {
+
+	private static final String INSERT_SQL = "INSERT INTO stock_reservation "
+			+ "(sale_id, item_code, quantity, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+	private int batchSize;
+
+	@Override
+	public void insertAll(List<StockReservation> reservations) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, reservations, batchSize, (ps, reservation) -> {
+			ps.setString(1, reservation.getSaleId());
+			ps.setString(2, reservation.getItemCode());
+			ps.setInt(3, reservation.getQuantity());
+			ps.setString(4, reservation.getStatus());
+			ps.setTimestamp(5, reservation.getCreatedAt());
+			ps.setTimestamp(6, reservation.getUpdatedAt());
+		});
+	}
+}
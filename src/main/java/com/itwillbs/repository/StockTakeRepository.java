@@ -0,0 +1,29 @@
+package com.itwillbs.repository;
+
+import java.sql.Timestamp;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.itwillbs.entity.StockTake;
+
+@Repository
+public interface StockTakeRepository extends JpaRepository<StockTake, String> {
+
+	//재고실사번호 생성을 위한 현재 최고번호
+	@Query("SELECT MAX(st.stockTakeId) FROM StockTake st")
+	String findMaxStockTakeId();
+
+	//묶음 반영과 같은 트랜잭션에서 진행 상태 기록
+	@Modifying
+	@Query("UPDATE StockTake st SET st.processedLines = :processedLines, st.validLines = :validLines, "
+			+ "st.invalidLines = :invalidLines, st.adjustedItems = :adjustedItems, st.reportSize = :reportSize, "
+			+ "st.updatedAt = :updatedAt WHERE st.stockTakeId = :stockTakeId")
+	int updateProgress(@Param("stockTakeId") String stockTakeId, @Param("processedLines") long processedLines,
+			@Param("validLines") long validLines, @Param("invalidLines") long invalidLines,
+			@Param("adjustedItems") long adjustedItems, @Param("reportSize") long reportSize,
+			@Param("updatedAt") Timestamp updatedAt);
+}
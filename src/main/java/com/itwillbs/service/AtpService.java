@@ -0,0 +1,246 @@
+package com.itwillbs.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.itwillbs.domain.inventory.ItemQuantityDTO;
+import com.itwillbs.domain.inventory.StockChangedEvent;
+import com.itwillbs.domain.transaction.AtpDTO;
+import com.itwillbs.domain.transaction.ReservationChangedEvent;
+import com.itwillbs.repository.InventoryRepository;
+import com.itwillbs.repository.StockReservationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가용재고(ATP) 조회 캐시
+ *
+ * 품목별 재고량/예약량을 메모리에 들고 있어 "이만큼 수주를 받을 수 있나"를 DB 없이 바로 답한다.
+ * 재고 변동(StockChangedEvent), 예약 변동(ReservationChangedEvent)이 커밋되면 바뀐 품목만 DB 에서 다시 읽어 교체하고,
+ * 주기적으로 전체를 다시 읽어 어긋난 값을 바로잡는다.
+ *
+ * 갱신은 품목코드 해시로 나눈 stripe 잠금 안에서 DB 조회 → 교체 순으로 하므로 같은 품목의 갱신은 커밋 순서대로 반영되고,
+ * 조회는 잠금 없이 교체된 값만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AtpService {
+
+	private static final int STRIPES = 64;
+
+	private final InventoryRepository inventoryRepository;
+	private final StockReservationRepository stockReservationRepository;
+	private final StockReservationService stockReservationService;
+
+	// 품목코드 -> 재고량/예약량 (값은 수정하지 않고 통째로 교체)
+	private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+	private final ReentrantLock[] stripeLocks = newLocks();
+	// stripe 별 부분 갱신 횟수, 전체 대사 중에 부분 갱신된 stripe 는 대사 결과로 덮어쓰지 않는다 (stripe 잠금 안에서만 접근)
+	private final long[] stripeVersions = new long[STRIPES];
+	// 기동 후 미출고 수주 예약 보정을 마쳤는지 (실패하면 대사 주기마다 다시 시도)
+	private volatile boolean openSalesReserved;
+
+	// 예약 없이 남아 있는 미출고 수주를 먼저 예약한 뒤 전체 적재
+	// 실패해도(테이블 미생성 등) 서버 기동은 계속하고, 캐시는 비어 있는 채로 다음 대사 주기에 다시 시도한다.
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		try {
+			reconcile();
+		} catch (RuntimeException e) {
+			log.error("가용재고 초기 적재 실패, 다음 대사 주기에 다시 시도", e);
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onStockChanged(StockChangedEvent event) {
+		refresh(event.getItemCodes());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onReservationChanged(ReservationChangedEvent event) {
+		refresh(event.getItemCodes());
+	}
+
+	/**
+	 * 한 품목의 가용재고 (재고 행이 없는 품목은 0)
+	 */
+	public AtpDTO getAtp(String itemCode) {
+		Counter counter = counters.getOrDefault(itemCode, Counter.EMPTY);
+		return new AtpDTO(itemCode, counter.onHand, counter.reserved, counter.available(), null, null);
+	}
+
+	/**
+	 * 품목별 요청 수량을 가용재고로 충족할 수 있는지
+	 *
+	 * @param requested 품목코드 -> 요청 수량
+	 */
+	public List<AtpDTO> check(Map<String, Integer> requested) {
+		List<AtpDTO> result = new ArrayList<>(requested.size());
+		requested.forEach((itemCode, quantity) -> {
+			AtpDTO atp = getAtp(itemCode);
+			int requestedQuantity = quantity == null ? 0 : quantity;
+			atp.setRequested(requestedQuantity);
+			atp.setFulfillable(atp.getAvailable() >= requestedQuantity);
+			result.add(atp);
+		});
+		return result;
+	}
+
+	/**
+	 * 전체 재고량/예약량을 다시 읽어 캐시와 대사 (미출고 수주 예약 보정이 아직이면 먼저 수행)
+	 * 읽는 동안 부분 갱신된 stripe 는 이미 더 최신 값이므로 건너뛴다.
+	 */
+	@Scheduled(fixedDelayString = "${atp.reconcile-ms:300000}", initialDelayString = "${atp.reconcile-ms:300000}")
+	public void reconcile() {
+		if (!openSalesReserved) {
+			stockReservationService.reserveOpenSales();
+			openSalesReserved = true;
+		}
+
+		long[] versions = new long[STRIPES];
+		for (int stripe = 0; stripe < STRIPES; stripe++) {
+			stripeLocks[stripe].lock();
+			try {
+				versions[stripe] = stripeVersions[stripe];
+			} finally {
+				stripeLocks[stripe].unlock();
+			}
+		}
+
+		Map<String, Long> onHand = toMap(inventoryRepository.findAllQuantities());
+		Map<String, Long> reserved = toMap(stockReservationRepository.sumReservedByItem());
+
+		Set<String> itemCodes = new HashSet<>(onHand.keySet());
+		itemCodes.addAll(reserved.keySet());
+		itemCodes.addAll(counters.keySet());
+		List<List<String>> byStripe = new ArrayList<>(STRIPES);
+		for (int stripe = 0; stripe < STRIPES; stripe++) {
+			byStripe.add(new ArrayList<>());
+		}
+		for (String itemCode : itemCodes) {
+			byStripe.get(stripeOf(itemCode)).add(itemCode);
+		}
+
+		int corrected = 0;
+		int skipped = 0;
+		for (int stripe = 0; stripe < STRIPES; stripe++) {
+			stripeLocks[stripe].lock();
+			try {
+				if (stripeVersions[stripe] != versions[stripe]) {
+					skipped++;
+					continue;
+				}
+				for (String itemCode : byStripe.get(stripe)) {
+					if (put(itemCode, onHand, reserved)) {
+						corrected++;
+					}
+				}
+			} finally {
+				stripeLocks[stripe].unlock();
+			}
+		}
+
+		if (corrected > 0) {
+			log.info("가용재고 대사 - 품목 {}건, 보정 {}건, 대사 중 갱신되어 건너뛴 stripe {}개", itemCodes.size(), corrected, skipped);
+		}
+	}
+
+	// 바뀐 품목만 다시 읽어 교체, stripe 잠금은 번호 순으로 잡는다.
+	private void refresh(Collection<String> changedItemCodes) {
+		if (changedItemCodes.isEmpty()) {
+			return;
+		}
+		List<String> itemCodes = new ArrayList<>(changedItemCodes);
+		TreeSet<Integer> stripes = new TreeSet<>();
+		for (String itemCode : itemCodes) {
+			stripes.add(stripeOf(itemCode));
+		}
+
+		for (int stripe : stripes) {
+			stripeLocks[stripe].lock();
+		}
+		try {
+			Map<String, Long> onHand = toMap(inventoryRepository.findQuantitiesByItemCodes(itemCodes));
+			Map<String, Long> reserved = toMap(stockReservationRepository.sumReservedByItemCodes(itemCodes));
+			for (String itemCode : itemCodes) {
+				put(itemCode, onHand, reserved);
+			}
+			for (int stripe : stripes) {
+				stripeVersions[stripe]++;
+			}
+		} finally {
+			for (int stripe : stripes.descendingSet()) {
+				stripeLocks[stripe].unlock();
+			}
+		}
+	}
+
+	// 값이 바뀌었으면 true
+	private boolean put(String itemCode, Map<String, Long> onHand, Map<String, Long> reserved) {
+		Counter counter = new Counter(onHand.getOrDefault(itemCode, 0L), reserved.getOrDefault(itemCode, 0L));
+		Counter previous = counter.isEmpty() ? counters.remove(itemCode) : counters.put(itemCode, counter);
+		return previous == null ? !counter.isEmpty() : !previous.sameAs(counter);
+	}
+
+	private static Map<String, Long> toMap(List<ItemQuantityDTO> quantities) {
+		Map<String, Long> map = new HashMap<>();
+		for (ItemQuantityDTO quantity : quantities) {
+			map.put(quantity.getItemCode(), quantity.getQuantity() == null ? 0L : quantity.getQuantity());
+		}
+		return map;
+	}
+
+	private static int stripeOf(String itemCode) {
+		return Math.floorMod(itemCode.hashCode(), STRIPES);
+	}
+
+	private static ReentrantLock[] newLocks() {
+		ReentrantLock[] locks = new ReentrantLock[STRIPES];
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		return locks;
+	}
+
+	private static final class Counter {
+
+		static final Counter EMPTY = new Counter(0, 0);
+
+		final long onHand;
+		final long reserved;
+
+		Counter(long onHand, long reserved) {
+			this.onHand = onHand;
+			this.reserved = reserved;
+		}
+
+		long available() {
+			return onHand - reserved;
+		}
+
+		boolean isEmpty() {
+			return onHand == 0 && reserved == 0;
+		}
+
+		boolean sameAs(Counter other) {
+			return onHand == other.onHand && reserved == other.reserved;
+		}
+	}
+}
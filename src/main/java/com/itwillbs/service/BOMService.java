@@ -15,6 +15,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 @Service
@@ -23,6 +24,7 @@ import java.util.Optional;
 public class BOMService {
     private final BOMRepository bomRepository;
     private final ItemRepository itemRepository;
+    private final BomCache bomCache;
 
     public Page<BOMListDTO> getAllBOMs(BOMSearchDTO searchDTO, Pageable pageable) {
         return bomRepository.findBySearchConditions(
@@ -40,8 +42,8 @@ public class BOMService {
 
     @Transactional
     public BOMDetailDTO saveBOM(BOMSaveDTO saveDTO) {
-        Item processedProduct = findItemByCode(saveDTO.getPpCode(), "PP");
-        Item rawMaterial = findItemByCode(saveDTO.getRmCode(), "RM");
+        Item processedProduct = findItemByCode(saveDTO.getPpCode(), "PP", "FP");
+        Item rawMaterial = findChildItem(saveDTO.getRmCode(), processedProduct);
 
         validateUniqueBOM(processedProduct, rawMaterial);
 
@@ -52,7 +54,9 @@ public class BOMService {
             .useYN(saveDTO.getUseYN())
             .build();
 
-        return new BOMDetailDTO(bomRepository.save(bom));
+        BOM saved = bomRepository.save(bom);
+        bomCache.evictPp(processedProduct.getItemCode());
+        return new BOMDetailDTO(saved);
     }
 
     @Transactional
@@ -60,8 +64,12 @@ public class BOMService {
         BOM bom = bomRepository.findById(bomId)
             .orElseThrow(() -> new EntityNotFoundException("BOM을 찾을 수 없습니다."));
 
-        Item processedProduct = findItemByCode(saveDTO.getPpCode(), "PP");
-        Item rawMaterial = findItemByCode(saveDTO.getRmCode(), "RM");
+        Item processedProduct = findItemByCode(saveDTO.getPpCode(), "PP", "FP");
+        Item rawMaterial = findChildItem(saveDTO.getRmCode(), processedProduct);
+
+        // 가공품이 바뀌는 경우 이전/이후 가공품 캐시 모두 비움
+        bomCache.evictPp(bom.getProcessedProduct().getItemCode());
+        bomCache.evictPp(processedProduct.getItemCode());
 
         bom.setProcessedProduct(processedProduct);
         bom.setRawMaterial(rawMaterial);
@@ -76,17 +84,24 @@ public class BOMService {
 //        bomRepository.deleteById(bomId);
 //    }
 
-    private Item findItemByCode(String itemCode, String expectedType) {
+    private Item findItemByCode(String itemCode, String... expectedTypes) {
         Item item = itemRepository.findById(itemCode)
             .orElseThrow(() -> new EntityNotFoundException("품목을 찾을 수 없습니다."));
         
-        if (!item.getItemType().equals(expectedType)) {
+        if (!Arrays.asList(expectedTypes).contains(item.getItemType())) {
             throw new IllegalArgumentException("잘못된 품목 유형입니다.");
         }
         
         return item;
     }
 
+    // 다단계 BOM : 완제품(FP) -> 가공품(PP)/원재료(RM), 가공품(PP) -> 원재료(RM)
+    private Item findChildItem(String itemCode, Item parent) {
+        return "FP".equals(parent.getItemType())
+            ? findItemByCode(itemCode, "PP", "RM")
+            : findItemByCode(itemCode, "RM");
+    }
+
     private void validateUniqueBOM(Item processedProduct, Item rawMaterial) {
         if (bomRepository.existsByProcessedProductAndRawMaterial(processedProduct, rawMaterial)) {
             throw new IllegalStateException("이미 등록된 BOM입니다.");
@@ -0,0 +1,157 @@
+package com.itwillbs.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.itwillbs.domain.manufacture.MFBomLineDTO;
+import com.itwillbs.domain.masterdata.ItemDTO;
+import com.itwillbs.repository.BOMRepository;
+import com.itwillbs.repository.ItemRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가공품(PP) 코드별 BOM(원재료 코드, 이름, 수량) 메모리 캐시.
+ *
+ * 처음 조회할 때 BOM 전체를 한 번에 적재하고, 이후 BOMService / ItemService 에서 데이터가 바뀌면
+ * 커밋된 뒤 해당 가공품만 비워서 다음 조회 때 그 가공품만 다시 읽는다.
+ * 읽는 도중에 캐시 비우기가 끼어들면 읽은 값은 (변경 전 값일 수 있으므로) 캐시에 남기지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BomCache {
+
+	private final BOMRepository bomRepository;
+	private final ItemRepository itemRepository;
+
+	// 가공품 코드 -> BOM 줄 목록 (BOM 이 없는 가공품은 빈 목록)
+	private final Map<String, List<MFBomLineDTO>> linesByPp = new ConcurrentHashMap<>();
+	// 가공품 이름 -> 가공품 코드
+	private volatile Map<String, String> ppCodeByName;
+	private volatile boolean loaded;
+	// 캐시를 비울 때마다 증가 (읽기 전후 값이 다르면 읽은 값을 버림)
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * 가공품 1개의 BOM 줄 목록 (원재료 코드 순, 수정 불가)
+	 */
+	public List<MFBomLineDTO> getLines(String ppCode) {
+		ensureLoaded();
+		long start = generation.get();
+		List<MFBomLineDTO> lines = linesByPp.computeIfAbsent(ppCode, this::loadLines);
+		if (generation.get() != start) {
+			// 이번 조회 결과는 그대로 돌려주되 캐시에는 남기지 않음
+			linesByPp.remove(ppCode, lines);
+		}
+		return lines;
+	}
+
+	/**
+	 * 가공품 이름으로 코드 조회 (없으면 null)
+	 */
+	public String findPpCodeByName(String ppName) {
+		Map<String, String> index = ppCodeByName;
+		if (index == null) {
+			index = loadNameIndex();
+		}
+		return index.get(ppName);
+	}
+
+	/**
+	 * BOM 저장/수정 후 해당 가공품 캐시 비우기
+	 */
+	public void evictPp(String ppCode) {
+		afterCommit(() -> {
+			generation.incrementAndGet();
+			linesByPp.remove(ppCode);
+		});
+	}
+
+	/**
+	 * 품목 저장/수정(이름 변경 등) 후 그 품목이 들어간 캐시 비우기
+	 */
+	public void evictItem(String itemCode) {
+		afterCommit(() -> {
+			// 가공품이면 이름 색인과 자신의 BOM, 원재료면 그 원재료를 쓰는 가공품들의 BOM
+			generation.incrementAndGet();
+			ppCodeByName = null;
+			linesByPp.remove(itemCode);
+			linesByPp.entrySet().removeIf(entry -> entry.getValue().stream()
+					.anyMatch(line -> line.getRmCode().equals(itemCode)));
+		});
+	}
+
+	private void ensureLoaded() {
+		if (loaded) {
+			return;
+		}
+		synchronized (this) {
+			if (loaded) {
+				return;
+			}
+			long start = generation.get();
+			Map<String, List<MFBomLineDTO>> lines = new ConcurrentHashMap<>();
+			for (MFBomLineDTO line : bomRepository.findAllBomLines()) {
+				lines.computeIfAbsent(line.getPpCode(), key -> new ArrayList<>()).add(line);
+			}
+			Map<String, List<MFBomLineDTO>> stored = new HashMap<>();
+			lines.forEach((ppCode, list) -> {
+				List<MFBomLineDTO> value = Collections.unmodifiableList(list);
+				if (linesByPp.putIfAbsent(ppCode, value) == null) {
+					stored.put(ppCode, value);
+				}
+			});
+			if (generation.get() != start) {
+				// 적재 중에 비워진 가공품이 있으면 넣은 값을 되돌리고 다음 조회 때 다시 적재
+				stored.forEach(linesByPp::remove);
+				log.info("BOM 캐시 적재 중 변경 발생 - 다음 조회 때 다시 적재");
+				return;
+			}
+			loaded = true;
+			log.info("BOM 캐시 적재 - 가공품 {}개", lines.size());
+		}
+	}
+
+	private List<MFBomLineDTO> loadLines(String ppCode) {
+		return Collections.unmodifiableList(bomRepository.findBomLinesByPpCode(ppCode));
+	}
+
+	private Map<String, String> loadNameIndex() {
+		long start = generation.get();
+		Map<String, String> index = new ConcurrentHashMap<>();
+		for (ItemDTO pp : itemRepository.findAllPPItems()) {
+			index.putIfAbsent(pp.getItemName(), pp.getItemCode());
+		}
+		ppCodeByName = index;
+		if (generation.get() != start) {
+			// 이번 조회에만 쓰고 다음 조회 때 다시 읽음
+			ppCodeByName = null;
+		}
+		return index;
+	}
+
+	// 트랜잭션 안이면 커밋 후에, 아니면 바로 실행 (롤백된 변경으로 캐시를 비우지 않도록)
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+}
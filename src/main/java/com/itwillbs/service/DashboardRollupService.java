@@ -0,0 +1,206 @@
+package com.itwillbs.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.itwillbs.domain.dashboard.RollupDirtyEvent;
+import com.itwillbs.domain.dashboard.RollupSourceDTO;
+import com.itwillbs.entity.DashboardRollup;
+import com.itwillbs.repository.DashboardRollupRepository;
+
+import lombok.extern.java.Log;
+
+/**
+ * 대시보드 시간/일 단위 집계 관리
+ *
+ * 입고 완료, 수주 상태/내용 변경이 커밋되면 해당 날짜를 재집계 대상으로 표시하고,
+ * 주기 작업이 표시된 날짜만 원본에서 다시 집계한다(하루치만 읽음).
+ * 반품/폐기는 앱 밖에서 등록되므로 최근 며칠을 매번 재집계한다.
+ * 날짜 단위로 지우고 다시 넣으므로 같은 날짜를 여러 번 처리해도 결과는 같다.
+ *
+ * 최초 적재(전체 기간)는 서버 기동을 막지 않도록 첫 주기 작업에서 하고, 실패하면 다음 주기에 이어서 한다.
+ */
+@Service
+@Log
+public class DashboardRollupService {
+
+	private static final List<String> DEFECTIVE_METRICS =
+			List.of(DashboardRollup.METRIC_RETURN, DashboardRollup.METRIC_DISCARD);
+
+	private final DashboardRollupRepository dashboardRollupRepository;
+	// 구간 삭제와 재적재를 한 트랜잭션으로 (스케줄/이벤트에서 직접 호출되므로 프록시 대신 템플릿 사용)
+	private final TransactionTemplate transactionTemplate;
+
+	// 반품/폐기 매 주기 재집계 일수, 서버 기동 시 재집계 일수
+	@Value("${dashboard.rollup.lookback-days:2}")
+	private int lookbackDays;
+
+	// 재집계 대상 (지표 → 날짜)
+	private final Map<String, Set<LocalDate>> dirtyDays = new ConcurrentHashMap<>();
+	// 기동 후 적재(최초 적재 + 최근 며칠 재집계)를 마쳤는지
+	private volatile boolean initialized;
+
+	public DashboardRollupService(DashboardRollupRepository dashboardRollupRepository,
+			PlatformTransactionManager transactionManager) {
+		this.dashboardRollupRepository = dashboardRollupRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	// 집계가 없는 과거 기간은 적재하고 최근 며칠은 재집계 (멈춰 있던 동안의 변경 반영)
+	public void initialize() {
+		LocalDate today = LocalDate.now();
+		initialize(DashboardRollup.METRIC_INCOMING, dashboardRollupRepository.findFirstIncomingDate(), today);
+		initialize(DashboardRollup.METRIC_RETURN, dashboardRollupRepository.findFirstDefectiveDate(), today);
+		// 수주는 납기일 기준이라 미래 날짜까지 적재
+		Timestamp lastSaleDate = dashboardRollupRepository.findLastSaleDate();
+		LocalDate saleEnd = lastSaleDate == null ? today : Collections.max(List.of(today, toDate(lastSaleDate)));
+		initialize(DashboardRollup.METRIC_SALE, dashboardRollupRepository.findFirstSaleDate(), saleEnd);
+	}
+
+	private void initialize(String metric, Timestamp firstDate, LocalDate lastDay) {
+		LocalDate recent = LocalDate.now().minusDays(lookbackDays);
+		if (firstDate != null) {
+			// 원본 첫 날짜의 구간이 아직 없으면 그 날부터 가장 이른 집계 구간 전까지 적재
+			// 최근 달부터 한 달씩 적재하므로 중간에 실패해도 다음에는 남은 과거 기간만 이어서 적재된다.
+			LocalDate from = toDate(firstDate);
+			LocalDateTime firstBucket = dashboardRollupRepository.findFirstBucketStart(metricsOf(metric));
+			LocalDate to = firstBucket == null ? lastDay.plusDays(1) : firstBucket.toLocalDate();
+			if (from.isBefore(to)) {
+				log.info("대시보드 집계 최초 적재 - " + metric + " " + from + " ~ " + to.minusDays(1));
+				for (LocalDate end = to; end.isAfter(from); end = end.minusMonths(1)) {
+					LocalDate start = end.minusMonths(1).isBefore(from) ? from : end.minusMonths(1);
+					rebuild(metric, start, end);
+				}
+			}
+		}
+		if (!recent.isAfter(lastDay)) {
+			rebuild(metric, recent, lastDay.plusDays(1));
+		}
+	}
+
+	/**
+	 * 커밋된 변경의 날짜를 재집계 대상으로 표시
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onRollupDirty(RollupDirtyEvent event) {
+		dirtyDays.computeIfAbsent(event.getMetric(), key -> ConcurrentHashMap.newKeySet()).addAll(event.getDays());
+	}
+
+	// 표시된 날짜 재집계 (첫 실행 때 기동 후 적재 먼저)
+	@Scheduled(fixedDelayString = "${dashboard.rollup.refresh-ms:60000}")
+	public void refreshDirtyDays() {
+		if (!initialized) {
+			try {
+				initialize();
+				initialized = true;
+			} catch (RuntimeException e) {
+				log.log(Level.SEVERE, "대시보드 집계 적재 실패, 다음 주기에 다시 시도", e);
+				return;
+			}
+		}
+		LocalDate today = LocalDate.now();
+		rebuild(DashboardRollup.METRIC_RETURN, today.minusDays(lookbackDays), today.plusDays(1));
+
+		for (Map.Entry<String, Set<LocalDate>> entry : dirtyDays.entrySet()) {
+			Set<LocalDate> days = entry.getValue();
+			for (LocalDate day : new ArrayList<>(days)) {
+				// 재집계 전에 지워서, 처리 중 다시 표시된 날짜는 다음 주기에 한 번 더 처리되게 함
+				days.remove(day);
+				rebuild(entry.getKey(), day, day.plusDays(1));
+			}
+		}
+	}
+
+	/**
+	 * [from, to) 날짜 구간의 지표를 원본에서 다시 집계
+	 * 반품/폐기는 한 원본에서 나오므로 같이 처리한다.
+	 */
+	public void rebuild(String metric, LocalDate from, LocalDate to) {
+		Timestamp fromTime = Timestamp.valueOf(from.atStartOfDay());
+		Timestamp toTime = Timestamp.valueOf(to.atStartOfDay());
+
+		List<String> metrics = metricsOf(metric);
+		List<RollupSourceDTO> rows;
+		switch (metric) {
+		case DashboardRollup.METRIC_INCOMING:
+			rows = dashboardRollupRepository.findIncomingSource(fromTime, toTime);
+			break;
+		case DashboardRollup.METRIC_RETURN:
+		case DashboardRollup.METRIC_DISCARD:
+			rows = dashboardRollupRepository.findDefectiveSource(fromTime, toTime);
+			break;
+		case DashboardRollup.METRIC_SALE:
+			rows = dashboardRollupRepository.findSaleSource(fromTime, toTime);
+			break;
+		default:
+			throw new IllegalArgumentException("알 수 없는 집계 지표: " + metric);
+		}
+
+		List<DashboardRollup> rollups = aggregate(rows);
+		transactionTemplate.executeWithoutResult(status -> {
+			dashboardRollupRepository.deleteBuckets(metrics, from.atStartOfDay(), to.atStartOfDay());
+			dashboardRollupRepository.insertAll(rollups);
+		});
+	}
+
+	// 한 원본에서 같이 집계되는 지표들
+	private static List<String> metricsOf(String metric) {
+		return DEFECTIVE_METRICS.contains(metric) ? DEFECTIVE_METRICS : List.of(metric);
+	}
+
+	// 원본 행을 시간/일 구간별로 합산
+	private List<DashboardRollup> aggregate(List<RollupSourceDTO> rows) {
+		Map<String, DashboardRollup> buckets = new LinkedHashMap<>();
+		for (RollupSourceDTO row : rows) {
+			if (row.getOccurredAt() == null) {
+				continue;
+			}
+			LocalDateTime at = row.getOccurredAt().toLocalDateTime();
+			add(buckets, DashboardRollup.GRANULARITY_HOUR, at.truncatedTo(ChronoUnit.HOURS), row);
+			add(buckets, DashboardRollup.GRANULARITY_DAY, at.truncatedTo(ChronoUnit.DAYS), row);
+		}
+		return new ArrayList<>(buckets.values());
+	}
+
+	private void add(Map<String, DashboardRollup> buckets, String granularity, LocalDateTime bucketStart, RollupSourceDTO row) {
+		String key = granularity + "|" + row.getMetric() + "|" + row.getDimension() + "|" + bucketStart;
+		DashboardRollup rollup = buckets.computeIfAbsent(key,
+				k -> new DashboardRollup(null, granularity, row.getMetric(), row.getDimension(), bucketStart, 0L, 0L));
+		rollup.setAmount(rollup.getAmount() + row.getAmount());
+		rollup.setRowCount(rollup.getRowCount() + 1);
+	}
+
+	// 재집계 대상 날짜 모음 (null 제외)
+	public static Set<LocalDate> daysOf(Timestamp... dates) {
+		Set<LocalDate> days = new HashSet<>();
+		for (Timestamp date : dates) {
+			if (date != null) {
+				days.add(toDate(date));
+			}
+		}
+		return days;
+	}
+
+	private static LocalDate toDate(Timestamp timestamp) {
+		return timestamp.toLocalDateTime().toLocalDate();
+	}
+}
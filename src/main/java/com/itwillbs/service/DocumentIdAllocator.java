@@ -0,0 +1,144 @@
+package com.itwillbs.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.itwillbs.entity.DocumentSequence;
+import com.itwillbs.repository.DocumentSequenceRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문서번호(입고, 출고, 작업지시, 발주, 수주, 출하, 품목/가맹점/거래처 코드) 채번기.
+ *
+ * document_sequence 테이블에서 접두어별로 번호 구간을 한 번에 할당받아 메모리에 두고,
+ * 구간 안에서는 AtomicLong 으로만 번호를 나눠준다. 구간 할당은 별도 트랜잭션에서 행 잠금으로
+ * 처리하므로 여러 사용자/서버가 동시에 등록해도 같은 번호가 나오지 않는다.
+ * 서버가 재시작되면 쓰지 않은 구간 번호는 건너뛴다(번호에 빈칸이 생길 수 있음).
+ */
+@Component
+@Slf4j
+public class DocumentIdAllocator {
+
+	private final DocumentSequenceRepository documentSequenceRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	// 접두어별 현재 사용중인 번호 구간
+	private final ConcurrentMap<String, IdBlock> blocks = new ConcurrentHashMap<>();
+	// 접두어별 구간 재할당 잠금
+	private final ConcurrentMap<String, Object> refillLocks = new ConcurrentHashMap<>();
+
+	@Value("${document-id.block-size:50}")
+	private int defaultBlockSize;
+
+	public DocumentIdAllocator(DocumentSequenceRepository documentSequenceRepository,
+			PlatformTransactionManager transactionManager) {
+		this.documentSequenceRepository = documentSequenceRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * 접두어 + 0 채움 번호 형식의 다음 문서번호 (ex. INC00012)
+	 *
+	 * @param prefix     접두어
+	 * @param width      숫자 자릿수
+	 * @param lastNumber 채번 테이블에 접두어가 아직 없을 때 기존 데이터의 최대 번호를 구하는 함수
+	 */
+	public String nextId(String prefix, int width, LongSupplier lastNumber) {
+		return nextId(prefix, width, defaultBlockSize, lastNumber);
+	}
+
+	public String nextId(String prefix, int width, int blockSize, LongSupplier lastNumber) {
+		return prefix + String.format("%0" + width + "d", next(prefix, blockSize, lastNumber));
+	}
+
+	/**
+	 * 다음에 나올 문서번호를 할당하지 않고 미리보기 (화면 코드 자동입력용)
+	 * 다른 사용자가 먼저 저장하면 실제 저장되는 번호와 다를 수 있다.
+	 */
+	public String peekId(String prefix, int width, LongSupplier lastNumber) {
+		return prefix + String.format("%0" + width + "d", peek(prefix, lastNumber));
+	}
+
+	public long peek(String prefix, LongSupplier lastNumber) {
+		IdBlock block = blocks.get(prefix);
+		if (block != null) {
+			long value = block.next.get();
+			if (value < block.end) {
+				return value;
+			}
+		}
+		return documentSequenceRepository.findById(prefix)
+				.map(DocumentSequence::getNextValue)
+				.orElseGet(() -> lastNumber.getAsLong() + 1);
+	}
+
+	public long next(String prefix, int blockSize, LongSupplier lastNumber) {
+		while (true) {
+			IdBlock block = blocks.get(prefix);
+			if (block != null) {
+				long value = block.next.getAndIncrement();
+				if (value < block.end) {
+					return value;
+				}
+			}
+
+			synchronized (refillLocks.computeIfAbsent(prefix, key -> new Object())) {
+				// 다른 스레드가 이미 새 구간을 받아왔으면 그 구간을 사용
+				if (blocks.get(prefix) == block) {
+					blocks.put(prefix, reserveBlock(prefix, Math.max(blockSize, 1), lastNumber));
+				}
+			}
+		}
+	}
+
+	// 기존 문서번호에서 숫자 부분 추출 (MAX 조회 결과가 없으면 0)
+	public static long numericPart(String id, String prefix) {
+		if (id == null || id.length() <= prefix.length()) {
+			return 0;
+		}
+		return Long.parseLong(id.substring(prefix.length()));
+	}
+
+	private IdBlock reserveBlock(String prefix, int blockSize, LongSupplier lastNumber) {
+		try {
+			return transactionTemplate.execute(status -> allocate(prefix, blockSize, lastNumber));
+		} catch (DataIntegrityViolationException e) {
+			// 다른 서버가 같은 접두어 행을 먼저 만든 경우 한 번 더 시도하면 잠금 조회로 처리된다
+			log.info("document_sequence 행 동시 생성, 재시도 prefix={}", prefix);
+			return transactionTemplate.execute(status -> allocate(prefix, blockSize, lastNumber));
+		}
+	}
+
+	private IdBlock allocate(String prefix, int blockSize, LongSupplier lastNumber) {
+		DocumentSequence sequence = documentSequenceRepository.findByPrefixForUpdate(prefix)
+				.orElseGet(() -> new DocumentSequence(prefix, lastNumber.getAsLong() + 1));
+
+		long start = sequence.getNextValue();
+		sequence.setNextValue(start + blockSize);
+		documentSequenceRepository.saveAndFlush(sequence);
+
+		log.info("문서번호 구간 할당 prefix={}, {} ~ {}", prefix, start, start + blockSize - 1);
+		return new IdBlock(start, start + blockSize);
+	}
+
+	private static final class IdBlock {
+		private final AtomicLong next;
+		private final long end; // 구간 끝(미포함)
+
+		private IdBlock(long start, long end) {
+			this.next = new AtomicLong(start);
+			this.end = end;
+		}
+	}
+}
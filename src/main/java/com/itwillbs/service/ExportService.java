@@ -0,0 +1,239 @@
+package com.itwillbs.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.itwillbs.domain.export.DocumentLineExportDTO;
+import com.itwillbs.domain.inventory.InventoryItemDTO;
+import com.itwillbs.repository.IncomingItemsRepository;
+import com.itwillbs.repository.InventoryRepository;
+import com.itwillbs.repository.OrderItemsRepository;
+import com.itwillbs.repository.OutgoingItemsRepository;
+import com.itwillbs.repository.QualityShipmentRepository;
+import com.itwillbs.repository.SaleItemsRepository;
+import com.itwillbs.repository.ShipmentRepository;
+import com.itwillbs.service.export.ExportWriter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고/입고/출고/발주/수주/출하/출하검품 목록 내보내기 (CSV, XLSX)
+ *
+ * 목록을 메모리에 모으지 않고 리포지토리 Stream(fetch size 지정, 읽기 전용)에서 한 행씩 읽어 바로 응답에 쓴다.
+ * 응답 본문은 요청 스레드가 끝난 뒤 비동기 스레드에서 쓰이므로 조회 트랜잭션도 그 안에서 연다.
+ * 문서 목록은 품목 1줄 = 1행으로 내보내고, 상태/등록일 구간으로 거를 수 있다.
+ * 날짜 형식이 틀리면 IllegalArgumentException (응답을 쓰기 전에 던지므로 컨트롤러에서 400 으로 돌려준다).
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+	private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+	private static final MediaType XLSX = MediaType
+			.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+	private static final List<String> INVENTORY_COLUMNS = List.of("품목코드", "품목명", "품목유형", "재고량", "최소필요재고량");
+	private static final List<String> INCOMING_COLUMNS = List.of("입고번호", "입고상태", "발주/작업번호", "거래처", "입고시작일",
+			"입고완료일", "담당자", "품목코드", "품목명", "수량");
+	private static final List<String> OUTGOING_COLUMNS = List.of("출고번호", "출고상태", "수주/작업번호", "가맹점", "출고시작일",
+			"출고완료일", "담당자", "품목코드", "품목명", "수량");
+	private static final List<String> ORDER_COLUMNS = List.of("발주번호", "발주상태", "거래처", "발주일", "납기일", "담당자",
+			"품목코드", "품목명", "수량", "단가", "금액");
+	private static final List<String> SALE_COLUMNS = List.of("수주번호", "수주상태", "가맹점", "수주일", "납기일", "담당자",
+			"품목코드", "품목명", "수량", "단가", "금액");
+	private static final List<String> SHIPMENT_COLUMNS = List.of("출하번호", "출하상태", "수주번호", "가맹점", "출하일",
+			"납기일", "담당자", "품목코드", "품목명", "수량");
+	private static final List<String> QUALITY_SHIPMENT_COLUMNS = List.of("검품번호", "검품상태", "출하번호", "가맹점", "출하일",
+			"납기일", "담당자", "품목코드", "품목명", "수량");
+
+	private final InventoryRepository inventoryRepository;
+	private final IncomingItemsRepository incomingItemsRepository;
+	private final OutgoingItemsRepository outgoingItemsRepository;
+	private final OrderItemsRepository orderItemsRepository;
+	private final SaleItemsRepository saleItemsRepository;
+	private final ShipmentRepository shipmentRepository;
+	private final QualityShipmentRepository qualityShipmentRepository;
+	// 응답을 쓰는 비동기 스레드에서 커서를 여는 읽기 전용 트랜잭션
+	private final TransactionTemplate readOnlyTransaction;
+
+	public ExportService(InventoryRepository inventoryRepository, IncomingItemsRepository incomingItemsRepository,
+			OutgoingItemsRepository outgoingItemsRepository, OrderItemsRepository orderItemsRepository,
+			SaleItemsRepository saleItemsRepository, ShipmentRepository shipmentRepository,
+			QualityShipmentRepository qualityShipmentRepository, PlatformTransactionManager transactionManager) {
+		this.inventoryRepository = inventoryRepository;
+		this.incomingItemsRepository = incomingItemsRepository;
+		this.outgoingItemsRepository = outgoingItemsRepository;
+		this.orderItemsRepository = orderItemsRepository;
+		this.saleItemsRepository = saleItemsRepository;
+		this.shipmentRepository = shipmentRepository;
+		this.qualityShipmentRepository = qualityShipmentRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	public ResponseEntity<StreamingResponseBody> exportInventory(String format) {
+		return download("inventory", format, INVENTORY_COLUMNS, inventoryRepository::streamInventoryItems,
+				(InventoryItemDTO item) -> new Object[] { item.getItemCode(), item.getItemName(), item.getItemType(),
+						item.getQuantity(), item.getMinReqQuantity() });
+	}
+
+	public ResponseEntity<StreamingResponseBody> exportIncoming(String format, String status, String startDate,
+			String endDate) {
+		Timestamp start = startOf(startDate);
+		Timestamp end = endOf(endDate);
+		return download("incoming", format, INCOMING_COLUMNS,
+				() -> incomingItemsRepository.streamIncomingLines(blankToNull(status), start, end),
+				ExportService::inOutValues);
+	}
+
+	public ResponseEntity<StreamingResponseBody> exportOutgoing(String format, String status, String startDate,
+			String endDate) {
+		Timestamp start = startOf(startDate);
+		Timestamp end = endOf(endDate);
+		return download("outgoing", format, OUTGOING_COLUMNS,
+				() -> outgoingItemsRepository.streamOutgoingLines(blankToNull(status), start, end),
+				ExportService::inOutValues);
+	}
+
+	// 발주 목록 검색 조건 그대로 (거래처명, 품목명은 부분 일치)
+	public ResponseEntity<StreamingResponseBody> exportOrders(String format, String status, String supplierName,
+			String orderDateStart, String orderDateEnd, String itemName, String dueDateStart, String dueDateEnd) {
+		Timestamp start = startOf(orderDateStart);
+		Timestamp end = endOf(orderDateEnd);
+		Timestamp dueStart = startOf(dueDateStart);
+		Timestamp dueEnd = endOf(dueDateEnd);
+		return download("orders", format, ORDER_COLUMNS,
+				() -> orderItemsRepository.streamOrderLines(blankToNull(status), likeOf(supplierName), start, end,
+						likeOf(itemName), dueStart, dueEnd),
+				ExportService::tradeValues);
+	}
+
+	// 수주 목록 검색 조건 그대로 (가맹점명, 품목명은 부분 일치)
+	public ResponseEntity<StreamingResponseBody> exportSales(String format, String status, String franchiseName,
+			String orderDateStart, String orderDateEnd, String itemName, String dueDateStart, String dueDateEnd) {
+		Timestamp start = startOf(orderDateStart);
+		Timestamp end = endOf(orderDateEnd);
+		Timestamp dueStart = startOf(dueDateStart);
+		Timestamp dueEnd = endOf(dueDateEnd);
+		return download("sales", format, SALE_COLUMNS,
+				() -> saleItemsRepository.streamSaleLines(blankToNull(status), likeOf(franchiseName), start, end,
+						likeOf(itemName), dueStart, dueEnd),
+				ExportService::tradeValues);
+	}
+
+	public ResponseEntity<StreamingResponseBody> exportShipments(String format, String status, String startDate,
+			String endDate) {
+		Timestamp start = startOf(startDate);
+		Timestamp end = endOf(endDate);
+		return download("shipments", format, SHIPMENT_COLUMNS,
+				() -> shipmentRepository.streamShipmentLines(blankToNull(status), start, end),
+				ExportService::inOutValues);
+	}
+
+	public ResponseEntity<StreamingResponseBody> exportQualityShipments(String format, String status, String startDate,
+			String endDate) {
+		Timestamp start = startOf(startDate);
+		Timestamp end = endOf(endDate);
+		return download("quality_shipments", format, QUALITY_SHIPMENT_COLUMNS,
+				() -> qualityShipmentRepository.streamQualityShipmentLines(blankToNull(status), start, end),
+				ExportService::inOutValues);
+	}
+
+	private <T> ResponseEntity<StreamingResponseBody> download(String name, String format, List<String> columns,
+			Supplier<Stream<T>> rows, Function<T, Object[]> values) {
+		String normalized = ExportWriter.normalizeFormat(format);
+		String fileName = name + "_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + normalized;
+
+		StreamingResponseBody body = out -> write(fileName, normalized, columns, rows, values, out);
+
+		return ResponseEntity.ok()
+				.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+						.filename(fileName, StandardCharsets.UTF_8).build().toString())
+				.contentType(ExportWriter.FORMAT_XLSX.equals(normalized) ? XLSX : TEXT_CSV)
+				.body(body);
+	}
+
+	private <T> void write(String fileName, String format, List<String> columns, Supplier<Stream<T>> rows,
+			Function<T, Object[]> values, OutputStream out) throws IOException {
+		long startNanos = System.nanoTime();
+		long[] count = new long[1];
+		try (ExportWriter writer = ExportWriter.of(format, out)) {
+			writer.writeHeader(columns);
+			readOnlyTransaction.executeWithoutResult(status -> {
+				try (Stream<T> stream = rows.get()) {
+					stream.forEach(row -> {
+						try {
+							writer.writeRow(values.apply(row));
+							count[0]++;
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					});
+				}
+			});
+		} catch (UncheckedIOException e) {
+			// 클라이언트가 다운로드를 끊은 경우 등
+			log.warn("목록 내보내기 중단 - {} {}행 : {}", fileName, count[0], e.getCause().getMessage());
+			throw e.getCause();
+		}
+		log.info("목록 내보내기 - {} {}행, {}ms", fileName, count[0], (System.nanoTime() - startNanos) / 1_000_000);
+	}
+
+	private static Object[] inOutValues(DocumentLineExportDTO line) {
+		return new Object[] { line.getDocumentId(), line.getStatus(), line.getReferenceId(), line.getPartnerName(),
+				line.getDocumentDate(), line.getEndDate(), line.getManagerName(), line.getItemCode(),
+				line.getItemName(), line.getQuantity() };
+	}
+
+	private static Object[] tradeValues(DocumentLineExportDTO line) {
+		return new Object[] { line.getDocumentId(), line.getStatus(), line.getPartnerName(), line.getDocumentDate(),
+				line.getEndDate(), line.getManagerName(), line.getItemCode(), line.getItemName(), line.getQuantity(),
+				line.getPrice(), line.getSubtotalPrice() };
+	}
+
+	private static String blankToNull(String value) {
+		return value == null || value.isBlank() ? null : value;
+	}
+
+	// LIKE 검색용 % 붙이기
+	private static String likeOf(String value) {
+		return value == null || value.isBlank() ? null : "%" + value + "%";
+	}
+
+	// yyyy-MM-dd 시작일 00:00 부터
+	private static Timestamp startOf(String date) {
+		return date == null || date.isBlank() ? null : Timestamp.valueOf(parseDate(date).atStartOfDay());
+	}
+
+	// yyyy-MM-dd 종료일 다음날 00:00 전까지
+	private static Timestamp endOf(String date) {
+		return date == null || date.isBlank() ? null : Timestamp.valueOf(parseDate(date).plusDays(1).atStartOfDay());
+	}
+
+	private static LocalDate parseDate(String date) {
+		try {
+			return LocalDate.parse(date);
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다(yyyy-MM-dd): " + date, e);
+		}
+	}
+}
@@ -17,9 +17,14 @@ import com.itwillbs.repository.FranchiseRepository;
 @Transactional(readOnly = true)
 public class FranchiseService {
 	private final FranchiseRepository franchiseRepository;
+	private final DocumentIdAllocator documentIdAllocator;
+	private final ShipReadyQueueService shipReadyQueueService;
 
-	public FranchiseService(FranchiseRepository franchiseRepository) {
+	public FranchiseService(FranchiseRepository franchiseRepository, DocumentIdAllocator documentIdAllocator,
+			ShipReadyQueueService shipReadyQueueService) {
 		this.franchiseRepository = franchiseRepository;
+		this.documentIdAllocator = documentIdAllocator;
+		this.shipReadyQueueService = shipReadyQueueService;
 	}
 
 	public Page<Franchise> searchFranchises(FranchiseSearchDTO searchDTO, Pageable pageable) {
@@ -34,6 +39,9 @@ public class FranchiseService {
 
 	@Transactional
 	public Franchise saveFranchise(Franchise franchise) {
+		// 화면에 보여준 코드는 미리보기일 뿐이므로 저장할 때 실제 코드를 할당
+		// 코드 자릿수가 3자리뿐이라 번호 구간을 미리 잡아두지 않고 1개씩 할당
+		franchise.setFranchiseCode(documentIdAllocator.nextId("FR", 3, 1, this::lastFranchiseNumber));
 		validateDuplicate(franchise);
 		validateFranchise(franchise);
 		return franchiseRepository.save(franchise);
@@ -42,7 +50,10 @@ public class FranchiseService {
 	@Transactional
 	public Franchise updateFranchise(Franchise franchise) {
 		validateFranchise(franchise);
-		return franchiseRepository.save(franchise);
+		Franchise savedFranchise = franchiseRepository.save(franchise);
+		// 출하 대기 큐에 복사된 가맹점명도 갱신
+		shipReadyQueueService.refreshFranchise(savedFranchise.getFranchiseCode(), savedFranchise.getFranchiseName());
+		return savedFranchise;
 	}
 
 	private void validateDuplicate(Franchise franchise) {
@@ -67,12 +78,12 @@ public class FranchiseService {
 //		franchiseRepository.deleteById(franchiseCode);
 //	}
 
+	// 다음 가맹점코드 미리보기 (할당하지 않음, 코드는 saveFranchise 에서 할당)
 	public String generateNextCode() {
-		String maxCode = franchiseRepository.findMaxFranchiseCode();
-		if (maxCode == null) {
-			return "FR001";
-		}
-		int nextNumber = Integer.parseInt(maxCode.substring(2)) + 1;
-		return String.format("FR%03d", nextNumber);
+		return documentIdAllocator.peekId("FR", 3, this::lastFranchiseNumber);
+	}
+
+	private long lastFranchiseNumber() {
+		return DocumentIdAllocator.numericPart(franchiseRepository.findMaxFranchiseCode(), "FR");
 	}
 }
\ No newline at end of file
@@ -1,28 +1,40 @@
 package com.itwillbs.service;
 
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import com.itwillbs.domain.dashboard.RollupDirtyEvent;
+import com.itwillbs.domain.inventory.CursorPage;
 import com.itwillbs.domain.inventory.IncomingDTO;
 import com.itwillbs.domain.inventory.IncomingInsertDTO;
 import com.itwillbs.domain.inventory.IncomingItemsDTO;
 
+import com.itwillbs.domain.inventory.InventoryBulkUpdateResult;
 import com.itwillbs.domain.inventory.InventoryItemDTO;
+import com.itwillbs.domain.inventory.ItemSummaryDTO;
 import com.itwillbs.domain.inventory.OutgoingDTO;
 import com.itwillbs.domain.inventory.OutgoingInsertDTO;
 import com.itwillbs.domain.inventory.OutgoingItemsDTO;
+import com.itwillbs.entity.DashboardRollup;
 import com.itwillbs.entity.Incoming;
 import com.itwillbs.entity.IncomingItems;
-import com.itwillbs.entity.InventoryItem;
+import com.itwillbs.entity.InventoryMovement;
 import com.itwillbs.entity.Item;
 import com.itwillbs.entity.MFOrder;
 import com.itwillbs.entity.Manager;
@@ -64,6 +76,11 @@ public class InventoryService {
 	private final OrderRepository orderRepository;
 	private final SaleRepository saleRepository;
 	private final MFRepository mfRepository;
+	private final DocumentIdAllocator documentIdAllocator;
+	private final StockMovementService stockMovementService;
+	private final StockReservationService stockReservationService;
+	private final ShipReadyQueueService shipReadyQueueService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	// 재고 전체 조회 (페이지네이션 지원)
 	public Page<InventoryItemDTO> getInventoryItems(Pageable pageable) {
@@ -71,6 +88,15 @@ public class InventoryService {
 		return inventoryRepository.getAllInventoryItems(pageable);
 	}
 
+	// 재고 목록 커서 조회 (COUNT 쿼리 없이 품목코드 순으로 size 건)
+	public CursorPage<InventoryItemDTO> getInventoryItemSlice(String cursor, int size) {
+		log.info("getInventoryItemSlice()");
+
+		List<InventoryItemDTO> rows = inventoryRepository.findInventoryItemSlice(CursorPage.decode(cursor),
+				PageRequest.of(0, size + 1));
+		return CursorPage.of(rows, size, InventoryItemDTO::getItemCode);
+	}
+
 	// 재고 부족 품목만 조회 (검색 조건 포함)
 	public Page<InventoryItemDTO> findInventoryItemsByOutOfStock(String itemCodeOrName, String itemType,
 			Pageable pageable) {
@@ -85,22 +111,66 @@ public class InventoryService {
 		return inventoryRepository.findInventoryItems(itemCodeOrName, itemType, pageable);
 	}
 
-	// 재고량, 최소필요재고량 업데이트
+	// 재고량, 최소필요재고량 일괄 업데이트
+	// 잘못된 행은 건너뛰고 실패 목록에 담으며, 나머지 행은 품목코드 순으로 JDBC 배치 UPDATE 한다.
 	@Transactional
-	public void updateInventoryItems(List<InventoryItemDTO> InventoryItemDTOList) throws Exception {
-		log.info("InventoryService.updateInventoryItems() - InventoryItemDTOList: {}", InventoryItemDTOList);
+	public InventoryBulkUpdateResult updateInventoryItems(List<InventoryItemDTO> InventoryItemDTOList) {
+		log.info("InventoryService.updateInventoryItems() - {}건", InventoryItemDTOList.size());
 
+		InventoryBulkUpdateResult result = new InventoryBulkUpdateResult();
+		result.setRequestedCount(InventoryItemDTOList.size());
+
+		// 입력값 검증 (품목코드 중복 시 마지막 값만 반영)
+		Map<String, InventoryItemDTO> validRows = new TreeMap<>();
 		for (InventoryItemDTO itemData : InventoryItemDTOList) {
 			String itemCode = itemData.getItemCode();
-			Integer quantity = itemData.getQuantity();
-			Integer minReqQuantity = itemData.getMinReqQuantity();
-
-			InventoryItem item = inventoryRepository.findById(itemCode)
-					.orElseThrow(() -> new EntityNotFoundException("존재하지 않는 품목 코드입니다: " + itemCode));
-			item.setQuantity(quantity); // 재고량 입력
-			item.setMinReqQuantity(minReqQuantity); // 최소필요 재고량 입력
-			inventoryRepository.save(item); // 품목 업데이트
+			if (itemCode == null || itemCode.isBlank()) {
+				result.addFailure(itemCode, "품목코드가 없습니다.");
+			} else if (itemData.getQuantity() == null || itemData.getQuantity() < 0) {
+				result.addFailure(itemCode, "재고량이 올바르지 않습니다.");
+			} else if (itemData.getMinReqQuantity() == null) {
+				result.addFailure(itemCode, "최소필요재고량이 없습니다.");
+			} else {
+				validRows.put(itemCode, itemData);
+			}
+		}
+
+		// 존재하지 않는 품목코드 제외 (존재하는 행은 수정 전 재고량을 읽으면서 잠금)
+		Map<String, Integer> beforeQuantities = validRows.isEmpty() ? Map.of()
+				: inventoryRepository.lockQuantities(validRows.keySet());
+		validRows.keySet().removeIf(itemCode -> {
+			if (beforeQuantities.containsKey(itemCode)) {
+				return false;
+			}
+			result.addFailure(itemCode, "존재하지 않는 품목 코드입니다.");
+			return true;
+		});
+
+		// 품목코드 순서로 배치 업데이트 (동시 수정 시 잠금 순서를 맞춰 교착 방지)
+		List<InventoryItemDTO> rows = new ArrayList<>(validRows.values());
+		int updatedCount = 0;
+		Map<String, Integer> adjustments = new HashMap<>();
+		if (!rows.isEmpty()) {
+			int[] counts = inventoryRepository.batchUpdateQuantities(rows);
+			for (int i = 0; i < counts.length; i++) {
+				InventoryItemDTO row = rows.get(i);
+				if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+					updatedCount++;
+					Integer before = beforeQuantities.get(row.getItemCode());
+					adjustments.put(row.getItemCode(), row.getQuantity() - (before == null ? 0 : before));
+				} else {
+					result.addFailure(row.getItemCode(), "재고 정보를 수정하지 못했습니다.");
+				}
+			}
 		}
+		result.setUpdatedCount(updatedCount);
+
+		// 직접 수정한 재고량 차이를 원장에 기록
+		stockMovementService.recordMovements(InventoryMovement.TYPE_ADJUSTMENT, null, adjustments);
+
+		log.info("재고 일괄 수정 완료 - 요청 {}건, 수정 {}건, 실패 {}건", result.getRequestedCount(), updatedCount,
+				result.getFailures().size());
+		return result;
 	}
 
 	
@@ -112,23 +182,45 @@ public class InventoryService {
 		// 페이지 사이즈에 맞는 입고 테이블 데이터 조회
 		Page<IncomingDTO> incomingByPage = incomingRepository.getIncomingLists(pageable);
 
-		// 각 입고데이터마다 품목의 이름과 갯수를 구하기 위한 반복문
-		incomingByPage.forEach(dto -> {
+		applyIncomingItemSummaries(incomingByPage.getContent());
 
-			String incomingId = dto.getIncomingId();
+		return incomingByPage;
+	}
 
-			// incoming_items테이블에서 품목의 이름과 갯수를 구한다.
-			List<IncomingItems> itemNames = incomingItemsRepository.findIncomingItemsListById(incomingId);
+	// 입고 목록 커서 조회 (COUNT 쿼리 없이 입고번호 내림차순으로 size 건)
+	public CursorPage<IncomingDTO> getIncomingSlice(String cursor, int size) {
+		log.info("getIncomingSlice()");
 
-			// 품목중 첫번째 품목의 이름을 저장
-			dto.setIncomingItemDisplay(itemNames.get(0).getItem().getItemName());
+		List<IncomingDTO> rows = incomingRepository.findIncomingSlice(CursorPage.decode(cursor),
+				PageRequest.of(0, size + 1));
+		CursorPage<IncomingDTO> slice = CursorPage.of(rows, size, IncomingDTO::getIncomingId);
+		applyIncomingItemSummaries(slice.getContent());
 
-			// 품목 갯수 - 1을 저장
-			dto.setOtherCount(itemNames.size() - 1);
+		return slice;
+	}
 
+	// 입고번호들의 품목 이름과 갯수를 한 번의 쿼리로 구한다.
+	private void applyIncomingItemSummaries(List<IncomingDTO> incomingDTOs) {
+		if (incomingDTOs.isEmpty()) {
+			return;
+		}
+		List<String> incomingIds = incomingDTOs.stream().map(IncomingDTO::getIncomingId).toList();
+		Map<String, ItemSummaryDTO> summaries = incomingItemsRepository.findItemSummariesByIncomingIds(incomingIds)
+				.stream()
+				.collect(Collectors.toMap(ItemSummaryDTO::getParentId, Function.identity(), (a, b) -> a));
+
+		incomingDTOs.forEach(dto -> {
+			ItemSummaryDTO summary = summaries.get(dto.getIncomingId());
+			if (summary != null) {
+				// 품목중 첫번째 품목의 이름을 저장
+				dto.setIncomingItemDisplay(summary.getFirstItemName());
+				// 품목 갯수 - 1을 저장
+				dto.setOtherCount(summary.getItemCount().intValue() - 1);
+			} else {
+				dto.setIncomingItemDisplay("");
+				dto.setOtherCount(0);
+			}
 		});
-
-		return incomingByPage;
 	}
 
 	// 입고 목록 검색 (검색 조건과 페이지네이션 포함)
@@ -137,37 +229,15 @@ public class InventoryService {
 			String status, String managerCodeOrName, Pageable pageable) {
 		log.info("findIncomingBySearch()");
 
-		// 한 번의 쿼리로 Incoming 엔티티와 연관된 데이터를 모두 조회
-		Page<Incoming> incomingEntitiesPage = incomingRepository.findIncomingEntities(reasonOfIncoming,
+		// 1단계 : 조건에 맞는 입고 한 페이지만 조회 (DB 에서 페이징)
+		Page<IncomingDTO> incomingByPage = incomingRepository.searchIncomingList(reasonOfIncoming,
 				incomingStartDate_start, incomingStartDate_end, incomingId, prodOrOrderId, status, managerCodeOrName,
 				itemCodeOrName, pageable);
 
-		// Incoming 엔티티를 IncomingDTO로 매핑
-		Page<IncomingDTO> incomingDTOsPage = incomingEntitiesPage.map(incoming -> {
-			IncomingDTO dto = new IncomingDTO(incoming.getIncomingId(), incoming.getIncomingStartDate(),
-					incoming.getIncomingEndDate(),
-					incoming.getManager() != null ? incoming.getManager().getManagerId() : "",
-					incoming.getManager() != null ? incoming.getManager().getName() : "",
-					incoming.getStatus(),
-					incoming.getMfOrder() != null ? incoming.getMfOrder().getOrderId() : "",
-					incoming.getOrder() != null ? incoming.getOrder().getOrderId() : "");
-
-			// 입고 품목 데이터 설정
-			List<IncomingItems> itemNames = incoming.getIncomingItems(); // Fetch Join으로 이미 로드됨
-			if (!itemNames.isEmpty()) {
-				// 첫 번째 품목의 이름을 설정
-				dto.setIncomingItemDisplay(itemNames.get(0).getItem().getItemName());
-				// 나머지 품목 갯수 설정
-				dto.setOtherCount(itemNames.size() - 1);
-			} else {
-				dto.setIncomingItemDisplay("");
-				dto.setOtherCount(0);
-			}
-
-			return dto;
-		});
+		// 2단계 : 이 페이지 입고번호들의 품목 이름과 갯수를 한 번에 조회
+		applyIncomingItemSummaries(incomingByPage.getContent());
 
-		return incomingDTOsPage;
+		return incomingByPage;
 	}
 
 	// 입고 품목 리스트 가져오기
@@ -200,33 +270,16 @@ public class InventoryService {
 	        throw new EntityNotFoundException("해당 입고 ID가 존재하지 않습니다: " + incomingId);
 	    }
 	    
-	    Incoming incoming = incomingOpt.get();
-	    
-	    // 재고에서 입고된 품목들을 더해줌
-	    List<IncomingItems> incomingItems = incoming.getIncomingItems();
-	    
-	    for (IncomingItems incomingItem : incomingItems) {
-	        Item item = incomingItem.getItem();
-
-	        // 품목의 재고 엔티티를 설정
-	        InventoryItem inventoryItem = item.getInventoryItem();
-
-	        if (inventoryItem == null) {
-	            // 품목의 재고 엔티티가 null이면 새롭게 생성(예외처리)
-	            inventoryItem = new InventoryItem();
-	            inventoryItem.setItem(item);
-	            inventoryItem.setQuantity(0);
-	        }
-
-	        int currentQuantity = inventoryItem.getQuantity(); //현재 재고량
-	        int incomingQuantity = incomingItem.getQuantity(); //등록할 입고량
-
-	        // 재고량 설정
-	        inventoryItem.setQuantity(currentQuantity + incomingQuantity);
-
-	        // 재고량 업데이트
-	        inventoryRepository.save(inventoryItem);
+	    // 재고에서 입고된 품목들을 더해줌 (품목코드별 합산 후 quantity = quantity + ? 로 반영)
+	    Map<String, Integer> deltas = new HashMap<>();
+	    for (IncomingItemsDTO incomingItem : incomingItemsRepository.findQuantitiesByIncomingId(incomingId)) {
+	        deltas.merge(incomingItem.getItemCode(), incomingItem.getQuantity(), Integer::sum);
 	    }
+	    stockMovementService.applyMovements(InventoryMovement.TYPE_INCOMING, incomingId, deltas);
+	    
+	    // 대시보드 입고량 집계 갱신
+	    eventPublisher.publishEvent(new RollupDirtyEvent(DashboardRollup.METRIC_INCOMING,
+	    		DashboardRollupService.daysOf(currentTime)));
 	    
 	    
 	    //작업번호의 status를 작업완료 → 작업종료로 변경
@@ -248,42 +301,31 @@ public class InventoryService {
 		List<IncomingInsertDTO> incomingInsertDTOOrder = incomingRepository.findAllEndOfOrder();
 
 		
-		log.info("incomingInsertDTOOrder = " + incomingInsertDTOOrder.toString());
-	
-		// 각 발주완료된 데이터행마다 품목의 이름과 갯수를 구하기 위한 반복문
-		// ※최적화 생각해야함
-		incomingInsertDTOOrder.forEach(dto -> {
-
-			int totalAmount = 0;
-			String OrderId = dto.getProdOrOrderId();
-			log.info("dto안임");
-			// order_items테이블에서 품목코드와 품목이름을 구함
-//			List<IncomingItems> itemNames = incomingItemsRepository.findOrderItemsById(OrderId);
-			// order_items테이블에서 품목코드와 품목이름을 구함
-			List<IncomingItemsDTO> itemNames = incomingItemsRepository.findOrderItemsById(OrderId);
-
-			if (!itemNames.isEmpty()) {
-				// 첫 번째 품목의 이름을 설정
-				dto.setIncomingItemDisplay(itemNames.get(0).getItemName());
-				// 나머지 품목 갯수 설정
-				dto.setOtherCount(itemNames.size() - 1);
-
-				// 총 수량 구하기
-				for (IncomingItemsDTO item : itemNames) {
-					totalAmount += item.getQuantity();
+		// 발주들의 첫번째 품목 이름, 품목 갯수, 총 수량을 한 번의 쿼리로 구함
+		if (!incomingInsertDTOOrder.isEmpty()) {
+			List<String> orderIds = incomingInsertDTOOrder.stream().map(IncomingInsertDTO::getProdOrOrderId).toList();
+			Map<String, ItemSummaryDTO> summaries = incomingItemsRepository.findItemSummariesByOrderIds(orderIds)
+					.stream()
+					.collect(Collectors.toMap(ItemSummaryDTO::getParentId, Function.identity(), (x, y) -> x));
+
+			incomingInsertDTOOrder.forEach(dto -> {
+				ItemSummaryDTO summary = summaries.get(dto.getProdOrOrderId());
+				if (summary != null) {
+					// 첫 번째 품목의 이름을 설정
+					dto.setIncomingItemDisplay(summary.getFirstItemName());
+					// 나머지 품목 갯수 설정
+					dto.setOtherCount(summary.getItemCount().intValue() - 1);
+					// 총 수량
+					dto.setTotalAmount(summary.getTotalQuantity() == null ? 0 : summary.getTotalQuantity().intValue());
+				} else {
+					dto.setIncomingItemDisplay("");
+					dto.setOtherCount(0);
 				}
-				dto.setTotalAmount(totalAmount);
-
-			} else {
-				dto.setIncomingItemDisplay("");
-				dto.setOtherCount(0);
-			}
-		});
+			});
+		}
 
 		incomingInsertDTOProd.addAll(incomingInsertDTOOrder);
 
-		log.info("incomingInsertDTOProd = " + incomingInsertDTOProd.toString());
-
 		return incomingInsertDTOProd;
 	}
 
@@ -332,7 +374,6 @@ public class InventoryService {
 	        }
 
 	        MFOrder mfOrder = optionalMFOrder.get();
-	        log.info("생산 데이터 조회 완료 : " + mfOrder.toString());
 
 	        
 	        // 이제 mfOrder 데이터를 사용하여 incoming 및 incomingItems를 설정
@@ -356,7 +397,6 @@ public class InventoryService {
 	        }
 
 	        Order order = optionalOrder.get();
-	        log.info("발주 데이터 조회 완료 : " + order.toString());
 
 	        // 이제 order 데이터를 사용하여 incoming 및 incomingItems를 설정
 	        createIncomingFromOrder(incoming, order);
@@ -364,21 +404,16 @@ public class InventoryService {
 	    
 	    
 		incomingRepository.save(incoming);
-		log.info("입고 데이터 저장 완료: {}", incoming);
+		log.info("입고 데이터 저장 완료 - {} ({}개 품목)", incoming.getIncomingId(), incoming.getIncomingItems().size());
 
 	}
 
 	//입고번호의 autoincrement 구현, INCxxxxx 형식
 	private String generateIncomingId() {
-	    List<Incoming> incomings = incomingRepository.findAllOrderByNumericIncomingIdDesc();
-	    if (incomings.isEmpty()) {
-	        return "INC00001"; // 첫 번째 ID
-	    } else {
-	        String lastId = incomings.get(0).getIncomingId();
-	        int numericPart = Integer.parseInt(lastId.substring(3)); 
-	        numericPart += 1;
-	        return String.format("INC%05d", numericPart); 
-	    }
+	    return documentIdAllocator.nextId("INC", 5, () -> {
+	        Integer max = incomingRepository.findMaxIncomingNumber();
+	        return max == null ? 0 : max;
+	    });
 	}
 
 	private String generateIncomingItemId() {
@@ -442,23 +477,45 @@ public class InventoryService {
 		// 페이지 사이즈에 맞는 출고 테이블 데이터 조회
 		Page<OutgoingDTO> outgoingByPage = outgoingRepository.getOutgoingLists(pageable);
 
-		// 각 출고데이터마다 품목의 이름과 갯수를 구하기 위한 반복문
-		outgoingByPage.forEach(dto -> {
+		applyOutgoingItemSummaries(outgoingByPage.getContent());
 
-			String outgoingId = dto.getOutgoingId();
+		return outgoingByPage;
+	}
 
-			// outgoing_items테이블에서 품목의 이름과 갯수를 구한다.
-			List<OutgoingItems> itemNames = outgoingItemsRepository.findOutgoingItemsListById(outgoingId);
+	// 출고 목록 커서 조회 (COUNT 쿼리 없이 출고번호 내림차순으로 size 건)
+	public CursorPage<OutgoingDTO> getOutgoingSlice(String cursor, int size) {
+		log.info("getOutgoingSlice()");
 
-			// 품목중 첫번째 품목의 이름을 저장
-			dto.setOutgoingItemDisplay(itemNames.get(0).getItem().getItemName());
+		List<OutgoingDTO> rows = outgoingRepository.findOutgoingSlice(CursorPage.decode(cursor),
+				PageRequest.of(0, size + 1));
+		CursorPage<OutgoingDTO> slice = CursorPage.of(rows, size, OutgoingDTO::getOutgoingId);
+		applyOutgoingItemSummaries(slice.getContent());
 
-			// 품목 갯수 - 1을 저장
-			dto.setOtherCount(itemNames.size() - 1);
+		return slice;
+	}
 
+	// 출고번호들의 품목 이름과 갯수를 한 번의 쿼리로 구한다.
+	private void applyOutgoingItemSummaries(List<OutgoingDTO> outgoingDTOs) {
+		if (outgoingDTOs.isEmpty()) {
+			return;
+		}
+		List<String> outgoingIds = outgoingDTOs.stream().map(OutgoingDTO::getOutgoingId).toList();
+		Map<String, ItemSummaryDTO> summaries = outgoingItemsRepository.findItemSummariesByOutgoingIds(outgoingIds)
+				.stream()
+				.collect(Collectors.toMap(ItemSummaryDTO::getParentId, Function.identity(), (a, b) -> a));
+
+		outgoingDTOs.forEach(dto -> {
+			ItemSummaryDTO summary = summaries.get(dto.getOutgoingId());
+			if (summary != null) {
+				// 품목중 첫번째 품목의 이름을 저장
+				dto.setOutgoingItemDisplay(summary.getFirstItemName());
+				// 품목 갯수 - 1을 저장
+				dto.setOtherCount(summary.getItemCount().intValue() - 1);
+			} else {
+				dto.setOutgoingItemDisplay("");
+				dto.setOtherCount(0);
+			}
 		});
-
-		return outgoingByPage;
 	}
 
 	// 출고 목록 검색 (검색 조건과 페이지네이션 포함)
@@ -467,37 +524,15 @@ public class InventoryService {
 			String status, String managerCodeOrName, Pageable pageable) {
 		log.info("findOutgoingBySearch()");
 
-		// 한 번의 쿼리로 Outgoing 엔티티와 연관된 데이터를 모두 조회
-		Page<Outgoing> outgoingEntitiesPage = outgoingRepository.findOutgoingEntities(reasonOfOutgoing,
+		// 1단계 : 조건에 맞는 출고 한 페이지만 조회 (DB 에서 페이징)
+		Page<OutgoingDTO> outgoingByPage = outgoingRepository.searchOutgoingList(reasonOfOutgoing,
 				outgoingStartDate_start, outgoingStartDate_end, outgoingId, prodOrSaleId, status, managerCodeOrName,
 				itemCodeOrName, pageable);
 
-		// Outgoing 엔티티를 OutgoingDTO로 매핑
-		Page<OutgoingDTO> outgoingDTOsPage = outgoingEntitiesPage.map(outgoing -> {
-			OutgoingDTO dto = new OutgoingDTO(outgoing.getOutgoingId(), outgoing.getOutgoingStartDate(),
-					outgoing.getOutgoingEndDate(),
-					outgoing.getManager() != null ? outgoing.getManager().getManagerId() : "",
-					outgoing.getManager() != null ? outgoing.getManager().getName() : "",
-					outgoing.getStatus(),
-					outgoing.getMfOrder() != null ? outgoing.getMfOrder().getOrderId() : "",
-					outgoing.getSale() != null ? outgoing.getSale().getSaleId() : "");
-
-			// 출고 품목 데이터 설정
-			List<OutgoingItems> itemNames = outgoing.getOutgoingItems(); // Fetch Join으로 이미 로드됨
-			if (!itemNames.isEmpty()) {
-				// 첫 번째 품목의 이름을 설정
-				dto.setOutgoingItemDisplay(itemNames.get(0).getItem().getItemName());
-				// 나머지 품목 갯수 설정
-				dto.setOtherCount(itemNames.size() - 1);
-			} else {
-				dto.setOutgoingItemDisplay("");
-				dto.setOtherCount(0);
-			}
-
-			return dto;
-		});
+		// 2단계 : 이 페이지 출고번호들의 품목 이름과 갯수를 한 번에 조회
+		applyOutgoingItemSummaries(outgoingByPage.getContent());
 
-		return outgoingDTOsPage;
+		return outgoingByPage;
 	}
 
 	// 출고 품목 리스트 가져오기
@@ -528,38 +563,21 @@ public class InventoryService {
 	        throw new EntityNotFoundException("해당 출고 ID가 존재하지 않습니다: " + outgoingId);
 	    }
 		
-	    Outgoing outgoing = outgoingOpt.get();
-	    
-	    // 재고에서 입고된 품목들을 더해줌
-	    List<OutgoingItems> outgoingItems = outgoing.getOutgoingItems();
-	    
-	    for (OutgoingItems outgoingItem : outgoingItems) {
-	        Item item = outgoingItem.getItem();
-
-	        // 품목의 재고 엔티티를 설정
-	        InventoryItem inventoryItem = item.getInventoryItem();
-
-	        if (inventoryItem == null) {
-	            // 품목의 재고 엔티티가 null이면 새롭게 생성(예외처리)
-	            inventoryItem = new InventoryItem();
-	            inventoryItem.setItem(item);
-	            inventoryItem.setQuantity(-1);
-	        }
-
-	        int currentQuantity = inventoryItem.getQuantity(); //현재 재고량
-	        int outgoingQuantity = outgoingItem.getQuantity(); //등록할 입고량
-
-	        // 재고량 설정
-	        inventoryItem.setQuantity(currentQuantity - outgoingQuantity);
-
-	        // 재고량 업데이트
-	        inventoryRepository.save(inventoryItem);
+	    // 재고에서 출고된 품목들을 빼줌 (품목코드별 합산 후 quantity = quantity + ? 로 반영)
+	    Map<String, Integer> deltas = new HashMap<>();
+	    for (OutgoingItemsDTO outgoingItem : outgoingItemsRepository.findQuantitiesByOutgoingId(outgoingId)) {
+	        deltas.merge(outgoingItem.getItemCode(), -outgoingItem.getQuantity(), Integer::sum);
 	    }
+	    stockMovementService.applyMovements(InventoryMovement.TYPE_OUTGOING, outgoingId, deltas);
 	    
 	    
 		if(outgoingOpt.get().getMfOrder() != null){//작업번호의 status를 작업대기 → 작업중으로 변경
 			mfRepository.startOrder(outgoingOpt.get().getMfOrder().getOrderId()); 
 		}
+		if(outgoingOpt.get().getSale() != null){//수주 출고가 끝나면 재고 예약 소진 후 출하 대기 큐에 추가
+			stockReservationService.consume(outgoingOpt.get().getSale().getSaleId());
+			shipReadyQueueService.enqueue(outgoingOpt.get().getSale().getSaleId());
+		}
 	}
 
 	// 출고 등록 페이지에서 출고 대상 가져오기
@@ -575,41 +593,31 @@ public class InventoryService {
 		List<OutgoingInsertDTO> outgoingInsertDTOSale = outgoingRepository.findAllEndOfSale();
 
 		
-		log.info("outgoingInsertDTOSale = " + outgoingInsertDTOSale.toString());
-	
-		// 각 발주완료된 데이터행마다 품목의 이름과 갯수를 구하기 위한 반복문
-		// ※최적화 생각해야함
-		outgoingInsertDTOSale.forEach(dto -> {
-
-			int totalAmount = 0;
-			String SaleId = dto.getProdOrSaleId();
-			log.info("dto안임");
-
-			// sale_items테이블에서 품목코드와 품목이름을 구함
-			List<OutgoingItemsDTO> itemNames = outgoingItemsRepository.findSaleItemsById(SaleId);
-
-			if (!itemNames.isEmpty()) {
-				// 첫 번째 품목의 이름을 설정
-				dto.setOutgoingItemDisplay(itemNames.get(0).getItemName());
-				// 나머지 품목 갯수 설정
-				dto.setOtherCount(itemNames.size() - 1);
-
-				// 총 수량 구하기
-				for (OutgoingItemsDTO item : itemNames) {
-					totalAmount += item.getQuantity();
+		// 수주들의 첫번째 품목 이름, 품목 갯수, 총 수량을 한 번의 쿼리로 구함
+		if (!outgoingInsertDTOSale.isEmpty()) {
+			List<String> saleIds = outgoingInsertDTOSale.stream().map(OutgoingInsertDTO::getProdOrSaleId).toList();
+			Map<String, ItemSummaryDTO> summaries = outgoingItemsRepository.findItemSummariesBySaleIds(saleIds)
+					.stream()
+					.collect(Collectors.toMap(ItemSummaryDTO::getParentId, Function.identity(), (x, y) -> x));
+
+			outgoingInsertDTOSale.forEach(dto -> {
+				ItemSummaryDTO summary = summaries.get(dto.getProdOrSaleId());
+				if (summary != null) {
+					// 첫 번째 품목의 이름을 설정
+					dto.setOutgoingItemDisplay(summary.getFirstItemName());
+					// 나머지 품목 갯수 설정
+					dto.setOtherCount(summary.getItemCount().intValue() - 1);
+					// 총 수량
+					dto.setTotalAmount(summary.getTotalQuantity() == null ? 0 : summary.getTotalQuantity().intValue());
+				} else {
+					dto.setOutgoingItemDisplay("");
+					dto.setOtherCount(0);
 				}
-				dto.setTotalAmount(totalAmount);
-
-			} else {
-				dto.setOutgoingItemDisplay("");
-				dto.setOtherCount(0);
-			}
-		});
+			});
+		}
 
 		outgoingInsertDTOProd.addAll(outgoingInsertDTOSale);
 
-		log.info("outgoingInsertDTOProd = " + outgoingInsertDTOProd.toString());
-
 		return outgoingInsertDTOProd;
 	}
 
@@ -658,7 +666,6 @@ public class InventoryService {
 	        }
 
 	        MFOrder mfOrder = optionalMFOrder.get();
-	        log.info("생산 데이터 조회 완료 : " + mfOrder.toString());
 
 	        
 	        // 이제 mfOrder 데이터를 사용하여 outgoing 및 outgoingItems를 설정
@@ -682,7 +689,6 @@ public class InventoryService {
 	        }
 
 	        Sale sale = optionalSale.get();
-	        log.info("발주 데이터 조회 완료 : " + sale.toString());
 
 	        // 이제 sale 데이터를 사용하여 outgoing 및 outgoingItems를 설정
 	        createOutgoingFromSale(outgoing, sale);
@@ -690,21 +696,16 @@ public class InventoryService {
 	    
 	    
 		outgoingRepository.save(outgoing);
-		log.info("출고 데이터 저장 완료: {}", outgoing);
+		log.info("출고 데이터 저장 완료 - {} ({}개 품목)", outgoing.getOutgoingId(), outgoing.getOutgoingItems().size());
 
 	}
 
 	//출고번호의 autoincrement 구현, OUTxxxxx 형식
 	private String generateOutgoingId() {
-	    List<Outgoing> outgoings = outgoingRepository.findAllOrderByNumericOutgoingIdDesc();
-	    if (outgoings.isEmpty()) {
-	        return "OUT00001"; // 첫 번째 ID
-	    } else {
-	        String lastId = outgoings.get(0).getOutgoingId();
-	        int numericPart = Integer.parseInt(lastId.substring(3)); 
-	        numericPart += 1;
-	        return String.format("OUT%05d", numericPart); 
-	    }
+	    return documentIdAllocator.nextId("OUT", 5, () -> {
+	        Integer max = outgoingRepository.findMaxOutgoingNumber();
+	        return max == null ? 0 : max;
+	    });
 	}
 
 	private String generateOutgoingItemId() {
@@ -770,7 +771,6 @@ public class InventoryService {
 			}
 		}
 
-		log.info(filteredManagers.toString());
 		return filteredManagers;
 	}
 
@@ -0,0 +1,110 @@
+package com.itwillbs.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.itwillbs.entity.InventorySnapshot;
+import com.itwillbs.repository.InventoryMovementRepository;
+import com.itwillbs.repository.InventoryRepository;
+import com.itwillbs.repository.InventorySnapshotRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일별 재고 스냅샷 생성과 특정 시점 재고 조회.
+ *
+ * 스냅샷(snapshot_date)은 그 날짜 마감(다음날 0시) 시점의 재고량이다.
+ * 특정 시점 재고 = 직전 스냅샷 + 스냅샷 이후 그 시점까지의 원장 변동 합계 이므로
+ * 원장 전체를 다시 더하지 않고 하루치 이하의 변동만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventorySnapshotService {
+
+	private final InventoryRepository inventoryRepository;
+	private final InventoryMovementRepository inventoryMovementRepository;
+	private final InventorySnapshotRepository inventorySnapshotRepository;
+
+	// 매일 00:10 에 전날까지의 스냅샷 생성 (서버가 멈췄던 날짜도 이어서 생성)
+	@Scheduled(cron = "${inventory.snapshot.cron:0 10 0 * * *}")
+	@Transactional
+	public void createDailySnapshots() {
+		LocalDate yesterday = LocalDate.now().minusDays(1);
+		LocalDate lastSnapshotDate = inventorySnapshotRepository.findLastSnapshotDate();
+
+		if (lastSnapshotDate == null) {
+			createFirstSnapshot(yesterday);
+			return;
+		}
+
+		for (LocalDate date = lastSnapshotDate.plusDays(1); !date.isAfter(yesterday); date = date.plusDays(1)) {
+			createSnapshot(date);
+		}
+	}
+
+	// 이전 스냅샷 + 당일 변동
+	private void createSnapshot(LocalDate date) {
+		Map<String, Long> quantities = new HashMap<>();
+		inventorySnapshotRepository.findQuantitiesBySnapshotDate(date.minusDays(1))
+				.forEach(row -> quantities.put(row.getItemCode(), row.getQuantity()));
+		inventoryMovementRepository.sumByItemBetween(startOf(date), startOf(date.plusDays(1)))
+				.forEach(row -> quantities.merge(row.getItemCode(), row.getQuantity(), Long::sum));
+
+		save(date, quantities);
+	}
+
+	// 스냅샷이 하나도 없을 때는 현재 재고에서 다음날 0시 이후 변동을 빼서 구한다
+	private void createFirstSnapshot(LocalDate date) {
+		Map<String, Long> quantities = new HashMap<>();
+		inventoryRepository.findAllQuantities()
+				.forEach(row -> quantities.put(row.getItemCode(), row.getQuantity()));
+		inventoryMovementRepository.sumByItemSince(startOf(date.plusDays(1)))
+				.forEach(row -> quantities.merge(row.getItemCode(), -row.getQuantity(), Long::sum));
+
+		save(date, quantities);
+	}
+
+	private void save(LocalDate date, Map<String, Long> quantities) {
+		List<InventorySnapshot> snapshots = new ArrayList<>(quantities.size());
+		quantities.forEach((itemCode, quantity) ->
+				snapshots.add(new InventorySnapshot(null, itemCode, date, quantity)));
+		inventorySnapshotRepository.insertAll(snapshots);
+		log.info("재고 스냅샷 생성 - {} ({}개 품목)", date, snapshots.size());
+	}
+
+	/**
+	 * 특정 시점의 재고량
+	 */
+	@Transactional(readOnly = true)
+	public long getQuantityAt(String itemCode, LocalDateTime at) {
+		Timestamp atTime = Timestamp.valueOf(at);
+
+		// at 이 속한 날짜 이전(미포함)의 가장 최근 스냅샷 + 그 이후 at 까지의 변동
+		Optional<InventorySnapshot> snapshot = inventorySnapshotRepository
+				.findFirstByItemCodeAndSnapshotDateLessThanOrderBySnapshotDateDesc(itemCode, at.toLocalDate());
+		if (snapshot.isPresent()) {
+			Timestamp from = startOf(snapshot.get().getSnapshotDate().plusDays(1));
+			return snapshot.get().getQuantity() + inventoryMovementRepository.sumForItemBetween(itemCode, from, atTime);
+		}
+
+		// 스냅샷이 없으면 현재 재고에서 at 이후 변동을 뺀다
+		Integer current = inventoryRepository.findQuantityByItemCode(itemCode);
+		return (current == null ? 0 : current) - inventoryMovementRepository.sumForItemSince(itemCode, atTime);
+	}
+
+	private Timestamp startOf(LocalDate date) {
+		return Timestamp.valueOf(date.atStartOfDay());
+	}
+}
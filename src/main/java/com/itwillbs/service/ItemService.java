@@ -22,11 +22,18 @@ import com.itwillbs.repository.ItemRepository;
 public class ItemService {
 	private final ItemRepository itemRepository;
 	private final InventoryRepository inventoryRepository;
+	private final DocumentIdAllocator documentIdAllocator;
+	private final BomCache bomCache;
+	private final ShipReadyQueueService shipReadyQueueService;
 	
  
-  public ItemService(ItemRepository itemRepository, InventoryRepository inventoryRepository) {
+  public ItemService(ItemRepository itemRepository, InventoryRepository inventoryRepository,
+		  DocumentIdAllocator documentIdAllocator, BomCache bomCache, ShipReadyQueueService shipReadyQueueService) {
       this.itemRepository = itemRepository;
       this.inventoryRepository = inventoryRepository;
+      this.documentIdAllocator = documentIdAllocator;
+      this.bomCache = bomCache;
+      this.shipReadyQueueService = shipReadyQueueService;
   }
 	
 	public Page<Item> searchItems(ItemSearchDTO searchDTO, Pageable pageable) {
@@ -40,6 +47,10 @@ public class ItemService {
 
 	@Transactional
 	public Item saveItem(Item item) {
+		// 화면에 보여준 코드는 미리보기일 뿐이므로 저장할 때 실제 코드를 할당
+		validateItemType(item.getItemType());
+		item.setItemCode(documentIdAllocator.nextId(item.getItemType(), 3, 1,
+				() -> lastItemNumber(item.getItemType())));
 		validateItemCode(item);
 		validateDuplicate(item);
 		
@@ -55,13 +66,21 @@ public class ItemService {
     // InventoryItem 저장
     inventoryRepository.save(inventoryItem);
 
+    // 새 가공품 이름을 BOM 캐시 이름 색인에 반영
+    bomCache.evictItem(savedItem.getItemCode());
+
     return savedItem;
 	}
 
 	@Transactional
 	public Item updateItem(Item item) {
 		validateItemCode(item);
-		return itemRepository.save(item);
+		Item savedItem = itemRepository.save(item);
+		// 품목 이름이 바뀌면 BOM 캐시의 원재료 이름/가공품 이름 색인도 바뀌어야 함
+		bomCache.evictItem(savedItem.getItemCode());
+		// 출하 대기 큐에 복사된 첫 품목명도 갱신
+		shipReadyQueueService.refreshItem(savedItem.getItemCode(), savedItem.getItemName());
+		return savedItem;
 	}
 
 	private void validateItemCode(Item item) {
@@ -81,13 +100,20 @@ public class ItemService {
 //		itemRepository.deleteById(itemCode);
 //	}
 
+	// 다음 품목코드 미리보기 (할당하지 않음, 코드는 saveItem 에서 할당)
 	public String generateNextCode(String itemType) {
-		String maxCode = itemRepository.findMaxItemCodeByItemType(itemType);
-		if (maxCode == null) {
-			return itemType + "001";
+		validateItemType(itemType);
+		return documentIdAllocator.peekId(itemType, 3, () -> lastItemNumber(itemType));
+	}
+
+	private void validateItemType(String itemType) {
+		if (!List.of("RM", "PP", "FP").contains(itemType)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 품목 유형입니다.");
 		}
-		int nextNumber = Integer.parseInt(maxCode.substring(2)) + 1;
-		return String.format("%s%03d", itemType, nextNumber);
+	}
+
+	private long lastItemNumber(String itemType) {
+		return DocumentIdAllocator.numericPart(itemRepository.findMaxItemCodeByItemType(itemType), itemType);
 	}
 
 	public List<ItemDTO> searchItemsForModal(String itemType, String itemName, String useYN) {
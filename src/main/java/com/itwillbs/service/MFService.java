@@ -2,16 +2,23 @@ package com.itwillbs.service;
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import com.itwillbs.domain.manufacture.MFBomDTO;
+import com.itwillbs.domain.manufacture.MFBomLineDTO;
 import com.itwillbs.domain.manufacture.MFOrderDTO;
 import com.itwillbs.domain.manufacture.MFRmDTO;
 import com.itwillbs.domain.manufacture.MFRmListDTO;
 import com.itwillbs.entity.Item;
 import com.itwillbs.entity.MFOrder;
+import com.itwillbs.repository.InventoryRepository;
 import com.itwillbs.repository.ItemRepository;
 import com.itwillbs.repository.MFRepository;
 
@@ -25,15 +32,19 @@ public class MFService {
 	
 	private final MFRepository mfRepository;
 	private final ItemRepository itemRepostiory; 
+	private final DocumentIdAllocator documentIdAllocator;
+	private final InventoryRepository inventoryRepository;
+	private final BomCache bomCache;
 
-	public List<MFOrderDTO> getOrderList(
+	public Page<MFOrderDTO> getOrderList(
 			LocalDate searchDeadline,
 			String searchState,
 			String searchId,
-			String searchName) {
+			String searchName,
+			Pageable pageable) {
 		log.info("MFService getOrderList()");
 		
-		return mfRepository.findOrderList(searchDeadline, searchState, searchId, searchName);
+		return mfRepository.findOrderList(searchDeadline, searchState, searchId, searchName, pageable);
 	}
 	
 	public List<Item> getPPList(String searchId, String searchName){
@@ -41,6 +52,12 @@ public class MFService {
 		
 		return itemRepostiory.findByItemType(searchId, searchName);
 	}
+	
+	public Page<Item> getPPPage(String searchId, String searchName, Pageable pageable){
+		log.info("MFService getPPPage()");
+		
+		return itemRepostiory.findPPPage(searchId, searchName, pageable);
+	}
 
 	public List<MFBomDTO> getRmList(List<MFBomDTO> list) {
 		log.info("MFService getRmList()");
@@ -52,10 +69,12 @@ public class MFService {
 			
 			sb.setLength(0);
 			
-			List<MFRmDTO> rmList = itemRepostiory.findRmList(list.get(i).getItemCode());
+			// BOM 은 캐시에서 조회
+			List<MFBomLineDTO> rmList = bomCache.getLines(list.get(i).getItemCode());
 			
 			for(int j = 0; j<rmList.size(); j++) {
-				sb.append(rmList.get(j).toString());
+				MFBomLineDTO line = rmList.get(j);
+				sb.append(new MFRmDTO(line.getRmName(), line.getQuantity()).toString());
 				
 				if(j==rmList.size()-1) {
 					break;
@@ -72,7 +91,31 @@ public class MFService {
 	public List<MFRmListDTO> getRM(String itemName){
 		log.info("MFService getRM()");
 		
-		return itemRepostiory.findRM(itemName);
+		String ppCode = bomCache.findPpCodeByName(itemName);
+		if(ppCode == null) {
+			return new ArrayList<>();
+		}
+		
+		// BOM 은 캐시에서, 현재 재고량만 DB 에서 한 번에 조회
+		List<MFBomLineDTO> lines = bomCache.getLines(ppCode);
+		if(lines.isEmpty()) {
+			return new ArrayList<>();
+		}
+		
+		Map<String, Long> stock = new HashMap<>();
+		inventoryRepository.findQuantitiesByItemCodes(lines.stream().map(MFBomLineDTO::getRmCode).toList())
+				.forEach(row -> stock.put(row.getItemCode(), row.getQuantity()));
+		
+		List<MFRmListDTO> rmList = new ArrayList<>();
+		for(MFBomLineDTO line : lines) {
+			Long quantity = stock.get(line.getRmCode());
+			if(quantity == null) { // 재고 행이 없는 원재료는 제외 (기존 JOIN 과 동일)
+				continue;
+			}
+			rmList.add(new MFRmListDTO(line.getRmCode(), line.getRmName(), line.getQuantity(), quantity.intValue()));
+		}
+		
+		return rmList;
 	}
 
 	public void insertOrder(MFOrder order, String itemCode) {
@@ -89,18 +132,11 @@ public class MFService {
 	public String getNewOrderId() {
 		log.info("MFService getNewOrderId()");
 		
-		String maxId = mfRepository.findMaxId();
+		String newId = documentIdAllocator.nextId("MO", 6,
+				() -> DocumentIdAllocator.numericPart(mfRepository.findMaxId(), "MO"));
+		log.info("new id generated -> "+newId);
 		
-		if(maxId==null) {
-			return "MO000001";
-		} else {
-			int num = Integer.parseInt(maxId.substring(2));
-			
-			String newId = String.format("MO%06d", num+1);
-			log.info("new id generated -> "+newId);
-			
-			return newId;
-		}
+		return newId;
 	}
 
 	public boolean orderUpdate(String type, String key) {
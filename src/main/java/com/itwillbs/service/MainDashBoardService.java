@@ -1,98 +1,180 @@
 package com.itwillbs.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.itwillbs.domain.dashboard.DefectiveDTO;
 import com.itwillbs.domain.dashboard.IncomingItemDTO;
 import com.itwillbs.domain.dashboard.InventoryItemDTO;
+import com.itwillbs.domain.dashboard.MainDashboardSnapshot;
+import com.itwillbs.domain.dashboard.RollupDirtyEvent;
+import com.itwillbs.domain.dashboard.RollupPointDTO;
+import com.itwillbs.domain.inventory.StockChangedEvent;
+import com.itwillbs.domain.quality.QualityChangedEvent;
+import com.itwillbs.entity.DashboardRollup;
 import com.itwillbs.entity.dashboard.SaleDash;
+import com.itwillbs.repository.DashboardRollupRepository;
 import com.itwillbs.repository.MainDashBoardItemRepository;
 import com.itwillbs.repository.MainDashBoardSaleRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.java.Log;
 
 
 
+/**
+ * 메인 대시보드 집계
+ * 요청마다 9개 쿼리를 돌리지 않고 스냅샷을 만들어 두고 재사용한다.
+ * 스냅샷은 주기적으로 갱신되고, 재고·수주·입고·검품 변경이 커밋되면 만료 처리돼서 다음 요청 때 다시 만든다.
+ * 어떤 경우에도 max-staleness 보다 오래된 스냅샷은 돌려주지 않는다.
+ * 갱신 비용은 burger.dashboard.refresh 지표로 남긴다.
+ */
 @Service
 @Log
-@RequiredArgsConstructor
 public class MainDashBoardService {
 	
 	private final MainDashBoardItemRepository mainDashBoardRepository;
 	private final MainDashBoardSaleRepository dashBoardSaleRepository;
-	
-
-	 public List<DefectiveDTO> findByStatus(String status) {
-	        List<DefectiveDTO> ItemList = mainDashBoardRepository.findByStatus(status);
-	        
-	        for (DefectiveDTO item : ItemList) {
-	            System.out.println("Quantity: " + item.getQuantity() + ", Item Name: " + item.getItemName());
-	        }
-	        
-	     
-	        return ItemList; 
-	    }
-	
-	 public List<SaleDash> findBySaleStatus(String status) {
-	        List<SaleDash> ItemList = dashBoardSaleRepository.findByStatus(status);
-	        
-	        for (SaleDash item : ItemList) {
-	            System.out.println("totalPrice: " + item.getTotalPrice() + ", dueDate: " + item.getDueDate());
-	        }
-	        
-	     
-	        return ItemList; 
-	    }
-
-	 
-	public List<IncomingItemDTO> getItemIncomming(String itemType) {
-		
-		List<IncomingItemDTO> ItemList = mainDashBoardRepository.findByItemType(itemType);
-
-	        
-	        for (IncomingItemDTO item : ItemList) {
-	            System.out.println("Quantity: " + item.getQuantity() + ", Item Name: " + item.getItemName());
-	        }
-	        
-	     
-	        return ItemList; 
-	    }
-
-	public List<InventoryItemDTO> getItemInventory(String itemType) {
-		List<InventoryItemDTO> ItemList = mainDashBoardRepository.findByInventoryItemType(itemType);
-
-        
-        for (InventoryItemDTO item : ItemList) {
-            System.out.println("Quantity: " + item.getQuantity() + ", Item Name: " + item.getItemName());
-        }
-        
-     
-		return ItemList;
+	private final DashboardRollupRepository dashboardRollupRepository;
+	
+	@Value("${dashboard.snapshot.max-staleness-ms:60000}")
+	private long maxStalenessMillis;
+	
+	private volatile MainDashboardSnapshot snapshot;
+	private volatile boolean invalidated;
+	
+	// 갱신 비용
+	private final Timer refreshTimer;
+	
+	public MainDashBoardService(MainDashBoardItemRepository mainDashBoardRepository,
+			MainDashBoardSaleRepository dashBoardSaleRepository, DashboardRollupRepository dashboardRollupRepository,
+			MeterRegistry meterRegistry) {
+		this.mainDashBoardRepository = mainDashBoardRepository;
+		this.dashBoardSaleRepository = dashBoardSaleRepository;
+		this.dashboardRollupRepository = dashboardRollupRepository;
+		this.refreshTimer = Timer.builder("burger.dashboard.refresh")
+				.description("메인 대시보드 스냅샷 갱신 시간")
+				.register(meterRegistry);
 	}
 
-
-
-
-	
-	
-
-	
-	
-	
+	// 대시보드 스냅샷 (만료됐으면 새로 만듦)
+	public MainDashboardSnapshot getSnapshot() {
+		MainDashboardSnapshot current = snapshot;
+		if (current != null && !invalidated && !isExpired(current)) {
+			return current;
+		}
+		synchronized (this) {
+			current = snapshot;
+			if (current == null || invalidated || isExpired(current)) {
+				current = refresh();
+			}
+			return current;
+		}
+	}
 	
+	// 주기적 갱신
+	@Scheduled(fixedDelayString = "${dashboard.snapshot.refresh-ms:30000}")
+	public void scheduledRefresh() {
+		synchronized (this) {
+			refresh();
+		}
+	}
 	
+	// 재고가 바뀌면 다음 요청 때 다시 만든다.
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onStockChanged(StockChangedEvent event) {
+		invalidated = true;
+	}
 	
+	// 수주 상태·수정, 입고 (집계 재계산 이벤트와 같은 시점)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onRollupDirty(RollupDirtyEvent event) {
+		invalidated = true;
+	}
 	
+	// 검품 저장
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onQualityChanged(QualityChangedEvent event) {
+		invalidated = true;
+	}
 	
+	private MainDashboardSnapshot refresh() {
+		long start = System.nanoTime();
+		// 만료 표시는 조회 전에 내려서, 조회 중 들어온 변경은 다음 갱신에 반영되게 함
+		invalidated = false;
+		
+		MainDashboardSnapshot refreshed = new MainDashboardSnapshot(
+				getItemIncomming("RM"), getItemIncomming("FP"), getItemIncomming("PP"),
+				getItemInventory("RM"), getItemInventory("FP"), getItemInventory("PP"),
+				findByStatus("반품"), findByStatus("폐기"),
+				findBySaleStatus("수주완료"),
+				LocalDateTime.now());
+		snapshot = refreshed;
+		
+		long elapsed = System.nanoTime() - start;
+		refreshTimer.record(elapsed, TimeUnit.NANOSECONDS);
+		log.fine("대시보드 스냅샷 갱신 " + TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms");
+		
+		return refreshed;
+	}
 	
+	private boolean isExpired(MainDashboardSnapshot current) {
+		return current.getRefreshedAt().plus(Duration.ofMillis(maxStalenessMillis)).isBefore(LocalDateTime.now());
+	}
+
+	public List<DefectiveDTO> findByStatus(String status) {
+		return mainDashBoardRepository.findByStatus(status);
+	}
 	
+	public List<SaleDash> findBySaleStatus(String status) {
+		return dashBoardSaleRepository.findByStatus(status);
+	}
+	 
+	public List<IncomingItemDTO> getItemIncomming(String itemType) {
+		return mainDashBoardRepository.findByItemType(itemType);
+	}
+
+	public List<InventoryItemDTO> getItemInventory(String itemType) {
+		return mainDashBoardRepository.findByInventoryItemType(itemType);
+	}
 	
+	// 기간별 차트 (집계 테이블만 읽음, to 는 미포함) ------------------------------------------
 	
+	// 품목유형별 입고량 (itemType 이 null 이면 전체 유형)
+	public List<RollupPointDTO> getIncomingSeries(String itemType, String granularity, LocalDateTime from, LocalDateTime to) {
+		return getSeries(DashboardRollup.METRIC_INCOMING, itemType, granularity, from, to);
+	}
 	
+	// 품목별 반품/폐기량 (status: 반품, 폐기 / itemCode 가 null 이면 전체 품목)
+	public List<RollupPointDTO> getDefectiveSeries(String status, String itemCode, String granularity, LocalDateTime from, LocalDateTime to) {
+		if (!DashboardRollup.METRIC_RETURN.equals(status) && !DashboardRollup.METRIC_DISCARD.equals(status)) {
+			throw new IllegalArgumentException("반품 또는 폐기만 조회할 수 있습니다: " + status);
+		}
+		return getSeries(status, itemCode, granularity, from, to);
+	}
 	
+	// 수주완료 금액 (납기일 기준)
+	public List<RollupPointDTO> getSaleSeries(String granularity, LocalDateTime from, LocalDateTime to) {
+		return getSeries(DashboardRollup.METRIC_SALE, DashboardRollup.DIMENSION_ALL, granularity, from, to);
+	}
 	
+	private List<RollupPointDTO> getSeries(String metric, String dimension, String granularity, LocalDateTime from, LocalDateTime to) {
+		if (!DashboardRollup.GRANULARITY_HOUR.equals(granularity) && !DashboardRollup.GRANULARITY_DAY.equals(granularity)) {
+			throw new IllegalArgumentException("집계 단위는 HOUR 또는 DAY 입니다: " + granularity);
+		}
+		if (from == null || to == null || !from.isBefore(to)) {
+			throw new IllegalArgumentException("조회 기간이 올바르지 않습니다: " + from + " ~ " + to);
+		}
+		return dashboardRollupRepository.findSeries(granularity, metric, dimension, from, to);
+	}
 	
 }//
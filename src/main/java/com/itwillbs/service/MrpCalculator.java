@@ -0,0 +1,256 @@
+package com.itwillbs.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.itwillbs.domain.manufacture.MFBomLineDTO;
+import com.itwillbs.domain.manufacture.MrpLineDTO;
+
+/**
+ * 다단계 BOM 전개 + 자재소요량 계산기 (스프링 빈 아님, 스레드 안전한 불변 객체).
+ *
+ * BOM 을 한 번 읽어서 품목코드를 0..n-1 번호로 바꾸고, 부모 -> 자식 관계를 배열(CSR)로 만들어 둔다.
+ * 계산은 부모에서 자식 방향의 위상 순서(low-level code)대로 배열만 훑으므로 품목/BOM 수에 비례하는 시간에 끝난다.
+ *
+ * 생산 예정 품목은 자식 품목으로 그대로 전개하고, 중간 품목(가공품)은 총소요량에서 현재 재고와 생산 예정량을
+ * 뺀 순소요량만큼 추가 생산이 필요하다고 보고 다시 전개한다. 자식이 없는 품목(원재료)은 현재 재고 + 입고 예정량과
+ * 비교해 부족량을 구하고 발주 단위(lot)로 올린다.
+ *
+ * 날짜는 작업지시 납기에서 생산 리드타임만큼 당겨 착수일을 구하고, 자식 품목은 부모 착수일까지 필요하다고 본다.
+ * 원재료는 필요일에서 구매 리드타임만큼 당긴 날이 발주 기한이다.
+ */
+public final class MrpCalculator {
+
+	private static final long NO_DATE = Long.MAX_VALUE;
+
+	private final Map<String, Integer> indexByCode;
+	private final String[] codes;
+	private final String[] names;
+
+	// 부모 i 의 자식은 childIndex[childStart[i] .. childStart[i + 1]) , 단위당 소요량은 childQuantity
+	private final int[] childStart;
+	private final int[] childIndex;
+	private final double[] childQuantity;
+
+	// 부모가 자식보다 먼저 오는 위상 순서
+	private final int[] topologicalOrder;
+
+	public MrpCalculator(List<MFBomLineDTO> bomLines) {
+		indexByCode = new HashMap<>();
+		List<String> codeList = new ArrayList<>();
+		List<String> nameList = new ArrayList<>();
+		for (MFBomLineDTO line : bomLines) {
+			register(line.getPpCode(), null, codeList, nameList);
+			register(line.getRmCode(), line.getRmName(), codeList, nameList);
+		}
+		int n = codeList.size();
+		codes = codeList.toArray(new String[0]);
+		names = nameList.toArray(new String[0]);
+
+		// CSR 인접 배열
+		childStart = new int[n + 1];
+		for (MFBomLineDTO line : bomLines) {
+			childStart[indexByCode.get(line.getPpCode()) + 1]++;
+		}
+		for (int i = 0; i < n; i++) {
+			childStart[i + 1] += childStart[i];
+		}
+		childIndex = new int[bomLines.size()];
+		childQuantity = new double[bomLines.size()];
+		int[] cursor = new int[n];
+		for (MFBomLineDTO line : bomLines) {
+			int parent = indexByCode.get(line.getPpCode());
+			int slot = childStart[parent] + cursor[parent]++;
+			childIndex[slot] = indexByCode.get(line.getRmCode());
+			childQuantity[slot] = line.getQuantity().doubleValue();
+		}
+
+		topologicalOrder = sortTopologically(n);
+	}
+
+	private void register(String code, String name, List<String> codeList, List<String> nameList) {
+		Integer index = indexByCode.get(code);
+		if (index == null) {
+			indexByCode.put(code, codeList.size());
+			codeList.add(code);
+			nameList.add(name);
+		} else if (name != null && nameList.get(index) == null) {
+			nameList.set(index, name);
+		}
+	}
+
+	// Kahn 알고리즘, 순환 참조가 있으면 예외
+	private int[] sortTopologically(int n) {
+		int[] inDegree = new int[n];
+		for (int slot = 0; slot < childIndex.length; slot++) {
+			inDegree[childIndex[slot]]++;
+		}
+		int[] order = new int[n];
+		int head = 0;
+		int tail = 0;
+		for (int i = 0; i < n; i++) {
+			if (inDegree[i] == 0) {
+				order[tail++] = i;
+			}
+		}
+		while (head < tail) {
+			int parent = order[head++];
+			for (int slot = childStart[parent]; slot < childStart[parent + 1]; slot++) {
+				if (--inDegree[childIndex[slot]] == 0) {
+					order[tail++] = childIndex[slot];
+				}
+			}
+		}
+		if (tail != n) {
+			throw new IllegalStateException("BOM 에 순환 참조가 있습니다.");
+		}
+		return order;
+	}
+
+	/**
+	 * 자재소요량 계산
+	 *
+	 * @param production 품목코드별 생산 예정량 (진행 전 작업지시)
+	 * @param deadlines  품목코드별 가장 이른 작업지시 납기 (없으면 날짜 계산 안 함)
+	 * @param onHand     품목코드별 현재 재고량
+	 * @param openSupply 품목코드별 입고 예정량 (입고 진행중 + 입고 전 발주)
+	 * @param policy     리드타임, 발주 단위
+	 */
+	public Result calculate(Map<String, Long> production, Map<String, LocalDate> deadlines, Map<String, Long> onHand,
+			Map<String, Long> openSupply, Policy policy) {
+		int n = codes.length;
+		double[] scheduled = toArray(production);
+		double[] stock = toArray(onHand);
+		double[] supply = toArray(openSupply);
+		double[] gross = new double[n];
+		double[] planned = new double[n];
+
+		// 품목별 필요일 (epoch day), 날짜가 없으면 NO_DATE
+		long[] needDay = new long[n];
+		Arrays.fill(needDay, NO_DATE);
+		deadlines.forEach((code, deadline) -> {
+			Integer index = indexByCode.get(code);
+			if (index != null && deadline != null) {
+				needDay[index] = deadline.toEpochDay();
+			}
+		});
+
+		for (int item : topologicalOrder) {
+			int from = childStart[item];
+			int to = childStart[item + 1];
+			if (from == to) {
+				continue; // 원재료
+			}
+			// 중간 품목은 재고 + 생산 예정량으로 못 채우는 만큼 추가 생산
+			double net = Math.max(0, gross[item] - stock[item] - scheduled[item]);
+			planned[item] = net;
+			double explode = scheduled[item] + net;
+			if (explode <= 0) {
+				continue;
+			}
+			// 자식은 이 품목 착수일까지 필요
+			long startDay = needDay[item] == NO_DATE ? NO_DATE : needDay[item] - policy.getProductionLeadDays();
+			for (int slot = from; slot < to; slot++) {
+				int child = childIndex[slot];
+				gross[child] += explode * childQuantity[slot];
+				needDay[child] = Math.min(needDay[child], startDay);
+			}
+		}
+
+		Result result = new Result();
+		for (int item = 0; item < n; item++) {
+			if (childStart[item] != childStart[item + 1]) {
+				if (planned[item] > 0) {
+					result.plannedProduction.add(new MrpLineDTO(codes[item], names[item], ceil(gross[item]),
+							(long) stock[item], (long) scheduled[item], ceil(planned[item]),
+							toDate(needDay[item], policy.getProductionLeadDays())));
+				}
+			} else if (gross[item] > 0) {
+				long shortage = Math.max(0, ceil(gross[item]) - (long) stock[item] - (long) supply[item]);
+				result.requirements.add(new MrpLineDTO(codes[item], names[item], ceil(gross[item]), (long) stock[item],
+						(long) supply[item], roundUpToLot(shortage, policy.getLotSize()),
+						toDate(needDay[item], policy.getPurchaseLeadDays())));
+			}
+		}
+		return result;
+	}
+
+	// 필요일에서 리드타임만큼 당긴 날 (착수/발주 기한)
+	private static LocalDate toDate(long needDay, int leadDays) {
+		return needDay == NO_DATE ? null : LocalDate.ofEpochDay(needDay - leadDays);
+	}
+
+	private static long roundUpToLot(long quantity, long lotSize) {
+		if (quantity <= 0 || lotSize <= 1) {
+			return quantity;
+		}
+		return (quantity + lotSize - 1) / lotSize * lotSize;
+	}
+
+	private double[] toArray(Map<String, Long> quantities) {
+		double[] values = new double[codes.length];
+		quantities.forEach((code, quantity) -> {
+			Integer index = indexByCode.get(code);
+			if (index != null && quantity != null) {
+				values[index] = quantity;
+			}
+		});
+		return values;
+	}
+
+	// 소수 BOM 수량 누적 오차를 감안한 올림
+	private static long ceil(double value) {
+		return (long) Math.ceil(value - 1e-9);
+	}
+
+	public int itemCount() {
+		return codes.length;
+	}
+
+	/**
+	 * 계획 기준 : 생산 리드타임(일), 구매 리드타임(일), 원재료 발주 단위
+	 */
+	public static final class Policy {
+
+		private final int productionLeadDays;
+		private final int purchaseLeadDays;
+		private final long lotSize;
+
+		public Policy(int productionLeadDays, int purchaseLeadDays, long lotSize) {
+			this.productionLeadDays = productionLeadDays;
+			this.purchaseLeadDays = purchaseLeadDays;
+			this.lotSize = Math.max(1, lotSize);
+		}
+
+		public int getProductionLeadDays() {
+			return productionLeadDays;
+		}
+
+		public int getPurchaseLeadDays() {
+			return purchaseLeadDays;
+		}
+
+		public long getLotSize() {
+			return lotSize;
+		}
+	}
+
+	public static final class Result {
+		// 원재료별 총소요량/재고/입고예정/부족량
+		private final List<MrpLineDTO> requirements = new ArrayList<>();
+		// 중간 품목(가공품)별 추가 생산 필요량
+		private final List<MrpLineDTO> plannedProduction = new ArrayList<>();
+
+		public List<MrpLineDTO> getRequirements() {
+			return requirements;
+		}
+
+		public List<MrpLineDTO> getPlannedProduction() {
+			return plannedProduction;
+		}
+	}
+}
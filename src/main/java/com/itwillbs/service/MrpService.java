@@ -0,0 +1,140 @@
+package com.itwillbs.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.itwillbs.domain.inventory.ItemQuantityDTO;
+import com.itwillbs.domain.manufacture.MrpDemandDTO;
+import com.itwillbs.domain.manufacture.MrpLineDTO;
+import com.itwillbs.domain.manufacture.MrpPurchaseDTO;
+import com.itwillbs.domain.manufacture.MrpResultDTO;
+import com.itwillbs.domain.manufacture.MrpSupplierDTO;
+import com.itwillbs.repository.BOMRepository;
+import com.itwillbs.repository.IncomingItemsRepository;
+import com.itwillbs.repository.InventoryRepository;
+import com.itwillbs.repository.MFRepository;
+import com.itwillbs.repository.OrderItemsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+
+/**
+ * 자재소요량(MRP) 계산
+ * 진행 전 작업지시(작업 전달 전, 작업 대기)를 BOM 으로 다단계 전개해서 재고/입고 예정량과 비교하고
+ * 부족한 원재료를 최근 발주 거래처별로 묶어 발주 제안을 만든다. (납기 기준 리드타임 역산, 발주 단위 올림)
+ * 조회는 집계 쿼리 5번으로 끝나고 계산은 MrpCalculator 에서 메모리로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log
+public class MrpService {
+
+	// 아직 원재료가 출고되지 않은 작업지시 상태
+	private static final List<String> OPEN_ORDER_STATES = List.of("작업 전달 전", "작업 대기");
+
+	private final BOMRepository bomRepository;
+	private final MFRepository mfRepository;
+	private final InventoryRepository inventoryRepository;
+	private final IncomingItemsRepository incomingItemsRepository;
+	private final OrderItemsRepository orderItemsRepository;
+
+	// 생산 리드타임 (가공품/완제품 착수 ~ 완료 일수)
+	@Value("${mrp.production-lead-days:1}")
+	private int productionLeadDays;
+
+	// 구매 리드타임 (원재료 발주 ~ 입고 일수)
+	@Value("${mrp.purchase-lead-days:3}")
+	private int purchaseLeadDays;
+
+	// 원재료 발주 단위 (부족량을 이 수량의 배수로 올림)
+	@Value("${mrp.lot-size:1}")
+	private long lotSize;
+
+	/**
+	 * @param orderIds 계산할 작업지시 번호, 비어 있으면 진행 전 작업지시 전체
+	 */
+	@Transactional(readOnly = true)
+	public MrpResultDTO calculate(Collection<String> orderIds) {
+		log.info("MrpService calculate()");
+
+		boolean allOrders = orderIds == null || orderIds.isEmpty();
+		// 빈 IN () 방지용
+		Collection<String> ids = allOrders ? List.of("") : orderIds;
+
+		MrpCalculator calculator = new MrpCalculator(bomRepository.findAllBomLines());
+
+		Map<String, Long> production = new HashMap<>();
+		Map<String, LocalDate> deadlines = new HashMap<>();
+		for (MrpDemandDTO dto : mfRepository.findOrderDemands(OPEN_ORDER_STATES, allOrders, ids)) {
+			production.put(dto.getItemCode(), dto.getQuantity());
+			deadlines.put(dto.getItemCode(), dto.getDeadline());
+		}
+		Map<String, Long> onHand = toMap(inventoryRepository.findAllQuantities());
+
+		// 입고 예정량 = 입고 진행중 + 아직 입고 등록되지 않은 발주
+		Map<String, Long> openSupply = toMap(incomingItemsRepository.findInProgressQuantities());
+		for (ItemQuantityDTO dto : orderItemsRepository.findOpenOrderQuantities()) {
+			openSupply.merge(dto.getItemCode(), dto.getQuantity(), Long::sum);
+		}
+
+		MrpCalculator.Result calculated = calculator.calculate(production, deadlines, onHand, openSupply,
+				new MrpCalculator.Policy(productionLeadDays, purchaseLeadDays, lotSize));
+
+		MrpResultDTO result = new MrpResultDTO();
+		result.setOrderCount((int) mfRepository.countOrders(OPEN_ORDER_STATES, allOrders, ids));
+		result.setRequirements(calculated.getRequirements());
+		result.setPlannedProduction(calculated.getPlannedProduction());
+		result.setPurchaseSuggestions(suggestPurchases(calculated.getRequirements()));
+
+		return result;
+	}
+
+	// 부족 원재료를 최근 발주 거래처별로 묶음
+	private List<MrpPurchaseDTO> suggestPurchases(List<MrpLineDTO> requirements) {
+		List<MrpLineDTO> shortages = new ArrayList<>();
+		for (MrpLineDTO line : requirements) {
+			if (line.getNet() > 0) {
+				shortages.add(line);
+			}
+		}
+		if (shortages.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		List<String> itemCodes = new ArrayList<>(shortages.size());
+		for (MrpLineDTO line : shortages) {
+			itemCodes.add(line.getItemCode());
+		}
+		Map<String, MrpSupplierDTO> supplierByItem = new HashMap<>();
+		for (MrpSupplierDTO dto : orderItemsRepository.findLatestSuppliersByItemCodes(itemCodes)) {
+			supplierByItem.putIfAbsent(dto.getItemCode(), dto);
+		}
+
+		Map<String, MrpPurchaseDTO> bySupplier = new LinkedHashMap<>();
+		for (MrpLineDTO line : shortages) {
+			MrpSupplierDTO supplier = supplierByItem.get(line.getItemCode());
+			String supplierCode = supplier == null ? null : supplier.getSupplierCode();
+			bySupplier.computeIfAbsent(supplierCode,
+					code -> new MrpPurchaseDTO(code, supplier == null ? null : supplier.getSupplierName()))
+					.getItems().add(line);
+		}
+		return new ArrayList<>(bySupplier.values());
+	}
+
+	private Map<String, Long> toMap(List<ItemQuantityDTO> quantities) {
+		Map<String, Long> map = new HashMap<>(quantities.size() * 2);
+		for (ItemQuantityDTO dto : quantities) {
+			map.put(dto.getItemCode(), dto.getQuantity());
+		}
+		return map;
+	}
+}
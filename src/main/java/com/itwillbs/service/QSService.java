@@ -1,24 +1,24 @@
 package com.itwillbs.service;
 
+import com.itwillbs.domain.quality.QualityChangedEvent;
+import com.itwillbs.domain.transaction.DataTablePageDTO;
 import com.itwillbs.domain.transaction.QualityShipmentDTO;
-import com.itwillbs.domain.transaction.ShipmentDTO;
 import com.itwillbs.entity.Manager;
-import com.itwillbs.entity.QualityShipment;
-import com.itwillbs.entity.Shipment;
 import com.itwillbs.repository.ManagerRepository;
 import com.itwillbs.repository.QualityShipmentRepository;
-import com.itwillbs.repository.SaleRepository;
-import com.itwillbs.repository.ShipmentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Log
 @RequiredArgsConstructor
@@ -27,16 +27,14 @@ public class QSService {
 
     private final ManagerRepository managerRepository;
     private final QualityShipmentRepository qualityShipmentRepository;
-    private final SaleRepository saleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<QualityShipmentDTO> getShipQualList() {
-        List<QualityShipment> allShipQuals = qualityShipmentRepository.findAll(Sort.by(Sort.Direction.DESC, "qualityShipmentId"));
-        log.info(allShipQuals.toString());
-        return getQualShipmentDTOS(allShipQuals);
+    public Page<QualityShipmentDTO> getShipQualList(Pageable pageable) {
+        return searchQS(null, null, null, null, null, null, null, pageable);
     }
 
-    public List<QualityShipmentDTO> searchQS(String status, String franchiseName, String shipDateStart, String shipDateEnd,
-                                         String itemName, String dueDateStart, String dueDateEnd) {
+    public Page<QualityShipmentDTO> searchQS(String status, String franchiseName, String shipDateStart, String shipDateEnd,
+                                         String itemName, String dueDateStart, String dueDateEnd, Pageable pageable) {
         log.info("QSService: searchQS");
 
         // 날짜 자료형 String -> Timestamp 변경
@@ -53,37 +51,10 @@ public class QSService {
 
         log.info("status: " + formattedStatus + " supplierName: " + formattedFranchiseName + " shipStart: " + shipStart + " shipEnd: " + shipEnd + " itemName: " + formattedItemName + " dueStart: " + dueStart + " dueEnd: " + dueEnd);
 
-        List<QualityShipment> qsByConditions = qualityShipmentRepository.findQualityShipmentByConditions
-                (formattedStatus, formattedFranchiseName, shipStart, shipEnd, formattedItemName, dueStart, dueEnd);
-
-        log.info("QSService: qsByConditions" + qsByConditions);
-
-        return getQualShipmentDTOS(qsByConditions);
-    }
-
-    private List<QualityShipmentDTO> getQualShipmentDTOS(List<QualityShipment> qualityShipmentsByConditions) {
-        return qualityShipmentsByConditions.stream()
-                .map(qs -> {
-                    QualityShipmentDTO qsDTO = new QualityShipmentDTO();
-                    qsDTO.setQualityShipmentId(qs.getQualityShipmentId());
-                    qsDTO.setStatus(qs.getStatus());
-                    if (qs.getManager() != null) {
-                        qsDTO.setManagerId(qs.getManager().getManagerId());
-                        qsDTO.setManagerName(qs.getManager().getName());
-                    }
-                    qsDTO.setShipmentId(qs.getShipment().getShipmentId());
-                    qsDTO.setShipDate(qs.getShipDate());
-                    qsDTO.setDueDate(qs.getSale().getDueDate());
-
-                    qsDTO.setFranchiseName(saleRepository.findFranchiseNameBySaleId(qs.getSale().getSaleId()));
-                    List<String> firstItem = saleRepository.findFirstItemNameBySale(qs.getSale());
-                    qsDTO.setItemName(firstItem.isEmpty() ? null : firstItem.get(0));
-                    qsDTO.setItemCount(saleRepository.findSaleItemCountBySale(qs.getSale()));
-
-                    log.info("qsDTO: " + qsDTO);
-                    return qsDTO;
-                })
-                .collect(Collectors.toList());
+        // 담당자, 가맹점명, 첫 품목명, 품목 수까지 한 번의 쿼리로 조회 (정렬을 고르지 않았으면 검품번호 내림차순)
+        return qualityShipmentRepository.findQualityShipmentListByConditions
+                (formattedStatus, formattedFranchiseName, shipStart, shipEnd, formattedItemName, dueStart, dueEnd,
+                        DataTablePageDTO.withDefaultSort(pageable, Sort.by(Sort.Direction.DESC, "qualityShipmentId")));
     }
 
     private Timestamp convertToTimestamp(String dateStr) {
@@ -105,7 +76,9 @@ public class QSService {
         return managerRepository.findManagerOnQuality(managerName);
     }
 
+    @Transactional
     public void updateQsStatus(String qsId, String manager, String note) {
         qualityShipmentRepository.updateQsStatus(qsId, manager, note);
+        eventPublisher.publishEvent(new QualityChangedEvent(qsId));
     }
 }
@@ -0,0 +1,218 @@
+package com.itwillbs.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.itwillbs.domain.inventory.InventoryItemDTO;
+import com.itwillbs.domain.inventory.ItemQuantityDTO;
+import com.itwillbs.domain.inventory.StockChangedEvent;
+import com.itwillbs.domain.transaction.OrderDTO;
+import com.itwillbs.domain.transaction.OrderItemsDTO;
+import com.itwillbs.domain.transaction.ReorderSourceDTO;
+import com.itwillbs.domain.transaction.ReservationChangedEvent;
+import com.itwillbs.repository.InventoryRepository;
+import com.itwillbs.repository.OrderItemsRepository;
+import com.itwillbs.repository.StockReservationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최소필요재고량 기준 자동 발주
+ *
+ * 재고/예약 변동이 커밋된 품목만 점검 대상으로 표시해 두고, 주기 작업이 표시된 품목만 묶음 단위로 조회한다.
+ * 부족량 = 최소필요재고량 - (재고량 - 수주 예약량 + 아직 입고되지 않은 발주 수량)
+ * 부족한 품목은 가장 최근 발주 거래처/단가 기준으로 거래처별로 묶어 TXService.saveOrder 로 발주등록(저장) 상태의 발주를 만든다.
+ * 만든 발주는 다음 점검 때 입고 예정 수량에 포함되므로 같은 부족분을 두 번 발주하지 않는다.
+ * 발주 이력이 없는 품목(거래처를 알 수 없음)은 건너뛴다.
+ * 기본값은 꺼짐이며 reorder.enabled=true 로 켠다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReorderService {
+
+	private final InventoryRepository inventoryRepository;
+	private final StockReservationRepository stockReservationRepository;
+	private final OrderItemsRepository orderItemsRepository;
+	private final StockAlertService stockAlertService;
+	private final TXService txService;
+
+	@Value("${reorder.enabled:false}")
+	private boolean enabled;
+
+	// 자동 발주 담당자 (매니저 아이디)
+	@Value("${reorder.manager-id:admin}")
+	private String managerId;
+
+	// 발주일로부터 납기일까지 일수
+	@Value("${reorder.lead-days:3}")
+	private int leadDays;
+
+	// 한 번에 IN 조회할 품목 수
+	@Value("${reorder.chunk-size:1000}")
+	private int chunkSize;
+
+	// 점검 대상 품목
+	private final Set<String> dirtyItemCodes = ConcurrentHashMap.newKeySet();
+	private volatile boolean seeded;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onStockChanged(StockChangedEvent event) {
+		dirtyItemCodes.addAll(event.getItemCodes());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onReservationChanged(ReservationChangedEvent event) {
+		dirtyItemCodes.addAll(event.getItemCodes());
+	}
+
+	/**
+	 * 표시된 품목 점검 후 부족분 자동 발주
+	 * 첫 실행 때는 서버가 멈춰 있던 동안의 변경을 알 수 없으므로 재고 부족 알림이 들고 있는 부족 품목도 점검한다.
+	 */
+	@Scheduled(fixedDelayString = "${reorder.interval-ms:600000}", initialDelayString = "${reorder.initial-delay-ms:60000}")
+	public void run() {
+		if (!enabled) {
+			return;
+		}
+		if (!seeded) {
+			seeded = true;
+			for (InventoryItemDTO item : stockAlertService.getLowStockItems()) {
+				dirtyItemCodes.add(item.getItemCode());
+			}
+		}
+
+		// 점검 전에 지워서, 처리 중 다시 표시된 품목은 다음 주기에 한 번 더 점검되게 함
+		List<String> itemCodes = new ArrayList<>(dirtyItemCodes);
+		if (itemCodes.isEmpty()) {
+			return;
+		}
+		dirtyItemCodes.removeAll(itemCodes);
+
+		Map<String, Integer> shortfalls = new TreeMap<>();
+		Map<String, ReorderSourceDTO> sources = new HashMap<>();
+		for (int from = 0; from < itemCodes.size(); from += chunkSize) {
+			List<String> chunk = itemCodes.subList(from, Math.min(from + chunkSize, itemCodes.size()));
+			Map<String, Integer> chunkShortfalls = findShortfalls(chunk);
+			if (chunkShortfalls.isEmpty()) {
+				continue;
+			}
+			shortfalls.putAll(chunkShortfalls);
+			for (ReorderSourceDTO source : orderItemsRepository.findLatestOrderLinesByItemCodes(chunkShortfalls.keySet())) {
+				sources.putIfAbsent(source.getItemCode(), source);
+			}
+		}
+		if (shortfalls.isEmpty()) {
+			return;
+		}
+
+		// 거래처별로 묶음
+		Map<String, List<OrderItemsDTO>> bySupplier = new TreeMap<>();
+		List<String> noSupplier = new ArrayList<>();
+		shortfalls.forEach((itemCode, shortfall) -> {
+			ReorderSourceDTO source = sources.get(itemCode);
+			if (source == null) {
+				noSupplier.add(itemCode);
+				return;
+			}
+			OrderItemsDTO item = new OrderItemsDTO();
+			item.setItemCode(itemCode);
+			item.setQuantity(shortfall);
+			item.setPrice(source.getPrice());
+			item.setSubtotalPrice(source.getPrice() * shortfall);
+			bySupplier.computeIfAbsent(source.getSupplierCode(), code -> new ArrayList<>()).add(item);
+		});
+		if (!noSupplier.isEmpty()) {
+			log.warn("자동 발주 - 발주 이력이 없어 거래처를 알 수 없는 품목 {}건 건너뜀 : {}", noSupplier.size(), noSupplier);
+		}
+
+		int created = 0;
+		for (Map.Entry<String, List<OrderItemsDTO>> entry : bySupplier.entrySet()) {
+			if (saveOrder(entry.getKey(), entry.getValue())) {
+				created++;
+			}
+		}
+		log.info("자동 발주 - 점검 품목 {}건, 부족 품목 {}건, 발주 {}건", itemCodes.size(), shortfalls.size(), created);
+	}
+
+	// 품목코드 -> 부족량 (최소필요재고량이 설정된 품목만)
+	private Map<String, Integer> findShortfalls(List<String> itemCodes) {
+		List<InventoryItemDTO> items = inventoryRepository.findInventoryItemsByItemCodes(itemCodes);
+		List<String> candidates = new ArrayList<>();
+		for (InventoryItemDTO item : items) {
+			if (item.getMinReqQuantity() != null && item.getMinReqQuantity() > 0) {
+				candidates.add(item.getItemCode());
+			}
+		}
+		if (candidates.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<String, Long> reserved = toMap(stockReservationRepository.sumReservedByItemCodes(candidates));
+		Map<String, Long> openOrders = toMap(orderItemsRepository.findOpenOrderQuantitiesByItemCodes(candidates));
+
+		Map<String, Integer> shortfalls = new HashMap<>();
+		for (InventoryItemDTO item : items) {
+			if (item.getMinReqQuantity() == null || item.getMinReqQuantity() <= 0) {
+				continue;
+			}
+			long quantity = item.getQuantity() == null ? 0 : item.getQuantity();
+			long projected = quantity - reserved.getOrDefault(item.getItemCode(), 0L)
+					+ openOrders.getOrDefault(item.getItemCode(), 0L);
+			long shortfall = item.getMinReqQuantity() - projected;
+			if (shortfall > 0) {
+				shortfalls.put(item.getItemCode(), (int) shortfall);
+			}
+		}
+		return shortfalls;
+	}
+
+	// 거래처 하나의 발주 등록, 실패하면 품목을 다시 점검 대상으로 표시
+	private boolean saveOrder(String supplierCode, List<OrderItemsDTO> items) {
+		LocalDate today = LocalDate.now();
+		OrderDTO order = new OrderDTO();
+		order.setSupplierCode(supplierCode);
+		order.setManager(managerId);
+		order.setOrderDate(Timestamp.valueOf(today.atStartOfDay()));
+		order.setDueDate(Timestamp.valueOf(today.plusDays(leadDays).atStartOfDay()));
+		order.setTotalPrice(items.stream().mapToInt(OrderItemsDTO::getSubtotalPrice).sum());
+		order.setNote("자동 발주 (최소필요재고량 미달)");
+
+		if (!txService.checkValidation(order)) {
+			log.warn("자동 발주 - 담당자({}) 또는 거래처({})가 없어 발주하지 않음", managerId, supplierCode);
+			// 설정/거래처가 고쳐지면 다음 주기에 다시 발주되도록
+			items.forEach(item -> dirtyItemCodes.add(item.getItemCode()));
+			return false;
+		}
+		try {
+			txService.saveOrder(order, items);
+			return true;
+		} catch (RuntimeException e) {
+			log.error("자동 발주 실패 - 거래처 {}", supplierCode, e);
+			items.forEach(item -> dirtyItemCodes.add(item.getItemCode()));
+			return false;
+		}
+	}
+
+	private static Map<String, Long> toMap(List<ItemQuantityDTO> quantities) {
+		Map<String, Long> map = new HashMap<>();
+		for (ItemQuantityDTO quantity : quantities) {
+			map.put(quantity.getItemCode(), quantity.getQuantity() == null ? 0L : quantity.getQuantity());
+		}
+		return map;
+	}
+}
@@ -0,0 +1,110 @@
+package com.itwillbs.service;
+
+import java.util.List;
+import java.util.logging.Level;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.itwillbs.domain.transaction.SaleDTO;
+import com.itwillbs.entity.ShipReadyQueue;
+import com.itwillbs.repository.ShipReadyQueueRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+
+/**
+ * 출하 대기 큐 관리
+ * 출고 완료(InventoryService.updateOutgoingStatus) 시 수주를 넣고, 출하 등록(TXService.saveShip) 시 뺀다.
+ * 큐 행에 복사해 둔 수주/가맹점/품목 정보는 원본이 수정될 때 refresh* 로 다시 맞춘다.
+ * 호출한 쪽 트랜잭션에 참여하므로 출고/출하 처리와 함께 커밋/롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log
+public class ShipReadyQueueService {
+
+	private final ShipReadyQueueRepository shipReadyQueueRepository;
+
+	// 출고 완료된 수주를 큐에 추가 (이미 출하 등록됐으면 추가하지 않음)
+	@Transactional
+	public void enqueue(String saleId) {
+		List<ShipReadyQueue> rows = shipReadyQueueRepository.findReadyToShip(saleId);
+		if (!rows.isEmpty()) {
+			shipReadyQueueRepository.saveAll(rows);
+		}
+	}
+
+	// 출하 등록된 수주를 큐에서 제거
+	@Transactional
+	public void dequeue(String saleId) {
+		shipReadyQueueRepository.deleteBySaleId(saleId);
+	}
+
+	// 수주 수정 시 큐에 있는 수주면 행을 다시 계산 (더 이상 출하 대상이 아니면 제거)
+	@Transactional
+	public void refreshSale(String saleId) {
+		if (!shipReadyQueueRepository.existsById(saleId)) {
+			return;
+		}
+		List<ShipReadyQueue> rows = shipReadyQueueRepository.findReadyToShip(saleId);
+		if (rows.isEmpty()) {
+			shipReadyQueueRepository.deleteBySaleId(saleId);
+		} else {
+			shipReadyQueueRepository.saveAll(rows);
+		}
+	}
+
+	// 가맹점명 변경 반영
+	@Transactional
+	public void refreshFranchise(String franchiseCode, String franchiseName) {
+		shipReadyQueueRepository.updateFranchiseName(franchiseCode, franchiseName);
+	}
+
+	// 품목명 변경 반영
+	@Transactional
+	public void refreshItem(String itemCode, String itemName) {
+		shipReadyQueueRepository.updateFirstItemName(itemCode, itemName);
+	}
+
+	// 출하 대상 목록 (납기일 순)
+	@Transactional(readOnly = true)
+	public List<SaleDTO> findAll() {
+		return shipReadyQueueRepository.findAllByOrderByDueDateAsc().stream().map(this::toSaleDTO).toList();
+	}
+
+	/**
+	 * 큐 테이블이 비어 있으면 기존 출고/출하 데이터로 한 번 채운다. (배포 직후 초기 적재)
+	 * 실패해도(테이블 미생성 등) 서버 기동은 계속하고, 다음 기동 때 다시 시도한다. 적재는 saveAll 한 트랜잭션.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		try {
+			if (shipReadyQueueRepository.count() > 0) {
+				return;
+			}
+			List<ShipReadyQueue> rows = shipReadyQueueRepository.findReadyToShip(null);
+			shipReadyQueueRepository.saveAll(rows);
+			log.info("출하 대기 큐 초기 적재: " + rows.size() + "건");
+		} catch (RuntimeException e) {
+			log.log(Level.SEVERE, "출하 대기 큐 초기 적재 실패 (ship_ready_queue 테이블 확인 필요)", e);
+		}
+	}
+
+	private SaleDTO toSaleDTO(ShipReadyQueue row) {
+		SaleDTO dto = new SaleDTO();
+		dto.setSaleId(row.getSaleId());
+		dto.setTotalPrice(row.getTotalPrice());
+		dto.setOrderDate(row.getOrderDate());
+		dto.setDueDate(row.getDueDate());
+		dto.setFranchiseCode(row.getFranchiseCode());
+		dto.setFranchiseName(row.getFranchiseName());
+		dto.setOutGoingId(row.getOutgoingId());
+		dto.setOutGoingStatus(row.getOutgoingStatus());
+		dto.setItemName(row.getItemName());
+		dto.setItemCount(row.getItemCount());
+		return dto;
+	}
+}
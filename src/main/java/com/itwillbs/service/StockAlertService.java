@@ -0,0 +1,146 @@
+package com.itwillbs.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.itwillbs.domain.inventory.InventoryItemDTO;
+import com.itwillbs.domain.inventory.StockAlertDTO;
+import com.itwillbs.domain.inventory.StockChangedEvent;
+import com.itwillbs.repository.InventoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 부족 알림 (SSE)
+ *
+ * 최소필요재고량 미만인 품목을 메모리에 들고 있다가, 재고 변동이 커밋되면(StockChangedEvent)
+ * 바뀐 품목만 다시 조회해서 기준선을 넘나든 품목만 구독자에게 보낸다.
+ * 화면은 접속 시 snapshot 한 번, 이후 LOW / CLEARED 알림만 받는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockAlertService {
+
+	private final InventoryRepository inventoryRepository;
+
+	// 현재 재고 부족 품목 (품목코드 -> 재고 정보)
+	private final Map<String, InventoryItemDTO> lowStockItems = new ConcurrentHashMap<>();
+	private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+	@Value("${notification.sse.timeout-ms:1800000}")
+	private long emitterTimeout;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		for (InventoryItemDTO item : inventoryRepository.findLowStockItems()) {
+			lowStockItems.put(item.getItemCode(), item);
+		}
+		log.info("재고 부족 알림 초기 적재 - {}건", lowStockItems.size());
+	}
+
+	/**
+	 * 재고 변동 커밋 후 기준선(최소필요재고량)을 넘나든 품목만 알림
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onStockChanged(StockChangedEvent event) {
+		if (event.getItemCodes().isEmpty()) {
+			return;
+		}
+		Map<String, InventoryItemDTO> current = new HashMap<>();
+		for (InventoryItemDTO item : inventoryRepository.findInventoryItemsByItemCodes(event.getItemCodes())) {
+			current.put(item.getItemCode(), item);
+		}
+
+		for (String itemCode : event.getItemCodes()) {
+			InventoryItemDTO item = current.get(itemCode);
+			boolean low = item != null && isLow(item);
+			if (low) {
+				boolean crossed = lowStockItems.put(itemCode, item) == null;
+				if (crossed) {
+					send(toAlert(StockAlertDTO.TYPE_LOW, item));
+				}
+			} else {
+				InventoryItemDTO previous = lowStockItems.remove(itemCode);
+				if (previous != null) {
+					send(toAlert(StockAlertDTO.TYPE_CLEARED, item != null ? item : previous));
+				}
+			}
+		}
+	}
+
+	// 현재 재고 부족 품목 (품목코드 순)
+	public List<InventoryItemDTO> getLowStockItems() {
+		List<InventoryItemDTO> items = new ArrayList<>(lowStockItems.values());
+		items.sort(Comparator.comparing(InventoryItemDTO::getItemCode));
+		return items;
+	}
+
+	/**
+	 * SSE 구독, 접속 직후 현재 부족 품목 전체를 snapshot 으로 보낸다.
+	 */
+	public SseEmitter subscribe() {
+		SseEmitter emitter = new SseEmitter(emitterTimeout);
+		emitter.onCompletion(() -> emitters.remove(emitter));
+		emitter.onTimeout(() -> emitters.remove(emitter));
+		emitter.onError(e -> emitters.remove(emitter));
+		emitters.add(emitter);
+
+		try {
+			emitter.send(SseEmitter.event().name("snapshot").data(getLowStockItems()));
+		} catch (IOException e) {
+			emitters.remove(emitter);
+			emitter.completeWithError(e);
+		}
+		return emitter;
+	}
+
+	// 프록시/브라우저 연결 유지용, 끊긴 구독자는 여기서 정리된다.
+	@Scheduled(fixedDelayString = "${notification.sse.heartbeat-ms:30000}")
+	public void heartbeat() {
+		for (SseEmitter emitter : emitters) {
+			try {
+				emitter.send(SseEmitter.event().comment("keep-alive"));
+			} catch (IOException | IllegalStateException e) {
+				emitters.remove(emitter);
+			}
+		}
+	}
+
+	private void send(StockAlertDTO alert) {
+		log.info("재고 알림 - {}", alert);
+		for (SseEmitter emitter : emitters) {
+			try {
+				emitter.send(SseEmitter.event().name("stock").data(alert));
+			} catch (IOException | IllegalStateException e) {
+				emitters.remove(emitter);
+			}
+		}
+	}
+
+	private boolean isLow(InventoryItemDTO item) {
+		return item.getQuantity() != null && item.getMinReqQuantity() != null
+				&& item.getQuantity() < item.getMinReqQuantity();
+	}
+
+	private StockAlertDTO toAlert(String type, InventoryItemDTO item) {
+		return new StockAlertDTO(type, item.getItemCode(), item.getItemName(), item.getQuantity(),
+				item.getMinReqQuantity());
+	}
+}
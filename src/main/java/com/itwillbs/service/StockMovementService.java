@@ -0,0 +1,99 @@
+package com.itwillbs.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.itwillbs.domain.inventory.StockChangedEvent;
+import com.itwillbs.entity.InventoryMovement;
+import com.itwillbs.repository.InventoryMovementRepository;
+import com.itwillbs.repository.InventoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 증감 처리.
+ *
+ * 재고량을 자바로 읽어 더한 뒤 저장하지 않고 UPDATE ... SET quantity = quantity + ? 로 반영한다.
+ * 한 문서(입고/출고)의 품목들은 품목코드 순으로 정렬해 하나의 배치로 보내므로 잠금 순서가 항상 같고,
+ * 반영한 변동은 inventory_movement 원장에 함께 기록하고, 커밋 후 재고 알림용 StockChangedEvent 를 발행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockMovementService {
+
+	private final InventoryRepository inventoryRepository;
+	private final InventoryMovementRepository inventoryMovementRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 재고 증감 반영 + 원장 기록
+	 *
+	 * @param movementType 입고, 출고, 재고조정
+	 * @param referenceId  입고번호, 출고번호 등
+	 * @param deltas       품목코드별 증감량 (같은 품목이 여러 번 있으면 합산해서 전달)
+	 */
+	@Transactional
+	public void applyMovements(String movementType, String referenceId, Map<String, Integer> deltas) {
+		SortedMap<String, Integer> sortedDeltas = new TreeMap<>();
+		deltas.forEach((itemCode, delta) -> {
+			if (delta != null && delta != 0) {
+				sortedDeltas.merge(itemCode, delta, Integer::sum);
+			}
+		});
+		if (sortedDeltas.isEmpty()) {
+			return;
+		}
+
+		// 재고 행이 없는 품목은 0에서 시작하도록 먼저 생성
+		Set<String> existingCodes = new HashSet<>(inventoryRepository.findExistingItemCodes(sortedDeltas.keySet()));
+		SortedMap<String, Integer> missing = new TreeMap<>();
+		for (String itemCode : sortedDeltas.keySet()) {
+			if (!existingCodes.contains(itemCode)) {
+				missing.put(itemCode, 0);
+			}
+		}
+		if (!missing.isEmpty()) {
+			log.info("재고 행이 없어 새로 생성 - {}", missing.keySet());
+			inventoryRepository.insertInventoryItems(missing);
+		}
+
+		inventoryRepository.batchAddQuantities(sortedDeltas);
+
+		recordMovements(movementType, referenceId, sortedDeltas);
+
+		log.info("재고 변동 반영 - {} {} : {}", movementType, referenceId, sortedDeltas);
+	}
+
+	/**
+	 * 이미 재고에 반영된 변동을 원장에만 기록 (재고량 직접 수정 등)
+	 * 변동 0 인 품목(최소필요재고량만 수정 등)도 재고 알림 갱신 대상으로 이벤트에 포함한다.
+	 */
+	@Transactional
+	public void recordMovements(String movementType, String referenceId, Map<String, Integer> deltas) {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		List<InventoryMovement> movements = new ArrayList<>(deltas.size());
+		new TreeMap<>(deltas).forEach((itemCode, delta) -> {
+			if (delta != null && delta != 0) {
+				movements.add(new InventoryMovement(null, itemCode, delta, movementType, referenceId, now));
+			}
+		});
+		if (!movements.isEmpty()) {
+			inventoryMovementRepository.insertAll(movements);
+		}
+		if (!deltas.isEmpty()) {
+			eventPublisher.publishEvent(new StockChangedEvent(new HashSet<>(deltas.keySet())));
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.itwillbs.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.itwillbs.domain.transaction.ReservationChangedEvent;
+import com.itwillbs.domain.transaction.SaleItemQuantityDTO;
+import com.itwillbs.domain.transaction.SaleItemsDTO;
+import com.itwillbs.entity.StockReservation;
+import com.itwillbs.repository.StockReservationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수주 재고 예약 (소프트 예약)
+ *
+ * 수주 등록 시 품목별 수량을 예약하고, 수주 취소 시 해제, 수주 출고 완료 시 소진한다.
+ * 재고가 모자라도 수주는 막지 않으며 (가용재고가 음수가 됨), 재고량 자체는 출고 완료 때 StockMovementService 가 뺀다.
+ * 바뀐 품목은 커밋 후 가용재고 캐시(AtpService) 갱신용 ReservationChangedEvent 로 알린다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationService {
+
+	private final StockReservationRepository stockReservationRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 수주 품목 예약 (같은 품목이 여러 줄이면 합산)
+	 */
+	@Transactional
+	public void reserve(String saleId, List<SaleItemsDTO> saleItems) {
+		Map<String, Integer> quantities = new TreeMap<>();
+		for (SaleItemsDTO item : saleItems) {
+			if (item.getItemCode() != null && item.getQuantity() > 0) {
+				quantities.merge(item.getItemCode(), item.getQuantity(), Integer::sum);
+			}
+		}
+		if (quantities.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		List<StockReservation> reservations = new ArrayList<>(quantities.size());
+		quantities.forEach((itemCode, quantity) -> reservations.add(
+				new StockReservation(null, saleId, itemCode, quantity, StockReservation.STATUS_RESERVED, now, now)));
+		stockReservationRepository.insertAll(reservations);
+
+		log.info("재고 예약 - {} : {}", saleId, quantities);
+		eventPublisher.publishEvent(new ReservationChangedEvent(new HashSet<>(quantities.keySet())));
+	}
+
+	/**
+	 * 예약 기록이 없는 미출고 수주(예약 기능 도입 전 등록분 등)의 남은 수량을 예약
+	 * 예약 기록이 있는 수주는 건너뛰므로 여러 번 실행해도 중복 예약되지 않는다.
+	 *
+	 * @return 예약한 수주 수
+	 */
+	@Transactional
+	public int reserveOpenSales() {
+		List<SaleItemQuantityDTO> quantities = stockReservationRepository.findUnreservedOpenSaleQuantities();
+		if (quantities.isEmpty()) {
+			return 0;
+		}
+
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		List<StockReservation> reservations = new ArrayList<>(quantities.size());
+		Set<String> saleIds = new HashSet<>();
+		Set<String> itemCodes = new HashSet<>();
+		for (SaleItemQuantityDTO quantity : quantities) {
+			if (quantity.getQuantity() == null || quantity.getQuantity() <= 0) {
+				continue;
+			}
+			reservations.add(new StockReservation(null, quantity.getSaleId(), quantity.getItemCode(),
+					quantity.getQuantity().intValue(), StockReservation.STATUS_RESERVED, now, now));
+			saleIds.add(quantity.getSaleId());
+			itemCodes.add(quantity.getItemCode());
+		}
+		if (reservations.isEmpty()) {
+			return 0;
+		}
+		stockReservationRepository.insertAll(reservations);
+
+		log.info("미출고 수주 재고 예약 보정 - 수주 {}건, 예약 {}건", saleIds.size(), reservations.size());
+		eventPublisher.publishEvent(new ReservationChangedEvent(itemCodes));
+		return saleIds.size();
+	}
+
+	/**
+	 * 수주 취소/수정 시 예약 해제
+	 */
+	@Transactional
+	public void release(String saleId) {
+		changeStatus(saleId, StockReservation.STATUS_RELEASED);
+	}
+
+	/**
+	 * 수주 출고 완료 시 예약 소진 (재고량 차감과 같은 트랜잭션)
+	 */
+	@Transactional
+	public void consume(String saleId) {
+		changeStatus(saleId, StockReservation.STATUS_CONSUMED);
+	}
+
+	private void changeStatus(String saleId, String status) {
+		Set<String> itemCodes = new HashSet<>(stockReservationRepository.findReservedItemCodes(saleId));
+		if (itemCodes.isEmpty()) {
+			return;
+		}
+		int updated = stockReservationRepository.updateReservedStatus(saleId, status,
+				new Timestamp(System.currentTimeMillis()));
+
+		log.info("재고 예약 {} - {} : {}건", status, saleId, updated);
+		eventPublisher.publishEvent(new ReservationChangedEvent(itemCodes));
+	}
+}
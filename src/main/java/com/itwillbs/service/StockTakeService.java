@@ -0,0 +1,469 @@
+package com.itwillbs.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.itwillbs.entity.InventoryMovement;
+import com.itwillbs.entity.StockTake;
+import com.itwillbs.repository.InventoryRepository;
+import com.itwillbs.repository.ItemRepository;
+import com.itwillbs.repository.StockTakeRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고실사 파일 반영 (CSV : 품목코드,실사수량)
+ *
+ * 업로드 파일을 저장해 두고 한 줄씩 읽으면서 chunk-size 행마다 한 트랜잭션으로 반영한다.
+ * 품목코드는 시작할 때 전체 코드를 한 번 읽어 메모리에서 검증하고,
+ * 묶음마다 해당 품목 재고 행을 잠가 현재 재고량과 비교한 뒤 차이가 있는 품목만 JDBC 배치로 바꾼다.
+ * 차이는 재고 변동 원장(재고실사)에 남기고, 행별 결과는 차이 보고서 CSV 에 쓴다.
+ *
+ * 묶음과 같은 트랜잭션에서 처리한 행 번호와 보고서 크기를 stock_take 에 기록하므로
+ * 중간에 실패해도 resume 하면 커밋된 다음 행부터 이어서 반영한다. 메모리에는 품목코드와 한 묶음만 둔다.
+ *
+ * 화면/API 요청은 실사번호를 먼저 만들어 돌려주고 반영은 전용 스레드에서 한 건씩 진행한다. (상태는 getStockTake 로 조회)
+ */
+@Service
+@Slf4j
+public class StockTakeService {
+
+	private static final String REPORT_HEADER = "\uFEFF행번호,품목코드,실사수량,전산재고,차이,결과\r\n";
+
+	private final StockTakeRepository stockTakeRepository;
+	private final InventoryRepository inventoryRepository;
+	private final ItemRepository itemRepository;
+	private final StockMovementService stockMovementService;
+	private final DocumentIdAllocator documentIdAllocator;
+	// 묶음 반영 + 진행 상태 기록을 한 트랜잭션으로 (반복문 안에서 호출하므로 프록시 대신 템플릿 사용)
+	private final TransactionTemplate transactionTemplate;
+
+	// 이 서버에서 반영 중이거나 대기 중인 재고실사 (같은 실사를 동시에 두 번 반영하지 않게)
+	private final Set<String> running = ConcurrentHashMap.newKeySet();
+	// 백그라운드 반영 스레드 (실사끼리 재고 행 잠금이 겹치지 않게 한 건씩)
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "stock-take");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// 업로드 파일, 차이 보고서 저장 위치
+	@Value("${stock-take.dir:stock-take}")
+	private String directory;
+
+	// 한 트랜잭션으로 반영할 행 수
+	@Value("${stock-take.chunk-size:1000}")
+	private int chunkSize;
+
+	public StockTakeService(StockTakeRepository stockTakeRepository, InventoryRepository inventoryRepository,
+			ItemRepository itemRepository, StockMovementService stockMovementService,
+			DocumentIdAllocator documentIdAllocator, PlatformTransactionManager transactionManager) {
+		this.stockTakeRepository = stockTakeRepository;
+		this.inventoryRepository = inventoryRepository;
+		this.itemRepository = itemRepository;
+		this.stockMovementService = stockMovementService;
+		this.documentIdAllocator = documentIdAllocator;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// 반영 중인 묶음은 롤백되고, 다음 resume 때 커밋된 다음 행부터 이어간다.
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 실사 파일을 저장하고 실사번호를 만든 뒤 반영은 백그라운드에서 시작
+	 * 반영 중 실패해도 돌려준 실사번호로 상태 조회와 resume 을 할 수 있다.
+	 */
+	public StockTake importFile(MultipartFile file, String managerId) throws IOException {
+		String stockTakeId = register(file, managerId).getStockTakeId();
+		try {
+			return resumeAsync(stockTakeId);
+		} catch (RuntimeException e) {
+			// 반영을 시작하지 못해도 실패 상태로 남은 실사번호를 돌려줘 resume 할 수 있게
+			return getStockTake(stockTakeId);
+		}
+	}
+
+	/**
+	 * 실사 파일 저장 + 실사번호 발급 (반영 전, 진행 0행)
+	 */
+	public StockTake register(MultipartFile file, String managerId) throws IOException {
+		String stockTakeId = documentIdAllocator.nextId("ST", 4,
+				() -> DocumentIdAllocator.numericPart(stockTakeRepository.findMaxStockTakeId(), "ST"));
+
+		Files.createDirectories(dir());
+		file.transferTo(sourcePath(stockTakeId));
+		Files.writeString(reportPath(stockTakeId), REPORT_HEADER, StandardCharsets.UTF_8);
+
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		StockTake stockTake = new StockTake();
+		stockTake.setStockTakeId(stockTakeId);
+		stockTake.setFileName(file.getOriginalFilename());
+		stockTake.setStatus(StockTake.STATUS_IN_PROGRESS);
+		stockTake.setReportSize(Files.size(reportPath(stockTakeId)));
+		stockTake.setManagerId(managerId);
+		stockTake.setCreatedAt(now);
+		stockTake.setUpdatedAt(now);
+		stockTakeRepository.save(stockTake);
+
+		log.info("재고실사 등록 - {} {} ({}bytes)", stockTakeId, file.getOriginalFilename(), file.getSize());
+		return stockTake;
+	}
+
+	/**
+	 * 마지막으로 커밋된 행 다음부터 백그라운드에서 이어서 반영하고 진행중 상태를 바로 반환 (완료된 실사는 그대로 반환)
+	 */
+	public StockTake resumeAsync(String stockTakeId) {
+		StockTake stockTake = getStockTake(stockTakeId);
+		if (StockTake.STATUS_COMPLETED.equals(stockTake.getStatus())) {
+			return stockTake;
+		}
+		if (!running.add(stockTakeId)) {
+			throw new IllegalStateException("이미 반영 중인 재고실사입니다: " + stockTakeId);
+		}
+		try {
+			markInProgress(stockTake);
+			executor.execute(() -> {
+				try {
+					apply(stockTake);
+				} catch (IOException | RuntimeException e) {
+					// apply 에서 실패 상태와 로그를 남김
+				} finally {
+					running.remove(stockTakeId);
+				}
+			});
+		} catch (RuntimeException e) {
+			// RejectedExecutionException (종료 중) 등
+			running.remove(stockTakeId);
+			markFailed(stockTakeId, e);
+			throw e;
+		}
+		return stockTake;
+	}
+
+	/**
+	 * 마지막으로 커밋된 행 다음부터 호출한 스레드에서 이어서 반영 (완료된 실사는 그대로 반환)
+	 */
+	public StockTake resume(String stockTakeId) throws IOException {
+		StockTake stockTake = getStockTake(stockTakeId);
+		if (StockTake.STATUS_COMPLETED.equals(stockTake.getStatus())) {
+			return stockTake;
+		}
+		if (!running.add(stockTakeId)) {
+			throw new IllegalStateException("이미 반영 중인 재고실사입니다: " + stockTakeId);
+		}
+		try {
+			markInProgress(stockTake);
+			return apply(stockTake);
+		} finally {
+			running.remove(stockTakeId);
+		}
+	}
+
+	public StockTake getStockTake(String stockTakeId) {
+		return stockTakeRepository.findById(stockTakeId)
+				.orElseThrow(() -> new EntityNotFoundException("해당 재고실사가 존재하지 않습니다: " + stockTakeId));
+	}
+
+	public Path getReportPath(String stockTakeId) {
+		getStockTake(stockTakeId);
+		return reportPath(stockTakeId);
+	}
+
+	private void markInProgress(StockTake stockTake) {
+		stockTake.setStatus(StockTake.STATUS_IN_PROGRESS);
+		stockTake.setErrorMessage(null);
+		stockTake.setUpdatedAt(new Timestamp(System.currentTimeMillis()));
+		stockTakeRepository.save(stockTake);
+	}
+
+	// 반영 후 완료 표시, 실패하면 실패 표시 후 예외를 그대로 던짐
+	private StockTake apply(StockTake stockTake) throws IOException {
+		String stockTakeId = stockTake.getStockTakeId();
+		long startNanos = System.nanoTime();
+		try {
+			applyLines(stockTake);
+
+			stockTake.setStatus(StockTake.STATUS_COMPLETED);
+			stockTake.setUpdatedAt(new Timestamp(System.currentTimeMillis()));
+			stockTakeRepository.save(stockTake);
+			log.info("재고실사 반영 완료 - {} 행 {}건 (정상 {}, 오류 {}), 조정 품목 {}건, {}ms", stockTakeId,
+					stockTake.getProcessedLines(), stockTake.getValidLines(), stockTake.getInvalidLines(),
+					stockTake.getAdjustedItems(), (System.nanoTime() - startNanos) / 1_000_000);
+			return stockTake;
+		} catch (IOException | RuntimeException e) {
+			log.error("재고실사 반영 실패 - {} {}행까지 반영됨", stockTakeId, stockTake.getProcessedLines(), e);
+			markFailed(stockTakeId, e);
+			throw e;
+		}
+	}
+
+	private void applyLines(StockTake stockTake) throws IOException {
+		String stockTakeId = stockTake.getStockTakeId();
+		Set<String> itemCodes = new HashSet<>(itemRepository.findAllItemCodes());
+
+		try (FileChannel report = FileChannel.open(reportPath(stockTakeId), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE);
+				BufferedReader reader = Files.newBufferedReader(sourcePath(stockTakeId), StandardCharsets.UTF_8)) {
+			// 커밋되지 않은 묶음이 써 둔 보고서 행은 버림
+			report.truncate(stockTake.getReportSize());
+			report.position(stockTake.getReportSize());
+			Writer reportWriter = Channels.newWriter(report, StandardCharsets.UTF_8);
+
+			List<CountLine> chunk = new ArrayList<>(chunkSize);
+			long lineNumber = 0;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (lineNumber <= stockTake.getProcessedLines()) {
+					continue;
+				}
+				CountLine countLine = parse(lineNumber, line, itemCodes);
+				if (countLine != null) {
+					chunk.add(countLine);
+				}
+				if (chunk.size() >= chunkSize) {
+					applyChunk(stockTake, chunk, lineNumber, reportWriter, report);
+					chunk.clear();
+				}
+			}
+			// 마지막 묶음 (빈 줄, 헤더만 남았어도 처리 행 번호는 기록)
+			if (!chunk.isEmpty() || lineNumber > stockTake.getProcessedLines()) {
+				applyChunk(stockTake, chunk, lineNumber, reportWriter, report);
+			}
+		}
+	}
+
+	/**
+	 * 한 묶음 반영 : 재고 행 잠금 → 차이 있는 품목만 배치 반영 → 원장 기록 → 보고서 쓰기 → 진행 상태 기록
+	 * 보고서는 커밋 전에 쓰고 크기를 같이 커밋하므로, 롤백되면 다음 resume 때 잘려 나간다.
+	 */
+	private void applyChunk(StockTake stockTake, List<CountLine> chunk, long lastLineNumber, Writer reportWriter,
+			FileChannel report) {
+		transactionTemplate.executeWithoutResult(status -> {
+			// 묶음 안에서 같은 품목이 여러 번 나오면 마지막 행 기준
+			SortedMap<String, CountLine> counted = new TreeMap<>();
+			for (CountLine line : chunk) {
+				if (line.error == null) {
+					counted.put(line.itemCode, line);
+				}
+			}
+
+			Map<String, Integer> before = counted.isEmpty() ? Map.of()
+					: inventoryRepository.lockQuantities(counted.keySet());
+			SortedMap<String, Integer> changed = new TreeMap<>();
+			SortedMap<String, Integer> missing = new TreeMap<>();
+			Map<String, Integer> deltas = new HashMap<>();
+			counted.forEach((itemCode, line) -> {
+				Integer current = before.get(itemCode);
+				if (current == null) {
+					missing.put(itemCode, line.quantity);
+				} else if (current != line.quantity) {
+					changed.put(itemCode, line.quantity);
+				}
+				int delta = line.quantity - (current == null ? 0 : current);
+				if (delta != 0) {
+					deltas.put(itemCode, delta);
+				}
+			});
+			if (!changed.isEmpty()) {
+				inventoryRepository.batchSetQuantities(changed);
+			}
+			if (!missing.isEmpty()) {
+				inventoryRepository.insertInventoryItems(missing);
+			}
+			stockMovementService.recordMovements(InventoryMovement.TYPE_STOCK_TAKE, stockTake.getStockTakeId(), deltas);
+
+			long valid = 0;
+			long invalid = 0;
+			try {
+				for (CountLine line : chunk) {
+					if (line.error != null) {
+						invalid++;
+						writeReportLine(reportWriter, line.lineNumber, line.itemCode, line.rawQuantity, "", "", line.error);
+						continue;
+					}
+					valid++;
+					Integer current = before.get(line.itemCode);
+					int beforeQuantity = current == null ? 0 : current;
+					String result;
+					if (counted.get(line.itemCode) != line) {
+						result = "중복 (뒤 행 반영)";
+					} else if (current == null) {
+						result = "재고 행 생성";
+					} else {
+						result = line.quantity == beforeQuantity ? "일치" : "조정";
+					}
+					writeReportLine(reportWriter, line.lineNumber, line.itemCode, String.valueOf(line.quantity),
+							String.valueOf(beforeQuantity), String.valueOf(line.quantity - beforeQuantity), result);
+				}
+				reportWriter.flush();
+				long reportSize = report.position();
+
+				stockTake.setProcessedLines(lastLineNumber);
+				stockTake.setValidLines(stockTake.getValidLines() + valid);
+				stockTake.setInvalidLines(stockTake.getInvalidLines() + invalid);
+				stockTake.setAdjustedItems(stockTake.getAdjustedItems() + deltas.size());
+				stockTake.setReportSize(reportSize);
+				stockTake.setUpdatedAt(new Timestamp(System.currentTimeMillis()));
+				stockTakeRepository.updateProgress(stockTake.getStockTakeId(), stockTake.getProcessedLines(),
+						stockTake.getValidLines(), stockTake.getInvalidLines(), stockTake.getAdjustedItems(),
+						reportSize, stockTake.getUpdatedAt());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	// 실패 표시 (진행 상태는 마지막 커밋 기준 그대로 둠)
+	private void markFailed(String stockTakeId, Exception e) {
+		try {
+			stockTakeRepository.findById(stockTakeId).ifPresent(stockTake -> {
+				String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+				stockTake.setStatus(StockTake.STATUS_FAILED);
+				stockTake.setErrorMessage(message.length() > 500 ? message.substring(0, 500) : message);
+				stockTake.setUpdatedAt(new Timestamp(System.currentTimeMillis()));
+				stockTakeRepository.save(stockTake);
+			});
+		} catch (RuntimeException suppressed) {
+			e.addSuppressed(suppressed);
+		}
+	}
+
+	/**
+	 * 한 줄 해석, 빈 줄과 헤더는 null
+	 * 첫 줄이 헤더인지는 내용으로 판단한다. (등록된 품목코드가 아니고 실사수량 자리가 숫자가 아닐 때)
+	 * 그 밖에 형식이 틀린 행은 첫 줄이라도 오류 행으로 보고서에 남긴다.
+	 */
+	private CountLine parse(long lineNumber, String line, Set<String> itemCodes) {
+		if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+			line = line.substring(1);
+		}
+		if (line.isBlank()) {
+			return null;
+		}
+		int comma = line.indexOf(',');
+		String itemCode = (comma < 0 ? line : line.substring(0, comma)).trim();
+		String rawQuantity = comma < 0 ? "" : line.substring(comma + 1).trim();
+		// 수량 뒤에 다른 열이 더 있으면 무시
+		int nextComma = rawQuantity.indexOf(',');
+		if (nextComma >= 0) {
+			rawQuantity = rawQuantity.substring(0, nextComma).trim();
+		}
+
+		Integer quantity = parseQuantity(rawQuantity);
+		if (lineNumber == 1 && isHeader(itemCode, rawQuantity, itemCodes)) {
+			return null;
+		}
+		if (!itemCodes.contains(itemCode)) {
+			return CountLine.error(lineNumber, itemCode, rawQuantity, "존재하지 않는 품목 코드입니다.");
+		}
+		if (quantity == null || quantity < 0) {
+			return CountLine.error(lineNumber, itemCode, rawQuantity, "실사수량이 올바르지 않습니다.");
+		}
+		return new CountLine(lineNumber, itemCode, quantity, rawQuantity, null);
+	}
+
+	private static boolean isHeader(String itemCode, String rawQuantity, Set<String> itemCodes) {
+		return !itemCodes.contains(itemCode) && !rawQuantity.isEmpty() && !rawQuantity.matches("[-+]?\\d+");
+	}
+
+	private static Integer parseQuantity(String value) {
+		try {
+			return value.isEmpty() ? null : Integer.valueOf(value);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static void writeReportLine(Writer writer, long lineNumber, String itemCode, String counted,
+			String before, String variance, String result) throws IOException {
+		writer.write(Long.toString(lineNumber));
+		writer.write(',');
+		writer.write(csv(itemCode));
+		writer.write(',');
+		writer.write(csv(counted));
+		writer.write(',');
+		writer.write(before);
+		writer.write(',');
+		writer.write(variance);
+		writer.write(',');
+		writer.write(csv(result));
+		writer.write("\r\n");
+	}
+
+	private static String csv(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0) {
+			return '"' + value.replace("\"", "\"\"") + '"';
+		}
+		return value;
+	}
+
+	private Path dir() {
+		return Paths.get(directory);
+	}
+
+	private Path sourcePath(String stockTakeId) {
+		return dir().resolve(stockTakeId + ".csv").toAbsolutePath();
+	}
+
+	private Path reportPath(String stockTakeId) {
+		return dir().resolve(stockTakeId + "_variance.csv").toAbsolutePath();
+	}
+
+	// 실사 파일 한 행
+	private static final class CountLine {
+
+		final long lineNumber;
+		final String itemCode;
+		final int quantity;
+		final String rawQuantity;
+		final String error;
+
+		CountLine(long lineNumber, String itemCode, int quantity, String rawQuantity, String error) {
+			this.lineNumber = lineNumber;
+			this.itemCode = itemCode;
+			this.quantity = quantity;
+			this.rawQuantity = rawQuantity;
+			this.error = error;
+		}
+
+		static CountLine error(long lineNumber, String itemCode, String rawQuantity, String error) {
+			return new CountLine(lineNumber, itemCode, 0, rawQuantity, error);
+		}
+	}
+}
@@ -17,9 +17,11 @@ import com.itwillbs.repository.SupplierRepository;
 @Transactional(readOnly = true)
 public class SupplierService {
 	private final SupplierRepository supplierRepository;
+	private final DocumentIdAllocator documentIdAllocator;
 
-	public SupplierService(SupplierRepository supplierRepository) {
+	public SupplierService(SupplierRepository supplierRepository, DocumentIdAllocator documentIdAllocator) {
 		this.supplierRepository = supplierRepository;
+		this.documentIdAllocator = documentIdAllocator;
 	}
 
 	public Page<Supplier> searchSuppliers(SupplierSearchDTO searchDTO, Pageable pageable) {
@@ -33,6 +35,9 @@ public class SupplierService {
 
 	@Transactional
 	public Supplier saveSupplier(Supplier supplier) {
+		// 화면에 보여준 코드는 미리보기일 뿐이므로 저장할 때 실제 코드를 할당
+		// 코드 자릿수가 3자리뿐이라 번호 구간을 미리 잡아두지 않고 1개씩 할당
+		supplier.setSupplierCode(documentIdAllocator.nextId("SUP", 3, 1, this::lastSupplierNumber));
 		validateDuplicate(supplier);
 		return supplierRepository.save(supplier);
 	}
@@ -59,12 +64,12 @@ public class SupplierService {
 //		supplierRepository.deleteById(supplierCode);
 //	}
 
+	// 다음 거래처코드 미리보기 (할당하지 않음, 코드는 saveSupplier 에서 할당)
 	public String generateNextCode() {
-		String maxCode = supplierRepository.findMaxSupplierCode();
-		if (maxCode == null) {
-			return "SUP001";
-		}
-		int nextNumber = Integer.parseInt(maxCode.substring(3)) + 1;
-		return String.format("SUP%03d", nextNumber);
+		return documentIdAllocator.peekId("SUP", 3, this::lastSupplierNumber);
+	}
+
+	private long lastSupplierNumber() {
+		return DocumentIdAllocator.numericPart(supplierRepository.findMaxSupplierCode(), "SUP");
 	}
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.itwillbs.service;
 
+import com.itwillbs.domain.dashboard.RollupDirtyEvent;
 import com.itwillbs.domain.transaction.*;
 import com.itwillbs.entity.*;
 import com.itwillbs.repository.*;
@@ -9,6 +10,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import org.apache.coyote.BadRequestException;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
@@ -16,10 +20,14 @@ import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Log
 @RequiredArgsConstructor
@@ -36,6 +44,10 @@ public class TXService {
     private final FranchiseRepository franchiseRepository;
     private final ShipmentRepository shipmentRepository;
     private final QualityShipmentRepository qualityShipmentRepository;
+    private final DocumentIdAllocator documentIdAllocator;
+    private final ShipReadyQueueService shipReadyQueueService;
+    private final StockReservationService stockReservationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void saveOrder(OrderDTO orderDTO, List<OrderItemsDTO> orderItems) {
@@ -51,22 +63,41 @@ public class TXService {
         order.setRealDate(new Timestamp(System.currentTimeMillis()));
         order.setManager(managerRepository.findById(orderDTO.getManager()).orElse(null));
         order.setSupplier(supplierRepository.findById(orderDTO.getSupplierCode()).orElse(null));
-        orderRepository.save(order);
+        // 품목 행을 JDBC 배치로 넣기 전에 발주 헤더 먼저 반영
+        orderRepository.saveAndFlush(order);
 
         // 발주 품목정보 저장
         saveOrderItems(orderItems, orderId, order);
     }
 
+    // 품목 존재 여부는 한 번에 확인하고 품목 행은 JDBC 배치 insert
+    // 품목 행 PK 가 발주번호 + 품목코드이므로 같은 품목이 여러 줄이면 수량/금액을 합쳐 한 줄로 저장
     private void saveOrderItems(List<OrderItemsDTO> orderItems, String orderId, Order order) {
+        Map<String, OrderItemsDTO> merged = new LinkedHashMap<>();
         for (OrderItemsDTO item : orderItems) {
+            OrderItemsDTO line = merged.get(item.getItemCode());
+            if (line == null) {
+                line = new OrderItemsDTO();
+                BeanUtils.copyProperties(item, line);
+                merged.put(item.getItemCode(), line);
+            } else {
+                line.setQuantity(line.getQuantity() + item.getQuantity());
+                line.setSubtotalPrice(line.getSubtotalPrice() + item.getSubtotalPrice());
+            }
+        }
+        Set<String> existingCodes = new HashSet<>(itemRepository.findExistingItemCodes(merged.keySet()));
+
+        List<OrderItems> rows = new ArrayList<>(merged.size());
+        for (OrderItemsDTO item : merged.values()) {
             OrderItems orderItem = new OrderItems();
             BeanUtils.copyProperties(item, orderItem);
-            orderItem.setItem(itemRepository.findById(item.getItemCode()).orElse(null));
+            orderItem.setItem(existingCodes.contains(item.getItemCode())
+                    ? itemRepository.getReferenceById(item.getItemCode()) : null);
             orderItem.setOrder(order);
             orderItem.setOrderItemId(orderId + item.getItemCode());
-            log.info(orderItem.toString());
-            orderItemsRepository.save(orderItem);
+            rows.add(orderItem);
         }
+        orderItemsRepository.insertAll(rows);
     }
 
     public boolean checkValidation(OrderDTO orderDTO) {
@@ -79,16 +110,8 @@ public class TXService {
     }
 
     public String generateNextOrderId() {
-        String maxOrderId = orderRepository.findMaxOrderId();
-
-        String newOrderId = null;
-
-        if (maxOrderId == null) {
-            newOrderId = "OD0001";
-        } else {
-            int numberPart = Integer.parseInt(maxOrderId.substring(2));
-            newOrderId = String.format("OD%04d", numberPart + 1);
-        }
+        String newOrderId = documentIdAllocator.nextId("OD", 4,
+                () -> DocumentIdAllocator.numericPart(orderRepository.findMaxOrderId(), "OD"));
         log.info("TXService: generateNextOrderId + newOrderId = " + newOrderId);
 
         return newOrderId;
@@ -127,12 +150,11 @@ public class TXService {
         // 사용중인 코드 + 구매할 수 있는 아이템 한정, 재고수량 오름차순으로 수정 필요
     }
 
-    public List<OrderDTO> getOrderList() {
+    public Page<OrderDTO> getOrderList(Pageable pageable) {
 
         log.info("TXService: getOrderList");
-        List<Order> allOrders = orderRepository.findAll(Sort.by(Sort.Direction.DESC, "orderId"));
-
-        return getOrderDTOS(allOrders);
+        return orderRepository.findOrderListByConditions(null, null, null, null, null, null, null,
+                DataTablePageDTO.withDefaultSort(pageable, Sort.by(Sort.Direction.DESC, "orderId")));
 
     }
 
@@ -149,8 +171,8 @@ public class TXService {
         return orderItemsRepository.findByOrder(order);
     }
 
-    public List<OrderDTO> searchOrders(String status, String supplierName, String orderDateStart, String orderDateEnd,
-                                       String itemName, String dueDateStart, String dueDateEnd) {
+    public Page<OrderDTO> searchOrders(String status, String supplierName, String orderDateStart, String orderDateEnd,
+                                       String itemName, String dueDateStart, String dueDateEnd, Pageable pageable) {
         log.info("TXService: searchOrders");
 
         // 날짜 자료형 String -> Timestamp 변경
@@ -167,12 +189,11 @@ public class TXService {
 
         log.info("status: " + formattedStatus + " supplierName: " + formattedSupplierName + " orderDateStart: " + orderStart + " orderDateEnd: " + orderEnd + " itemName: " + formattedItemName + " dueStart: " + dueStart + " dueEnd: " + dueEnd);
 
-        List<Order> ordersByConditions = orderRepository.findOrdersByConditions
-                (formattedStatus, formattedSupplierName, orderStart, orderEnd, formattedItemName, dueStart, dueEnd);
-
-        log.info("TXService: searchOrdersByConditions" + ordersByConditions);
-
-        return getOrderDTOS(ordersByConditions);
+        // 거래처명, 첫 품목명, 품목 수까지 한 번의 쿼리로 조회
+        // 화면에서 정렬을 고르지 않았으면 발주번호 내림차순
+        return orderRepository.findOrderListByConditions
+                (formattedStatus, formattedSupplierName, orderStart, orderEnd, formattedItemName, dueStart, dueEnd,
+                        DataTablePageDTO.withDefaultSort(pageable, Sort.by(Sort.Direction.DESC, "orderId")));
     }
 
     private Timestamp convertToTimestamp(String dateStr) {
@@ -183,25 +204,6 @@ public class TXService {
         return Timestamp.valueOf(dateTime.atStartOfDay());
     }
 
-    private List<OrderDTO> getOrderDTOS(List<Order> ordersByConditions) {
-        return ordersByConditions.stream()
-                .map(order -> {
-                    OrderDTO orderDTO = new OrderDTO();
-                    orderDTO.setOrderId(order.getOrderId());
-                    orderDTO.setTotalPrice(order.getTotalPrice());
-                    orderDTO.setOrderDate(order.getOrderDate());
-                    orderDTO.setDueDate(order.getDueDate());
-                    orderDTO.setStatus(order.getStatus());
-                    orderDTO.setSupplierName(orderRepository.findSupplierNameByOrderId(order.getOrderId()));
-                    List<String> firstItem = orderRepository.findFirstItemNameByOrder(order);
-                    orderDTO.setItemName(firstItem.isEmpty() ? null : firstItem.get(0));
-                    orderDTO.setItemCount(orderRepository.findOrderItemCountByOrder(order));
-                    log.info("TXService: getOrderDTOS: " + orderDTO);
-                    return orderDTO;
-                })
-                .collect(Collectors.toList());
-    }
-
     public void updateOrderStatus(String orderId, String status) {
         log.info("TXService: updateOrderStatus");
         orderRepository.updateOrderStatusById(status, orderId);
@@ -221,8 +223,9 @@ public class TXService {
         order.setSupplier(supplierRepository.findById(orderDTO.getSupplierCode()).orElse(null));
         orderRepository.save(order);
 
-        // 발주 품목정보 새로 저장
+        // 발주 품목정보 새로 저장 (삭제를 먼저 반영한 뒤 배치 insert)
         orderItemsRepository.deleteByOrder(order);
+        orderItemsRepository.flush();
         saveOrderItems(orderItems, orderId, order);
     }
 
@@ -244,19 +247,14 @@ public class TXService {
 
         // 발주 품목정보 저장
         saveSaleItems(saleItems, saleId, sale);
+
+        // 수주 품목 재고 예약 (가용재고 차감)
+        stockReservationService.reserve(saleId, saleItems);
     }
 
     public String generateNextSaleId() {
-        String maxSaleId = saleRepository.findMaxSaleId();
-
-        String newSaleId = null;
-
-        if (maxSaleId == null) {
-            newSaleId = "SL0001";
-        } else {
-            int numberPart = Integer.parseInt(maxSaleId.substring(2));
-            newSaleId = String.format("SL%04d", numberPart + 1);
-        }
+        String newSaleId = documentIdAllocator.nextId("SL", 4,
+                () -> DocumentIdAllocator.numericPart(saleRepository.findMaxSaleId(), "SL"));
         log.info("TXService: generateNextOrderId + newOrderId = " + newSaleId);
 
         return newSaleId;
@@ -269,7 +267,6 @@ public class TXService {
             saleItem.setItem(itemRepository.findById(item.getItemCode()).orElse(null));
             saleItem.setSale(sale);
             saleItem.setSaleItemId(saleId + item.getItemCode());
-            log.info(saleItem.toString());
             saleItemsRepository.save(saleItem);
         }
     }
@@ -290,12 +287,11 @@ public class TXService {
         return manager.isPresent() && franchise.isPresent();
     }
 
-    public List<SaleDTO> getSaleList() {
+    public Page<SaleDTO> getSaleList(Pageable pageable) {
 
-        log.info("TXService: getOrderList");
-        List<Sale> allSales = saleRepository.findAll(Sort.by(Sort.Direction.DESC, "saleId"));
-
-        return getSaleDTOS(allSales);
+        log.info("TXService: getSaleList");
+        return saleRepository.findSaleListByConditions(null, null, null, null, null, null, null,
+                DataTablePageDTO.withDefaultSort(pageable, Sort.by(Sort.Direction.DESC, "saleId")));
 
     }
 
@@ -312,8 +308,8 @@ public class TXService {
         return saleItemsRepository.findBySale(sale);
     }
 
-    public List<SaleDTO> searchSales(String status, String franchiseName, String orderDateStart, String orderDateEnd,
-                                       String itemName, String dueDateStart, String dueDateEnd) {
+    public Page<SaleDTO> searchSales(String status, String franchiseName, String orderDateStart, String orderDateEnd,
+                                       String itemName, String dueDateStart, String dueDateEnd, Pageable pageable) {
         log.info("TXService: searchSales");
 
         // 날짜 자료형 String -> Timestamp 변경
@@ -330,36 +326,26 @@ public class TXService {
 
         log.info("status: " + formattedStatus + " supplierName: " + formattedFranchiseName + " orderDateStart: " + orderStart + " orderDateEnd: " + orderEnd + " itemName: " + formattedItemName + " dueStart: " + dueStart + " dueEnd: " + dueEnd);
 
-        List<Sale> salesByConditions = saleRepository.findSalesByConditions
-                (formattedStatus, formattedFranchiseName, orderStart, orderEnd, formattedItemName, dueStart, dueEnd);
-
-        log.info("TXService: searchSalesByConditions" + salesByConditions);
-
-        return getSaleDTOS(salesByConditions);
-    }
-
-    private List<SaleDTO> getSaleDTOS(List<Sale> salesByConditions) {
-        return salesByConditions.stream()
-                .map(sale -> {
-                    SaleDTO saleDTO = new SaleDTO();
-                    saleDTO.setSaleId(sale.getSaleId());
-                    saleDTO.setTotalPrice(sale.getTotalPrice());
-                    saleDTO.setOrderDate(sale.getOrderDate());
-                    saleDTO.setDueDate(sale.getDueDate());
-                    saleDTO.setStatus(sale.getStatus());
-                    saleDTO.setFranchiseName(saleRepository.findFranchiseNameBySaleId(sale.getSaleId()));
-                    List<String> firstItem = saleRepository.findFirstItemNameBySale(sale);
-                    saleDTO.setItemName(firstItem.isEmpty() ? null : firstItem.get(0));
-                    saleDTO.setItemCount(saleRepository.findSaleItemCountBySale(sale));
-                    log.info("TXService: getSaleDTOS: " + saleDTO);
-                    return saleDTO;
-                })
-                .collect(Collectors.toList());
+        // 가맹점명, 첫 품목명, 품목 수까지 한 번의 쿼리로 조회
+        // 화면에서 정렬을 고르지 않았으면 수주번호 내림차순
+        return saleRepository.findSaleListByConditions
+                (formattedStatus, formattedFranchiseName, orderStart, orderEnd, formattedItemName, dueStart, dueEnd,
+                        DataTablePageDTO.withDefaultSort(pageable, Sort.by(Sort.Direction.DESC, "saleId")));
     }
 
+    @Transactional
     public void updateSaleStatus(String saleId, String status) {
         log.info("TXService: updateSaleStatus");
         saleRepository.updateSaleStatusById(status, saleId);
+
+        // 수주 취소 시 재고 예약 해제
+        if ("수주취소".equals(status)) {
+            stockReservationService.release(saleId);
+        }
+
+        // 수주완료 금액 집계 갱신 (납기일)
+        saleRepository.findById(saleId).ifPresent(sale -> eventPublisher.publishEvent(
+                new RollupDirtyEvent(DashboardRollup.METRIC_SALE, DashboardRollupService.daysOf(sale.getDueDate()))));
     }
 
     @Transactional
@@ -368,6 +354,12 @@ public class TXService {
 
         String saleId = saleDTO.getSaleId();
         Sale sale = saleRepository.findById(saleId).orElseThrow(() -> new EntityNotFoundException("해당 수주 없음"));
+        // 확정/취소된 수주는 수정 불가 (화면에서는 버튼을 숨기지만 API 로 직접 들어오는 요청도 막음)
+        // 출고가 끝난 수주를 다시 예약하면 소진되지 않는 예약이 남아 가용재고가 계속 줄어든다.
+        if (!"수주등록(저장)".equals(sale.getStatus())) {
+            throw new IllegalStateException("수정할 수 없는 수주 상태입니다: " + sale.getStatus());
+        }
+        Timestamp oldDueDate = sale.getDueDate();
 
         // 발주 정보 업데이트
         BeanUtils.copyProperties(saleDTO, sale,  "saleId", "status");  // id, 상태 제외 DTO 값 복사
@@ -379,23 +371,22 @@ public class TXService {
         // 발주 품목정보 새로 저장
         saleItemsRepository.deleteBySale(sale);
         saveSaleItems(saleItems, saleId, sale);
+
+        // 기존 예약 해제 후 바뀐 품목으로 다시 예약
+        stockReservationService.release(saleId);
+        stockReservationService.reserve(saleId, saleItems);
+
+        // 출하 대기 큐에 복사된 수주 정보(가맹점, 납기일, 품목) 갱신
+        shipReadyQueueService.refreshSale(saleId);
+
+        // 수주완료 금액 집계 갱신 (변경 전/후 납기일)
+        eventPublisher.publishEvent(new RollupDirtyEvent(DashboardRollup.METRIC_SALE,
+                DashboardRollupService.daysOf(oldDueDate, sale.getDueDate())));
     }
 
+    // 출하 대상 조회 (출하 대기 큐 테이블만 읽음)
     public List<SaleDTO> findToShip() {
-        List<SaleDTO> allQualified = shipmentRepository.findAllQualified();
-        log.info(allQualified.toString());
-        allQualified.forEach(sale -> {
-                Sale thisSale = saleRepository.findById(sale.getSaleId()).orElse(null);
-                if (thisSale != null) {
-                    sale.setItemCount(saleRepository.findSaleItemCountBySale(thisSale));
-                    List<String> itemNames = saleRepository.findFirstItemNameBySale(thisSale);
-                    if (!itemNames.isEmpty()) {
-                        sale.setItemName(saleRepository.findFirstItemNameBySale(thisSale).get(0));
-                    }
-                }
-            });
-        log.info(allQualified.toString());
-        return allQualified;
+        return shipReadyQueueService.findAll();
     }
 
     public List<SaleItemsDTO> getSaleItems(String saleId) {
@@ -411,14 +402,12 @@ public class TXService {
         // 출하 정보 저장
         Shipment shipment = new Shipment();
         BeanUtils.copyProperties(shipmentDTO, shipment);
-        log.info(shipmentDTO.toString());
         shipment.setShipmentId(shipmentId);
         shipment.setStatus("출하등록(검품요청)");
         shipment.setRealDate(new Timestamp(System.currentTimeMillis()));
         shipment.setManager(managerRepository.findById(shipmentDTO.getManager()).orElse(null));
         Sale sale = saleRepository.findById(shipmentDTO.getSaleId()).orElse(null);
         shipment.setSale(sale);
-        log.info(shipment.toString());
         shipmentRepository.save(shipment);
 
         // 검품 정보 저장
@@ -430,29 +419,22 @@ public class TXService {
         qualityShipment.setShipment(shipment);
         qualityShipment.setSale(sale);
         qualityShipmentRepository.save(qualityShipment);
+
+        // 출하 등록된 수주는 출하 대기 큐에서 제거
+        shipReadyQueueService.dequeue(shipmentDTO.getSaleId());
     }
 
     public String generateNextShipId() {
-        String maxShipId = shipmentRepository.findMaxShipmentId();
-
-        String newShipId = null;
-
-        if (maxShipId == null) {
-            newShipId = "SM0001";
-        } else {
-            int numberPart = Integer.parseInt(maxShipId.substring(2));
-            newShipId = String.format("SM%04d", numberPart + 1);
-        }
-        return newShipId;
+        return documentIdAllocator.nextId("SM", 4,
+                () -> DocumentIdAllocator.numericPart(shipmentRepository.findMaxShipmentId(), "SM"));
     }
 
-    public List<ShipmentDTO> getShipList() {
-        List<Shipment> allShips = shipmentRepository.findAll(Sort.by(Sort.Direction.DESC, "shipmentId"));
-        return getShipmentDTOS(allShips);
+    public Page<ShipmentDTO> getShipList(Pageable pageable) {
+        return searchShips(null, null, null, null, null, null, null, pageable);
     }
 
-    public List<ShipmentDTO> searchShips(String status, String franchiseName, String shipDateStart, String shipDateEnd,
-                                       String itemName, String dueDateStart, String dueDateEnd) {
+    public Page<ShipmentDTO> searchShips(String status, String franchiseName, String shipDateStart, String shipDateEnd,
+                                       String itemName, String dueDateStart, String dueDateEnd, Pageable pageable) {
         log.info("TXService: searchShips");
 
         // 날짜 자료형 String -> Timestamp 변경
@@ -469,43 +451,19 @@ public class TXService {
 
         log.info("status: " + formattedStatus + " supplierName: " + formattedFranchiseName + " shipStart: " + shipStart + " shipEnd: " + shipEnd + " itemName: " + formattedItemName + " dueStart: " + dueStart + " dueEnd: " + dueEnd);
 
-        List<Shipment> shipmentsByConditions = shipmentRepository.findShipmentByConditions
-                (formattedStatus, formattedFranchiseName, shipStart, shipEnd, formattedItemName, dueStart, dueEnd);
-
-        log.info("TXService: shipmentsByConditions" + shipmentsByConditions);
-
-        return getShipmentDTOS(shipmentsByConditions);
-    }
-
-    private List<ShipmentDTO> getShipmentDTOS(List<Shipment> shipmentByConditions) {
-        return shipmentByConditions.stream()
-                .map(ship -> {
-                    ShipmentDTO shipmentDTO = new ShipmentDTO();
-                    shipmentDTO.setShipmentId(ship.getShipmentId());
-                    shipmentDTO.setShipDate(ship.getShipDate());
-                    shipmentDTO.setDueDate(ship.getSale().getDueDate());
-
-                    String status = ship.getStatus();
-                    String qsStatus = shipmentRepository.checkShipmentQualified(ship.getShipmentId());
-                    if (status.equals("출하등록(검품요청)") && qsStatus.equals("검품완료")) {
-                        shipmentDTO.setStatus("출하등록(검품완료)");
-                        shipmentDTO.setQsStatus(qsStatus);
-                    } else {
-                        shipmentDTO.setStatus(status);
-                        shipmentDTO.setQsStatus(qsStatus);
-                    }
-
-                    shipmentDTO.setFranchiseName(saleRepository.findFranchiseNameBySaleId(ship.getSale().getSaleId()));
-                    shipmentDTO.setTotalPrice(ship.getSale().getTotalPrice());
-                    List<String> firstItem = saleRepository.findFirstItemNameBySale(ship.getSale());
-                    shipmentDTO.setItemName(firstItem.isEmpty() ? null : firstItem.get(0));
-                    shipmentDTO.setItemCount(saleRepository.findSaleItemCountBySale(ship.getSale()));
-
-
-                    log.info("TXService: shipmentDTO: " + shipmentDTO);
-                    return shipmentDTO;
-                })
-                .collect(Collectors.toList());
+        // 출하검품 상태, 가맹점명, 첫 품목명, 품목 수까지 한 번의 쿼리로 조회
+        // 화면에서 정렬을 고르지 않았으면 출하번호 내림차순
+        Page<ShipmentDTO> shipments = shipmentRepository.findShipmentListByConditions
+                (formattedStatus, formattedFranchiseName, shipStart, shipEnd, formattedItemName, dueStart, dueEnd,
+                        DataTablePageDTO.withDefaultSort(pageable, Sort.by(Sort.Direction.DESC, "shipmentId")));
+
+        // 검품 완료된 출하등록 건은 화면에 출하등록(검품완료)로 표시
+        shipments.forEach(shipmentDTO -> {
+            if ("출하등록(검품요청)".equals(shipmentDTO.getStatus()) && "검품완료".equals(shipmentDTO.getQsStatus())) {
+                shipmentDTO.setStatus("출하등록(검품완료)");
+            }
+        });
+        return shipments;
     }
 
     public ShipmentDTO getShipmentDTOById(String shipmentId) {
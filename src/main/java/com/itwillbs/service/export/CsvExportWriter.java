@@ -0,0 +1,71 @@
+package com.itwillbs.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * CSV 작성 (UTF-8 BOM, 엑셀에서 한글이 깨지지 않게)
+ * 헤더를 쓰자마자 flush 해서 첫 바이트가 바로 나가고, 이후는 버퍼가 찰 때마다 내보낸다.
+ * =, +, -, @ 로 시작하는 문자열은 엑셀 수식으로 실행되지 않게 앞에 ' 를 붙인다.
+ */
+public class CsvExportWriter implements ExportWriter {
+
+	private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	private final Writer writer;
+
+	public CsvExportWriter(OutputStream out) {
+		this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+	}
+
+	@Override
+	public void writeHeader(List<String> columns) throws IOException {
+		writer.write('\uFEFF');
+		writeRow(columns.toArray());
+		writer.flush();
+	}
+
+	@Override
+	public void writeRow(Object... values) throws IOException {
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writeValue(values[i]);
+		}
+		writer.write("\r\n");
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.flush();
+	}
+
+	private void writeValue(Object value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		if (value instanceof Number) {
+			writer.write(value.toString());
+			return;
+		}
+		String text = value instanceof Timestamp timestamp ? DATE_TIME.format(timestamp.toLocalDateTime()) : value.toString();
+		if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+			text = "'" + text;
+		}
+		if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+			writer.write('"');
+			writer.write(text.replace("\"", "\"\""));
+			writer.write('"');
+		} else {
+			writer.write(text);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.itwillbs.service.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 목록 내보내기 파일 작성기, 행을 받는 즉시 출력 스트림(또는 임시 파일)에 쓰고 메모리에 모아두지 않는다.
+ * close() 에서 마무리만 하고 출력 스트림은 닫지 않는다.
+ */
+public interface ExportWriter extends Closeable {
+
+	String FORMAT_CSV = "csv";
+	String FORMAT_XLSX = "xlsx";
+
+	void writeHeader(List<String> columns) throws IOException;
+
+	void writeRow(Object... values) throws IOException;
+
+	static ExportWriter of(String format, OutputStream out) {
+		return FORMAT_XLSX.equalsIgnoreCase(format) ? new XlsxExportWriter(out) : new CsvExportWriter(out);
+	}
+
+	static String normalizeFormat(String format) {
+		return FORMAT_XLSX.equalsIgnoreCase(format) ? FORMAT_XLSX : FORMAT_CSV;
+	}
+}
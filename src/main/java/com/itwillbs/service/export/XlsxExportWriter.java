@@ -0,0 +1,90 @@
+package com.itwillbs.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * XLSX 작성 (SXSSF), 메모리에는 최근 WINDOW 행만 두고 나머지는 압축 임시 파일로 내린다.
+ * xlsx 는 zip 이라 close() 에서 한 번에 내보내므로 CSV 와 달리 첫 바이트는 마지막에 나간다.
+ * 시트 최대 행 수를 넘으면 다음 시트에 헤더부터 이어 쓴다.
+ */
+public class XlsxExportWriter implements ExportWriter {
+
+	private static final int WINDOW = 100;
+	private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+	private final OutputStream out;
+	private final SXSSFWorkbook workbook;
+	private final CellStyle dateStyle;
+	private List<String> columns;
+	private SXSSFSheet sheet;
+	private int rowIndex;
+
+	public XlsxExportWriter(OutputStream out) {
+		this.out = out;
+		this.workbook = new SXSSFWorkbook(WINDOW);
+		this.workbook.setCompressTempFiles(true);
+		this.dateStyle = workbook.createCellStyle();
+		this.dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+	}
+
+	@Override
+	public void writeHeader(List<String> columns) throws IOException {
+		this.columns = columns;
+		newSheet();
+	}
+
+	@Override
+	public void writeRow(Object... values) throws IOException {
+		if (sheet == null || rowIndex >= MAX_ROWS) {
+			newSheet();
+		}
+		Row row = sheet.createRow(rowIndex++);
+		for (int i = 0; i < values.length; i++) {
+			Object value = values[i];
+			if (value == null) {
+				continue;
+			}
+			Cell cell = row.createCell(i);
+			if (value instanceof Number number) {
+				cell.setCellValue(number.doubleValue());
+			} else if (value instanceof Timestamp timestamp) {
+				cell.setCellValue(timestamp.toLocalDateTime());
+				cell.setCellStyle(dateStyle);
+			} else {
+				cell.setCellValue(value.toString());
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			workbook.write(out);
+			out.flush();
+		} finally {
+			workbook.close();
+			workbook.dispose();
+		}
+	}
+
+	private void newSheet() {
+		sheet = workbook.createSheet("Sheet" + (workbook.getNumberOfSheets() + 1));
+		rowIndex = 0;
+		if (columns != null) {
+			Row header = sheet.createRow(rowIndex++);
+			for (int i = 0; i < columns.size(); i++) {
+				header.createCell(i).setCellValue(columns.get(i));
+			}
+		}
+	}
+}
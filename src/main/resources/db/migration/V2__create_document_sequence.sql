@@ -0,0 +1,45 @@
+-- 문서번호 채번 테이블 (DocumentSequence)
+-- V1 은 기존 운영 스키마. 이 디렉터리의 스크립트는 버전 순서대로 한 번씩 적용한다. (MySQL 8)
+
+CREATE TABLE IF NOT EXISTS document_sequence (
+    prefix     VARCHAR(10) NOT NULL,
+    next_value BIGINT      NOT NULL,
+    PRIMARY KEY (prefix)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 기존 데이터의 최대 번호 + 1 로 접두어별 시작 번호 등록
+-- (행이 없어도 DocumentIdAllocator 가 같은 방식으로 만들지만, 배포 직후 동시 등록 경합을 줄이기 위해 미리 넣어 둠)
+-- 형식에 맞지 않는 기존 번호는 제외, 이미 있는 접두어는 그대로 둠
+INSERT IGNORE INTO document_sequence (prefix, next_value)
+SELECT 'INC', COALESCE(MAX(CAST(SUBSTRING(incoming_id, 4) AS UNSIGNED)), 0) + 1
+  FROM incoming WHERE incoming_id REGEXP '^INC[0-9]+$'
+UNION ALL
+SELECT 'OUT', COALESCE(MAX(CAST(SUBSTRING(outgoing_id, 4) AS UNSIGNED)), 0) + 1
+  FROM outgoing WHERE outgoing_id REGEXP '^OUT[0-9]+$'
+UNION ALL
+SELECT 'MO', COALESCE(MAX(CAST(SUBSTRING(order_id, 3) AS UNSIGNED)), 0) + 1
+  FROM manufacture_order WHERE order_id REGEXP '^MO[0-9]+$'
+UNION ALL
+SELECT 'OD', COALESCE(MAX(CAST(SUBSTRING(order_id, 3) AS UNSIGNED)), 0) + 1
+  FROM orders WHERE order_id REGEXP '^OD[0-9]+$'
+UNION ALL
+SELECT 'SL', COALESCE(MAX(CAST(SUBSTRING(sale_id, 3) AS UNSIGNED)), 0) + 1
+  FROM sale WHERE sale_id REGEXP '^SL[0-9]+$'
+UNION ALL
+SELECT 'SM', COALESCE(MAX(CAST(SUBSTRING(shipment_id, 3) AS UNSIGNED)), 0) + 1
+  FROM shipment WHERE shipment_id REGEXP '^SM[0-9]+$'
+UNION ALL
+SELECT 'RM', COALESCE(MAX(CAST(SUBSTRING(item_code, 3) AS UNSIGNED)), 0) + 1
+  FROM item WHERE item_code REGEXP '^RM[0-9]+$'
+UNION ALL
+SELECT 'PP', COALESCE(MAX(CAST(SUBSTRING(item_code, 3) AS UNSIGNED)), 0) + 1
+  FROM item WHERE item_code REGEXP '^PP[0-9]+$'
+UNION ALL
+SELECT 'FP', COALESCE(MAX(CAST(SUBSTRING(item_code, 3) AS UNSIGNED)), 0) + 1
+  FROM item WHERE item_code REGEXP '^FP[0-9]+$'
+UNION ALL
+SELECT 'FR', COALESCE(MAX(CAST(SUBSTRING(franchise_code, 3) AS UNSIGNED)), 0) + 1
+  FROM franchise WHERE franchise_code REGEXP '^FR[0-9]+$'
+UNION ALL
+SELECT 'SUP', COALESCE(MAX(CAST(SUBSTRING(supplier_code, 4) AS UNSIGNED)), 0) + 1
+  FROM supplier WHERE supplier_code REGEXP '^SUP[0-9]+$';
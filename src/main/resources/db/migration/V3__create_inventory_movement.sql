@@ -0,0 +1,12 @@
+-- 재고 변동 원장 (InventoryMovement), 추가만 하고 수정/삭제하지 않음
+
+CREATE TABLE IF NOT EXISTS inventory_movement (
+    movement_id     BIGINT      NOT NULL AUTO_INCREMENT,
+    item_code       VARCHAR(20) NOT NULL,
+    quantity_change INT         NOT NULL,
+    movement_type   VARCHAR(20) NOT NULL,
+    reference_id    VARCHAR(20) NULL,
+    movement_date   DATETIME(6) NOT NULL,
+    PRIMARY KEY (movement_id),
+    INDEX idx_inventory_movement_item_date (item_code, movement_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,10 @@
+-- 일별 재고 스냅샷 (InventorySnapshot), snapshot_date 당일 마감 시점의 재고량
+
+CREATE TABLE IF NOT EXISTS inventory_snapshot (
+    snapshot_id   BIGINT      NOT NULL AUTO_INCREMENT,
+    item_code     VARCHAR(20) NOT NULL,
+    snapshot_date DATE        NOT NULL,
+    quantity      BIGINT      NOT NULL,
+    PRIMARY KEY (snapshot_id),
+    CONSTRAINT uk_inventory_snapshot_item_date UNIQUE (item_code, snapshot_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
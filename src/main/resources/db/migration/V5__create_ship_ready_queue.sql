@@ -0,0 +1,19 @@
+-- 출하 대기 큐 (ShipReadyQueue), 출고 완료 + 출하 미등록 수주 한 건당 한 행
+-- 수주/가맹점/품목 정보는 목록 조회용 복사본 (원본 수정 시 ShipReadyQueueService.refresh* 로 갱신)
+-- 비어 있으면 서버 기동 시 기존 출고/출하 데이터로 채워진다.
+
+CREATE TABLE IF NOT EXISTS ship_ready_queue (
+    sale_id         VARCHAR(20)  NOT NULL,
+    outgoing_id     VARCHAR(20)  NULL,
+    outgoing_status VARCHAR(20)  NULL,
+    franchise_code  VARCHAR(20)  NULL,
+    franchise_name  VARCHAR(100) NULL,
+    total_price     INT          NOT NULL,
+    order_date      DATETIME(6)  NULL,
+    due_date        DATETIME(6)  NULL,
+    item_name       VARCHAR(100) NULL,
+    item_count      INT          NOT NULL,
+    enqueued_at     DATETIME(6)  NULL,
+    PRIMARY KEY (sale_id),
+    INDEX idx_ship_ready_queue_due_date (due_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
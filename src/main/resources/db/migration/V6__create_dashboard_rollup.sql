@@ -0,0 +1,14 @@
+-- 대시보드 시간/일 단위 집계 (DashboardRollup), (granularity, metric, dimension, bucket_start) 당 한 행
+-- 비어 있으면 서버 기동 후 첫 집계 주기에 원본(입고/반품·폐기/수주)에서 전체 기간을 적재한다.
+
+CREATE TABLE IF NOT EXISTS dashboard_rollup (
+    rollup_id    BIGINT      NOT NULL AUTO_INCREMENT,
+    granularity  VARCHAR(10) NOT NULL,
+    metric       VARCHAR(20) NOT NULL,
+    dimension    VARCHAR(20) NOT NULL,
+    bucket_start DATETIME(6) NOT NULL,
+    amount       BIGINT      NOT NULL,
+    row_count    BIGINT      NOT NULL,
+    PRIMARY KEY (rollup_id),
+    CONSTRAINT uk_dashboard_rollup_bucket UNIQUE (granularity, metric, dimension, bucket_start)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,15 @@
+-- 수주 품목 재고 예약 (StockReservation), 가용재고(ATP) = 재고량 - 예약 중 수량 합계
+-- 기존 미출고 수주의 예약은 서버 기동 후 AtpService 가 채운다. (StockReservationService.reserveOpenSales)
+
+CREATE TABLE IF NOT EXISTS stock_reservation (
+    reservation_id BIGINT      NOT NULL AUTO_INCREMENT,
+    sale_id        VARCHAR(20) NOT NULL,
+    item_code      VARCHAR(20) NOT NULL,
+    quantity       INT         NOT NULL,
+    status         VARCHAR(10) NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    updated_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (reservation_id),
+    INDEX idx_stock_reservation_sale (sale_id),
+    INDEX idx_stock_reservation_status_item (status, item_code)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,21 @@
+-- 재고실사 파일 반영 진행 상태 (StockTake)
+-- 묶음 반영과 같은 트랜잭션에서 처리 행 번호/보고서 크기를 기록해 중간에 실패해도 이어서 반영한다.
+
+CREATE TABLE IF NOT EXISTS stock_take (
+    stock_take_id   VARCHAR(20)  NOT NULL,
+    file_name       VARCHAR(255) NULL,
+    status          VARCHAR(10)  NOT NULL,
+    processed_lines BIGINT       NOT NULL,
+    valid_lines     BIGINT       NOT NULL,
+    invalid_lines   BIGINT       NOT NULL,
+    adjusted_items  BIGINT       NOT NULL,
+    report_size     BIGINT       NOT NULL,
+    manager_id      VARCHAR(50)  NULL,
+    error_message   VARCHAR(500) NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (stock_take_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 재고실사 번호 (ST0001 ~) 채번 시작
+INSERT IGNORE INTO document_sequence (prefix, next_value) VALUES ('ST', 1);
@@ -244,11 +244,11 @@ function saveItem() {
 			xhr.setRequestHeader(header, token);
 		},
 		data: JSON.stringify(jsonData),
-		success: function() {
+		success: function(saved) {
 			Swal.fire({
 				icon: 'success',
 				title: isEdit ? '수정 완료' : '저장 완료',
-				text: isEdit ? '성공적으로 수정되었습니다.' : '성공적으로 저장되었습니다.'
+				text: isEdit ? '성공적으로 수정되었습니다.' : `성공적으로 저장되었습니다. (코드 : ${saved.itemCode})`
 			}).then(() => {
 				$('#itemModal').modal('hide');
 				loadItems();
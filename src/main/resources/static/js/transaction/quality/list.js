@@ -35,6 +35,9 @@ function setFranchise(franchiseCode, franchiseName) {
 
 //검색조회
 
+// 마지막으로 조회한 검색 조건
+let searchParams = {};
+
 $(document).ready(function() {
     // 조회 버튼 클릭 이벤트
     $('#search-btn').on('click', function() {
@@ -47,27 +50,17 @@ $(document).ready(function() {
         let dueDateStart = $('#due_date-start').val();
         let dueDateEnd = $('#due_date-end').val();
 
-        $.ajax({
-            url: "/quality/searchQS",
-            type: "GET",
-            data: {
-                status: status,
-                franchiseName: franchiseName,
-                shipDateStart: shipDateStart,
-                shipDateEnd: shipDateEnd,
-                itemName: itemName,
-                dueDateStart: dueDateStart,
-                dueDateEnd: dueDateEnd
-            },
-            dataType: "json",
-            success: function(response) {
-                $('#qual-list').DataTable().clear().rows.add(response).draw();
-            },
-            error: function(xhr, status, error) {
-                console.error("검색 오류:", error);
-                alert("검색 중 오류 발생. 다시 시도해 주세요.");
-            }
-        });
+        // 조회 조건은 저장해두고 페이지 이동 때마다 같이 보냄 (서버사이드 페이징)
+        searchParams = {
+            status: status,
+            franchiseName: franchiseName,
+            shipDateStart: shipDateStart,
+            shipDateEnd: shipDateEnd,
+            itemName: itemName,
+            dueDateStart: dueDateStart,
+            dueDateEnd: dueDateEnd
+        };
+        $('#qual-list').DataTable().ajax.reload();
     });
 });
 
@@ -85,22 +78,36 @@ let formatDate = (date) => {
 // 데이터테이블 커스텀
 $(function () {
     const dataTable = $('#qual-list').DataTable({
+        // 페이징, 정렬 모두 서버에서 (start/length, 정렬 컬럼/방향)
+        serverSide: true,
         ajax: {
-            url: "/quality/shipQualityInfo",
+            url: "/quality/searchQS",
             type: "GET",
             dataType: "json",
-            contentType: "application/json",
-            dataSrc: ''
+            data: function(d) {
+                let order = d.order.length > 0 ? d.order[0] : null;
+                return $.extend({
+                    draw: d.draw,
+                    start: d.start,
+                    length: d.length,
+                    orderColumn: order ? d.columns[order.column].data : null,
+                    orderDir: order ? order.dir : null
+                }, searchParams);
+            },
+            error: function(xhr, status, error) {
+                console.error("검색 오류:", error);
+                alert("검색 중 오류 발생. 다시 시도해 주세요.");
+            }
         },
         "paging": true,
         "pageLength": 10,
         "lengthChange": false,
         "searching": false,
         "ordering": true,
+        "order": [[0, "desc"]],
         "info": false,
         "autoWidth": false,
         "responsive": false,
-        "order": [[0, "desc"]],
         "language": {
             decimal: "",
             emptyTable: "조건에 맞는 데이터가 없습니다",
@@ -116,7 +123,7 @@ $(function () {
         "columns": [
             { data: "qualityShipmentId", className: "text-center" },
             { data: "franchiseName", className: "text-center" },
-            { data: "itemName", className: "text-center",
+            { data: "itemName", className: "text-center", orderable: false,
                 render: function(data, type, row) {
                     return row.itemCount > 1 ? `${data} 외 ${row.itemCount - 1}건` : data;
                 }
@@ -155,32 +162,17 @@ $(function () {
 
             $(row).css('cursor', 'pointer');
         },
-        dom: 'rtip', // DataTables 자체 버튼 숨김
-        buttons: [
-            {
-                extend: 'excelHtml5',
-                title: '출하검품 조회(' + getCurrentDateTime() + ')',
-                text: '.xlsx로 저장'
-            }
-        ]
+        dom: 'rtip'
     });
 
+    // 현재 페이지가 아닌 조회 조건(상태, 출하일) 전체를 출하검품 품목 단위로 서버에서 내려받음
     $('#download-to-excel').on('click', function() {
-        dataTable.button('.buttons-excel').trigger();
+        let params = $.param({
+            format: 'xlsx',
+            status: searchParams.status || '',
+            startDate: searchParams.shipDateStart || '',
+            endDate: searchParams.shipDateEnd || ''
+        });
+        window.location.href = '/quality/export?' + params;
     });
 });
-
-// 엑셀파일명 시간출력용
-function getCurrentDateTime() {
-    const now = new Date();
-
-    const year = now.getFullYear();
-    const month = String(now.getMonth() + 1).padStart(2, '0'); // 월은 0부터 시작하므로 +1
-    const day = String(now.getDate()).padStart(2, '0');
-
-    const hours = String(now.getHours()).padStart(2, '0');
-    const minutes = String(now.getMinutes()).padStart(2, '0');
-    const seconds = String(now.getSeconds()).padStart(2, '0');
-
-    return `${year}-${month}-${day} ${hours}-${minutes}-${seconds}`;
-}
\ No newline at end of file
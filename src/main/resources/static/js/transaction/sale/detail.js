@@ -231,6 +231,10 @@ $(document).ready(function() {
                     } else if (response === "mismatch") {
                         $('#loadingSpinner').hide();
                         alert('입력한 내용이 데이터베이스와 일치하지 않습니다')
+                    } else if (response === "notEditable") {
+                        $('#loadingSpinner').hide();
+                        alert('확정 또는 취소된 수주는 수정할 수 없습니다.');
+                        window.location.reload();
                     }
                 },
                 error: function(error) {
@@ -0,0 +1,51 @@
+package com.itwillbs.config.metrics;
+
+import java.util.function.Supplier;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * 테스트용 쿼리 수 검사 (N+1 회귀 방지)
+ *
+ * 테스트 설정에 hibernate.session_factory.statement_inspector=com.itwillbs.config.metrics.QueryCountInspector
+ * 를 지정해야 카운트된다. 카운트는 스레드별이다.
+ *
+ * <pre>
+ * List&lt;OrderDTO&gt; rows = QueryCountAssertions.assertQueryCount(2, () -&gt; txService.getOrderList(page));
+ * </pre>
+ */
+public final class QueryCountAssertions {
+
+	private static final QueryCountInspector INSPECTOR = new QueryCountInspector();
+
+	private QueryCountAssertions() {
+	}
+
+	public static void reset() {
+		INSPECTOR.reset();
+	}
+
+	public static int count() {
+		return INSPECTOR.getCount();
+	}
+
+	/**
+	 * 마지막 reset() 이후 실행된 쿼리 수가 max 이하인지 검사
+	 */
+	public static void assertQueryCount(int max) {
+		int count = count();
+		Assertions.assertThat(count)
+				.as("실행된 쿼리 수 %d건 (허용 %d건)", count, max)
+				.isLessThanOrEqualTo(max);
+	}
+
+	/**
+	 * action 실행 중 쿼리 수가 max 이하인지 검사하고 결과를 돌려준다.
+	 */
+	public static <T> T assertQueryCount(int max, Supplier<T> action) {
+		reset();
+		T result = action.get();
+		assertQueryCount(max);
+		return result;
+	}
+}
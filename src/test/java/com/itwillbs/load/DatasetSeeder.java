@@ -0,0 +1,470 @@
+package com.itwillbs.load;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 테스트용 운영 유사 데이터 생성 (JDBC 배치 insert)
+ *
+ * scale 1.0 기준 : 품목 520개(원재료 400 / 가공품 80 / 완제품 40), 거래처 40곳, 가맹점 200곳,
+ * 발주 20,000건, 수주 40,000건 (최근 1년)
+ *
+ * 분포
+ * - 품목/거래처/가맹점 인기도 : Zipf(s=1.1), 상위 몇 개가 대부분의 거래를 차지
+ * - 전표당 품목 수 : 1 + 기하분포(평균 약 2.5, 최대 10)
+ * - 수량, 단가 : 로그정규분포
+ * - 거래일 : 주말은 평일의 40%, 연중 ±30% 계절 변동
+ * - 상태 : 발주/수주 85% 완료, 10% 등록, 5% 취소. 오래된 완료 전표일수록 입고/출고/출하까지 진행됨
+ *
+ * 문서번호는 7자리(OD0000001)로 만들어 앱이 채번하는 번호(OD + 4자리 이상)와 겹치지 않는다.
+ */
+@Slf4j
+public class DatasetSeeder {
+
+	public static final String MANAGER_ID = "load";
+
+	private static final int BATCH_SIZE = 5000;
+	private static final int HISTORY_DAYS = 365;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final Random random;
+
+	private final int rawMaterialCount;
+	private final int processedCount;
+	private final int finishedCount;
+	private final int supplierCount;
+	private final int franchiseCount;
+	@Getter
+	private final int orderCount;
+	@Getter
+	private final int saleCount;
+
+	@Getter
+	private final List<String> rmCodes = new ArrayList<>();
+	@Getter
+	private final List<String> ppCodes = new ArrayList<>();
+	@Getter
+	private final List<String> fpCodes = new ArrayList<>();
+	@Getter
+	private final List<String> supplierCodes = new ArrayList<>();
+	@Getter
+	private final List<String> franchiseCodes = new ArrayList<>();
+	private int[] unitPrices;
+
+	private final ZipfSampler supplierSampler;
+	private final ZipfSampler franchiseSampler;
+	private final ZipfSampler catalogSampler;
+	private final ZipfSampler finishedSampler;
+	private final ZipfSampler processedSampler;
+
+	public DatasetSeeder(JdbcTemplate jdbcTemplate, double scale, long randomSeed) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.random = new Random(randomSeed);
+
+		this.rawMaterialCount = scaled(400, scale, 20);
+		this.processedCount = scaled(80, scale, 5);
+		this.finishedCount = scaled(40, scale, 5);
+		this.supplierCount = scaled(40, scale, 2);
+		this.franchiseCount = scaled(200, scale, 5);
+		this.orderCount = scaled(20_000, scale, 100);
+		this.saleCount = scaled(40_000, scale, 100);
+
+		this.supplierSampler = new ZipfSampler(supplierCount, 1.1);
+		this.franchiseSampler = new ZipfSampler(franchiseCount, 1.1);
+		// 거래처마다 원재료를 나눠 맡음 (거래처 i : i, i+S, i+2S ...)
+		this.catalogSampler = new ZipfSampler((rawMaterialCount + supplierCount - 1) / supplierCount, 1.1);
+		this.finishedSampler = new ZipfSampler(finishedCount, 1.1);
+		this.processedSampler = new ZipfSampler(processedCount, 1.1);
+	}
+
+	public void seed() {
+		long start = System.currentTimeMillis();
+
+		jdbcTemplate.update("INSERT INTO managers (manager_id, pass, name, email, phone, manager_role) VALUES (?, ?, ?, ?, ?, ?)",
+				MANAGER_ID, MANAGER_ID, "부하테스트", "load@test.com", "010-0000-0000", "ROLE_ADMIN");
+
+		seedItems();
+		seedPartners();
+		seedOrders();
+		seedSales();
+		seedManufactureOrders();
+
+		log.info("부하 테스트 데이터 생성 완료 - 품목 {}, 발주 {}, 수주 {} ({}ms)", unitPrices.length, orderCount, saleCount,
+				System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * 거래처가 공급하는 원재료 중 하나 (인기 품목 위주)
+	 */
+	public String pickRawMaterial(String supplierCode, Random random) {
+		int supplier = supplierCodes.indexOf(supplierCode);
+		int catalogSize = catalogSize(supplier);
+		int index = supplier + supplierCount * Math.min(catalogSampler.sample(random), catalogSize - 1);
+		return rmCodes.get(index);
+	}
+
+	public String pickSupplier(Random random) {
+		return supplierCodes.get(supplierSampler.sample(random));
+	}
+
+	public String pickFranchise(Random random) {
+		return franchiseCodes.get(franchiseSampler.sample(random));
+	}
+
+	public String pickFinished(Random random) {
+		return fpCodes.get(finishedSampler.sample(random));
+	}
+
+	public String pickProcessed(Random random) {
+		return ppCodes.get(processedSampler.sample(random));
+	}
+
+	public int unitPrice(String itemCode) {
+		return unitPrices[itemIndex(itemCode)];
+	}
+
+	/**
+	 * 전표당 품목 수 : 1 + 기하분포, 최대 10
+	 */
+	public static int lineCount(Random random) {
+		int lines = 1;
+		while (lines < 10 && random.nextDouble() < 0.6) {
+			lines++;
+		}
+		return lines;
+	}
+
+	/**
+	 * 로그정규분포 수량 (중앙값 median)
+	 */
+	public static int quantity(Random random, int median) {
+		return Math.max(1, (int) Math.round(median * Math.exp(0.6 * random.nextGaussian())));
+	}
+
+	private void seedItems() {
+		List<Object[]> items = new ArrayList<>();
+		for (int i = 0; i < rawMaterialCount; i++) {
+			rmCodes.add(String.format("RM%04d", i));
+			items.add(new Object[] { rmCodes.get(i), "원재료" + i, "RM" });
+		}
+		for (int i = 0; i < processedCount; i++) {
+			ppCodes.add(String.format("PP%04d", i));
+			items.add(new Object[] { ppCodes.get(i), "가공품" + i, "PP" });
+		}
+		for (int i = 0; i < finishedCount; i++) {
+			fpCodes.add(String.format("FP%04d", i));
+			items.add(new Object[] { fpCodes.get(i), "완제품" + i, "FP" });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO item (item_code, item_name, item_type, use_yn) VALUES (?, ?, ?, 'Y')", items);
+
+		// 단가 : 원재료 중앙값 2,000원, 가공품 6,000원, 완제품 12,000원 (10원 단위)
+		unitPrices = new int[items.size()];
+		List<Object[]> inventory = new ArrayList<>();
+		for (int i = 0; i < items.size(); i++) {
+			String itemCode = (String) items.get(i)[0];
+			int median = itemCode.startsWith("RM") ? 2000 : itemCode.startsWith("PP") ? 6000 : 12000;
+			unitPrices[i] = Math.max(10, quantity(random, median) / 10 * 10);
+			// 재고량 중앙값 500, 20% 는 최소필요재고량 설정
+			int minReq = random.nextDouble() < 0.2 ? quantity(random, 50) : -1;
+			inventory.add(new Object[] { itemCode, quantity(random, 500), minReq });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO inventory_items (item_code, quantity, min_req_quantity) VALUES (?, ?, ?)", inventory);
+
+		// BOM : 가공품마다 원재료 3~7개
+		List<Object[]> bomLines = new ArrayList<>();
+		for (String ppCode : ppCodes) {
+			Set<String> rms = new LinkedHashSet<>();
+			int lines = 3 + random.nextInt(5);
+			while (rms.size() < lines) {
+				rms.add(rmCodes.get(random.nextInt(rawMaterialCount)));
+			}
+			for (String rmCode : rms) {
+				bomLines.add(new Object[] { ppCode, rmCode, BigDecimal.valueOf(1 + random.nextInt(20), 1) });
+			}
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO bom (pp_code, rm_code, quantity, use_yn) VALUES (?, ?, ?, 'Y')", bomLines);
+	}
+
+	private void seedPartners() {
+		List<Object[]> suppliers = new ArrayList<>();
+		for (int i = 0; i < supplierCount; i++) {
+			supplierCodes.add(String.format("SUP%04d", i));
+			suppliers.add(new Object[] { supplierCodes.get(i), "거래처" + i, String.format("100-%02d-%05d", i % 100, i) });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO supplier (supplier_code, supplier_name, business_number, contact_person, address, use_yn) "
+				+ "VALUES (?, ?, ?, '담당자', '부산광역시', 'Y')", suppliers);
+
+		List<Object[]> franchises = new ArrayList<>();
+		LocalDate today = LocalDate.now();
+		for (int i = 0; i < franchiseCount; i++) {
+			franchiseCodes.add(String.format("FC%04d", i));
+			LocalDate contractStart = today.minusDays(30 + random.nextInt(5 * HISTORY_DAYS));
+			franchises.add(new Object[] { franchiseCodes.get(i), "가맹점" + i, "점주" + i,
+					String.format("200-%02d-%05d", i % 100, i), "서울특별시", Date.valueOf(contractStart),
+					Date.valueOf(contractStart.plusYears(5)) });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO franchise (franchise_code, franchise_name, owner_name, business_number, address, "
+				+ "contract_start_date, contract_end_date, use_yn) VALUES (?, ?, ?, ?, ?, ?, ?, 'Y')", franchises);
+	}
+
+	// 발주 + 발주품목 + 입고 + 입고품목
+	private void seedOrders() {
+		Batch batch = new Batch();
+		for (int i = 0; i < orderCount; i++) {
+			String orderId = String.format("OD%07d", i);
+			LocalDateTime orderDate = tradeDate();
+			LocalDateTime dueDate = orderDate.plusDays(3 + random.nextInt(12));
+			String status = documentStatus("발주완료", "발주등록(저장)", "발주취소");
+			String supplierCode = pickSupplier(random);
+
+			int totalPrice = 0;
+			List<Object[]> lines = new ArrayList<>();
+			for (String itemCode : distinctLines(() -> pickRawMaterial(supplierCode, random))) {
+				int quantity = quantity(random, 40);
+				int price = unitPrice(itemCode);
+				totalPrice += price * quantity;
+				lines.add(new Object[] { orderId + itemCode, orderId, quantity, price, price * quantity, itemCode });
+			}
+			batch.orderItems.addAll(lines);
+			batch.orders.add(new Object[] { orderId, totalPrice, ts(orderDate), ts(dueDate), ts(orderDate), status,
+					MANAGER_ID, supplierCode });
+
+			// 납기가 지난 발주완료 건은 대부분 입고 완료, 최근 건은 진행중이거나 미등록
+			if (status.equals("발주완료") && progressed(dueDate)) {
+				String incomingId = String.format("INC%07d", i);
+				boolean done = dueDate.isBefore(LocalDateTime.now().minusDays(1)) || random.nextBoolean();
+				batch.headers.add(new Object[] { incomingId, ts(dueDate), done ? ts(dueDate.plusHours(2)) : null,
+						done ? "입고 완료" : "입고 진행중", orderId, MANAGER_ID });
+				for (int j = 0; j < lines.size(); j++) {
+					batch.details.add(new Object[] { String.format("INCI%07d%02d", i, j), lines.get(j)[2], incomingId,
+							lines.get(j)[5] });
+				}
+			}
+
+			if (batch.orders.size() == BATCH_SIZE) {
+				flushOrders(batch);
+			}
+		}
+		flushOrders(batch);
+	}
+
+	// 수주 + 수주품목 + 출고 + 출고품목 + 출하 + 출하검품
+	private void seedSales() {
+		Batch batch = new Batch();
+		for (int i = 0; i < saleCount; i++) {
+			String saleId = String.format("SL%07d", i);
+			LocalDateTime orderDate = tradeDate();
+			LocalDateTime dueDate = orderDate.plusDays(1 + random.nextInt(7));
+			String status = documentStatus("수주완료", "수주등록(저장)", "수주취소");
+
+			int totalPrice = 0;
+			List<Object[]> lines = new ArrayList<>();
+			for (String itemCode : distinctLines(() -> pickFinished(random))) {
+				int quantity = quantity(random, 15);
+				int price = unitPrice(itemCode);
+				totalPrice += price * quantity;
+				lines.add(new Object[] { saleId + itemCode, saleId, quantity, price, price * quantity, itemCode });
+			}
+			batch.saleItems.addAll(lines);
+			batch.sales.add(new Object[] { saleId, totalPrice, ts(orderDate), ts(dueDate), ts(orderDate), status, MANAGER_ID,
+					pickFranchise(random) });
+
+			if (status.equals("수주완료") && progressed(dueDate)) {
+				String outgoingId = String.format("OUT%07d", i);
+				boolean done = dueDate.isBefore(LocalDateTime.now().minusDays(1)) || random.nextBoolean();
+				batch.headers.add(new Object[] { outgoingId, ts(dueDate.minusDays(1)), done ? ts(dueDate.minusHours(20)) : null,
+						done ? "출고 완료" : "출고 진행중", saleId, MANAGER_ID });
+				for (int j = 0; j < lines.size(); j++) {
+					batch.details.add(new Object[] { String.format("OUTI%07d%02d", i, j), lines.get(j)[2], outgoingId,
+							lines.get(j)[5] });
+				}
+
+				// 출고 완료 건의 90% 는 출하까지 진행 (나머지는 출하 대기)
+				if (done && random.nextDouble() < 0.9) {
+					String shipmentId = String.format("SM%07d", i);
+					boolean shipped = random.nextDouble() < 0.95;
+					batch.shipments.add(new Object[] { shipmentId, ts(dueDate), ts(dueDate), shipped ? "출하완료" : "출하등록(검품요청)",
+							MANAGER_ID, saleId });
+					batch.qualityShipments.add(new Object[] { "QA_" + shipmentId, ts(dueDate), shipped ? "검품완료" : "대기중",
+							shipmentId, shipped ? MANAGER_ID : null, saleId });
+				}
+			}
+
+			if (batch.sales.size() == BATCH_SIZE) {
+				flushSales(batch);
+			}
+		}
+		flushSales(batch);
+	}
+
+	// 작업지시 : 수주 20건당 1건, 대부분 종료
+	private void seedManufactureOrders() {
+		List<Object[]> mfOrders = new ArrayList<>();
+		String[] openStates = { "작업 전달 전", "작업 대기", "작업 중" };
+		for (int i = 0; i < saleCount / 20; i++) {
+			LocalDateTime orderDate = tradeDate();
+			String state = progressed(orderDate.plusDays(3)) ? "작업 종료" : openStates[random.nextInt(openStates.length)];
+			mfOrders.add(new Object[] { String.format("MO%07d", i), quantity(random, 100),
+					Date.valueOf(orderDate.toLocalDate().plusDays(3)), ts(orderDate), state, pickProcessed(random) });
+			if (mfOrders.size() == BATCH_SIZE) {
+				insertMfOrders(mfOrders);
+			}
+		}
+		insertMfOrders(mfOrders);
+	}
+
+	private void flushOrders(Batch batch) {
+		jdbcTemplate.batchUpdate("INSERT INTO orders (order_id, total_price, order_date, due_date, real_date, status, manager, supplier_code) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch.orders);
+		jdbcTemplate.batchUpdate("INSERT INTO order_items (orderitem_id, order_id, quantity, price, subtotal_price, item_code) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", batch.orderItems);
+		jdbcTemplate.batchUpdate("INSERT INTO incoming (incoming_id, incoming_start_date, incoming_end_date, status, order_id, manager_id) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", batch.headers);
+		jdbcTemplate.batchUpdate("INSERT INTO incoming_items (incoming_item_id, quantity, incoming_id, item_code) VALUES (?, ?, ?, ?)",
+				batch.details);
+		batch.clear();
+	}
+
+	private void flushSales(Batch batch) {
+		jdbcTemplate.batchUpdate("INSERT INTO sale (sale_id, total_price, order_date, due_date, real_date, status, manager, franchise_code) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch.sales);
+		jdbcTemplate.batchUpdate("INSERT INTO sale_items (saleitem_id, sale_id, quantity, price, subtotal_price, item_code) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", batch.saleItems);
+		jdbcTemplate.batchUpdate("INSERT INTO outgoing (outgoing_id, outgoing_start_date, outgoing_end_date, status, sale_id, manager_id) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", batch.headers);
+		jdbcTemplate.batchUpdate("INSERT INTO outgoing_items (outgoing_item_id, quantity, outgoing_id, item_code) VALUES (?, ?, ?, ?)",
+				batch.details);
+		jdbcTemplate.batchUpdate("INSERT INTO shipment (shipment_id, ship_date, real_date, status, manager, sale_id) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", batch.shipments);
+		jdbcTemplate.batchUpdate("INSERT INTO quality_shipment (quality_shipment_id, ship_date, status, shipment_id, manager, sale_id) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", batch.qualityShipments);
+		batch.clear();
+	}
+
+	private void insertMfOrders(List<Object[]> mfOrders) {
+		jdbcTemplate.batchUpdate("INSERT INTO manufacture_order (order_id, order_amount, order_deadline, order_date, order_state, order_item) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", mfOrders);
+		mfOrders.clear();
+	}
+
+	// 85% 완료, 10% 등록, 5% 취소
+	private String documentStatus(String completed, String saved, String canceled) {
+		double p = random.nextDouble();
+		return p < 0.85 ? completed : p < 0.95 ? saved : canceled;
+	}
+
+	// 기준일이 지났으면 다음 단계로 진행된 전표, 아직 안 지났으면 30% 만 진행
+	private boolean progressed(LocalDateTime dueDate) {
+		return dueDate.isBefore(LocalDateTime.now()) ? random.nextDouble() < 0.98 : random.nextDouble() < 0.3;
+	}
+
+	// 최근 1년 중 하루 (주말 40%, 계절 변동 ±30%) + 업무 시간 09~18시
+	private LocalDateTime tradeDate() {
+		LocalDate today = LocalDate.now();
+		while (true) {
+			int daysAgo = random.nextInt(HISTORY_DAYS);
+			LocalDate day = today.minusDays(daysAgo);
+			double weight = (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) ? 0.4 : 1.0;
+			weight *= 1.0 + 0.3 * Math.sin(2 * Math.PI * day.getDayOfYear() / 365.0);
+			if (random.nextDouble() * 1.3 < weight) {
+				return day.atTime(9 + random.nextInt(9), random.nextInt(60));
+			}
+		}
+	}
+
+	private List<String> distinctLines(Supplier<String> picker) {
+		int lines = lineCount(random);
+		Set<String> itemCodes = new LinkedHashSet<>();
+		// 같은 품목이 연달아 뽑히면 그만큼 품목 수가 줄어듦 (인기 품목 위주 전표)
+		for (int i = 0; i < lines * 2 && itemCodes.size() < lines; i++) {
+			itemCodes.add(picker.get());
+		}
+		return new ArrayList<>(itemCodes);
+	}
+
+	private int catalogSize(int supplier) {
+		return (rawMaterialCount - supplier + supplierCount - 1) / supplierCount;
+	}
+
+	private int itemIndex(String itemCode) {
+		int number = Integer.parseInt(itemCode.substring(2));
+		if (itemCode.startsWith("RM")) {
+			return number;
+		}
+		if (itemCode.startsWith("PP")) {
+			return rawMaterialCount + number;
+		}
+		return rawMaterialCount + processedCount + number;
+	}
+
+	private static Timestamp ts(LocalDateTime dateTime) {
+		return Timestamp.valueOf(dateTime);
+	}
+
+	private static int scaled(int base, double scale, int min) {
+		return Math.max(min, (int) Math.round(base * scale));
+	}
+
+	private static class Batch {
+		final List<Object[]> orders = new ArrayList<>(BATCH_SIZE);
+		final List<Object[]> orderItems = new ArrayList<>();
+		final List<Object[]> sales = new ArrayList<>(BATCH_SIZE);
+		final List<Object[]> saleItems = new ArrayList<>();
+		final List<Object[]> headers = new ArrayList<>(BATCH_SIZE);
+		final List<Object[]> details = new ArrayList<>();
+		final List<Object[]> shipments = new ArrayList<>();
+		final List<Object[]> qualityShipments = new ArrayList<>();
+
+		void clear() {
+			orders.clear();
+			orderItems.clear();
+			sales.clear();
+			saleItems.clear();
+			headers.clear();
+			details.clear();
+			shipments.clear();
+			qualityShipments.clear();
+		}
+	}
+
+	/**
+	 * Zipf 분포 샘플러 (0 ~ n-1, 0 이 가장 자주 나옴)
+	 */
+	static class ZipfSampler {
+
+		private final double[] cdf;
+
+		ZipfSampler(int n, double exponent) {
+			cdf = new double[n];
+			double sum = 0;
+			for (int i = 0; i < n; i++) {
+				sum += 1.0 / Math.pow(i + 1, exponent);
+				cdf[i] = sum;
+			}
+			for (int i = 0; i < n; i++) {
+				cdf[i] /= sum;
+			}
+		}
+
+		int sample(Random random) {
+			int index = Arrays.binarySearch(cdf, random.nextDouble());
+			return Math.min(index < 0 ? -index - 1 : index, cdf.length - 1);
+		}
+	}
+}
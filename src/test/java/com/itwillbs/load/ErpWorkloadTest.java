@@ -0,0 +1,83 @@
+package com.itwillbs.load;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.itwillbs.service.ShipReadyQueueService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 발주 → 입고 → 생산 → 수주 → 출고 → 출하 업무 흐름 부하 테스트 (H2 메모리 DB)
+ *
+ * ./gradlew loadTest 로 실행, 옵션은 -P 로 지정
+ * -Pload.scale=1.0 : 초기 데이터 크기 (1.0 = 발주 2만 / 수주 4만건)
+ * -Pload.rate=5 : 초당 시작할 파이프라인 수
+ * -Pload.duration=30 : 부하 발생 시간(초)
+ * -Pload.workers=16 : 동시에 진행할 파이프라인 수
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.jakarta.persistence.validation.mode=none",
+		"spring.jpa.properties.hibernate.show_sql=false",
+		"spring.jpa.properties.hibernate.format_sql=false",
+		"logging.level.org.hibernate.type.descriptor.sql=info",
+		"logging.level.com.itwillbs=warn"
+})
+@AutoConfigureMockMvc
+@Slf4j
+class ErpWorkloadTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private ShipReadyQueueService shipReadyQueueService;
+
+	@Value("${load.scale:0.1}")
+	private double scale;
+	@Value("${load.rate:5}")
+	private double rate;
+	@Value("${load.duration:30}")
+	private int durationSeconds;
+	@Value("${load.workers:16}")
+	private int workers;
+
+	private DatasetSeeder dataset;
+
+	@BeforeEach
+	void seed() {
+		dataset = new DatasetSeeder(jdbcTemplate, scale, 42);
+		dataset.seed();
+		// 시작 시점에는 비어 있던 출하 대기 큐를 생성한 데이터로 채움
+		shipReadyQueueService.initialize();
+	}
+
+	@Test
+	void orderToShipment() throws InterruptedException {
+		WorkloadDriver driver = new WorkloadDriver(mockMvc, jdbcTemplate, dataset);
+
+		WorkloadDriver.Report report = driver.run(rate, Duration.ofSeconds(durationSeconds), workers);
+
+		log.warn("업무 흐름 부하 결과 (scale {}, 목표 {}건/초, 워커 {}){}", scale, rate, workers, report);
+		Assertions.assertThat(report.completed(WorkloadDriver.STEP_SHIPMENT)).isPositive();
+		Assertions.assertThat(report.totalErrors()).isZero();
+	}
+}
@@ -0,0 +1,349 @@
+package com.itwillbs.load;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업무 흐름 부하 발생기
+ *
+ * 발주 → 입고 → 생산 → 수주 → 출고 → 출하 흐름 한 번을 "파이프라인" 하나로 보고,
+ * 목표 처리량(파이프라인/초)에 맞춰 일정 간격으로 시작시킨다. (open-loop, 앞 요청이 밀려도 시작 간격은 유지)
+ * 요청은 MockMvc 로 실제 컨트롤러(TXController, InventoryController, RestInventoryController,
+ * MFController, QualityController2)를 거친다.
+ *
+ * 단계별 지연시간은 해당 단계의 HTTP 요청 시간 합계이며, 화면에서 넘겨받던 문서번호를 찾는 조회는 제외한다.
+ * "시작 지연" 은 예정 시각보다 파이프라인이 늦게 시작한 시간으로, 워커가 모자라 밀리는 정도를 보여준다.
+ */
+@Slf4j
+public class WorkloadDriver {
+
+	public static final String STEP_ORDER = "발주";
+	public static final String STEP_INCOMING = "입고";
+	public static final String STEP_MANUFACTURE = "생산";
+	public static final String STEP_SALE = "수주";
+	public static final String STEP_OUTGOING = "출고";
+	public static final String STEP_SHIPMENT = "출하";
+	public static final String STEP_START_DELAY = "시작 지연";
+
+	private static final List<String> STEPS = List.of(STEP_ORDER, STEP_INCOMING, STEP_MANUFACTURE, STEP_SALE,
+			STEP_OUTGOING, STEP_SHIPMENT, STEP_START_DELAY);
+
+	private final MockMvc mockMvc;
+	private final JdbcTemplate jdbcTemplate;
+	private final DatasetSeeder dataset;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final RequestPostProcessor loginUser = user(DatasetSeeder.MANAGER_ID).roles("ADMIN");
+
+	private final Map<String, StepStats> stats = new LinkedHashMap<>();
+	private final AtomicLong pipelineSequence = new AtomicLong();
+
+	public WorkloadDriver(MockMvc mockMvc, JdbcTemplate jdbcTemplate, DatasetSeeder dataset) {
+		this.mockMvc = mockMvc;
+		this.jdbcTemplate = jdbcTemplate;
+		this.dataset = dataset;
+		STEPS.forEach(step -> stats.put(step, new StepStats()));
+	}
+
+	/**
+	 * @param pipelinesPerSecond 초당 시작할 파이프라인 수
+	 * @param duration           부하 발생 시간
+	 * @param workers            동시에 진행할 수 있는 파이프라인 수
+	 */
+	public Report run(double pipelinesPerSecond, Duration duration, int workers) throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / pipelinesPerSecond);
+		long start = System.nanoTime();
+		long end = start + duration.toNanos();
+
+		long scheduled = start;
+		while (scheduled < end) {
+			long now = System.nanoTime();
+			if (scheduled > now) {
+				TimeUnit.NANOSECONDS.sleep(scheduled - now);
+			}
+			long intendedStart = scheduled;
+			executor.execute(() -> {
+				stats.get(STEP_START_DELAY).record(System.nanoTime() - intendedStart);
+				runPipeline(pipelineSequence.getAndIncrement());
+			});
+			scheduled += intervalNanos;
+		}
+
+		executor.shutdown();
+		executor.awaitTermination(duration.toMillis() + TimeUnit.MINUTES.toMillis(5), TimeUnit.MILLISECONDS);
+		return new Report(stats, System.nanoTime() - start);
+	}
+
+	private void runPipeline(long sequence) {
+		Random random = ThreadLocalRandom.current();
+		String marker = "LOAD-" + sequence;
+
+		String orderId = step(STEP_ORDER, call -> {
+			String supplierCode = dataset.pickSupplier(random);
+			List<Map<String, Object>> items = lines(random, () -> dataset.pickRawMaterial(supplierCode, random), 40);
+			Map<String, Object> order = header(marker, items);
+			order.put("supplierCode", supplierCode);
+			call.perform(post("/tx/saveOrder").contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(Map.of("order", order, "items", items))));
+			String id = lookup("SELECT order_id FROM orders WHERE note = ?", marker);
+			call.perform(post("/tx/completeOrder").param("orderId", id));
+			return id;
+		});
+		if (orderId == null) {
+			return;
+		}
+
+		String incomingId = step(STEP_INCOMING, call -> {
+			call.perform(post("/inven/incomingInsert").param("incomingInsertCode", orderId)
+					.param("reasonOfIncoming", "발주완료").param("managerId", DatasetSeeder.MANAGER_ID));
+			String id = lookup("SELECT incoming_id FROM incoming WHERE order_id = ?", orderId);
+			call.perform(post("/restInven/updateIncomingStatus").param("incomingId", id));
+			return id;
+		});
+		if (incomingId == null) {
+			return;
+		}
+
+		// 작업지시 → 작업 전달 → 원자재 출고(작업 중) → 작업 종료
+		// 작업지시 번호는 품목 + 납기일로 찾으므로 파이프라인마다 서로 다른 조합을 쓴다.
+		String mfOrderId = step(STEP_MANUFACTURE, call -> {
+			List<String> ppCodes = dataset.getPpCodes();
+			String itemCode = ppCodes.get((int) (sequence % ppCodes.size()));
+			LocalDate deadline = LocalDate.now().plusDays(7 + (sequence / ppCodes.size()) % 3650);
+			call.perform(post("/mf/submit").param("itemCode", itemCode)
+					.param("amount", String.valueOf(DatasetSeeder.quantity(random, 100)))
+					.param("deadline", deadline.toString()));
+			String id = lookup("SELECT order_id FROM manufacture_order WHERE order_item = ? AND order_deadline = ? "
+					+ "AND order_state = '작업 전달 전'", itemCode, Date.valueOf(deadline));
+			call.perform(post("/mf/orderUpdate").param("type", "transmit").param("key", id));
+			call.perform(post("/inven/outgoingInsert").param("outgoingInsertCode", id)
+					.param("reasonOfOutgoing", "작업 대기").param("managerId", DatasetSeeder.MANAGER_ID));
+			String outgoingId = lookup("SELECT outgoing_id FROM outgoing WHERE production_id = ?", id);
+			call.perform(post("/restInven/updateOutgoingStatus").param("outgoingId", outgoingId));
+			call.perform(post("/mf/orderUpdate").param("type", "complete").param("key", id));
+			return id;
+		});
+		if (mfOrderId == null) {
+			return;
+		}
+
+		String saleId = step(STEP_SALE, call -> {
+			List<Map<String, Object>> items = lines(random, () -> dataset.pickFinished(random), 15);
+			Map<String, Object> sale = header(marker, items);
+			sale.put("franchiseCode", dataset.pickFranchise(random));
+			call.perform(post("/tx/saveSale").contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(Map.of("sale", sale, "items", items))));
+			String id = lookup("SELECT sale_id FROM sale WHERE note = ?", marker);
+			call.perform(post("/tx/completeSale").param("saleId", id));
+			return id;
+		});
+		if (saleId == null) {
+			return;
+		}
+
+		String outgoingId = step(STEP_OUTGOING, call -> {
+			call.perform(post("/inven/outgoingInsert").param("outgoingInsertCode", saleId)
+					.param("reasonOfOutgoing", "수주완료").param("managerId", DatasetSeeder.MANAGER_ID));
+			String id = lookup("SELECT outgoing_id FROM outgoing WHERE sale_id = ?", saleId);
+			call.perform(post("/restInven/updateOutgoingStatus").param("outgoingId", id));
+			return id;
+		});
+		if (outgoingId == null) {
+			return;
+		}
+
+		step(STEP_SHIPMENT, call -> {
+			call.perform(post("/tx/saveShip").param("saleId", saleId).param("manager", DatasetSeeder.MANAGER_ID)
+					.param("shipDate", LocalDate.now().plusDays(1) + " 09:00:00").param("note", marker));
+			String shipmentId = lookup("SELECT shipment_id FROM shipment WHERE sale_id = ?", saleId);
+			call.perform(post("/quality/completeQS").param("qsId", "QA_" + shipmentId)
+					.param("manager", DatasetSeeder.MANAGER_ID));
+			return shipmentId;
+		});
+	}
+
+	// 발주/수주 공통 헤더 (note 에 파이프라인 표시를 남겨 저장 후 번호를 찾는다)
+	private Map<String, Object> header(String marker, List<Map<String, Object>> items) {
+		long now = System.currentTimeMillis();
+		Map<String, Object> header = new HashMap<>();
+		header.put("manager", DatasetSeeder.MANAGER_ID);
+		header.put("totalPrice", items.stream().mapToInt(item -> (Integer) item.get("subtotalPrice")).sum());
+		header.put("orderDate", now);
+		header.put("dueDate", now + TimeUnit.DAYS.toMillis(7));
+		header.put("note", marker);
+		return header;
+	}
+
+	private List<Map<String, Object>> lines(Random random, Supplier<String> picker, int medianQuantity) {
+		int lines = DatasetSeeder.lineCount(random);
+		Map<String, Map<String, Object>> items = new LinkedHashMap<>();
+		for (int i = 0; i < lines; i++) {
+			String itemCode = picker.get();
+			int price = dataset.unitPrice(itemCode);
+			int quantity = DatasetSeeder.quantity(random, medianQuantity);
+			items.putIfAbsent(itemCode, new HashMap<>(Map.of("itemCode", itemCode, "price", price, "quantity", quantity,
+					"subtotalPrice", price * quantity)));
+		}
+		return new ArrayList<>(items.values());
+	}
+
+	private String lookup(String sql, Object... args) {
+		List<String> ids = jdbcTemplate.queryForList(sql, String.class, args);
+		if (ids.size() != 1) {
+			throw new IllegalStateException("문서번호 조회 결과 " + ids.size() + "건 : " + sql + " " + Arrays.toString(args));
+		}
+		return ids.get(0);
+	}
+
+	private String step(String name, StepBody body) {
+		StepCall call = new StepCall();
+		try {
+			String id = body.run(call);
+			stats.get(name).record(call.nanos);
+			return id;
+		} catch (Exception e) {
+			stats.get(name).error();
+			log.warn("{} 단계 실패 : {}", name, e.toString());
+			return null;
+		}
+	}
+
+	private interface StepBody {
+		String run(StepCall call) throws Exception;
+	}
+
+	private class StepCall {
+
+		private long nanos;
+
+		MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+			long start = System.nanoTime();
+			MvcResult result = mockMvc.perform(request.with(loginUser).with(csrf())).andReturn();
+			nanos += System.nanoTime() - start;
+
+			int status = result.getResponse().getStatus();
+			String body = result.getResponse().getContentAsString();
+			if (status >= 400 || body.equals("failed") || body.equals("mismatch")) {
+				throw new IllegalStateException(result.getRequest().getRequestURI() + " -> " + status + " " + body);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * 단계별 지연시간(ns) 기록
+	 */
+	static class StepStats {
+
+		private long[] latencies = new long[1024];
+		private int count;
+		private final AtomicLong errors = new AtomicLong();
+
+		synchronized void record(long nanos) {
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = nanos;
+		}
+
+		void error() {
+			errors.incrementAndGet();
+		}
+
+		synchronized long[] sorted() {
+			long[] copy = Arrays.copyOf(latencies, count);
+			Arrays.sort(copy);
+			return copy;
+		}
+
+		long errors() {
+			return errors.get();
+		}
+	}
+
+	/**
+	 * 실행 결과 : 단계별 처리량(건/초), 지연시간 백분위(ms)
+	 */
+	public static class Report {
+
+		private final Map<String, long[]> latencies = new LinkedHashMap<>();
+		private final Map<String, Long> errors = new LinkedHashMap<>();
+		private final long elapsedNanos;
+
+		Report(Map<String, StepStats> stats, long elapsedNanos) {
+			stats.forEach((step, stepStats) -> {
+				latencies.put(step, stepStats.sorted());
+				errors.put(step, stepStats.errors());
+			});
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		public int completed(String step) {
+			return latencies.get(step).length;
+		}
+
+		public long errors(String step) {
+			return errors.get(step);
+		}
+
+		public long totalErrors() {
+			return errors.values().stream().mapToLong(Long::longValue).sum();
+		}
+
+		public double throughput(String step) {
+			return completed(step) / (elapsedNanos / 1e9);
+		}
+
+		public double percentileMillis(String step, double percentile) {
+			long[] sorted = latencies.get(step);
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+			return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append(String.format("%n%-8s %8s %6s %9s %9s %9s %9s %9s%n", "단계", "완료", "실패", "건/초", "p50(ms)",
+					"p95(ms)", "p99(ms)", "max(ms)"));
+			for (String step : latencies.keySet()) {
+				sb.append(String.format("%-8s %8d %6d %9.2f %9.1f %9.1f %9.1f %9.1f%n", step, completed(step), errors(step),
+						throughput(step), percentileMillis(step, 50), percentileMillis(step, 95),
+						percentileMillis(step, 99), percentileMillis(step, 100)));
+			}
+			sb.append(String.format("경과 %.1f초", elapsedNanos / 1e9));
+			return sb.toString();
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package com.itwillbs.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.itwillbs.domain.inventory.InventoryItemDTO;
+import com.itwillbs.entity.InventoryItem;
+import com.itwillbs.entity.Item;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 일괄 수정 : 기존 findById + save 반복 vs JDBC 배치 업데이트 비교 (H2 메모리 DB)
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.jakarta.persistence.validation.mode=none",
+		"spring.jpa.properties.hibernate.show_sql=false",
+		"spring.jpa.properties.hibernate.format_sql=false",
+		"logging.level.org.hibernate.type.descriptor.sql=info"
+})
+@Slf4j
+class InventoryBulkUpdateBenchmarkTest {
+
+	private static final int ROWS = 2000;
+
+	@Autowired
+	private InventoryRepository inventoryRepository;
+	@Autowired
+	private TestEntityManager em;
+
+	@BeforeEach
+	void seed() {
+		for (int i = 0; i < ROWS; i++) {
+			Item item = new Item();
+			item.setItemCode(String.format("RM%05d", i));
+			item.setItemName("원재료" + i);
+			item.setItemType("RM");
+			em.persist(item);
+
+			InventoryItem inventoryItem = new InventoryItem();
+			inventoryItem.setItemCode(item.getItemCode());
+			inventoryItem.setQuantity(0);
+			inventoryItem.setMinReqQuantity(-1);
+			em.persist(inventoryItem);
+		}
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	void loopVersusBatch() {
+		List<InventoryItemDTO> rows = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			rows.add(new InventoryItemDTO(String.format("RM%05d", i), "", "RM", i, 10));
+		}
+
+		// 기존 방식 : 행마다 findById + save
+		long loopStart = System.nanoTime();
+		for (InventoryItemDTO row : rows) {
+			InventoryItem item = inventoryRepository.findById(row.getItemCode()).orElseThrow();
+			item.setQuantity(row.getQuantity());
+			item.setMinReqQuantity(row.getMinReqQuantity());
+			inventoryRepository.save(item);
+		}
+		em.flush();
+		long loopMillis = (System.nanoTime() - loopStart) / 1_000_000;
+		em.clear();
+
+		// 배치 방식 : 존재 확인 1회 + JDBC 배치 UPDATE
+		rows.forEach(row -> row.setQuantity(row.getQuantity() + 1));
+		long batchStart = System.nanoTime();
+		List<String> existing = inventoryRepository
+				.findExistingItemCodes(rows.stream().map(InventoryItemDTO::getItemCode).toList());
+		int[] counts = inventoryRepository.batchUpdateQuantities(rows);
+		long batchMillis = (System.nanoTime() - batchStart) / 1_000_000;
+
+		log.info("재고 일괄 수정 {}건 - 반복 {}ms, 배치 {}ms", ROWS, loopMillis, batchMillis);
+
+		Assertions.assertThat(existing).hasSize(ROWS);
+		Assertions.assertThat(counts).hasSize(ROWS).containsOnly(1);
+		Assertions.assertThat(inventoryRepository.findById("RM01999").orElseThrow().getQuantity()).isEqualTo(2000);
+	}
+}
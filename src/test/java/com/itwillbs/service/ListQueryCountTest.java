@@ -0,0 +1,332 @@
+package com.itwillbs.service;
+
+import static com.itwillbs.config.metrics.QueryCountAssertions.assertQueryCount;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.itwillbs.domain.inventory.IncomingDTO;
+import com.itwillbs.domain.inventory.OutgoingDTO;
+import com.itwillbs.entity.Franchise;
+import com.itwillbs.entity.Incoming;
+import com.itwillbs.entity.IncomingItems;
+import com.itwillbs.entity.InventoryItem;
+import com.itwillbs.entity.Item;
+import com.itwillbs.entity.MFOrder;
+import com.itwillbs.entity.Manager;
+import com.itwillbs.entity.Order;
+import com.itwillbs.entity.OrderItems;
+import com.itwillbs.entity.Outgoing;
+import com.itwillbs.entity.OutgoingItems;
+import com.itwillbs.entity.QualityShipment;
+import com.itwillbs.entity.Sale;
+import com.itwillbs.entity.SaleItems;
+import com.itwillbs.entity.ShipReadyQueue;
+import com.itwillbs.entity.Shipment;
+import com.itwillbs.entity.Supplier;
+
+/**
+ * 목록 화면 쿼리 수 검사 (데이터 1,000건)
+ * 행마다 쿼리를 실행하는 코드(N+1)가 다시 들어오면 허용 쿼리 수를 넘어서 실패한다.
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.jakarta.persistence.validation.mode=none",
+		"spring.jpa.properties.hibernate.show_sql=false",
+		"spring.jpa.properties.hibernate.format_sql=false",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=com.itwillbs.config.metrics.QueryCountInspector",
+		"spring.jpa.properties.hibernate.query.fail_on_pagination_over_collection_fetch=true",
+		"logging.level.org.hibernate.type.descriptor.sql=info"
+})
+@Import({ InventoryService.class, TXService.class, QSService.class, MFService.class, StockMovementService.class,
+		StockReservationService.class, ShipReadyQueueService.class, DocumentIdAllocator.class, BomCache.class })
+class ListQueryCountTest {
+
+	private static final int ROWS = 1000;
+	private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+	@Autowired
+	private TestEntityManager em;
+	@Autowired
+	private InventoryService inventoryService;
+	@Autowired
+	private TXService txService;
+	@Autowired
+	private QSService qsService;
+	@Autowired
+	private MFService mfService;
+
+	@BeforeEach
+	void seed() {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		Manager manager = Manager.builder().managerId("manager01").pass("pass").name("담당자")
+				.email("manager@test.com").phone("010-0000-0000").managerRole("ROLE_ADMIN").build();
+		em.persist(manager);
+
+		Supplier supplier = new Supplier();
+		supplier.setSupplierCode("SUP001");
+		supplier.setSupplierName("거래처");
+		supplier.setBusinessNumber("000-00-00000");
+		supplier.setContactPerson("담당자");
+		supplier.setAddress("주소");
+		em.persist(supplier);
+
+		Franchise franchise = new Franchise();
+		franchise.setFranchiseCode("FR001");
+		franchise.setFranchiseName("가맹점");
+		franchise.setOwnerName("점주");
+		franchise.setBusinessNumber("000-00-00000");
+		franchise.setAddress("주소");
+		franchise.setContractStartDate(LocalDate.now());
+		em.persist(franchise);
+
+		// 품목 (10개 중 1개는 가공품)
+		Item[] items = new Item[ROWS];
+		for (int i = 0; i < ROWS; i++) {
+			String type = i % 10 == 0 ? "PP" : "RM";
+			Item item = new Item();
+			item.setItemCode(String.format("%s%04d", type, i));
+			item.setItemName("품목" + i);
+			item.setItemType(type);
+			em.persist(item);
+			items[i] = item;
+
+			InventoryItem inventoryItem = new InventoryItem();
+			inventoryItem.setItemCode(item.getItemCode());
+			inventoryItem.setItem(item);
+			inventoryItem.setQuantity(100);
+			inventoryItem.setMinReqQuantity(10);
+			em.persist(inventoryItem);
+		}
+
+		for (int i = 0; i < ROWS; i++) {
+			Item first = items[i];
+			Item second = items[(i + 1) % ROWS];
+
+			// 발주 (짝수번은 입고 등록됨)
+			Order order = new Order();
+			order.setOrderId(String.format("OR%05d", i));
+			order.setOrderDate(now);
+			order.setDueDate(now);
+			order.setRealDate(now);
+			order.setStatus("발주완료");
+			order.setManager(manager);
+			order.setSupplier(supplier);
+			em.persist(order);
+			em.persist(orderItem(order, first, i, 0));
+			em.persist(orderItem(order, second, i, 1));
+
+			// 수주 (짝수번은 출고 등록됨)
+			Sale sale = new Sale();
+			sale.setSaleId(String.format("SA%05d", i));
+			sale.setOrderDate(now);
+			sale.setDueDate(now);
+			sale.setRealDate(now);
+			sale.setStatus("수주완료");
+			sale.setTotalPrice(1000);
+			sale.setManager(manager);
+			sale.setFranchise(franchise);
+			em.persist(sale);
+			em.persist(saleItem(sale, first, i, 0));
+			em.persist(saleItem(sale, second, i, 1));
+
+			// 작업지시
+			MFOrder mfOrder = new MFOrder(String.format("MF%05d", i), 10, LocalDate.now(), now,
+					i % 2 == 0 ? "작업 완료" : "작업 대기", items[(i / 10) * 10]);
+			em.persist(mfOrder);
+
+			// 입고
+			Incoming incoming = new Incoming();
+			incoming.setIncomingId(String.format("INC%05d", i));
+			incoming.setIncomingStartDate(now);
+			incoming.setStatus("입고 진행중");
+			incoming.setManager(manager);
+			if (i % 2 == 0) {
+				incoming.setOrder(order);
+			}
+			em.persist(incoming);
+			em.persist(incomingItem(incoming, first, i, 0));
+			em.persist(incomingItem(incoming, second, i, 1));
+
+			// 출고
+			Outgoing outgoing = new Outgoing();
+			outgoing.setOutgoingId(String.format("OUT%05d", i));
+			outgoing.setOutgoingStartDate(now);
+			outgoing.setOutgoingEndDate(now);
+			outgoing.setStatus("출고 완료");
+			outgoing.setManager(manager);
+			if (i % 2 == 0) {
+				outgoing.setSale(sale);
+			}
+			em.persist(outgoing);
+			em.persist(outgoingItem(outgoing, first, i, 0));
+			em.persist(outgoingItem(outgoing, second, i, 1));
+
+			if (i % 2 == 0) {
+				// 출하 + 출하검품
+				Shipment shipment = new Shipment();
+				shipment.setShipmentId(String.format("SM%05d", i));
+				shipment.setShipDate(now);
+				shipment.setRealDate(now);
+				shipment.setStatus("출하등록(검품요청)");
+				shipment.setManager(manager);
+				shipment.setSale(sale);
+				em.persist(shipment);
+
+				QualityShipment qualityShipment = new QualityShipment();
+				qualityShipment.setQualityShipmentId(String.format("QS%05d", i));
+				qualityShipment.setShipDate(now);
+				qualityShipment.setStatus(i % 4 == 0 ? "검품완료" : "대기중");
+				qualityShipment.setManager(manager);
+				qualityShipment.setShipment(shipment);
+				qualityShipment.setSale(sale);
+				em.persist(qualityShipment);
+			} else {
+				// 출하 대기
+				em.persist(new ShipReadyQueue(sale.getSaleId(), outgoing.getOutgoingId(), outgoing.getStatus(),
+						franchise.getFranchiseCode(), franchise.getFranchiseName(), sale.getTotalPrice(),
+						sale.getOrderDate(), sale.getDueDate(), first.getItemName(), 2L));
+			}
+		}
+
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	void inventoryLists() {
+		Assertions.assertThat(assertQueryCount(2, () -> inventoryService.getInventoryItems(FIRST_PAGE)).getContent())
+				.hasSize(10);
+		Assertions.assertThat(assertQueryCount(1, () -> inventoryService.getInventoryItemSlice(null, 10)).getContent())
+				.hasSize(10);
+
+		// 목록 + COUNT + 품목 요약
+		Assertions.assertThat(assertQueryCount(3, () -> inventoryService.getIncomingLists(FIRST_PAGE)).getContent())
+				.hasSize(10);
+		Assertions.assertThat(assertQueryCount(2, () -> inventoryService.getIncomingSlice(null, 10)).getContent())
+				.hasSize(10);
+		Assertions.assertThat(assertQueryCount(3, () -> inventoryService.getOutgoingLists(FIRST_PAGE)).getContent())
+				.hasSize(10);
+		Assertions.assertThat(assertQueryCount(2, () -> inventoryService.getOutgoingSlice(null, 10)).getContent())
+				.hasSize(10);
+	}
+
+	@Test
+	void searchLists() {
+		// 입고/출고 검색 : 페이지 + COUNT + 품목 요약 (컬렉션 fetch join 으로 전체를 메모리에 올리지 않음)
+		Page<IncomingDTO> incomings = assertQueryCount(3,
+				() -> inventoryService.findIncomingBySearch("", "", null, null, "", "", "", "", FIRST_PAGE));
+		Assertions.assertThat(incomings.getContent()).hasSize(10);
+		Assertions.assertThat(incomings.getTotalElements()).isEqualTo(ROWS);
+		Assertions.assertThat(incomings.getContent().get(0).getIncomingItemDisplay()).isEqualTo("품목999");
+		Assertions.assertThat(incomings.getContent().get(0).getOtherCount()).isEqualTo(1);
+
+		Assertions.assertThat(assertQueryCount(3,
+				() -> inventoryService.findIncomingBySearch("", "발주 완료", null, null, "", "", "", "", FIRST_PAGE))
+				.getTotalElements()).isEqualTo(ROWS / 2);
+		// 품목 조건 : RM0001 은 1번 입고의 첫 품목, 0번 입고의 두번째 품목
+		Assertions.assertThat(assertQueryCount(3,
+				() -> inventoryService.findIncomingBySearch("RM0001", "", null, null, "", "", "", "", FIRST_PAGE))
+				.getTotalElements()).isEqualTo(2);
+
+		Page<OutgoingDTO> outgoings = assertQueryCount(3,
+				() -> inventoryService.findOutgoingBySearch("", "", null, null, "", "", "", "", FIRST_PAGE));
+		Assertions.assertThat(outgoings.getContent()).hasSize(10);
+		Assertions.assertThat(outgoings.getTotalElements()).isEqualTo(ROWS);
+		Assertions.assertThat(assertQueryCount(3,
+				() -> inventoryService.findOutgoingBySearch("", "수주 완료", null, null, "", "", "", "", FIRST_PAGE))
+				.getTotalElements()).isEqualTo(ROWS / 2);
+		Assertions.assertThat(assertQueryCount(3,
+				() -> inventoryService.findOutgoingBySearch("RM0001", "", null, null, "", "", "", "", FIRST_PAGE))
+				.getTotalElements()).isEqualTo(2);
+	}
+
+	@Test
+	void insertTargetLists() {
+		// 생산 대상 + 발주 대상 + 발주 품목 요약 (입고 등록 안된 발주 500건)
+		Assertions.assertThat(assertQueryCount(3, () -> inventoryService.findIncomingInsertList()))
+				.hasSize(ROWS / 2 + ROWS / 2);
+		// 생산 대상 + 수주 대상 + 수주 품목 요약 (출고 등록 안된 수주 500건)
+		Assertions.assertThat(assertQueryCount(3, () -> inventoryService.findOutgoingInsertList()))
+				.hasSize(ROWS / 2 + ROWS / 2);
+	}
+
+	@Test
+	void transactionLists() {
+		Assertions.assertThat(assertQueryCount(2, () -> txService.getOrderList(FIRST_PAGE)).getContent()).hasSize(10);
+		Assertions.assertThat(assertQueryCount(2,
+				() -> txService.searchOrders("발주완료", "거래처", null, null, "품목", null, null, FIRST_PAGE)).getContent())
+				.hasSize(10);
+		Assertions.assertThat(assertQueryCount(2, () -> txService.getSaleList(FIRST_PAGE)).getContent()).hasSize(10);
+		Assertions.assertThat(assertQueryCount(2,
+				() -> txService.searchSales("수주완료", "가맹점", null, null, "품목", null, null, FIRST_PAGE)).getContent())
+				.hasSize(10);
+		Assertions.assertThat(assertQueryCount(2, () -> txService.getShipList(FIRST_PAGE)).getContent()).hasSize(10);
+		Assertions.assertThat(assertQueryCount(1, () -> txService.findToShip())).hasSize(ROWS / 2);
+	}
+
+	@Test
+	void qualityAndManufactureLists() {
+		Assertions.assertThat(assertQueryCount(2, () -> qsService.getShipQualList(FIRST_PAGE)).getContent()).hasSize(10);
+		Assertions.assertThat(assertQueryCount(2,
+				() -> qsService.searchQS("검품완료", null, null, null, null, null, null, FIRST_PAGE)).getContent())
+				.hasSize(10);
+		Assertions.assertThat(assertQueryCount(2,
+				() -> mfService.getOrderList(null, "", "", "", FIRST_PAGE)).getContent())
+				.hasSize(10);
+	}
+
+	private OrderItems orderItem(Order order, Item item, int row, int seq) {
+		OrderItems orderItem = new OrderItems();
+		orderItem.setOrderItemId(String.format("OI%05d%d", row, seq));
+		orderItem.setOrder(order);
+		orderItem.setItem(item);
+		orderItem.setQuantity(5);
+		orderItem.setPrice(100);
+		orderItem.setSubtotalPrice(500);
+		return orderItem;
+	}
+
+	private SaleItems saleItem(Sale sale, Item item, int row, int seq) {
+		SaleItems saleItem = new SaleItems();
+		saleItem.setSaleItemId(String.format("SI%05d%d", row, seq));
+		saleItem.setSale(sale);
+		saleItem.setItem(item);
+		saleItem.setQuantity(5);
+		saleItem.setPrice(100);
+		saleItem.setSubtotalPrice(500);
+		return saleItem;
+	}
+
+	private IncomingItems incomingItem(Incoming incoming, Item item, int row, int seq) {
+		IncomingItems incomingItem = new IncomingItems();
+		incomingItem.setIncomingItemId(String.format("II%05d%d", row, seq));
+		incomingItem.setIncoming(incoming);
+		incomingItem.setItem(item);
+		incomingItem.setQuantity(5);
+		return incomingItem;
+	}
+
+	private OutgoingItems outgoingItem(Outgoing outgoing, Item item, int row, int seq) {
+		OutgoingItems outgoingItem = new OutgoingItems();
+		outgoingItem.setOutgoingItemId(String.format("OG%05d%d", row, seq));
+		outgoingItem.setOutgoing(outgoing);
+		outgoingItem.setItem(item);
+		outgoingItem.setQuantity(5);
+		return outgoingItem;
+	}
+}
@@ -0,0 +1,111 @@
+package com.itwillbs.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.itwillbs.domain.manufacture.MFBomLineDTO;
+import com.itwillbs.domain.manufacture.MrpLineDTO;
+
+/**
+ * 자재소요량 계산기 : 총소요량 → 순소요량, 리드타임 역산, 발주 단위 올림
+ *
+ * FP001 1개 = PP001 2개 + RM002 0.5개, PP001 1개 = RM001 3개
+ */
+class MrpCalculatorTest {
+
+	private static final LocalDate DEADLINE = LocalDate.of(2026, 11, 10);
+
+	private final MrpCalculator calculator = new MrpCalculator(List.of(
+			new MFBomLineDTO("FP001", "PP001", "패티", new BigDecimal("2")),
+			new MFBomLineDTO("FP001", "RM002", "소스", new BigDecimal("0.5")),
+			new MFBomLineDTO("PP001", "RM001", "소고기", new BigDecimal("3"))));
+
+	@Test
+	void grossToNet() {
+		// FP001 10개 생산 → PP001 총 20, 재고 5 → 추가 생산 15 → RM001 총 45, 재고 10 + 입고 예정 20 → 부족 15
+		MrpCalculator.Result result = calculator.calculate(Map.of("FP001", 10L), Map.of(),
+				Map.of("PP001", 5L, "RM001", 10L), Map.of("RM001", 20L), new MrpCalculator.Policy(0, 0, 1));
+
+		MrpLineDTO pp = find(result.getPlannedProduction(), "PP001");
+		Assertions.assertThat(pp.getGross()).isEqualTo(20);
+		Assertions.assertThat(pp.getOnHand()).isEqualTo(5);
+		Assertions.assertThat(pp.getNet()).isEqualTo(15);
+
+		MrpLineDTO rm1 = find(result.getRequirements(), "RM001");
+		Assertions.assertThat(rm1.getGross()).isEqualTo(45);
+		Assertions.assertThat(rm1.getSupply()).isEqualTo(20);
+		Assertions.assertThat(rm1.getNet()).isEqualTo(15);
+
+		MrpLineDTO rm2 = find(result.getRequirements(), "RM002");
+		Assertions.assertThat(rm2.getGross()).isEqualTo(5);
+		Assertions.assertThat(rm2.getNet()).isEqualTo(5);
+
+		// 날짜가 없으면 기한도 없음
+		Assertions.assertThat(rm1.getNeedBy()).isNull();
+	}
+
+	@Test
+	void stockCoversIntermediateItem() {
+		// PP001 재고 20 이면 추가 생산 없이 RM001 은 전개되지 않음
+		MrpCalculator.Result result = calculator.calculate(Map.of("FP001", 10L), Map.of(), Map.of("PP001", 20L),
+				Map.of(), new MrpCalculator.Policy(0, 0, 1));
+
+		Assertions.assertThat(result.getPlannedProduction()).isEmpty();
+		Assertions.assertThat(result.getRequirements()).extracting(MrpLineDTO::getItemCode).containsExactly("RM002");
+	}
+
+	@Test
+	void leadTimeOffset() {
+		// 생산 2일, 구매 3일 : FP001 착수 11/08 → PP001 필요 11/08, 착수 11/06 → RM001 필요 11/06, 발주 11/03
+		MrpCalculator.Result result = calculator.calculate(Map.of("FP001", 10L), Map.of("FP001", DEADLINE),
+				Map.of(), Map.of(), new MrpCalculator.Policy(2, 3, 1));
+
+		Assertions.assertThat(find(result.getPlannedProduction(), "PP001").getNeedBy())
+				.isEqualTo(LocalDate.of(2026, 11, 6));
+		Assertions.assertThat(find(result.getRequirements(), "RM001").getNeedBy())
+				.isEqualTo(LocalDate.of(2026, 11, 3));
+		// RM002 는 FP001 착수일(11/08)에 필요 → 발주 11/05
+		Assertions.assertThat(find(result.getRequirements(), "RM002").getNeedBy())
+				.isEqualTo(LocalDate.of(2026, 11, 5));
+	}
+
+	@Test
+	void earliestParentDrivesChildDate() {
+		// PP001 자체 작업지시 납기(11/04)가 FP001 착수일(11/08)보다 빠르면 그 날 기준
+		MrpCalculator.Result result = calculator.calculate(Map.of("FP001", 10L, "PP001", 1L),
+				Map.of("FP001", DEADLINE, "PP001", LocalDate.of(2026, 11, 4)), Map.of(), Map.of(),
+				new MrpCalculator.Policy(2, 3, 1));
+
+		Assertions.assertThat(find(result.getRequirements(), "RM001").getNeedBy())
+				.isEqualTo(LocalDate.of(2026, 10, 30));
+	}
+
+	@Test
+	void lotSizing() {
+		// 부족량 RM001 60, RM002 5 → 발주 단위 25 의 배수로 올림
+		MrpCalculator.Result result = calculator.calculate(Map.of("FP001", 10L), Map.of(), Map.of(), Map.of(),
+				new MrpCalculator.Policy(0, 0, 25));
+
+		Assertions.assertThat(find(result.getRequirements(), "RM001").getNet()).isEqualTo(75);
+		Assertions.assertThat(find(result.getRequirements(), "RM002").getNet()).isEqualTo(25);
+		// 가공품 추가 생산량은 올리지 않음
+		Assertions.assertThat(find(result.getPlannedProduction(), "PP001").getNet()).isEqualTo(20);
+	}
+
+	@Test
+	void cycleIsRejected() {
+		Assertions.assertThatThrownBy(() -> new MrpCalculator(List.of(
+				new MFBomLineDTO("PP001", "PP002", null, BigDecimal.ONE),
+				new MFBomLineDTO("PP002", "PP001", null, BigDecimal.ONE))))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	private static MrpLineDTO find(List<MrpLineDTO> lines, String itemCode) {
+		return lines.stream().filter(line -> itemCode.equals(line.getItemCode())).findFirst().orElseThrow();
+	}
+}
@@ -0,0 +1,189 @@
+package com.itwillbs.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.itwillbs.entity.InventoryItem;
+import com.itwillbs.entity.InventoryMovement;
+import com.itwillbs.entity.Item;
+import com.itwillbs.entity.StockTake;
+import com.itwillbs.repository.InventoryMovementRepository;
+import com.itwillbs.repository.InventoryRepository;
+import com.itwillbs.repository.ItemRepository;
+import com.itwillbs.repository.StockTakeRepository;
+
+/**
+ * 재고실사 반영 : 중간 묶음 실패 후 resume 하면 커밋된 다음 행부터 이어서 한 번씩만 반영되는지 검사
+ * 묶음마다 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 지운다.
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.jakarta.persistence.validation.mode=none",
+		"spring.jpa.properties.hibernate.show_sql=false",
+		"spring.jpa.properties.hibernate.format_sql=false",
+		"logging.level.org.hibernate.type.descriptor.sql=info",
+		"stock-take.dir=build/stock-take-test",
+		"stock-take.chunk-size=3"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ StockTakeService.class, StockMovementService.class, DocumentIdAllocator.class })
+class StockTakeServiceTest {
+
+	@Autowired
+	private StockTakeService stockTakeService;
+	@SpyBean
+	private StockMovementService stockMovementService;
+	@Autowired
+	private StockTakeRepository stockTakeRepository;
+	@Autowired
+	private InventoryRepository inventoryRepository;
+	@Autowired
+	private InventoryMovementRepository inventoryMovementRepository;
+	@Autowired
+	private ItemRepository itemRepository;
+
+	// 품목 RM0000 ~ RM0009 (RM0009 는 재고 행 없음), 재고량 100
+	@BeforeEach
+	void seed() {
+		for (int i = 0; i < 10; i++) {
+			Item item = new Item();
+			item.setItemCode(String.format("RM%04d", i));
+			item.setItemName("원재료" + i);
+			item.setItemType("RM");
+			itemRepository.save(item);
+
+			if (i < 9) {
+				InventoryItem inventoryItem = new InventoryItem();
+				inventoryItem.setItemCode(item.getItemCode());
+				inventoryItem.setItem(item);
+				inventoryItem.setQuantity(100);
+				inventoryItem.setMinReqQuantity(10);
+				inventoryRepository.save(inventoryItem);
+			}
+		}
+	}
+
+	@AfterEach
+	void clean() {
+		inventoryMovementRepository.deleteAll();
+		stockTakeRepository.deleteAll();
+		inventoryRepository.deleteAll();
+		itemRepository.deleteAll();
+	}
+
+	@Test
+	void resumeAfterChunkFailure() throws IOException {
+		// 묶음(3행) : 2~4행 / 5~7행 / 8~10행 / 11행
+		String csv = String.join("\r\n",
+				"품목코드,실사수량",
+				"RM0000,50",
+				"RM0001,51",
+				"RM0002,100",
+				"XX9999,5",
+				"RM0003,53",
+				"RM0004,abc",
+				"RM0005,55",
+				"RM0006,56",
+				"RM0007,57",
+				"RM0009,9");
+		StockTake registered = stockTakeService.register(
+				new MockMultipartFile("file", "count.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)),
+				"manager01");
+		String stockTakeId = registered.getStockTakeId();
+
+		// 두 번째 묶음 원장 기록에서 실패 → 두 번째 묶음 전체 롤백
+		doCallRealMethod()
+				.doThrow(new IllegalStateException("원장 기록 실패"))
+				.doCallRealMethod()
+				.when(stockMovementService).recordMovements(any(), any(), any());
+
+		Assertions.assertThatThrownBy(() -> stockTakeService.resume(stockTakeId))
+				.isInstanceOf(IllegalStateException.class);
+
+		StockTake failed = stockTakeService.getStockTake(stockTakeId);
+		Assertions.assertThat(failed.getStatus()).isEqualTo(StockTake.STATUS_FAILED);
+		Assertions.assertThat(failed.getProcessedLines()).isEqualTo(4);
+		Assertions.assertThat(quantity("RM0001")).isEqualTo(51);
+		Assertions.assertThat(quantity("RM0003")).isEqualTo(100);
+
+		StockTake completed = stockTakeService.resume(stockTakeId);
+
+		Assertions.assertThat(completed.getStatus()).isEqualTo(StockTake.STATUS_COMPLETED);
+		Assertions.assertThat(completed.getProcessedLines()).isEqualTo(11);
+		Assertions.assertThat(completed.getValidLines()).isEqualTo(8);
+		Assertions.assertThat(completed.getInvalidLines()).isEqualTo(2);
+		Assertions.assertThat(completed.getAdjustedItems()).isEqualTo(7);
+
+		// 재고량
+		Assertions.assertThat(quantity("RM0000")).isEqualTo(50);
+		Assertions.assertThat(quantity("RM0002")).isEqualTo(100);
+		Assertions.assertThat(quantity("RM0003")).isEqualTo(53);
+		Assertions.assertThat(quantity("RM0004")).isEqualTo(100);
+		Assertions.assertThat(quantity("RM0007")).isEqualTo(57);
+		Assertions.assertThat(quantity("RM0008")).isEqualTo(100);
+		Assertions.assertThat(quantity("RM0009")).isEqualTo(9);
+
+		// 원장 : 차이 있는 품목마다 한 번씩 (실패한 묶음은 중복 기록 없음)
+		Map<String, Integer> movements = inventoryMovementRepository.findAll().stream()
+				.filter(movement -> stockTakeId.equals(movement.getReferenceId()))
+				.peek(movement -> Assertions.assertThat(movement.getMovementType())
+						.isEqualTo(InventoryMovement.TYPE_STOCK_TAKE))
+				.collect(Collectors.toMap(InventoryMovement::getItemCode, InventoryMovement::getQuantityChange));
+		Assertions.assertThat(movements).containsOnly(
+				Map.entry("RM0000", -50), Map.entry("RM0001", -49), Map.entry("RM0003", -47),
+				Map.entry("RM0005", -45), Map.entry("RM0006", -44), Map.entry("RM0007", -43),
+				Map.entry("RM0009", 9));
+
+		// 차이 보고서 : 행마다 한 줄씩, 순서대로
+		List<String> report = Files.readAllLines(stockTakeService.getReportPath(stockTakeId), StandardCharsets.UTF_8);
+		Assertions.assertThat(report).hasSize(11);
+		Assertions.assertThat(report.subList(1, report.size()))
+				.extracting(line -> line.substring(0, line.indexOf(',')))
+				.containsExactly("2", "3", "4", "5", "6", "7", "8", "9", "10", "11");
+		Assertions.assertThat(report).contains(
+				"3,RM0001,51,100,-49,조정",
+				"4,RM0002,100,100,0,일치",
+				"5,XX9999,5,,,존재하지 않는 품목 코드입니다.",
+				"7,RM0004,abc,,,실사수량이 올바르지 않습니다.",
+				"11,RM0009,9,0,9,재고 행 생성");
+	}
+
+	@Test
+	void malformedFirstRowIsReportedNotSkipped() throws IOException {
+		String csv = "RM0000,abc\r\nRM0001,10";
+		String stockTakeId = stockTakeService.register(
+				new MockMultipartFile("file", "count.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)),
+				"manager01").getStockTakeId();
+
+		StockTake completed = stockTakeService.resume(stockTakeId);
+
+		Assertions.assertThat(completed.getValidLines()).isEqualTo(1);
+		Assertions.assertThat(completed.getInvalidLines()).isEqualTo(1);
+		Assertions.assertThat(Files.readAllLines(stockTakeService.getReportPath(stockTakeId), StandardCharsets.UTF_8))
+				.contains("1,RM0000,abc,,,실사수량이 올바르지 않습니다.");
+	}
+
+	private int quantity(String itemCode) {
+		return inventoryRepository.findById(itemCode).orElseThrow().getQuantity();
+	}
+}